@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
+import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
+import org.opendaylight.controller.remote.rpc.utils.RpcPayloadCodec;
+import org.opendaylight.controller.xml.codec.XmlUtils;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.CompositeNode;
+import org.opendaylight.yangtools.yang.data.api.Node;
+import org.opendaylight.yangtools.yang.data.impl.ImmutableCompositeNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.parser.impl.YangParserImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of sending rpc input and output between cluster members as XML strings, as
+ * {@link ExecuteRpc} and {@link RpcResponse} used to carry them, with the binary NormalizedNode stream
+ * they carry now. Each benchmark covers the conversion from or to the CompositeNode used by the broker
+ * and the Java serialization of the message, for a payload with one list entry and with a thousand.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class RpcPayloadBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final QName RPC = QName.create(
+            "urn:opendaylight:params:xml:ns:yang:controller:remote:rpc:benchmark", "2015-06-01", "bench-rpc");
+    private static final QName INPUT = QName.create(RPC, "input");
+    private static final QName OUTPUT = QName.create(RPC, "output");
+    private static final QName ENTRY = QName.create(RPC, "entry");
+    private static final QName ID = QName.create(RPC, "id");
+    private static final QName NAME = QName.create(RPC, "name");
+
+    @Param({ "1", "1000" })
+    public int entries;
+
+    private SchemaContext schemaContext;
+    private CompositeNode input;
+    private CompositeNode output;
+
+    private byte[] xmlExecuteRpc;
+    private byte[] xmlRpcResponse;
+    private byte[] executeRpc;
+    private byte[] rpcResponse;
+
+    /**
+     * ExecuteRpc as it was before, with the input serialized to XML.
+     */
+    private static final class XmlExecuteRpc implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String inputCompositeNode;
+        final QName rpc;
+
+        XmlExecuteRpc(final String inputCompositeNode, final QName rpc) {
+            this.inputCompositeNode = inputCompositeNode;
+            this.rpc = rpc;
+        }
+    }
+
+    /**
+     * RpcResponse as it was before, with the output serialized to XML.
+     */
+    private static final class XmlRpcResponse implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String resultCompositeNode;
+
+        XmlRpcResponse(final String resultCompositeNode) {
+            this.resultCompositeNode = resultCompositeNode;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final YangParserImpl parser = new YangParserImpl();
+        final Set<Module> modules = parser.parseYangModelsFromStreams(Collections.singletonList(
+                RpcPayloadBenchmark.class.getResourceAsStream("/rpc-payload-benchmark.yang")));
+        schemaContext = parser.resolveSchemaContext(modules);
+
+        input = createRpcNode(INPUT, entries);
+        output = createRpcNode(OUTPUT, entries);
+
+        xmlExecuteRpc = serializeXmlExecuteRpc();
+        xmlRpcResponse = serializeXmlRpcResponse();
+        executeRpc = serializeExecuteRpc();
+        rpcResponse = serializeRpcResponse();
+    }
+
+    private static CompositeNode createRpcNode(final QName container, final int count) {
+        final List<Node<?>> children = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            children.add(ImmutableCompositeNode.builder().setQName(ENTRY).addLeaf(ID, i)
+                    .addLeaf(NAME, "entry-" + i).toInstance());
+        }
+        return ImmutableCompositeNode.create(RPC,
+                Collections.<Node<?>>singletonList(ImmutableCompositeNode.create(container, children)));
+    }
+
+    private static byte[] serialize(final Object message) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serializeXmlExecuteRpc() throws IOException {
+        return serialize(new XmlExecuteRpc(XmlUtils.inputCompositeNodeToXml(input, schemaContext), RPC));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serializeExecuteRpc() throws IOException {
+        return serialize(new ExecuteRpc(RpcPayloadCodec.inputToNormalizedNode(RPC, input, schemaContext), RPC));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public CompositeNode deserializeXmlExecuteRpc() throws IOException, ClassNotFoundException {
+        final XmlExecuteRpc message = (XmlExecuteRpc) deserialize(xmlExecuteRpc);
+        return XmlUtils.inputXmlToCompositeNode(message.rpc, message.inputCompositeNode, schemaContext);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public CompositeNode deserializeExecuteRpc() throws IOException, ClassNotFoundException {
+        final ExecuteRpc message = (ExecuteRpc) deserialize(executeRpc);
+        return RpcPayloadCodec.toRpcInput(message.getRpc(), message.getInputNormalizedNode());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serializeXmlRpcResponse() throws IOException {
+        return serialize(new XmlRpcResponse(XmlUtils.outputCompositeNodeToXml(output, schemaContext)));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serializeRpcResponse() throws IOException {
+        return serialize(new RpcResponse(RpcPayloadCodec.outputToNormalizedNode(RPC, output, schemaContext)));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public CompositeNode deserializeXmlRpcResponse() throws IOException, ClassNotFoundException {
+        final XmlRpcResponse message = (XmlRpcResponse) deserialize(xmlRpcResponse);
+        return XmlUtils.xmlToCompositeNode(message.resultCompositeNode);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public CompositeNode deserializeRpcResponse() throws IOException, ClassNotFoundException {
+        final RpcResponse message = (RpcResponse) deserialize(rpcResponse);
+        return RpcPayloadCodec.toRpcOutput(message.getResultNormalizedNode());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.broker.impl.SerializedDOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.sal.core.api.Broker.ConsumerSession;
+import org.opendaylight.controller.sal.core.api.BrokerService;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit;
+import org.opendaylight.controller.sal.restconf.impl.BrokerFacade;
+import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
+import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.data.api.CompositeNode;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.parser.impl.YangParserImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares writing list entries through {@link BrokerFacade#commitConfigurationDataBatch(List)} with one
+ * PUT or POST per entry, as separate RESTCONF requests do. Every invocation writes {@value #EDITS} entries
+ * into an empty list, the scores are per entry. Parsing of request bodies is left out for both paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class BatchEditBenchmark {
+    private static final int EDITS = 1000;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final QName TOP = QName.create("urn:opendaylight:params:xml:ns:yang:controller:sal:restconf:benchmark",
+            "2015-06-01", "top");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName ID = QName.create(TOP, "id");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final YangInstanceIdentifier TOP_PATH = YangInstanceIdentifier.of(TOP);
+
+    private final BrokerFacade brokerFacade = BrokerFacade.getInstance();
+    private ListeningExecutorService executor;
+    private SerializedDOMDataBroker domBroker;
+
+    private final List<InstanceIdentifierContext<?>> targets = new ArrayList<>(EDITS);
+    private final List<MapEntryNode> entries = new ArrayList<>(EDITS);
+    private final List<BatchEdit> replaceEdits = new ArrayList<>(EDITS);
+    private final List<BatchEdit> createEdits = new ArrayList<>(EDITS);
+
+    /**
+     * BrokerFacade only checks that it has a session.
+     */
+    private static final class BenchmarkSession implements ConsumerSession {
+        @Override
+        public Future<RpcResult<CompositeNode>> rpc(final QName rpc, final CompositeNode input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public <T extends BrokerService> T getService(final Class<T> service) {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final YangParserImpl parser = new YangParserImpl();
+        final Set<Module> modules = parser.parseYangModelsFromStreams(Collections.singletonList(
+                BatchEditBenchmark.class.getResourceAsStream("/restconf-benchmark.yang")));
+        final SchemaContext schemaContext = parser.resolveSchemaContext(modules);
+        ControllerContext.getInstance().setSchemas(schemaContext);
+
+        final ListeningExecutorService dsExec = MoreExecutors.sameThreadExecutor();
+        executor = MoreExecutors.listeningDecorator(
+            MoreExecutors.getExitingExecutorService((ThreadPoolExecutor)Executors.newFixedThreadPool(1), 1L, TimeUnit.SECONDS));
+        final InMemoryDOMDataStore operStore = new InMemoryDOMDataStore("OPER", dsExec);
+        final InMemoryDOMDataStore configStore = new InMemoryDOMDataStore("CFG", dsExec);
+        operStore.onGlobalContextUpdated(schemaContext);
+        configStore.onGlobalContextUpdated(schemaContext);
+        final Map<LogicalDatastoreType, DOMStore> datastores = ImmutableMap.of(
+            LogicalDatastoreType.OPERATIONAL, (DOMStore)operStore,
+            LogicalDatastoreType.CONFIGURATION, configStore);
+        domBroker = new SerializedDOMDataBroker(datastores, executor);
+
+        brokerFacade.setDomDataBroker(domBroker);
+        brokerFacade.setContext(new BenchmarkSession());
+
+        for (int i = 0; i < EDITS; ++i) {
+            final InstanceIdentifierContext<?> target = ControllerContext.getInstance().toInstanceIdentifier(
+                    "restconf-benchmark:top/entry/" + i);
+            final MapEntryNode entry = ImmutableNodes.mapEntryBuilder(ENTRY, ID, i)
+                    .withChild(ImmutableNodes.leafNode(NAME, "entry-" + i)).build();
+            targets.add(target);
+            entries.add(entry);
+            replaceEdits.add(new BatchEdit(String.valueOf(i), BatchEdit.Operation.REPLACE, target, entry));
+            createEdits.add(new BatchEdit(String.valueOf(i), BatchEdit.Operation.CREATE, target, entry));
+        }
+    }
+
+    /**
+     * Every invocation starts with an empty list, so that creating its entries does not fail.
+     */
+    @Setup(Level.Invocation)
+    public void clearList() throws Exception {
+        final DOMDataWriteTransaction tx = domBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.CONFIGURATION, TOP_PATH,
+                ImmutableContainerNodeBuilder.create().withNodeIdentifier(new NodeIdentifier(TOP)).build());
+        tx.submit().checkedGet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        domBroker.close();
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void batchReplace() throws Exception {
+        brokerFacade.commitConfigurationDataBatch(replaceEdits).checkedGet();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void putPerEntry() throws Exception {
+        for (int i = 0; i < EDITS; ++i) {
+            brokerFacade.commitConfigurationDataPut(targets.get(i).getInstanceIdentifier(), entries.get(i))
+                    .checkedGet();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void batchCreate() throws Exception {
+        brokerFacade.commitConfigurationDataBatch(createEdits).checkedGet();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void postPerEntry() throws Exception {
+        for (int i = 0; i < EDITS; ++i) {
+            brokerFacade.commitConfigurationDataPost(TOP_PATH, entries.get(i)).checkedGet();
+        }
+    }
+}
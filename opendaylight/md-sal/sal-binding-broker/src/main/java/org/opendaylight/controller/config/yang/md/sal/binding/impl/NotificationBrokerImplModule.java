@@ -44,7 +44,8 @@ public final class NotificationBrokerImplModule extends
          *  threading model for notifications.
          */
         ListeningExecutorService listeningExecutor = SingletonHolder.getDefaultNotificationExecutor();
-        NotificationBrokerImpl broker = new NotificationBrokerImpl(listeningExecutor);
+        NotificationBrokerImpl broker = new NotificationBrokerImpl(listeningExecutor,
+                SingletonHolder.getNotificationQueueSize());
         return broker;
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.compat;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterators;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Read-only union of created and updated data, presented without copying the two maps, which would force
+ * their translation. Created and updated data of a single event are normally disjoint, but should a path
+ * appear in both, the updated value wins and the path is reported once, as it was when the union was
+ * copied into a {@link java.util.HashMap}.
+ */
+final class CompositeMap extends AbstractMap<InstanceIdentifier<?>, DataObject> {
+    private final Map<InstanceIdentifier<?>, DataObject> created;
+    private final Map<InstanceIdentifier<?>, DataObject> updated;
+    private Set<Entry<InstanceIdentifier<?>, DataObject>> entrySet;
+
+    CompositeMap(final Map<InstanceIdentifier<?>, DataObject> created,
+            final Map<InstanceIdentifier<?>, DataObject> updated) {
+        this.created = Preconditions.checkNotNull(created);
+        this.updated = Preconditions.checkNotNull(updated);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return updated.containsKey(key) || created.containsKey(key);
+    }
+
+    @Override
+    public DataObject get(final Object key) {
+        final DataObject ret = updated.get(key);
+        return ret != null ? ret : created.get(key);
+    }
+
+    @Override
+    public Set<Entry<InstanceIdentifier<?>, DataObject>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<InstanceIdentifier<?>, DataObject>>() {
+                @Override
+                public Iterator<Entry<InstanceIdentifier<?>, DataObject>> iterator() {
+                    final Iterator<Entry<InstanceIdentifier<?>, DataObject>> createdOnly = Iterators.filter(
+                        created.entrySet().iterator(), new Predicate<Entry<InstanceIdentifier<?>, DataObject>>() {
+                            @Override
+                            public boolean apply(final Entry<InstanceIdentifier<?>, DataObject> input) {
+                                return !updated.containsKey(input.getKey());
+                            }
+                        });
+                    return Iterators.unmodifiableIterator(Iterators.concat(updated.entrySet().iterator(), createdOnly));
+                }
+
+                @Override
+                public int size() {
+                    return Iterators.size(iterator());
+                }
+            };
+        }
+        return entrySet;
+    }
+}
@@ -8,7 +8,6 @@
 package org.opendaylight.controller.md.sal.binding.compat;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -132,12 +131,7 @@ public abstract class HydrogenDataChangeEvent implements
         @Override
         public Map<InstanceIdentifier<?>, DataObject> getUpdatedOperationalData() {
             if(updatedCache == null) {
-                Map<InstanceIdentifier<?>, DataObject> created = delegate.getCreatedData();
-                Map<InstanceIdentifier<?>, DataObject> updated = delegate.getUpdatedData();
-                HashMap<InstanceIdentifier<?>, DataObject> updatedComposite = new HashMap<>(created.size() + updated.size());
-                updatedComposite.putAll(created);
-                updatedComposite.putAll(updated);
-                updatedCache = Collections.unmodifiableMap(updatedComposite);
+                updatedCache = new CompositeMap(delegate.getCreatedData(), delegate.getUpdatedData());
             }
             return updatedCache;
         }
@@ -187,12 +181,7 @@ public abstract class HydrogenDataChangeEvent implements
         @Override
         public Map<InstanceIdentifier<?>, DataObject> getUpdatedConfigurationData() {
             if(updatedCache == null) {
-                Map<InstanceIdentifier<?>, DataObject> created = delegate.getCreatedData();
-                Map<InstanceIdentifier<?>, DataObject> updated = delegate.getUpdatedData();
-                HashMap<InstanceIdentifier<?>, DataObject> updatedComposite = new HashMap<>(created.size() + updated.size());
-                updatedComposite.putAll(created);
-                updatedComposite.putAll(updated);
-                updatedCache = Collections.unmodifiableMap(updatedComposite);
+                updatedCache = new CompositeMap(delegate.getCreatedData(), delegate.getUpdatedData());
             }
             return updatedCache;
         }
@@ -161,7 +161,7 @@ public abstract class AbstractForwardedDataBroker implements Delegator<DOMDataBr
         @Override
         public Map<InstanceIdentifier<?>, DataObject> getCreatedData() {
             if (createdCache == null) {
-                createdCache = Collections.unmodifiableMap(toBinding(path, domEvent.getCreatedData()));
+                createdCache = new LazyDataObjectMap(getCodec(), domEvent.getCreatedData());
             }
             return createdCache;
         }
@@ -169,7 +169,7 @@ public abstract class AbstractForwardedDataBroker implements Delegator<DOMDataBr
         @Override
         public Map<InstanceIdentifier<?>, DataObject> getUpdatedData() {
             if (updatedCache == null) {
-                updatedCache = Collections.unmodifiableMap(toBinding(path, domEvent.getUpdatedData()));
+                updatedCache = new LazyDataObjectMap(getCodec(), domEvent.getUpdatedData());
             }
             return updatedCache;
 
@@ -186,7 +186,7 @@ public abstract class AbstractForwardedDataBroker implements Delegator<DOMDataBr
         @Override
         public Map<InstanceIdentifier<?>, DataObject> getOriginalData() {
             if (originalCache == null) {
-                originalCache = Collections.unmodifiableMap(toBinding(path, domEvent.getOriginalData()));
+                originalCache = new LazyDataObjectMap(getCodec(), domEvent.getOriginalData());
             }
             return originalCache;
 
@@ -9,7 +9,12 @@ package org.opendaylight.controller.md.sal.binding.impl;
 
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableBiMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.Map.Entry;
@@ -38,6 +43,12 @@ import org.opendaylight.yangtools.yang.model.api.SchemaContextListener;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
 public class BindingToNormalizedNodeCodec implements SchemaContextListener,AutoCloseable {
+    /**
+     * Maximum number of identifiers cached in each direction. Binding applications tend to
+     * access a limited set of paths repeatedly, hence we remember the translations of the
+     * most recently used ones.
+     */
+    private static final int IDENTIFIER_CACHE_SIZE = 10000;
 
     private final BindingIndependentMappingService bindingToLegacy;
     private final BindingNormalizedNodeCodecRegistry codecRegistry;
@@ -45,16 +56,52 @@ public class BindingToNormalizedNodeCodec implements SchemaContextListener,AutoC
     private final GeneratedClassLoadingStrategy classLoadingStrategy;
     private BindingRuntimeContext runtimeContext;
 
+    /*
+     * Identifier translation caches. These are tied to the current runtime context and are replaced
+     * wholesale when it changes, so that no stale translations survive a schema update.
+     */
+    private volatile LoadingCache<InstanceIdentifier<?>, YangInstanceIdentifier> toNormalizedCache;
+    private volatile LoadingCache<YangInstanceIdentifier, Optional<InstanceIdentifier<? extends DataObject>>> toBindingCache;
+
     public BindingToNormalizedNodeCodec(final GeneratedClassLoadingStrategy classLoadingStrategy, final BindingIndependentMappingService mappingService, final BindingNormalizedNodeCodecRegistry codecRegistry) {
         super();
         this.bindingToLegacy = mappingService;
         this.classLoadingStrategy = classLoadingStrategy;
         this.codecRegistry = codecRegistry;
-
+        resetIdentifierCaches();
+    }
+
+    private void resetIdentifierCaches() {
+        toNormalizedCache = CacheBuilder.newBuilder().maximumSize(IDENTIFIER_CACHE_SIZE)
+                .build(new CacheLoader<InstanceIdentifier<?>, YangInstanceIdentifier>() {
+                    @Override
+                    public YangInstanceIdentifier load(final InstanceIdentifier<?> key) {
+                        return codecRegistry.toYangInstanceIdentifier(key);
+                    }
+                });
+        toBindingCache = CacheBuilder.newBuilder().maximumSize(IDENTIFIER_CACHE_SIZE)
+                .build(new CacheLoader<YangInstanceIdentifier, Optional<InstanceIdentifier<? extends DataObject>>>() {
+                    @Override
+                    public Optional<InstanceIdentifier<? extends DataObject>> load(final YangInstanceIdentifier key) {
+                        try {
+                            return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(codecRegistry.fromYangInstanceIdentifier(key));
+                        } catch (final IllegalArgumentException e) {
+                            return Optional.absent();
+                        }
+                    }
+                });
+    }
+
+    private static <K, V> V getCached(final LoadingCache<K, V> cache, final K key) {
+        try {
+            return cache.getUnchecked(key);
+        } catch (final UncheckedExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        }
     }
 
     public YangInstanceIdentifier toNormalized(final InstanceIdentifier<? extends DataObject> binding) {
-        return codecRegistry.toYangInstanceIdentifier(binding);
+        return getCached(toNormalizedCache, binding);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -80,11 +127,7 @@ public class BindingToNormalizedNodeCodec implements SchemaContextListener,AutoC
      */
     public Optional<InstanceIdentifier<? extends DataObject>> toBinding(final YangInstanceIdentifier normalized)
                     throws DeserializationException {
-        try {
-            return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(codecRegistry.fromYangInstanceIdentifier(normalized));
-        } catch (final IllegalArgumentException e) {
-            return Optional.absent();
-        }
+        return getCached(toBindingCache, normalized);
     }
 
     public DataNormalizer getDataNormalizer() {
@@ -121,6 +164,9 @@ public class BindingToNormalizedNodeCodec implements SchemaContextListener,AutoC
         legacyToNormalized = new DataNormalizer (arg0);
         runtimeContext = BindingRuntimeContext.create(classLoadingStrategy, arg0);
         codecRegistry.onBindingRuntimeContextUpdated(runtimeContext);
+
+        // Codecs have been updated, translations cached so far may no longer be valid
+        resetIdentifierCaches();
     }
 
     public <T extends DataObject> Function<Optional<NormalizedNode<?, ?>>, Optional<T>>  deserializeFunction(final InstanceIdentifier<T> path) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.impl;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.codec.DeserializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only Binding view of a map of normalized nodes. This is the counterpart to {@link LazySerializedContainerNode},
+ * in that translation happens only when the user asks for it: a lookup translates the requested path into DOM world
+ * and decodes only the matching node. Data change events typically carry many entries, most of which are never
+ * looked at by the listener. Iteration, as well as {@link #size()}, translates the whole map once. Like the eager
+ * translation this replaces, entries which cannot be translated are omitted and entries translated to the same
+ * path are merged, so the view is consistent with {@link #get(Object)}.
+ */
+final class LazyDataObjectMap extends AbstractMap<InstanceIdentifier<?>, DataObject> {
+    private static final Logger LOG = LoggerFactory.getLogger(LazyDataObjectMap.class);
+
+    private final BindingToNormalizedNodeCodec codec;
+    private final Map<YangInstanceIdentifier, ? extends NormalizedNode<?, ?>> normalized;
+    private Set<Entry<InstanceIdentifier<?>, DataObject>> entrySet;
+
+    LazyDataObjectMap(final BindingToNormalizedNodeCodec codec,
+            final Map<YangInstanceIdentifier, ? extends NormalizedNode<?, ?>> normalized) {
+        this.codec = Preconditions.checkNotNull(codec);
+        this.normalized = Preconditions.checkNotNull(normalized);
+    }
+
+    private Optional<Entry<InstanceIdentifier<? extends DataObject>, DataObject>> toBinding(
+            final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+        try {
+            final Optional<Entry<InstanceIdentifier<? extends DataObject>, DataObject>> potential =
+                    codec.toBinding(new SimpleImmutableEntry<YangInstanceIdentifier, NormalizedNode<?, ?>>(path, data));
+            if (potential.isPresent() && potential.get().getValue() != null) {
+                return potential;
+            }
+        } catch (final DeserializationException e) {
+            LOG.warn("Failed to transform {}, omitting it", path, e);
+        }
+        return Optional.absent();
+    }
+
+    private YangInstanceIdentifier toDomPath(final Object key) {
+        if (!(key instanceof InstanceIdentifier) || ((InstanceIdentifier<?>) key).isWildcarded()) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        final InstanceIdentifier<? extends DataObject> path = (InstanceIdentifier<? extends DataObject>) key;
+        try {
+            return codec.toNormalized(path);
+        } catch (final IllegalArgumentException e) {
+            LOG.debug("Path {} cannot be translated", path, e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public DataObject get(final Object key) {
+        final YangInstanceIdentifier domPath = toDomPath(key);
+        if (domPath == null) {
+            return null;
+        }
+
+        final NormalizedNode<?, ?> data = normalized.get(domPath);
+        if (data == null) {
+            return null;
+        }
+
+        final Optional<Entry<InstanceIdentifier<? extends DataObject>, DataObject>> binding = toBinding(domPath, data);
+        return binding.isPresent() ? binding.get().getValue() : null;
+    }
+
+    @Override
+    public Set<Entry<InstanceIdentifier<?>, DataObject>> entrySet() {
+        if (entrySet == null) {
+            final Map<InstanceIdentifier<?>, DataObject> translated = new LinkedHashMap<>(normalized.size());
+            for (final Entry<YangInstanceIdentifier, ? extends NormalizedNode<?, ?>> e : normalized.entrySet()) {
+                final Optional<Entry<InstanceIdentifier<? extends DataObject>, DataObject>> binding =
+                        toBinding(e.getKey(), e.getValue());
+                if (binding.isPresent()) {
+                    translated.put(binding.get().getKey(), binding.get().getValue());
+                }
+            }
+            entrySet = Collections.unmodifiableMap(translated).entrySet();
+        }
+        return entrySet;
+    }
+}
@@ -49,6 +49,31 @@ public class SingletonHolder {
     private static ListeningExecutorService COMMIT_EXECUTOR = null;
     private static ListeningExecutorService CHANGE_EVENT_EXECUTOR = null;
 
+    /**
+     * Returns the notification queue size set by the {@value #NOTIFICATION_QUEUE_SIZE_PROPERTY} system property.
+     *
+     * @return configured queue size, {@link #MAX_NOTIFICATION_QUEUE_SIZE} if not set or invalid
+     */
+    public static int getNotificationQueueSize() {
+        int queueSize = MAX_NOTIFICATION_QUEUE_SIZE;
+        String queueValue = System.getProperty(NOTIFICATION_QUEUE_SIZE_PROPERTY);
+        if (StringUtils.isNotBlank(queueValue)) {
+            try {
+                queueSize = Integer.parseInt(queueValue);
+                logger.trace("Queue size was set to {}", queueSize);
+            } catch (NumberFormatException e) {
+                logger.warn("Cannot parse {} as set by {}, using default {}", queueValue,
+                        NOTIFICATION_QUEUE_SIZE_PROPERTY, queueSize);
+            }
+        }
+        if (queueSize <= 0) {
+            logger.warn("Queue size {} set by {} is not positive, using default {}", queueSize,
+                    NOTIFICATION_QUEUE_SIZE_PROPERTY, MAX_NOTIFICATION_QUEUE_SIZE);
+            queueSize = MAX_NOTIFICATION_QUEUE_SIZE;
+        }
+        return queueSize;
+    }
+
     /**
      * @deprecated This method is only used from configuration modules and thus callers of it
      *             should use service injection to make the executor configurable.
@@ -57,17 +82,7 @@ public class SingletonHolder {
     public static synchronized ListeningExecutorService getDefaultNotificationExecutor() {
 
         if (NOTIFICATION_EXECUTOR == null) {
-            int queueSize = MAX_NOTIFICATION_QUEUE_SIZE;
-            String queueValue = System.getProperty(NOTIFICATION_QUEUE_SIZE_PROPERTY);
-            if (StringUtils.isNotBlank(queueValue)) {
-                try {
-                    queueSize = Integer.parseInt(queueValue);
-                    logger.trace("Queue size was set to {}", queueSize);
-                } catch (NumberFormatException e) {
-                    logger.warn("Cannot parse {} as set by {}, using default {}", queueValue,
-                            NOTIFICATION_QUEUE_SIZE_PROPERTY, queueSize);
-                }
-            }
+            int queueSize = getNotificationQueueSize();
 
             // Overriding the queue:
             // ThreadPoolExecutor would not create new threads if the queue is not full, thus adding
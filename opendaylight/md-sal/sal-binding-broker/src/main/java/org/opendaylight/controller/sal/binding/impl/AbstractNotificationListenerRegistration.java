@@ -7,6 +7,8 @@
  */
 package org.opendaylight.controller.sal.binding.impl;
 
+import java.util.concurrent.Executor;
+
 import org.opendaylight.controller.sal.binding.api.NotificationListener;
 import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.Notification;
@@ -19,11 +21,14 @@ import com.google.common.base.Preconditions;
  * @param <T> Notification type
  */
 abstract class AbstractNotificationListenerRegistration<T extends Notification> extends AbstractListenerRegistration<NotificationListener<T>> implements NotificationListenerRegistration<T> {
+    private final NotificationDispatchQueue queue;
     private final Class<? extends Notification> type;
 
-    protected AbstractNotificationListenerRegistration(final Class<? extends Notification> type, final NotificationListener<T> listener) {
+    protected AbstractNotificationListenerRegistration(final Class<? extends Notification> type, final NotificationListener<T> listener,
+            final int queueCapacity) {
         super(listener);
         this.type = Preconditions.checkNotNull(type);
+        this.queue = new NotificationDispatchQueue(this, queueCapacity);
     }
 
     @Override
@@ -38,4 +43,9 @@ abstract class AbstractNotificationListenerRegistration<T extends Notification>
             getInstance().onNotification((T)notification);
         }
     }
+
+    @Override
+    public void enqueue(final Notification notification, final Executor executor) {
+        queue.enqueue(notification, executor);
+    }
 }
@@ -26,8 +26,9 @@ import com.google.common.base.Preconditions;
 abstract class AggregatedNotificationListenerRegistration<N extends Notification, A> extends AbstractNotificationListenerRegistration<N> {
     private final A aggregator;
 
-    protected AggregatedNotificationListenerRegistration(final Class<? extends Notification> type, final NotificationListener<N> listener, final A aggregator) {
-        super(type, listener);
+    protected AggregatedNotificationListenerRegistration(final Class<? extends Notification> type, final NotificationListener<N> listener,
+            final int queueCapacity, final A aggregator) {
+        super(type, listener, queueCapacity);
         this.aggregator = Preconditions.checkNotNull(aggregator);
     }
 
@@ -59,6 +59,22 @@ final class ListenerMapGeneration {
                 }
             });
 
+    /**
+     * Most recently resolved implementation class. High-rate notification streams tend to be dominated
+     * by a single type, for which this short-circuits the cache lookup.
+     */
+    private volatile ResolvedListeners lastResolved;
+
+    private static final class ResolvedListeners {
+        final Class<?> type;
+        final Iterable<NotificationListenerRegistration<?>> listeners;
+
+        ResolvedListeners(final Class<?> type, final Iterable<NotificationListenerRegistration<?>> listeners) {
+            this.type = type;
+            this.listeners = listeners;
+        }
+    }
+
     ListenerMapGeneration() {
         typeToListeners = ImmutableMultimap.of();
     }
@@ -83,8 +99,16 @@ final class ListenerMapGeneration {
      * @return Iterable of listeners, guaranteed to be nonnull.
      */
     public Iterable<NotificationListenerRegistration<?>> listenersFor(final Notification notification) {
+        final Class<?> type = notification.getClass();
+        final ResolvedListeners last = lastResolved;
+        if (last != null && last.type == type) {
+            return last.listeners;
+        }
+
         // Safe to use, as our loader does not throw checked exceptions
-        return implementationToListeners.getUnchecked(notification.getClass());
+        final Iterable<NotificationListenerRegistration<?>> ret = implementationToListeners.getUnchecked(type);
+        lastResolved = new ResolvedListeners(type, ret);
+        return ret;
     }
 
     public Iterable<Class<? extends Notification>> getKnownTypes() {
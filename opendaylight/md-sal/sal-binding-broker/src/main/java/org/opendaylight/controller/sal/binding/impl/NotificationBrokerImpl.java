@@ -35,9 +35,20 @@ public class NotificationBrokerImpl implements NotificationProviderService, Auto
             ListenerRegistry.create();
     private final AtomicReference<ListenerMapGeneration> listeners = new AtomicReference<>(new ListenerMapGeneration());
     private final ExecutorService executor;
+    private final int queueCapacity;
 
     public NotificationBrokerImpl(final ExecutorService executor) {
+        this(executor, SingletonHolder.getNotificationQueueSize());
+    }
+
+    /**
+     * @param executor Executor delivering notifications to listeners
+     * @param queueCapacity Maximum number of notifications pending delivery to a single listener
+     */
+    public NotificationBrokerImpl(final ExecutorService executor, final int queueCapacity) {
+        Preconditions.checkArgument(queueCapacity > 0, "Queue capacity %s has to be positive", queueCapacity);
         this.executor = Preconditions.checkNotNull(executor);
+        this.queueCapacity = queueCapacity;
     }
 
     @Override
@@ -48,7 +59,7 @@ public class NotificationBrokerImpl implements NotificationProviderService, Auto
     @Override
     public void publish(final Notification notification, final ExecutorService service) {
         for (NotificationListenerRegistration<?> r : listeners.get().listenersFor(notification)) {
-            service.submit(new NotifyTask(r, notification));
+            r.enqueue(notification, service);
         }
     }
 
@@ -108,7 +119,7 @@ public class NotificationBrokerImpl implements NotificationProviderService, Auto
 
     @Override
     public <T extends Notification> NotificationListenerRegistration<T> registerNotificationListener(final Class<T> notificationType, final NotificationListener<T> listener) {
-        final NotificationListenerRegistration<T> reg = new AbstractNotificationListenerRegistration<T>(notificationType, listener) {
+        final NotificationListenerRegistration<T> reg = new AbstractNotificationListenerRegistration<T>(notificationType, listener, queueCapacity) {
             @Override
             protected void removeRegistration() {
                 removeRegistrations(this);
@@ -128,7 +139,7 @@ public class NotificationBrokerImpl implements NotificationProviderService, Auto
         // Populate the registrations...
         int i = 0;
         for (Class<? extends Notification> type : types) {
-            regs[i] = new AggregatedNotificationListenerRegistration<Notification, Object>(type, invoker.getInvocationProxy(), regs) {
+            regs[i] = new AggregatedNotificationListenerRegistration<Notification, Object>(type, invoker.getInvocationProxy(), queueCapacity, regs) {
                 @Override
                 protected void removeRegistration() {
                     // Nothing to do, will be cleaned up by parent (below)
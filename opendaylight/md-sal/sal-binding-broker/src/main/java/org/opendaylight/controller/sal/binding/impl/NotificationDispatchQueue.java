@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.binding.impl;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.yangtools.yang.binding.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-registration queue of notifications pending delivery. Publishers append notifications to a ring buffer,
+ * which is drained in batches by a single task running in the executor. The queue itself acts as the task,
+ * so it is scheduled only when it transitions from idle to busy, and publishing a notification does not
+ * allocate anything once the ring has grown to accommodate the typical backlog.
+ *
+ * The ring is bounded by the configured notification queue size. Once it fills up publishers are blocked
+ * until the listener catches up, which mirrors the behavior of the bounded notification executor. The only
+ * exception is a listener publishing a notification it listens to: it runs in the drain task, which would
+ * never make room for itself, so such notifications are queued past the bound.
+ */
+final class NotificationDispatchQueue implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationDispatchQueue.class);
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_BATCH = 64;
+
+    private final NotificationListenerRegistration<?> registration;
+    private final int maxCapacity;
+
+    // Thread running the drain task, used to detect listeners publishing to their own queue
+    private volatile Thread drainThread;
+
+    @GuardedBy("this")
+    private Notification[] ring = new Notification[INITIAL_CAPACITY];
+    @GuardedBy("this")
+    private int head;
+    @GuardedBy("this")
+    private int size;
+    @GuardedBy("this")
+    private boolean scheduled;
+
+    // Accessed only by the single running drain task
+    private final Notification[] batch = new Notification[MAX_BATCH];
+
+    NotificationDispatchQueue(final NotificationListenerRegistration<?> registration, final int maxCapacity) {
+        Preconditions.checkArgument(maxCapacity > 0, "Queue capacity %s has to be positive", maxCapacity);
+        this.registration = Preconditions.checkNotNull(registration);
+        this.maxCapacity = maxCapacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Notification> NotificationListenerRegistration<T> getRegistration() {
+        return (NotificationListenerRegistration<T>)registration;
+    }
+
+    /**
+     * Enqueue a notification for delivery. If the queue is not being drained, a drain task is
+     * scheduled in the specified executor.
+     *
+     * @param notification Notification to be delivered
+     * @param executor Executor to run the drain task
+     */
+    void enqueue(final Notification notification, final Executor executor) {
+        Preconditions.checkNotNull(notification);
+
+        synchronized (this) {
+            if (size >= maxCapacity && Thread.currentThread() == drainThread) {
+                LOG.debug("Listener {} published to its own full queue, queueing {} past capacity {}",
+                    registration.getInstance(), notification.getClass().getName(), maxCapacity);
+            }
+
+            while (size >= maxCapacity && Thread.currentThread() != drainThread) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.warn("Interrupted while waiting for listener {}, dropping notification {}",
+                        registration.getInstance(), notification.getClass().getName());
+                    return;
+                }
+            }
+
+            if (size == ring.length) {
+                grow();
+            }
+            ring[(head + size) & (ring.length - 1)] = notification;
+            size++;
+
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                scheduled = false;
+            }
+            throw e;
+        }
+    }
+
+    @GuardedBy("this")
+    private void grow() {
+        final Notification[] newRing = new Notification[ring.length * 2];
+        for (int i = 0; i < size; ++i) {
+            newRing[i] = ring[(head + i) & (ring.length - 1)];
+        }
+        ring = newRing;
+        head = 0;
+    }
+
+    /**
+     * Take a batch of notifications from the ring.
+     *
+     * @return Number of notifications in the batch, zero if the queue has been drained.
+     */
+    private synchronized int takeBatch() {
+        if (size == 0) {
+            scheduled = false;
+            return 0;
+        }
+
+        final boolean wasFull = size >= maxCapacity;
+        final int count = Math.min(size, MAX_BATCH);
+        for (int i = 0; i < count; ++i) {
+            batch[i] = ring[head];
+            ring[head] = null;
+            head = (head + 1) & (ring.length - 1);
+        }
+        size -= count;
+
+        if (wasFull) {
+            notifyAll();
+        }
+        return count;
+    }
+
+    @Override
+    public void run() {
+        drainThread = Thread.currentThread();
+        try {
+            drain();
+        } finally {
+            drainThread = null;
+        }
+    }
+
+    private void drain() {
+        int count;
+        while ((count = takeBatch()) != 0) {
+            LOG.trace("Delivering {} notifications to {}", count, registration.getInstance());
+
+            for (int i = 0; i < count; ++i) {
+                final Notification notification = batch[i];
+                batch[i] = null;
+
+                try {
+                    getRegistration().notify(notification);
+                } catch (final Exception e) {
+                    LOG.error("Unhandled exception thrown by listener: {}", registration.getInstance(), e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this).add("listener", registration).toString();
+    }
+}
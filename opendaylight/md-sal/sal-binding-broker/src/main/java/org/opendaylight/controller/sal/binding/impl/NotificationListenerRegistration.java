@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.sal.binding.impl;
 
+import java.util.concurrent.Executor;
 import org.opendaylight.controller.sal.binding.api.NotificationListener;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.Notification;
@@ -32,4 +33,13 @@ interface NotificationListenerRegistration<T extends Notification> extends Liste
      * @param notification Notification to be dispatched
      */
     void notify(Notification notification);
+
+    /**
+     * Queue a notification for asynchronous dispatch to the listener. Notifications
+     * queued to a single registration are delivered in order.
+     *
+     * @param notification Notification to be dispatched
+     * @param executor Executor in which the dispatch should occur
+     */
+    void enqueue(Notification notification, Executor executor);
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.compat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class CompositeMapTest {
+
+    private static final InstanceIdentifier<TopLevelList> FOO = InstanceIdentifier.builder(Top.class)
+            .child(TopLevelList.class, new TopLevelListKey("foo")).build();
+    private static final InstanceIdentifier<TopLevelList> BAR = InstanceIdentifier.builder(Top.class)
+            .child(TopLevelList.class, new TopLevelListKey("bar")).build();
+    private static final InstanceIdentifier<TopLevelList> BAZ = InstanceIdentifier.builder(Top.class)
+            .child(TopLevelList.class, new TopLevelListKey("baz")).build();
+
+    private static final DataObject FOO_DATA = mock(TopLevelList.class);
+    private static final DataObject BAR_DATA = mock(TopLevelList.class);
+    private static final DataObject BAR_UPDATED_DATA = mock(TopLevelList.class);
+
+    private static Map<InstanceIdentifier<?>, DataObject> mapOf(final InstanceIdentifier<?> key, final DataObject value) {
+        return ImmutableMap.<InstanceIdentifier<?>, DataObject>of(key, value);
+    }
+
+    @Test
+    public void testDisjointMaps() {
+        final CompositeMap map = new CompositeMap(mapOf(FOO, FOO_DATA), mapOf(BAR, BAR_DATA));
+
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey(FOO));
+        assertTrue(map.containsKey(BAR));
+        assertFalse(map.containsKey(BAZ));
+        assertSame(FOO_DATA, map.get(FOO));
+        assertSame(BAR_DATA, map.get(BAR));
+        assertNull(map.get(BAZ));
+
+        final Map<InstanceIdentifier<?>, DataObject> expected = new HashMap<>();
+        expected.put(FOO, FOO_DATA);
+        expected.put(BAR, BAR_DATA);
+        assertEquals(expected, map);
+    }
+
+    @Test
+    public void testOverlappingMaps() {
+        final Map<InstanceIdentifier<?>, DataObject> created = new HashMap<>();
+        created.put(FOO, FOO_DATA);
+        created.put(BAR, BAR_DATA);
+        final CompositeMap map = new CompositeMap(created, mapOf(BAR, BAR_UPDATED_DATA));
+
+        assertEquals(2, map.size());
+        assertSame(BAR_UPDATED_DATA, map.get(BAR));
+
+        final Map<InstanceIdentifier<?>, DataObject> expected = new HashMap<>();
+        expected.put(FOO, FOO_DATA);
+        expected.put(BAR, BAR_UPDATED_DATA);
+        assertEquals(expected, map);
+    }
+
+    @Test
+    public void testEmptyMaps() {
+        final CompositeMap map = new CompositeMap(Collections.<InstanceIdentifier<?>, DataObject>emptyMap(),
+            Collections.<InstanceIdentifier<?>, DataObject>emptyMap());
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.entrySet().iterator().hasNext());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        final Iterator<Entry<InstanceIdentifier<?>, DataObject>> it =
+                new CompositeMap(mapOf(FOO, FOO_DATA), mapOf(BAR, BAR_DATA)).entrySet().iterator();
+        it.next();
+        it.remove();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.codec.DeserializationException;
+
+public class LazyDataObjectMapTest {
+
+    private static final InstanceIdentifier<TopLevelList> BA_FOO = InstanceIdentifier.builder(Top.class)
+            .child(TopLevelList.class, new TopLevelListKey("foo")).build();
+    private static final InstanceIdentifier<TopLevelList> BA_BAR = InstanceIdentifier.builder(Top.class)
+            .child(TopLevelList.class, new TopLevelListKey("bar")).build();
+    private static final YangInstanceIdentifier BI_FOO = YangInstanceIdentifier.of(QName.create(Top.QNAME, "foo"));
+    private static final YangInstanceIdentifier BI_BAR = YangInstanceIdentifier.of(QName.create(Top.QNAME, "bar"));
+
+    private final Map<YangInstanceIdentifier, Entry<InstanceIdentifier<? extends DataObject>, DataObject>> translations =
+            new HashMap<>();
+    private final Set<YangInstanceIdentifier> failures = new HashSet<>();
+    private BindingToNormalizedNodeCodec codec;
+
+    @Before
+    public void setUp() throws Exception {
+        codec = mock(BindingToNormalizedNodeCodec.class);
+        when(codec.toNormalized(BA_FOO)).thenReturn(BI_FOO);
+        when(codec.toNormalized(BA_BAR)).thenReturn(BI_BAR);
+        doAnswer(new Answer<Optional<Entry<InstanceIdentifier<? extends DataObject>, DataObject>>>() {
+            @Override
+            public Optional<Entry<InstanceIdentifier<? extends DataObject>, DataObject>> answer(
+                    final InvocationOnMock invocation) throws DeserializationException {
+                final Entry<?, ?> entry = (Entry<?, ?>) invocation.getArguments()[0];
+                if (failures.contains(entry.getKey())) {
+                    throw new DeserializationException("Cannot translate " + entry.getKey());
+                }
+                return Optional.fromNullable(translations.get(entry.getKey()));
+            }
+        }).when(codec).toBinding(Mockito.<Entry<YangInstanceIdentifier, ? extends NormalizedNode<?, ?>>>any());
+    }
+
+    private DataObject translate(final YangInstanceIdentifier domPath,
+            final InstanceIdentifier<? extends DataObject> bindingPath) {
+        final DataObject value = mock(TopLevelList.class);
+        translations.put(domPath, new SimpleImmutableEntry<InstanceIdentifier<? extends DataObject>, DataObject>(
+                bindingPath, value));
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private LazyDataObjectMap createMap(final YangInstanceIdentifier... paths) {
+        final ImmutableMap.Builder<YangInstanceIdentifier, NormalizedNode<?, ?>> normalized = ImmutableMap.builder();
+        for (final YangInstanceIdentifier path : paths) {
+            normalized.put(path, mock(NormalizedNode.class));
+        }
+        return new LazyDataObjectMap(codec, normalized.build());
+    }
+
+    @Test
+    public void testGetTranslatesOnlyRequestedEntry() throws Exception {
+        final DataObject foo = translate(BI_FOO, BA_FOO);
+        translate(BI_BAR, BA_BAR);
+        final LazyDataObjectMap map = createMap(BI_FOO, BI_BAR);
+
+        assertSame(foo, map.get(BA_FOO));
+        assertTrue(map.containsKey(BA_FOO));
+        verify(codec, times(2)).toBinding(Mockito.<Entry<YangInstanceIdentifier, ? extends NormalizedNode<?, ?>>>any());
+    }
+
+    @Test
+    public void testWildcardedKey() throws Exception {
+        translate(BI_FOO, BA_FOO);
+        final LazyDataObjectMap map = createMap(BI_FOO);
+
+        final InstanceIdentifier<TopLevelList> wildcard = InstanceIdentifier.builder(Top.class)
+                .child(TopLevelList.class).build();
+        assertNull(map.get(wildcard));
+        assertFalse(map.containsKey(wildcard));
+        assertFalse(map.containsKey("foo"));
+        verify(codec, never()).toBinding(Mockito.<Entry<YangInstanceIdentifier, ? extends NormalizedNode<?, ?>>>any());
+    }
+
+    @Test
+    public void testAbsentEntryOmitted() throws Exception {
+        final DataObject foo = translate(BI_FOO, BA_FOO);
+        final LazyDataObjectMap map = createMap(BI_FOO, BI_BAR);
+
+        assertNull(map.get(BA_BAR));
+        assertFalse(map.containsKey(BA_BAR));
+        assertEquals(1, map.size());
+        assertEquals(ImmutableMap.of(BA_FOO, foo), map);
+    }
+
+    @Test
+    public void testFailedEntryOmitted() throws Exception {
+        final DataObject foo = translate(BI_FOO, BA_FOO);
+        translate(BI_BAR, BA_BAR);
+        failures.add(BI_BAR);
+        final LazyDataObjectMap map = createMap(BI_FOO, BI_BAR);
+
+        assertNull(map.get(BA_BAR));
+        assertFalse(map.containsKey(BA_BAR));
+        assertEquals(1, map.size());
+        assertEquals(ImmutableMap.of(BA_FOO, foo), map);
+    }
+
+    @Test
+    public void testDuplicatePathsMerged() throws Exception {
+        translate(BI_FOO, BA_FOO);
+        final DataObject bar = translate(BI_BAR, BA_FOO);
+        final LazyDataObjectMap map = createMap(BI_FOO, BI_BAR);
+
+        assertEquals(1, map.size());
+        assertSame(bar, map.entrySet().iterator().next().getValue());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEntrySetReadOnly() throws Exception {
+        translate(BI_FOO, BA_FOO);
+        createMap(BI_FOO).entrySet().clear();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.binding.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.sal.binding.api.NotificationListener;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+public class NotificationDispatchQueueTest {
+    private static final int NOTIFICATIONS = 5000;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testOrderedDelivery() throws InterruptedException {
+        final List<Notification> received = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(NOTIFICATIONS);
+        final NotificationListener<Notification> listener = new NotificationListener<Notification>() {
+            @Override
+            public void onNotification(final Notification notification) {
+                received.add(notification);
+                latch.countDown();
+            }
+        };
+
+        final AbstractNotificationListenerRegistration<Notification> reg = createRegistration(listener, 1024);
+
+        final List<Notification> published = new ArrayList<>(NOTIFICATIONS);
+        for (int i = 0; i < NOTIFICATIONS; ++i) {
+            final Notification n = mock(Notification.class);
+            published.add(n);
+            reg.enqueue(n, executor);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(published, received);
+    }
+
+    @Test
+    public void testListenerPublishingToItsOwnFullQueue() throws InterruptedException {
+        final int capacity = 2;
+        final CountDownLatch latch = new CountDownLatch(NOTIFICATIONS);
+        final AtomicInteger published = new AtomicInteger(1);
+        final AtomicReference<AbstractNotificationListenerRegistration<Notification>> regRef = new AtomicReference<>();
+        final NotificationListener<Notification> listener = new NotificationListener<Notification>() {
+            @Override
+            public void onNotification(final Notification notification) {
+                // Publish more than the queue can hold from the drain task
+                for (int i = 0; i <= capacity && published.get() < NOTIFICATIONS; ++i) {
+                    published.incrementAndGet();
+                    regRef.get().enqueue(mock(Notification.class), executor);
+                }
+                latch.countDown();
+            }
+        };
+
+        regRef.set(createRegistration(listener, capacity));
+        regRef.get().enqueue(mock(Notification.class), executor);
+
+        assertTrue("Listener publishing to its own queue deadlocked", latch.await(10, TimeUnit.SECONDS));
+    }
+
+    private static AbstractNotificationListenerRegistration<Notification> createRegistration(
+            final NotificationListener<Notification> listener, final int capacity) {
+        return new AbstractNotificationListenerRegistration<Notification>(Notification.class, listener, capacity) {
+            @Override
+            protected void removeRegistration() {
+                // No-op
+            }
+        };
+    }
+}
@@ -10,10 +10,14 @@ package org.opendaylight.controller.cluster.datastore;
 import akka.actor.ActorSelection;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
 import java.util.concurrent.Semaphore;
 import org.opendaylight.controller.cluster.datastore.identifiers.TransactionIdentifier;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +72,14 @@ final class NoOpTransactionContext extends AbstractTransactionContext {
         proxyFuture.setException(new ReadFailedException("Error reading data for path " + path, failure));
     }
 
+    @Override
+    public void readPage(YangInstanceIdentifier path, NodeIdentifierWithPredicates startKey, int limit,
+            Collection<PathArgument> fields, SettableFuture<Optional<DOMStoreMapPage>> proxyFuture) {
+        LOG.debug("Tx {} readPage called path = {}", identifier, path);
+        operationLimiter.release();
+        proxyFuture.setException(new ReadFailedException("Error reading page for path " + path, failure));
+    }
+
     @Override
     public void dataExists(YangInstanceIdentifier path, SettableFuture<Boolean> proxyFuture) {
         LOG.debug("Tx {} dataExists called path = {}", identifier, path);
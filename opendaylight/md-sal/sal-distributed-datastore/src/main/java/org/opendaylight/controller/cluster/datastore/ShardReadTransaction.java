@@ -20,6 +20,7 @@ import org.opendaylight.controller.cluster.datastore.jmx.mbeans.shard.ShardStats
 import org.opendaylight.controller.cluster.datastore.messages.CreateSnapshot;
 import org.opendaylight.controller.cluster.datastore.messages.DataExists;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
+import org.opendaylight.controller.cluster.datastore.messages.ReadPage;
 import org.opendaylight.controller.cluster.datastore.utils.SerializationUtils;
 import org.opendaylight.controller.cluster.raft.base.messages.CaptureSnapshotReply;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
@@ -49,6 +50,9 @@ public class ShardReadTransaction extends ShardTransaction {
         if(message instanceof ReadData) {
             readData(transaction, (ReadData) message, !SERIALIZED_REPLY);
 
+        } else if (message instanceof ReadPage) {
+            readPage(transaction, (ReadPage) message);
+
         } else if (message instanceof DataExists) {
             dataExists(transaction, (DataExists) message, !SERIALIZED_REPLY);
         } else if (message instanceof CreateSnapshot) {
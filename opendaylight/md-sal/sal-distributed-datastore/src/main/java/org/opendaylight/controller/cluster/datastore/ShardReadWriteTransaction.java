@@ -14,6 +14,7 @@ import akka.actor.ActorRef;
 import org.opendaylight.controller.cluster.datastore.jmx.mbeans.shard.ShardStats;
 import org.opendaylight.controller.cluster.datastore.messages.DataExists;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
+import org.opendaylight.controller.cluster.datastore.messages.ReadPage;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
@@ -36,6 +37,9 @@ public class ShardReadWriteTransaction extends ShardWriteTransaction {
         if (message instanceof ReadData) {
             readData(transaction, (ReadData) message, !SERIALIZED_REPLY);
 
+        } else if (message instanceof ReadPage) {
+            readPage(transaction, (ReadPage) message);
+
         } else if (message instanceof DataExists) {
             dataExists(transaction, (DataExists) message, !SERIALIZED_REPLY);
 
@@ -24,7 +24,11 @@ import org.opendaylight.controller.cluster.datastore.messages.DataExists;
 import org.opendaylight.controller.cluster.datastore.messages.DataExistsReply;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
 import org.opendaylight.controller.cluster.datastore.messages.ReadDataReply;
+import org.opendaylight.controller.cluster.datastore.messages.ReadPage;
+import org.opendaylight.controller.cluster.datastore.messages.ReadPageReply;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreTransaction;
@@ -42,6 +46,7 @@ import org.opendaylight.yangtools.yang.model.api.SchemaContext;
  * Handles Messages <br/>
  * ---------------- <br/>
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.ReadData}
+ * <li> {@link org.opendaylight.controller.cluster.datastore.messages.ReadPage}
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.WriteData}
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.MergeData}
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.DeleteData}
@@ -140,6 +145,25 @@ public abstract class ShardTransaction extends AbstractUntypedActorWithMetering
         }
     }
 
+    protected void readPage(DOMStoreReadTransaction transaction, ReadPage message) {
+        final YangInstanceIdentifier path = message.getPath();
+        if(!(transaction instanceof DOMStorePagedReadTransaction)) {
+            sender().tell(new akka.actor.Status.Failure(new ReadFailedException(
+                    String.format("Paged reads are not supported by transaction %s", transactionID))), self());
+            return;
+        }
+
+        try {
+            final Optional<DOMStoreMapPage> page = ((DOMStorePagedReadTransaction) transaction).readPage(path,
+                    message.getStartKey(), message.getLimit(), message.getFields()).checkedGet();
+            sender().tell(new ReadPageReply(page, clientTxVersion), self());
+        } catch (Exception e) {
+            LOG.debug(String.format("Unexpected error reading page of path %s", path), e);
+            shardStats.incrementFailedReadTransactionsCount();
+            sender().tell(new akka.actor.Status.Failure(e), self());
+        }
+    }
+
     protected void dataExists(DOMStoreReadTransaction transaction, DataExists message,
         final boolean returnSerialized) {
         final YangInstanceIdentifier path = message.getPath();
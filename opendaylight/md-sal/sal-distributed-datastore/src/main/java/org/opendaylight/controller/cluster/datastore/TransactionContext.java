@@ -10,8 +10,12 @@ package org.opendaylight.controller.cluster.datastore;
 import akka.actor.ActorSelection;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
 import java.util.List;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import scala.concurrent.Future;
 
@@ -32,6 +36,9 @@ interface TransactionContext {
 
     void readData(final YangInstanceIdentifier path, SettableFuture<Optional<NormalizedNode<?, ?>>> proxyFuture);
 
+    void readPage(YangInstanceIdentifier path, NodeIdentifierWithPredicates startKey, int limit,
+            Collection<PathArgument> fields, SettableFuture<Optional<DOMStoreMapPage>> proxyFuture);
+
     void dataExists(YangInstanceIdentifier path, SettableFuture<Boolean> proxyFuture);
 
     List<Future<Object>> getRecordedOperationFutures();
@@ -13,6 +13,7 @@ import akka.dispatch.OnComplete;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
 import java.util.List;
 import org.opendaylight.controller.cluster.datastore.identifiers.TransactionIdentifier;
 import org.opendaylight.controller.cluster.datastore.messages.BatchedModifications;
@@ -21,6 +22,8 @@ import org.opendaylight.controller.cluster.datastore.messages.DataExists;
 import org.opendaylight.controller.cluster.datastore.messages.DataExistsReply;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
 import org.opendaylight.controller.cluster.datastore.messages.ReadDataReply;
+import org.opendaylight.controller.cluster.datastore.messages.ReadPage;
+import org.opendaylight.controller.cluster.datastore.messages.ReadPageReply;
 import org.opendaylight.controller.cluster.datastore.messages.ReadyTransaction;
 import org.opendaylight.controller.cluster.datastore.messages.ReadyTransactionReply;
 import org.opendaylight.controller.cluster.datastore.messages.SerializableMessage;
@@ -30,7 +33,10 @@ import org.opendaylight.controller.cluster.datastore.modification.Modification;
 import org.opendaylight.controller.cluster.datastore.modification.WriteModification;
 import org.opendaylight.controller.cluster.datastore.utils.ActorContext;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.slf4j.Logger;
@@ -290,6 +296,86 @@ public class TransactionContextImpl extends AbstractTransactionContext {
         readFuture.onComplete(onComplete, actorContext.getClientDispatcher());
     }
 
+    @Override
+    public void readPage(final YangInstanceIdentifier path, final NodeIdentifierWithPredicates startKey,
+            final int limit, final Collection<PathArgument> fields,
+            final SettableFuture<Optional<DOMStoreMapPage>> returnFuture) {
+
+        LOG.debug("Tx {} readPage called path = {}, startKey = {}, limit = {}", identifier, path, startKey, limit);
+
+        // Pre-Lithium shards do not know the ReadPage message.
+
+        if(remoteTransactionVersion < DataStoreVersions.LITHIUM_VERSION) {
+            operationCompleter.onComplete(null, null);
+            returnFuture.setException(new ReadFailedException(String.format(
+                    "Paged reads are not supported by shard transaction version %d", remoteTransactionVersion)));
+            return;
+        }
+
+        // Send the remaining batched modifications if any.
+
+        sendBatchedModifications();
+
+        // As with readData, honor the read uncommitted semantics by waiting for the previous
+        // recorded put/merge/delete operations to complete.
+
+        final ReadPage message = new ReadPage(path, startKey, limit, fields, remoteTransactionVersion);
+        if(recordedOperationFutures.isEmpty()) {
+            finishReadPage(message, returnFuture);
+        } else {
+            Future<Iterable<Object>> combinedFutures = akka.dispatch.Futures.sequence(
+                    Lists.newArrayList(recordedOperationFutures),
+                    actorContext.getClientDispatcher());
+
+            OnComplete<Iterable<Object>> onComplete = new OnComplete<Iterable<Object>>() {
+                @Override
+                public void onComplete(Throwable failure, Iterable<Object> notUsed)
+                        throws Throwable {
+                    if(failure != null) {
+                        LOG.debug("Tx {} readPage: a recorded operation failed: {}",
+                                identifier, failure);
+                        returnFuture.setException(new ReadFailedException(
+                                "The read could not be performed because a previous put, merge,"
+                                + "or delete operation failed", failure));
+                    } else {
+                        finishReadPage(message, returnFuture);
+                    }
+                }
+            };
+
+            combinedFutures.onComplete(onComplete, actorContext.getClientDispatcher());
+        }
+    }
+
+    private void finishReadPage(final ReadPage message,
+            final SettableFuture<Optional<DOMStoreMapPage>> returnFuture) {
+
+        LOG.debug("Tx {} finishReadPage called path = {}", identifier, message.getPath());
+
+        OnComplete<Object> onComplete = new OnComplete<Object>() {
+            @Override
+            public void onComplete(Throwable failure, Object response) throws Throwable {
+                if(failure != null) {
+                    LOG.debug("Tx {} readPage operation failed: {}", identifier, failure);
+                    // Keep the errors reported by the shard, like a missing start key
+                    returnFuture.setException(failure instanceof ReadFailedException ? failure :
+                        new ReadFailedException("Error reading page for path " + message.getPath(), failure));
+
+                } else if (ReadPageReply.isSerializedType(response)) {
+                    returnFuture.set(ReadPageReply.fromSerializable(response).getPage());
+
+                } else {
+                    returnFuture.setException(new ReadFailedException(
+                            "Invalid response reading page for path " + message.getPath()));
+                }
+            }
+        };
+
+        Future<Object> future = executeOperationAsync(message);
+
+        future.onComplete(onComplete, actorContext.getClientDispatcher());
+    }
+
     @Override
     public void dataExists(final YangInstanceIdentifier path, final SettableFuture<Boolean> returnFuture) {
 
@@ -41,10 +41,14 @@ import org.opendaylight.controller.cluster.datastore.messages.CreateTransactionR
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
 import org.opendaylight.controller.cluster.datastore.utils.ActorContext;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreThreePhaseCommitCohort;
 import org.opendaylight.yangtools.util.concurrent.MappingCheckedFuture;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.slf4j.Logger;
@@ -65,7 +69,7 @@ import scala.concurrent.duration.FiniteDuration;
  * shards will be executed.
  * </p>
  */
-public class TransactionProxy implements DOMStoreReadWriteTransaction {
+public class TransactionProxy implements DOMStoreReadWriteTransaction, DOMStorePagedReadTransaction {
 
     public static enum TransactionType {
         READ_ONLY,
@@ -255,6 +259,31 @@ public class TransactionProxy implements DOMStoreReadWriteTransaction {
         return MappingCheckedFuture.create(proxyFuture, ReadFailedException.MAPPER);
     }
 
+    @Override
+    public CheckedFuture<Optional<DOMStoreMapPage>, ReadFailedException> readPage(final YangInstanceIdentifier path,
+            final NodeIdentifierWithPredicates startKey, final int limit, final Collection<PathArgument> fields) {
+
+        Preconditions.checkState(transactionType != TransactionType.WRITE_ONLY,
+                "Read operation on write-only transaction is not allowed");
+        Preconditions.checkArgument(limit > 0, "Page limit must be positive, %s", limit);
+
+        LOG.debug("Tx {} readPage {} from {} limit {}", identifier, path, startKey, limit);
+
+        throttleOperation();
+
+        final SettableFuture<Optional<DOMStoreMapPage>> proxyFuture = SettableFuture.create();
+
+        TransactionFutureCallback txFutureCallback = getOrCreateTxFutureCallback(path);
+        txFutureCallback.enqueueTransactionOperation(new TransactionOperation() {
+            @Override
+            public void invoke(TransactionContext transactionContext) {
+                transactionContext.readPage(path, startKey, limit, fields, proxyFuture);
+            }
+        });
+
+        return MappingCheckedFuture.create(proxyFuture, ReadFailedException.MAPPER);
+    }
+
     @Override
     public CheckedFuture<Boolean, ReadFailedException> exists(final YangInstanceIdentifier path) {
 
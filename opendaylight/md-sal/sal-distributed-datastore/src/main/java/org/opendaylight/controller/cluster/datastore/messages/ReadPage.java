@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import org.opendaylight.controller.cluster.datastore.utils.SerializationUtils;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * Message sent to a ShardTransaction actor to read a single page of a keyed list.
+ * Only Lithium and later shards understand this message.
+ */
+public class ReadPage extends VersionedExternalizableMessage {
+    private static final long serialVersionUID = 1L;
+
+    private YangInstanceIdentifier path;
+    private NodeIdentifierWithPredicates startKey;
+    private int limit;
+    private Collection<PathArgument> fields;
+
+    public ReadPage() {
+    }
+
+    public ReadPage(YangInstanceIdentifier path, NodeIdentifierWithPredicates startKey, int limit,
+            Collection<PathArgument> fields, short version) {
+        super(version);
+        this.path = path;
+        this.startKey = startKey;
+        this.limit = limit;
+        this.fields = ImmutableList.copyOf(fields);
+    }
+
+    public YangInstanceIdentifier getPath() {
+        return path;
+    }
+
+    public NodeIdentifierWithPredicates getStartKey() {
+        return startKey;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Collection<PathArgument> getFields() {
+        return fields;
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal(in);
+        path = SerializationUtils.deserializePath(in);
+        if(in.readBoolean()) {
+            startKey = (NodeIdentifierWithPredicates) SerializationUtils.deserializePath(in).getLastPathArgument();
+        }
+        limit = in.readInt();
+
+        int size = in.readInt();
+        ImmutableList.Builder<PathArgument> builder = ImmutableList.builder();
+        for(int i = 0; i < size; i++) {
+            builder.add(SerializationUtils.deserializePath(in).getLastPathArgument());
+        }
+        fields = builder.build();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+        SerializationUtils.serializePath(path, out);
+        out.writeBoolean(startKey != null);
+        if(startKey != null) {
+            SerializationUtils.serializePath(YangInstanceIdentifier.create(startKey), out);
+        }
+        out.writeInt(limit);
+
+        out.writeInt(fields.size());
+        for(PathArgument field: fields) {
+            SerializationUtils.serializePath(YangInstanceIdentifier.create(field), out);
+        }
+    }
+
+    @Override
+    public Object toSerializable() {
+        return this;
+    }
+
+    public static ReadPage fromSerializable(Object serializable) {
+        return (ReadPage) serializable;
+    }
+
+    public static boolean isSerializedType(Object message) {
+        return message instanceof ReadPage;
+    }
+}
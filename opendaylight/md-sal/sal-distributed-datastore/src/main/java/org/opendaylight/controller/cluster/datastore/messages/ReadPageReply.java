@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import com.google.common.base.Optional;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.controller.cluster.datastore.utils.SerializationUtils;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Reply to {@link ReadPage}. Carries the entries of the page and the key at which the next page starts.
+ */
+public class ReadPageReply extends VersionedExternalizableMessage {
+    private static final long serialVersionUID = 1L;
+
+    private NormalizedNode<?, ?> data;
+    private NodeIdentifierWithPredicates nextKey;
+
+    public ReadPageReply() {
+    }
+
+    public ReadPageReply(Optional<DOMStoreMapPage> page, short version) {
+        super(version);
+        if(page.isPresent()) {
+            this.data = page.get().getData();
+            this.nextKey = page.get().getNextKey().orNull();
+        }
+    }
+
+    /**
+     * @return the page read, or absent if the list does not exist
+     */
+    public Optional<DOMStoreMapPage> getPage() {
+        if(data == null) {
+            return Optional.absent();
+        }
+        return Optional.of(new DOMStoreMapPage(data, nextKey));
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal(in);
+        data = SerializationUtils.deserializeNormalizedNode(in);
+        if(in.readBoolean()) {
+            nextKey = (NodeIdentifierWithPredicates) SerializationUtils.deserializePath(in).getLastPathArgument();
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+        SerializationUtils.serializeNormalizedNode(data, out);
+        out.writeBoolean(nextKey != null);
+        if(nextKey != null) {
+            SerializationUtils.serializePath(YangInstanceIdentifier.create(nextKey), out);
+        }
+    }
+
+    @Override
+    public Object toSerializable() {
+        return this;
+    }
+
+    public static ReadPageReply fromSerializable(Object serializable) {
+        return (ReadPageReply) serializable;
+    }
+
+    public static boolean isSerializedType(Object message) {
+        return message instanceof ReadPageReply;
+    }
+}
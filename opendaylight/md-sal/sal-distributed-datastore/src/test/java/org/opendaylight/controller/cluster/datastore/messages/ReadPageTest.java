@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import static org.junit.Assert.assertEquals;
+import com.google.common.base.Optional;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.commons.lang.SerializationUtils;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.DataStoreVersions;
+import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+/**
+ * Unit tests for ReadPage and ReadPageReply.
+ */
+public class ReadPageTest {
+
+    @Test
+    public void testReadPageSerialization() {
+        NodeIdentifierWithPredicates startKey = new NodeIdentifierWithPredicates(TestModel.OUTER_LIST_QNAME,
+                TestModel.ID_QNAME, 2);
+        ReadPage expected = new ReadPage(TestModel.OUTER_LIST_PATH, startKey, 10,
+                Arrays.<PathArgument>asList(new NodeIdentifier(TestModel.NAME_QNAME)),
+                DataStoreVersions.CURRENT_VERSION);
+
+        Object serialized = expected.toSerializable();
+        assertEquals("Serialized type", ReadPage.class, serialized.getClass());
+
+        ReadPage actual = ReadPage.fromSerializable(SerializationUtils.clone((Serializable) serialized));
+        assertEquals("getVersion", DataStoreVersions.CURRENT_VERSION, actual.getVersion());
+        assertEquals("getPath", expected.getPath(), actual.getPath());
+        assertEquals("getStartKey", expected.getStartKey(), actual.getStartKey());
+        assertEquals("getLimit", expected.getLimit(), actual.getLimit());
+        assertEquals("getFields", expected.getFields(), actual.getFields());
+    }
+
+    @Test
+    public void testReadPageReplySerialization() {
+        MapNode data = ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).withChild(
+                ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1)).build();
+        NodeIdentifierWithPredicates nextKey = new NodeIdentifierWithPredicates(TestModel.OUTER_LIST_QNAME,
+                TestModel.ID_QNAME, 2);
+
+        ReadPageReply expected = new ReadPageReply(Optional.of(new DOMStoreMapPage(data, nextKey)),
+                DataStoreVersions.CURRENT_VERSION);
+
+        ReadPageReply actual = ReadPageReply.fromSerializable(SerializationUtils.clone(
+                (Serializable) expected.toSerializable()));
+        assertEquals("getVersion", DataStoreVersions.CURRENT_VERSION, actual.getVersion());
+        assertEquals("getData", data, actual.getPage().get().getData());
+        assertEquals("getNextKey", nextKey, actual.getPage().get().getNextKey().get());
+
+        ReadPageReply absent = ReadPageReply.fromSerializable(SerializationUtils.clone(new ReadPageReply(
+                Optional.<DOMStoreMapPage>absent(), DataStoreVersions.CURRENT_VERSION)));
+        assertEquals("isPresent", false, absent.getPage().isPresent());
+    }
+
+    @Test
+    public void testReadPageWithoutStartKey() {
+        ReadPage expected = new ReadPage(TestModel.OUTER_LIST_PATH, null, 1,
+                Collections.<PathArgument>emptyList(), DataStoreVersions.CURRENT_VERSION);
+
+        ReadPage actual = ReadPage.fromSerializable(SerializationUtils.clone(expected));
+        assertEquals("getStartKey", null, actual.getStartKey());
+        assertEquals("getFields", Collections.emptyList(), actual.getFields());
+    }
+}
@@ -9,6 +9,12 @@ package org.opendaylight.controller.config.yang.md.sal.dom.impl;
 
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.MutableClassToInstanceMap;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import org.opendaylight.controller.config.api.JmxAttributeValidationException;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
 import org.opendaylight.controller.md.sal.dom.api.DOMMountPointService;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
@@ -18,6 +24,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter;
 import org.opendaylight.controller.md.sal.dom.broker.impl.DOMRpcRouter;
 import org.opendaylight.controller.md.sal.dom.broker.impl.compat.BackwardsCompatibleDataBroker;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationRouterStatsMXBeanImpl;
 import org.opendaylight.controller.md.sal.dom.broker.impl.mount.DOMMountPointServiceImpl;
 import org.opendaylight.controller.sal.core.api.BrokerService;
 import org.opendaylight.controller.sal.core.api.RpcProvisionRegistry;
@@ -31,12 +38,14 @@ import org.opendaylight.controller.sal.dom.broker.BrokerImpl;
 import org.opendaylight.controller.sal.dom.broker.GlobalBundleScanningSchemaServiceImpl;
 import org.opendaylight.controller.sal.dom.broker.impl.SchemaAwareRpcBroker;
 import org.opendaylight.controller.sal.dom.broker.impl.SchemaContextProviders;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.dom.impl.rev131028.NotificationWaitStrategy;
 
 /**
 *
 */
 public final class DomBrokerImplModule extends org.opendaylight.controller.config.yang.md.sal.dom.impl.AbstractDomBrokerImplModule
 {
+    private static final String JMX_BEAN_TYPE = "DOMNotificationRouter";
 
     public DomBrokerImplModule(final org.opendaylight.controller.config.api.ModuleIdentifier identifier, final org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
         super(identifier, dependencyResolver);
@@ -49,6 +58,14 @@ public final class DomBrokerImplModule extends org.opendaylight.controller.confi
     @Override
     public void validate(){
         super.validate();
+
+        final Integer queueDepth = getNotificationQueueDepth();
+        JmxAttributeValidationException.checkCondition(queueDepth != null && queueDepth > 0
+                && Integer.bitCount(queueDepth) == 1, "must be a power of two",
+                notificationQueueDepthJmxAttribute);
+        JmxAttributeValidationException.checkCondition(getNotificationDispatchPartitions() != null
+                && getNotificationDispatchPartitions() > 0, "must be positive",
+                notificationDispatchPartitionsJmxAttribute);
     }
 
     @Override
@@ -57,10 +74,11 @@ public final class DomBrokerImplModule extends org.opendaylight.controller.confi
 
         final ClassToInstanceMap<BrokerService> services = MutableClassToInstanceMap.create();
 
-        // TODO: retrieve from config subsystem
-        final int queueDepth = 1024;
-
-        final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(queueDepth);
+        final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(getNotificationQueueDepth(),
+            getNotificationDispatchPartitions(), createWaitStrategy(getNotificationWaitStrategy()));
+        final NotificationRouterStatsMXBeanImpl notificationStatsMXBean =
+                new NotificationRouterStatsMXBeanImpl(domNotificationRouter, JMX_BEAN_TYPE);
+        notificationStatsMXBean.registerMBean();
         services.putInstance(DOMNotificationService.class, domNotificationRouter);
         services.putInstance(DOMNotificationPublishService.class, domNotificationRouter);
 
@@ -88,7 +106,33 @@ public final class DomBrokerImplModule extends org.opendaylight.controller.confi
         services.putInstance(MountService.class, backwardsMountService);
         services.putInstance(MountProvisionService.class, backwardsMountService);
 
-        return new BrokerImpl(router, services);
+        final BrokerImpl broker = new BrokerImpl(router, services);
+        broker.setDeactivator(new AutoCloseable() {
+            @Override
+            public void close() {
+                notificationStatsMXBean.unregisterMBean();
+                domNotificationRouter.close();
+            }
+        });
+        return broker;
+    }
+
+    private static WaitStrategy createWaitStrategy(final NotificationWaitStrategy strategy) {
+        if (strategy == null) {
+            return new SleepingWaitStrategy();
+        }
+
+        switch (strategy) {
+        case Blocking:
+            return new BlockingWaitStrategy();
+        case BusySpin:
+            return new BusySpinWaitStrategy();
+        case Yielding:
+            return new YieldingWaitStrategy();
+        case Sleeping:
+        default:
+            return new SleepingWaitStrategy();
+        }
     }
 
     private SchemaService getSchemaServiceImpl() {
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
+
+/**
+ * A listener registration within {@link DOMNotificationRouter}. Each registration is pinned to a single
+ * dispatch partition, which is derived from the listener instance, so all notifications for a particular
+ * listener are delivered by the same thread, in publish order.
+ *
+ * @param <T> listener type
+ */
+abstract class AbstractDOMNotificationListenerRegistration<T extends DOMNotificationListener> extends AbstractListenerRegistration<T> {
+    private final int partition;
+
+    /*
+     * Only ever written from the partition thread, hence we do not need atomic updates, just
+     * visibility for statistics readers.
+     */
+    private volatile long delivered;
+
+    protected AbstractDOMNotificationListenerRegistration(final T listener, final int partition) {
+        super(listener);
+        this.partition = partition;
+    }
+
+    static int partitionFor(final DOMNotificationListener listener, final int partitions) {
+        return (System.identityHashCode(listener) & Integer.MAX_VALUE) % partitions;
+    }
+
+    final int getPartition() {
+        return partition;
+    }
+
+    final long getDeliveredNotifications() {
+        return delivered;
+    }
+
+    final void deliverNotification(final DOMNotification notification) {
+        final DOMNotificationListener l = getInstance();
+        if (l != null) {
+            l.onNotification(notification);
+            delivered++;
+        }
+    }
+}
@@ -9,12 +9,18 @@ package org.opendaylight.controller.md.sal.dom.broker.impl;
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import java.util.Collection;
 import java.util.Map;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
-import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.dom.spi.DOMDataPagedReadTransaction;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
@@ -22,10 +28,13 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
  * {@link DOMStoreReadTransaction} transactions. Subtransaction is selected by
  * {@link LogicalDatastoreType} type parameter in
  * {@link #read(LogicalDatastoreType, YangInstanceIdentifier)}.
+ *
+ * Paged reads are forwarded to subtransactions which implement
+ * {@link DOMStorePagedReadTransaction}.
  */
 class DOMForwardedReadOnlyTransaction extends
         AbstractDOMForwardedCompositeTransaction<LogicalDatastoreType, DOMStoreReadTransaction> implements
-        DOMDataReadOnlyTransaction {
+        DOMDataPagedReadTransaction {
 
     protected DOMForwardedReadOnlyTransaction(final Object identifier,
             final Map<LogicalDatastoreType, DOMStoreReadTransaction> backingTxs) {
@@ -45,6 +54,18 @@ class DOMForwardedReadOnlyTransaction extends
         return getSubtransaction(store).exists(path);
     }
 
+    @Override
+    public CheckedFuture<Optional<DOMStoreMapPage>, ReadFailedException> readPage(
+            final LogicalDatastoreType store, final YangInstanceIdentifier path,
+            final NodeIdentifierWithPredicates startKey, final int limit, final Collection<PathArgument> fields) {
+        final DOMStoreReadTransaction subtransaction = getSubtransaction(store);
+        if (subtransaction instanceof DOMStorePagedReadTransaction) {
+            return ((DOMStorePagedReadTransaction) subtransaction).readPage(path, startKey, limit, fields);
+        }
+        return Futures.immediateFailedCheckedFuture(new ReadFailedException(
+                String.format("Datastore %s does not support paged reads", store)));
+    }
+
     @Override
     public void close() {
         closeSubtransactions();
@@ -9,8 +9,10 @@ package org.opendaylight.controller.md.sal.dom.broker.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableMultimap.Builder;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.util.concurrent.Futures;
@@ -21,8 +23,10 @@ import com.lmax.disruptor.SleepingWaitStrategy;
 import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -30,7 +34,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
-import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationListenerStats;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
@@ -38,8 +42,11 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
  * Joint implementation of {@link DOMNotificationPublishService} and {@link DOMNotificationService}. Provides
  * routing of notifications from publishers to subscribers.
  *
- * Internal implementation works by allocating a two-handler Disruptor. The first handler delivers notifications
- * to subscribed listeners and the second one notifies whoever may be listening on the returned future. Registration
+ * Internal implementation works by allocating a multi-handler Disruptor. The first stage consists of one or more
+ * dispatch partitions, each of which delivers notifications to the subscribed listeners assigned to it. Listeners
+ * are assigned to partitions based on their identity, hence each listener observes notifications in the order
+ * in which they were published, while a slow listener holds up only the other listeners in its partition until
+ * the queue fills up. The last handler notifies whoever may be listening on the returned future. Registration
  * state tracking is performed by a simple immutable multimap -- when a registration or unregistration occurs we
  * re-generate the entire map from scratch and set it atomically. While registrations/unregistrations synchronize
  * on this instance, notifications do not take any locks here.
@@ -51,13 +58,6 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 public final class DOMNotificationRouter implements AutoCloseable, DOMNotificationPublishService, DOMNotificationService {
     private static final ListenableFuture<Void> NO_LISTENERS = Futures.immediateFuture(null);
     private static final WaitStrategy DEFAULT_STRATEGY = new SleepingWaitStrategy();
-    private static final EventHandler<DOMNotificationRouterEvent> DISPATCH_NOTIFICATIONS = new EventHandler<DOMNotificationRouterEvent>() {
-        @Override
-        public void onEvent(final DOMNotificationRouterEvent event, final long sequence, final boolean endOfBatch) throws Exception {
-            event.deliverNotification();
-
-        }
-    };
     private static final EventHandler<DOMNotificationRouterEvent> NOTIFY_FUTURE = new EventHandler<DOMNotificationRouterEvent>() {
         @Override
         public void onEvent(final DOMNotificationRouterEvent event, final long sequence, final boolean endOfBatch) {
@@ -67,36 +67,63 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
 
     private final Disruptor<DOMNotificationRouterEvent> disruptor;
     private final ExecutorService executor;
-    private volatile Multimap<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> listeners = ImmutableMultimap.of();
+    private final List<DOMNotificationRouterPartition> partitions;
+    private final WaitStrategy waitStrategy;
+    private final int queueDepth;
+    private volatile Multimap<SchemaPath, AbstractDOMNotificationListenerRegistration<?>> listeners = ImmutableMultimap.of();
 
-    private DOMNotificationRouter(final ExecutorService executor, final Disruptor<DOMNotificationRouterEvent> disruptor) {
+    private DOMNotificationRouter(final ExecutorService executor, final Disruptor<DOMNotificationRouterEvent> disruptor,
+            final List<DOMNotificationRouterPartition> partitions, final WaitStrategy waitStrategy, final int queueDepth) {
         this.executor = Preconditions.checkNotNull(executor);
         this.disruptor = Preconditions.checkNotNull(disruptor);
+        this.partitions = Preconditions.checkNotNull(partitions);
+        this.waitStrategy = Preconditions.checkNotNull(waitStrategy);
+        this.queueDepth = queueDepth;
     }
 
-    @SuppressWarnings("unchecked")
     public static DOMNotificationRouter create(final int queueDepth) {
+        return create(queueDepth, 1, DEFAULT_STRATEGY);
+    }
+
+    /**
+     * Create a new router.
+     *
+     * @param queueDepth Depth of the notification queue, must be a power of two
+     * @param partitionCount Number of dispatch partitions, each of which runs in its own thread
+     * @param waitStrategy Strategy used by dispatch threads while waiting for new notifications
+     * @return A new router instance
+     */
+    @SuppressWarnings("unchecked")
+    public static DOMNotificationRouter create(final int queueDepth, final int partitionCount, final WaitStrategy waitStrategy) {
+        Preconditions.checkArgument(partitionCount > 0, "Partition count %s is not positive", partitionCount);
+
         final ExecutorService executor = Executors.newCachedThreadPool();
-        final Disruptor<DOMNotificationRouterEvent> disruptor = new Disruptor<>(DOMNotificationRouterEvent.FACTORY, queueDepth, executor, ProducerType.MULTI, DEFAULT_STRATEGY);
+        final Disruptor<DOMNotificationRouterEvent> disruptor = new Disruptor<>(DOMNotificationRouterEvent.FACTORY, queueDepth, executor, ProducerType.MULTI, waitStrategy);
+
+        final DOMNotificationRouterPartition[] partitions = new DOMNotificationRouterPartition[partitionCount];
+        for (int i = 0; i < partitionCount; ++i) {
+            partitions[i] = new DOMNotificationRouterPartition(i);
+        }
 
-        disruptor.handleEventsWith(DISPATCH_NOTIFICATIONS);
-        disruptor.after(DISPATCH_NOTIFICATIONS).handleEventsWith(NOTIFY_FUTURE);
+        disruptor.handleEventsWith(partitions);
+        disruptor.after(partitions).handleEventsWith(NOTIFY_FUTURE);
         disruptor.start();
 
-        return new DOMNotificationRouter(executor, disruptor);
+        return new DOMNotificationRouter(executor, disruptor, ImmutableList.copyOf(partitions), waitStrategy, queueDepth);
     }
 
     @Override
     public synchronized <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(final T listener, final Collection<SchemaPath> types) {
-        final ListenerRegistration<T> reg = new AbstractListenerRegistration<T>(listener) {
+        final int partition = AbstractDOMNotificationListenerRegistration.partitionFor(listener, partitions.size());
+        final AbstractDOMNotificationListenerRegistration<T> reg = new AbstractDOMNotificationListenerRegistration<T>(listener, partition) {
             @Override
             protected void removeRegistration() {
                 final ListenerRegistration<T> me = this;
 
                 synchronized (DOMNotificationRouter.this) {
-                    listeners = ImmutableMultimap.copyOf(Multimaps.filterValues(listeners, new Predicate<ListenerRegistration<? extends DOMNotificationListener>>() {
+                    listeners = ImmutableMultimap.copyOf(Multimaps.filterValues(listeners, new Predicate<AbstractDOMNotificationListenerRegistration<?>>() {
                         @Override
-                        public boolean apply(final ListenerRegistration<? extends DOMNotificationListener> input) {
+                        public boolean apply(final AbstractDOMNotificationListenerRegistration<?> input) {
                             return input != me;
                         }
                     }));
@@ -105,7 +132,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         };
 
         if (!types.isEmpty()) {
-            final Builder<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> b = ImmutableMultimap.builder();
+            final Builder<SchemaPath, AbstractDOMNotificationListenerRegistration<?>> b = ImmutableMultimap.builder();
             b.putAll(listeners);
 
             for (SchemaPath t : types) {
@@ -123,7 +150,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         return registerNotificationListener(listener, Arrays.asList(types));
     }
 
-    private ListenableFuture<Void> publish(final long seq, final DOMNotification notification, final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+    private ListenableFuture<Void> publish(final long seq, final DOMNotification notification, final Collection<AbstractDOMNotificationListenerRegistration<?>> subscribers) {
         final DOMNotificationRouterEvent event = disruptor.get(seq);
         final ListenableFuture<Void> future = event.initialize(notification, subscribers);
         disruptor.getRingBuffer().publish(seq);
@@ -132,7 +159,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
 
     @Override
     public ListenableFuture<? extends Object> putNotification(final DOMNotification notification) throws InterruptedException {
-        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers = listeners.get(notification.getType());
+        final Collection<AbstractDOMNotificationListenerRegistration<?>> subscribers = listeners.get(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -141,7 +168,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         return publish(seq, notification, subscribers);
     }
 
-    private ListenableFuture<? extends Object> tryPublish(final DOMNotification notification, final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+    private ListenableFuture<? extends Object> tryPublish(final DOMNotification notification, final Collection<AbstractDOMNotificationListenerRegistration<?>> subscribers) {
         final long seq;
         try {
              seq = disruptor.getRingBuffer().tryNext();
@@ -154,7 +181,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
 
     @Override
     public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification) {
-        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers = listeners.get(notification.getType());
+        final Collection<AbstractDOMNotificationListenerRegistration<?>> subscribers = listeners.get(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -165,7 +192,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
     @Override
     public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification, final long timeout,
             final TimeUnit unit) throws InterruptedException {
-        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers = listeners.get(notification.getType());
+        final Collection<AbstractDOMNotificationListenerRegistration<?>> subscribers = listeners.get(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -183,6 +210,52 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         throw new UnsupportedOperationException("Not implemented yet");
     }
 
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getRemainingCapacity() {
+        return disruptor.getRingBuffer().remainingCapacity();
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    private long getPartitionBacklog(final long cursor, final int partition) {
+        return Math.max(0, cursor - partitions.get(partition).getSequence());
+    }
+
+    /**
+     * Return the number of notifications each dispatch partition has yet to process.
+     *
+     * @return List of backlogs, indexed by partition
+     */
+    public List<Long> getPartitionBacklogs() {
+        final long cursor = disruptor.getRingBuffer().getCursor();
+        final List<Long> ret = new ArrayList<>(partitions.size());
+        for (DOMNotificationRouterPartition p : partitions) {
+            ret.add(getPartitionBacklog(cursor, p.getIndex()));
+        }
+        return ret;
+    }
+
+    /**
+     * Return statistics for all currently-registered listeners.
+     *
+     * @return List of per-listener statistics
+     */
+    public List<NotificationListenerStats> getListenerStats() {
+        final long cursor = disruptor.getRingBuffer().getCursor();
+        final Collection<AbstractDOMNotificationListenerRegistration<?>> regs = ImmutableSet.copyOf(listeners.values());
+        final List<NotificationListenerStats> ret = new ArrayList<>(regs.size());
+        for (AbstractDOMNotificationListenerRegistration<?> r : regs) {
+            ret.add(new NotificationListenerStats(r.getInstance().getClass().getName(), r.getPartition(),
+                r.getDeliveredNotifications(), getPartitionBacklog(cursor, r.getPartition())));
+        }
+        return ret;
+    }
+
     @Override
     public void close() {
         disruptor.shutdown();
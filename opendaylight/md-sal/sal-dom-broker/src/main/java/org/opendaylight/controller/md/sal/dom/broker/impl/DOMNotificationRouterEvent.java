@@ -13,8 +13,6 @@ import com.google.common.util.concurrent.SettableFuture;
 import com.lmax.disruptor.EventFactory;
 import java.util.Collection;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
-import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
-import org.opendaylight.yangtools.concepts.ListenerRegistration;
 
 /**
  * A single notification event in the disruptor ringbuffer. These objects are reused,
@@ -28,7 +26,7 @@ final class DOMNotificationRouterEvent {
         }
     };
 
-    private Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers;
+    private Collection<AbstractDOMNotificationListenerRegistration<?>> subscribers;
     private DOMNotification notification;
     private SettableFuture<Void> future;
 
@@ -36,18 +34,17 @@ final class DOMNotificationRouterEvent {
         // Hidden on purpose, initialized in initialize()
     }
 
-    ListenableFuture<Void> initialize(final DOMNotification notification, final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+    ListenableFuture<Void> initialize(final DOMNotification notification, final Collection<AbstractDOMNotificationListenerRegistration<?>> subscribers) {
         this.notification = Preconditions.checkNotNull(notification);
         this.subscribers = Preconditions.checkNotNull(subscribers);
         this.future = SettableFuture.create();
         return this.future;
     }
 
-    void deliverNotification() {
-        for (ListenerRegistration<? extends DOMNotificationListener> r : subscribers) {
-            final DOMNotificationListener l = r.getInstance();
-            if (l != null) {
-                l.onNotification(notification);
+    void deliverNotification(final int partition) {
+        for (AbstractDOMNotificationListenerRegistration<?> r : subscribers) {
+            if (r.getPartition() == partition) {
+                r.deliverNotification(notification);
             }
         }
     }
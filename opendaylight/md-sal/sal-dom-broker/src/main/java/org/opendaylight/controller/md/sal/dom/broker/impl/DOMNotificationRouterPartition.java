@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.lmax.disruptor.EventHandler;
+
+/**
+ * A single dispatch partition of {@link DOMNotificationRouter}. Each partition runs in its own thread and
+ * delivers events only to the listeners which have been assigned to it. It also tracks the last sequence
+ * it has processed, so the router can report how far behind the publishers it is.
+ */
+final class DOMNotificationRouterPartition implements EventHandler<DOMNotificationRouterEvent> {
+    private final int index;
+    private volatile long sequence = -1;
+
+    DOMNotificationRouterPartition(final int index) {
+        this.index = index;
+    }
+
+    @Override
+    public void onEvent(final DOMNotificationRouterEvent event, final long sequence, final boolean endOfBatch) {
+        event.deliverNotification(index);
+        this.sequence = sequence;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Statistics for a single listener registered with the DOM notification router.
+ */
+public class NotificationListenerStats {
+    private final String listenerClassName;
+    private final int partition;
+    private final long deliveredNotifications;
+    private final long pendingNotifications;
+
+    @ConstructorProperties({"listenerClassName", "partition", "deliveredNotifications", "pendingNotifications"})
+    public NotificationListenerStats(final String listenerClassName, final int partition,
+            final long deliveredNotifications, final long pendingNotifications) {
+        this.listenerClassName = listenerClassName;
+        this.partition = partition;
+        this.deliveredNotifications = deliveredNotifications;
+        this.pendingNotifications = pendingNotifications;
+    }
+
+    /**
+     * Returns the class name of the listener.
+     */
+    public String getListenerClassName() {
+        return listenerClassName;
+    }
+
+    /**
+     * Returns the dispatch partition to which the listener is assigned.
+     */
+    public int getPartition() {
+        return partition;
+    }
+
+    /**
+     * Returns the number of notifications delivered to the listener so far.
+     */
+    public long getDeliveredNotifications() {
+        return deliveredNotifications;
+    }
+
+    /**
+     * Returns the number of notifications queued in the listener's partition which have not been
+     * dispatched yet. This is an upper bound on the listener's own backlog, as not all of them need
+     * to be destined to this listener.
+     */
+    public long getPendingNotifications() {
+        return pendingNotifications;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.util.List;
+
+/**
+ * MXBean interface for retrieving DOM notification router statistics.
+ */
+public interface NotificationRouterStatsMXBean {
+
+    /**
+     * Returns the configured depth of the notification queue.
+     */
+    int getQueueDepth();
+
+    /**
+     * Returns the number of free slots in the notification queue.
+     */
+    long getRemainingCapacity();
+
+    /**
+     * Returns the name of the wait strategy used by dispatch threads.
+     */
+    String getWaitStrategy();
+
+    /**
+     * Returns, for each dispatch partition, the number of published notifications it has not
+     * processed yet.
+     */
+    List<Long> getPartitionBacklogs();
+
+    /**
+     * Returns a list of stat instances for each currently registered listener.
+     */
+    List<NotificationListenerStats> getListenerStats();
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter;
+
+/**
+ * Implementation of the NotificationRouterStatsMXBean interface.
+ */
+public class NotificationRouterStatsMXBeanImpl extends AbstractMXBean implements NotificationRouterStatsMXBean {
+
+    private final DOMNotificationRouter router;
+
+    /**
+     * Constructor.
+     *
+     * @param router the DOMNotificationRouter used to obtain the stats.
+     * @param mBeanType mBeanType Used as the <code>type</code> property in the bean's ObjectName.
+     */
+    public NotificationRouterStatsMXBeanImpl(@Nonnull final DOMNotificationRouter router,
+            @Nonnull final String mBeanType) {
+        super("NotificationRouterStats", mBeanType, null);
+        this.router = router;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return router.getQueueDepth();
+    }
+
+    @Override
+    public long getRemainingCapacity() {
+        return router.getRemainingCapacity();
+    }
+
+    @Override
+    public String getWaitStrategy() {
+        return router.getWaitStrategy().getClass().getSimpleName();
+    }
+
+    @Override
+    public List<Long> getPartitionBacklogs() {
+        return router.getPartitionBacklogs();
+    }
+
+    @Override
+    public List<NotificationListenerStats> getListenerStats() {
+        return router.getListenerStats();
+    }
+}
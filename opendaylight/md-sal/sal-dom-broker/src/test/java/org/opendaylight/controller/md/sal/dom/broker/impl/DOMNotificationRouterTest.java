@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationListenerStats;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class DOMNotificationRouterTest {
+    private static final SchemaPath TYPE = SchemaPath.create(true, QName.create("urn:test", "2015-01-01", "notif"));
+    private static final int PARTITIONS = 4;
+    private static final int LISTENERS = 16;
+    private static final int NOTIFICATIONS = 1000;
+
+    private DOMNotificationRouter router;
+
+    @Before
+    public void setUp() {
+        router = DOMNotificationRouter.create(64, PARTITIONS, new YieldingWaitStrategy());
+    }
+
+    @After
+    public void tearDown() {
+        router.close();
+    }
+
+    private static final class RecordingListener implements DOMNotificationListener {
+        private final List<DOMNotification> received = new ArrayList<>();
+
+        @Override
+        public void onNotification(final DOMNotification notification) {
+            received.add(notification);
+        }
+    }
+
+    @Test
+    public void testPerListenerOrdering() throws Exception {
+        final List<RecordingListener> listeners = new ArrayList<>();
+        for (int i = 0; i < LISTENERS; ++i) {
+            final RecordingListener l = new RecordingListener();
+            router.registerNotificationListener(l, TYPE);
+            listeners.add(l);
+        }
+
+        final List<DOMNotification> published = new ArrayList<>(NOTIFICATIONS);
+        ListenableFuture<? extends Object> last = null;
+        for (int i = 0; i < NOTIFICATIONS; ++i) {
+            final DOMNotification n = mock(DOMNotification.class);
+            doReturn(TYPE).when(n).getType();
+            published.add(n);
+            last = router.putNotification(n);
+        }
+
+        // The future completes only after all partitions have processed the notification
+        last.get(10, TimeUnit.SECONDS);
+        for (RecordingListener l : listeners) {
+            assertEquals(published, l.received);
+        }
+
+        final List<NotificationListenerStats> stats = router.getListenerStats();
+        assertEquals(LISTENERS, stats.size());
+        for (NotificationListenerStats s : stats) {
+            assertEquals(NOTIFICATIONS, s.getDeliveredNotifications());
+            assertTrue(s.getPartition() >= 0 && s.getPartition() < PARTITIONS);
+        }
+        assertEquals(PARTITIONS, router.getPartitionBacklogs().size());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.spi;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Collection;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * Optional extension of {@link DOMDataReadOnlyTransaction}, which exposes paged reads of keyed lists
+ * offered by {@link DOMStorePagedReadTransaction} of the backing datastores.
+ */
+@Beta
+public interface DOMDataPagedReadTransaction extends DOMDataReadOnlyTransaction {
+    /**
+     * Reads a single page of the keyed list located at provided path in provided logical data store.
+     *
+     * @param store
+     *            Logical data store from which read should occur.
+     * @param path
+     *            Path which uniquely identifies the list
+     * @param startKey
+     *            Key of the first entry to be returned, null to start at the beginning of the list
+     * @param limit
+     *            Maximum number of entries in the page, must be positive
+     * @param fields
+     *            Children of each entry which should be returned in addition to its key leaves.
+     *            An empty collection selects all children.
+     * @return a CheckFuture containing the result of the read, see
+     *         {@link DOMStorePagedReadTransaction#readPage(YangInstanceIdentifier, NodeIdentifierWithPredicates, int, Collection)}.
+     *         The Future fails with a {@link ReadFailedException} if the backing datastore does not support
+     *         paged reads.
+     */
+    CheckedFuture<Optional<DOMStoreMapPage>, ReadFailedException> readPage(LogicalDatastoreType store,
+            YangInstanceIdentifier path, @Nullable NodeIdentifierWithPredicates startKey, int limit,
+            Collection<PathArgument> fields);
+}
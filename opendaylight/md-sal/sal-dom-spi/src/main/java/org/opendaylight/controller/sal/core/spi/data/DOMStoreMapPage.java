@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.core.spi.data;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A single page of a keyed list, as returned by {@link DOMStorePagedReadTransaction#readPage}.
+ */
+@Beta
+public final class DOMStoreMapPage {
+    private final NormalizedNode<?, ?> data;
+    private final NodeIdentifierWithPredicates nextKey;
+
+    public DOMStoreMapPage(@Nonnull final NormalizedNode<?, ?> data, @Nullable final NodeIdentifierWithPredicates nextKey) {
+        this.data = Preconditions.checkNotNull(data);
+        this.nextKey = nextKey;
+    }
+
+    /**
+     * Return the entries in this page. The returned node is of the same type and has the
+     * same identifier as the list which was read, but contains only the entries which
+     * belong to this page.
+     *
+     * @return List node holding entries of this page.
+     */
+    public @Nonnull NormalizedNode<?, ?> getData() {
+        return data;
+    }
+
+    /**
+     * Return the key of the first entry of the next page, suitable for passing as the start
+     * key for the next read.
+     *
+     * @return Next page's start key, or absent if this is the last page.
+     */
+    public @Nonnull Optional<NodeIdentifierWithPredicates> getNextKey() {
+        return Optional.fromNullable(nextKey);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this).add("data", data.getIdentifier()).add("nextKey", nextKey).toString();
+    }
+}
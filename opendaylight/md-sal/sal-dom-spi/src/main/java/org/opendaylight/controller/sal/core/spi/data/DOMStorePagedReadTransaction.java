@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.core.spi.data;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Collection;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * Optional extension of {@link DOMStoreReadTransaction}, which allows large keyed lists to be read
+ * in pages rather than in one piece. Entries are returned in the order in which they are stored,
+ * which is stable for the lifetime of a transaction. A user can walk the entire list by passing
+ * {@link DOMStoreMapPage#getNextKey()} of one page as the start key of the next read.
+ */
+@Beta
+public interface DOMStorePagedReadTransaction extends DOMStoreReadTransaction {
+    /**
+     * Tag of the {@link org.opendaylight.yangtools.yang.common.RpcError} reported when the start key
+     * does not identify an entry of the list.
+     */
+    String START_KEY_MISSING_TAG = "data-missing";
+
+    /**
+     * Reads a single page of the keyed list located at provided path.
+     *
+     * @param path
+     *            Path which uniquely identifies the list
+     * @param startKey
+     *            Key of the first entry to be returned, null to start at the beginning of the list
+     * @param limit
+     *            Maximum number of entries in the page, must be positive
+     * @param fields
+     *            Children of each entry which should be returned in addition to its key leaves.
+     *            An empty collection selects all children.
+     * @return a CheckFuture containing the result of the read. Once complete:
+     *         <ul>
+     *         <li>If the list exists, the Future returns an Optional containing the page. The page
+     *         is empty only if the list is empty.</li>
+     *         <li>If the list does not exist, the Future returns Optional#absent().</li>
+     *         <li>If the start key does not identify an entry in the list, the Future will fail with
+     *         a {@link ReadFailedException} carrying an error tagged
+     *         {@link #START_KEY_MISSING_TAG}.</li>
+     *         <li>If the data at the supplied path is not a keyed list or the read fails, the
+     *         Future will fail with a {@link ReadFailedException}.</li>
+     *         </ul>
+     */
+    CheckedFuture<Optional<DOMStoreMapPage>, ReadFailedException> readPage(YangInstanceIdentifier path,
+            @Nullable NodeIdentifierWithPredicates startKey, int limit, Collection<PathArgument> fields);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedMapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeAttrBuilder;
+
+/**
+ * Utility class for extracting a single page out of a keyed list read from a data tree snapshot, for use by
+ * implementations of {@link DOMStorePagedReadTransaction} and by users of stores which cannot read pages.
+ * Entries are walked in the iteration order of the snapshot's node, which is stable for the lifetime
+ * of the snapshot, so the pages of a single transaction never overlap.
+ *
+ * <p>
+ * A {@link MapNode} can look up an entry by its key, but cannot start iterating at it. The start key is
+ * looked up first, so a missing key is reported without walking the list, but positioning at an existing
+ * key walks all entries before it. Extracting a page therefore costs O(offset + limit), and reading a list
+ * of n entries in pages of l entries costs O(n&sup2; / l) in total.
+ */
+public final class MapNodePaging {
+    private MapNodePaging() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Completes a paged read from the result of reading the whole list, as specified by
+     * {@link DOMStorePagedReadTransaction#readPage(YangInstanceIdentifier, NodeIdentifierWithPredicates, int, Collection)}.
+     */
+    public static CheckedFuture<Optional<DOMStoreMapPage>, ReadFailedException> readPage(
+            final CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException> read,
+            final YangInstanceIdentifier path, final NodeIdentifierWithPredicates startKey, final int limit,
+            final Collection<PathArgument> fields) {
+        Preconditions.checkArgument(limit > 0, "Page limit must be positive, %s", limit);
+        Preconditions.checkNotNull(fields, "Fields must not be null.");
+
+        final Optional<NormalizedNode<?, ?>> data;
+        try {
+            data = read.checkedGet();
+        } catch (ReadFailedException e) {
+            return Futures.immediateFailedCheckedFuture(e);
+        }
+
+        if (!data.isPresent()) {
+            return Futures.immediateCheckedFuture(Optional.<DOMStoreMapPage>absent());
+        }
+        if (!(data.get() instanceof MapNode)) {
+            return Futures.immediateFailedCheckedFuture(new ReadFailedException(
+                    String.format("Data at %s is not a keyed list", path)));
+        }
+
+        try {
+            return Futures.immediateCheckedFuture(Optional.of(extractPage((MapNode) data.get(), startKey, limit,
+                fields)));
+        } catch (ReadFailedException e) {
+            return Futures.immediateFailedCheckedFuture(e);
+        }
+    }
+
+    /**
+     * Extracts a single page out of a keyed list.
+     *
+     * @param map
+     *            Keyed list
+     * @param startKey
+     *            Key of the first entry of the page, null to start at the beginning of the list
+     * @param limit
+     *            Maximum number of entries in the page, must be positive
+     * @param fields
+     *            Children of each entry which should be returned in addition to its key leaves.
+     *            An empty collection selects all children.
+     * @return The page
+     * @throws ReadFailedException if the start key does not identify an entry of the list. The exception
+     *         carries an error tagged {@link DOMStorePagedReadTransaction#START_KEY_MISSING_TAG}.
+     */
+    public static DOMStoreMapPage extractPage(final MapNode map, final NodeIdentifierWithPredicates startKey,
+            final int limit, final Collection<PathArgument> fields) throws ReadFailedException {
+        Preconditions.checkArgument(limit > 0, "Page limit must be positive, %s", limit);
+        final Set<PathArgument> fieldSet = ImmutableSet.copyOf(fields);
+        final CollectionNodeBuilder<MapEntryNode, ? extends MapNode> builder;
+        if (map instanceof OrderedMapNode) {
+            builder = Builders.orderedMapBuilder().withNodeIdentifier(map.getIdentifier());
+        } else {
+            builder = Builders.mapBuilder().withNodeIdentifier(map.getIdentifier());
+        }
+
+        if (startKey != null && !map.getChild(startKey).isPresent()) {
+            final String message = String.format("Start key %s does not identify an entry of list %s",
+                startKey, map.getIdentifier());
+            throw new ReadFailedException(message, RpcResultBuilder.newError(ErrorType.APPLICATION,
+                DOMStorePagedReadTransaction.START_KEY_MISSING_TAG, message));
+        }
+
+        final Iterator<MapEntryNode> it = map.getValue().iterator();
+        MapEntryNode next = it.hasNext() ? it.next() : null;
+        if (startKey != null) {
+            // The entry is known to be present, so the walk ends before the iterator is exhausted
+            while (!startKey.equals(next.getIdentifier())) {
+                next = it.next();
+            }
+        }
+
+        int count = 0;
+        while (next != null && count < limit) {
+            builder.withChild(fieldSet.isEmpty() ? next : project(next, fieldSet));
+            count++;
+            next = it.hasNext() ? it.next() : null;
+        }
+
+        return new DOMStoreMapPage(builder.build(), next == null ? null : next.getIdentifier());
+    }
+
+    private static MapEntryNode project(final MapEntryNode entry, final Set<PathArgument> fields) {
+        final Set<QName> keys = entry.getIdentifier().getKeyValues().keySet();
+        final DataContainerNodeAttrBuilder<NodeIdentifierWithPredicates, MapEntryNode> builder =
+                Builders.mapEntryBuilder().withNodeIdentifier(entry.getIdentifier());
+
+        for (DataContainerChild<? extends PathArgument, ?> child : entry.getValue()) {
+            final PathArgument id = child.getIdentifier();
+            if (fields.contains(id) || (id instanceof NodeIdentifier && keys.contains(id.getNodeType()))) {
+                builder.withChild(child);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -13,10 +13,14 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import java.util.Collection;
 
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
-import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
 import org.slf4j.Logger;
@@ -31,7 +35,7 @@ import org.slf4j.LoggerFactory;
  *
  */
 final class SnapshotBackedReadTransaction extends AbstractDOMStoreTransaction
-                                          implements DOMStoreReadTransaction {
+                                          implements DOMStorePagedReadTransaction {
 
     private static final Logger LOG = LoggerFactory.getLogger(SnapshotBackedReadTransaction.class);
     private volatile DataTreeSnapshot stableSnapshot;
@@ -78,4 +82,11 @@ final class SnapshotBackedReadTransaction extends AbstractDOMStoreTransaction
             return Futures.immediateFailedCheckedFuture(e);
         }
     }
+
+    @Override
+    public CheckedFuture<Optional<DOMStoreMapPage>, ReadFailedException> readPage(final YangInstanceIdentifier path,
+            final NodeIdentifierWithPredicates startKey, final int limit, final Collection<PathArgument> fields) {
+        LOG.debug("Tx: {} Read page: {} from {} limit {}", getIdentifier(), path, startKey, limit);
+        return MapNodePaging.readPage(read(path), path, startKey, limit, fields);
+    }
 }
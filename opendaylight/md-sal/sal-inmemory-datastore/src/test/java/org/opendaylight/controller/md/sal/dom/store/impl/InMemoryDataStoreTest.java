@@ -11,10 +11,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ExecutionException;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -22,6 +25,8 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.controller.md.sal.dom.store.impl.SnapshotBackedWriteTransaction.TransactionReadyPrototype;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreThreePhaseCommitCohort;
@@ -29,11 +34,16 @@ import org.opendaylight.controller.sal.core.spi.data.DOMStoreTransactionChain;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
@@ -447,6 +457,63 @@ public class InMemoryDataStoreTest {
         assertFalse(txTwo.ready().canCommit().get());
     }
 
+    @Test
+    public void testReadPage() throws Exception {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> listBuilder =
+                ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME);
+        for (int i = 0; i < 5; ++i) {
+            listBuilder.addChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i)
+                .withChild(ImmutableNodes.mapNodeBuilder(TestModel.INNER_LIST_QNAME).build()).build());
+        }
+
+        final DOMStoreWriteTransaction writeTx = domStore.newWriteOnlyTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableContainerNodeBuilder.create()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME)).addChild(listBuilder.build()).build());
+        assertThreePhaseCommit(writeTx.ready());
+
+        final DOMStorePagedReadTransaction readTx = (DOMStorePagedReadTransaction) domStore.newReadOnlyTransaction();
+        final Collection<PathArgument> noFields = Collections.emptyList();
+
+        int entries = 0;
+        int pages = 0;
+        NodeIdentifierWithPredicates startKey = null;
+        do {
+            final Optional<DOMStoreMapPage> page =
+                    readTx.readPage(TestModel.OUTER_LIST_PATH, startKey, 2, noFields).checkedGet();
+            assertTrue(page.isPresent());
+
+            final MapNode data = (MapNode) page.get().getData();
+            assertTrue(data.getValue().size() <= 2);
+            entries += data.getValue().size();
+            pages++;
+            startKey = page.get().getNextKey().orNull();
+        } while (startKey != null);
+
+        assertEquals(5, entries);
+        assertEquals(3, pages);
+
+        final Optional<DOMStoreMapPage> projected = readTx.readPage(TestModel.OUTER_LIST_PATH, null, 5,
+            Collections.<PathArgument>singleton(new NodeIdentifier(TestModel.ID_QNAME))).checkedGet();
+        for (MapEntryNode entry : ((MapNode) projected.get().getData()).getValue()) {
+            assertEquals(1, entry.getValue().size());
+        }
+        assertFalse(projected.get().getNextKey().isPresent());
+
+        final YangInstanceIdentifier missing = TestModel.OUTER_LIST_PATH
+                .node(new NodeIdentifierWithPredicates(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 10))
+                .node(TestModel.INNER_LIST_QNAME);
+        assertFalse(readTx.readPage(missing, null, 1, noFields).checkedGet().isPresent());
+
+        final NodeIdentifierWithPredicates missingKey =
+                new NodeIdentifierWithPredicates(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 10);
+        try {
+            readTx.readPage(TestModel.OUTER_LIST_PATH, missingKey, 2, noFields).checkedGet();
+            fail("Expected ReadFailedException for missing start key");
+        } catch (ReadFailedException e) {
+            assertEquals(DOMStorePagedReadTransaction.START_KEY_MISSING_TAG, e.getErrorList().get(0).getTag());
+        }
+    }
+
     private static void assertThreePhaseCommit(final DOMStoreThreePhaseCommitCohort cohort)
             throws InterruptedException, ExecutionException {
         assertTrue(cohort.canCommit().get().booleanValue());
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import com.google.common.base.Optional;
+import com.google.common.collect.ForwardingCollection;
+import com.google.common.collect.ForwardingIterator;
+import com.google.common.collect.Iterables;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+
+public class MapNodePagingTest {
+    private static final Collection<PathArgument> NO_FIELDS = Collections.emptyList();
+
+    /**
+     * Counts the entries walked while extracting a page.
+     */
+    private static final class CountingEntries extends ForwardingCollection<MapEntryNode> {
+        private final Collection<MapEntryNode> delegate;
+        int walked;
+
+        CountingEntries(final Collection<MapEntryNode> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Collection<MapEntryNode> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public Iterator<MapEntryNode> iterator() {
+            final Iterator<MapEntryNode> it = delegate.iterator();
+            return new ForwardingIterator<MapEntryNode>() {
+                @Override
+                protected Iterator<MapEntryNode> delegate() {
+                    return it;
+                }
+
+                @Override
+                public MapEntryNode next() {
+                    walked++;
+                    return super.next();
+                }
+            };
+        }
+    }
+
+    private static MapNode createList(final int size) {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> builder =
+                ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME);
+        for (int i = 0; i < size; ++i) {
+            builder.addChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i));
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testMissingStartKeyDoesNotWalkList() throws Exception {
+        final NodeIdentifierWithPredicates missingKey =
+                new NodeIdentifierWithPredicates(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 10);
+        final MapNode map = Mockito.mock(MapNode.class);
+        Mockito.doReturn(new NodeIdentifier(TestModel.OUTER_LIST_QNAME)).when(map).getIdentifier();
+        Mockito.doReturn(Optional.absent()).when(map).getChild(missingKey);
+
+        try {
+            MapNodePaging.extractPage(map, missingKey, 2, NO_FIELDS);
+            fail("Expected ReadFailedException for missing start key");
+        } catch (ReadFailedException e) {
+            assertEquals(DOMStorePagedReadTransaction.START_KEY_MISSING_TAG, e.getErrorList().get(0).getTag());
+        }
+        Mockito.verify(map, Mockito.never()).getValue();
+    }
+
+    /**
+     * A page walks the entries before its start key, plus one entry past its end to find the next key.
+     */
+    @Test
+    public void testPageCostIsOffsetPlusLimit() throws Exception {
+        final MapNode list = createList(100);
+        final CountingEntries entries = new CountingEntries(list.getValue());
+        final NodeIdentifierWithPredicates startKey = Iterables.get(list.getValue(), 50).getIdentifier();
+
+        final MapNode map = Mockito.mock(MapNode.class);
+        Mockito.doReturn(list.getIdentifier()).when(map).getIdentifier();
+        Mockito.doReturn(list.getChild(startKey)).when(map).getChild(startKey);
+        Mockito.doReturn(entries).when(map).getValue();
+
+        final DOMStoreMapPage page = MapNodePaging.extractPage(map, startKey, 10, NO_FIELDS);
+        assertEquals(10, ((MapNode) page.getData()).getValue().size());
+        assertEquals(Iterables.get(list.getValue(), 60).getIdentifier(), page.getNextKey().get());
+        assertEquals(50 + 10 + 1, entries.walked);
+
+        entries.walked = 0;
+        MapNodePaging.extractPage(map, null, 10, NO_FIELDS);
+        assertEquals(10 + 1, entries.walked);
+    }
+}
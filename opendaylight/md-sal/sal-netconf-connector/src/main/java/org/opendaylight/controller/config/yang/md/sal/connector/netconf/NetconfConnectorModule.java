@@ -26,8 +26,11 @@ import org.opendaylight.controller.sal.binding.api.BindingAwareBroker;
 import org.opendaylight.controller.sal.connect.api.RemoteDeviceHandler;
 import org.opendaylight.controller.sal.connect.netconf.NetconfDevice;
 import org.opendaylight.controller.sal.connect.netconf.NetconfStateSchemas;
+import org.opendaylight.controller.sal.connect.netconf.connection.JitteredReconnectStrategy;
+import org.opendaylight.controller.sal.connect.netconf.connection.NetconfConnectionManager;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfDeviceCommunicator;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfSessionPreferences;
+import org.opendaylight.controller.sal.connect.netconf.schema.DeviceSchemaContextCache;
 import org.opendaylight.controller.sal.connect.netconf.sal.NetconfDeviceSalFacade;
 import org.opendaylight.controller.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.controller.sal.core.api.Broker;
@@ -53,6 +56,8 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
     private Optional<NetconfSessionPreferences> userCapabilities;
     private SchemaSourceRegistry schemaRegistry;
     private SchemaContextFactory schemaContextFactory;
+    private DeviceSchemaContextCache schemaContextCache;
+    private NetconfConnectionManager connectionManager = NetconfConnectionManager.UNBOUNDED;
 
     public NetconfConnectorModule(final org.opendaylight.controller.config.api.ModuleIdentifier identifier, final org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
         super(identifier, dependencyResolver);
@@ -76,6 +81,9 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
         checkNotNull(getBetweenAttemptsTimeoutMillis(), betweenAttemptsTimeoutMillisJmxAttribute);
         checkCondition(getBetweenAttemptsTimeoutMillis() > 0, "must be > 0", betweenAttemptsTimeoutMillisJmxAttribute);
 
+        checkNotNull(getConcurrentRpcLimit(), concurrentRpcLimitJmxAttribute);
+        checkNotNull(getDefaultRequestTimeoutMillis(), defaultRequestTimeoutMillisJmxAttribute);
+
         checkNotNull(getClientDispatcher(), clientDispatcherJmxAttribute);
         checkNotNull(getBindingRegistry(), bindingRegistryJmxAttribute);
         checkNotNull(getProcessingExecutor(), processingExecutorJmxAttribute);
@@ -107,13 +115,14 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
                 = new NetconfDeviceSalFacade(id, domBroker, bindingBroker, bundleContext);
 
         final NetconfDevice.SchemaResourcesDTO schemaResourcesDTO =
-                new NetconfDevice.SchemaResourcesDTO(schemaRegistry, schemaContextFactory, new NetconfStateSchemas.NetconfStateSchemasResolverImpl());
+                new NetconfDevice.SchemaResourcesDTO(schemaRegistry, schemaContextFactory,
+                        new NetconfStateSchemas.NetconfStateSchemasResolverImpl(), schemaContextCache);
 
         final NetconfDevice device =
-                new NetconfDevice(schemaResourcesDTO, id, salFacade, globalProcessingExecutor, getReconnectOnChangedSchema());
+                new NetconfDevice(schemaResourcesDTO, id, salFacade, globalProcessingExecutor, getReconnectOnChangedSchema(), connectionManager);
 
-        final NetconfDeviceCommunicator listener = userCapabilities.isPresent() ?
-                new NetconfDeviceCommunicator(id, device, userCapabilities.get()) : new NetconfDeviceCommunicator(id, device);
+        final NetconfDeviceCommunicator listener = new NetconfDeviceCommunicator(id, device, userCapabilities,
+                getConcurrentRpcLimit(), getEventExecutorDependency(), getDefaultRequestTimeoutMillis());
 
         final NetconfReconnectingClientConfiguration clientConfig = getClientConfig(listener);
         final NetconfClientDispatcher dispatcher = getClientDispatcherDependency();
@@ -209,8 +218,9 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
             final Long maxSleep = null;
             final Long deadline = null;
 
-            return new TimedReconnectStrategy(executor, minSleep,
-                    minSleep, sleepFactor, maxSleep, connectionAttempts, deadline);
+            // Devices which failed together should not retry together
+            return new JitteredReconnectStrategy(new TimedReconnectStrategy(executor, minSleep,
+                    minSleep, sleepFactor, maxSleep, connectionAttempts, deadline), executor, minSleep);
         }
     }
 
@@ -231,4 +241,12 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
     public void setSchemaContextFactory(final SchemaContextFactory schemaContextFactory) {
         this.schemaContextFactory = schemaContextFactory;
     }
+
+    public void setSchemaContextCache(final DeviceSchemaContextCache schemaContextCache) {
+        this.schemaContextCache = schemaContextCache;
+    }
+
+    public void setConnectionManager(final NetconfConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
 }
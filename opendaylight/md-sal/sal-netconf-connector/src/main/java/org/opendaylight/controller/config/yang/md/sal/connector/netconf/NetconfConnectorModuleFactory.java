@@ -12,6 +12,9 @@ import java.io.File;
 import org.opendaylight.controller.config.api.DependencyResolver;
 import org.opendaylight.controller.config.api.DynamicMBeanWithInstance;
 import org.opendaylight.controller.config.spi.Module;
+import org.opendaylight.controller.sal.connect.netconf.connection.NetconfConnectionManager;
+import org.opendaylight.controller.sal.connect.netconf.connection.NetconfConnectionManagerMXBeanImpl;
+import org.opendaylight.controller.sal.connect.netconf.schema.DeviceSchemaContextCache;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactory;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceFilter;
 import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
@@ -19,24 +22,49 @@ import org.opendaylight.yangtools.yang.model.repo.util.FilesystemSchemaSourceCac
 import org.opendaylight.yangtools.yang.parser.repo.SharedSchemaRepository;
 import org.opendaylight.yangtools.yang.parser.util.TextToASTTransformer;
 import org.osgi.framework.BundleContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
 *
 */
 public class NetconfConnectorModuleFactory extends
         org.opendaylight.controller.config.yang.md.sal.connector.netconf.AbstractNetconfConnectorModuleFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfConnectorModuleFactory.class);
+
+    private static final String MAX_CONCURRENT_SETUPS_PROPERTY = "netconf.connector.max-concurrent-setups";
+    private static final int DEFAULT_MAX_CONCURRENT_SETUPS = 64;
 
     // TODO this should be injected
     // Netconf devices have separated schema registry + factory from controller
     private final SharedSchemaRepository repository = new SharedSchemaRepository(NAME);
     private final SchemaContextFactory schemaContextFactory
             = repository.createSchemaContextFactory(SchemaSourceFilter.ALWAYS_ACCEPT);
+    // Devices with identical capabilities share their schema context
+    private final DeviceSchemaContextCache schemaContextCache = new DeviceSchemaContextCache();
+    // Bounds the number of devices resolving schemas and syncing at the same time
+    private final NetconfConnectionManager connectionManager = new NetconfConnectionManager(getMaxConcurrentSetups());
 
     public NetconfConnectorModuleFactory() {
         // Start cache and Text to AST transformer
         final FilesystemSchemaSourceCache<YangTextSchemaSource> cache = new FilesystemSchemaSourceCache<>(repository, YangTextSchemaSource.class, new File("cache/schema"));
         repository.registerSchemaSourceListener(cache);
         repository.registerSchemaSourceListener(TextToASTTransformer.create(repository, repository));
+
+        new NetconfConnectionManagerMXBeanImpl(connectionManager, NAME).registerMBean();
+    }
+
+    private static int getMaxConcurrentSetups() {
+        final String value = System.getProperty(MAX_CONCURRENT_SETUPS_PROPERTY);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (final NumberFormatException e) {
+                LOG.warn("Cannot parse {} as set by {}, using default {}", value, MAX_CONCURRENT_SETUPS_PROPERTY,
+                        DEFAULT_MAX_CONCURRENT_SETUPS);
+            }
+        }
+        return DEFAULT_MAX_CONCURRENT_SETUPS;
     }
 
     @Override
@@ -48,6 +76,8 @@ public class NetconfConnectorModuleFactory extends
         module.setBundleContext(bundleContext);
         module.setSchemaRegistry(repository);
         module.setSchemaContextFactory(schemaContextFactory);
+        module.setSchemaContextCache(schemaContextCache);
+        module.setConnectionManager(connectionManager);
         return module;
     }
 
@@ -58,6 +88,8 @@ public class NetconfConnectorModuleFactory extends
         module.setBundleContext(bundleContext);
         module.setSchemaRegistry(repository);
         module.setSchemaContextFactory(schemaContextFactory);
+        module.setSchemaContextCache(schemaContextCache);
+        module.setConnectionManager(connectionManager);
         return module;
     }
 }
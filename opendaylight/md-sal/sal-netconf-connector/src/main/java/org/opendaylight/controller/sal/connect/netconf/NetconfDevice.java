@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
@@ -35,10 +36,12 @@ import org.opendaylight.controller.sal.connect.api.MessageTransformer;
 import org.opendaylight.controller.sal.connect.api.RemoteDevice;
 import org.opendaylight.controller.sal.connect.api.RemoteDeviceCommunicator;
 import org.opendaylight.controller.sal.connect.api.RemoteDeviceHandler;
+import org.opendaylight.controller.sal.connect.netconf.connection.NetconfConnectionManager;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfDeviceCapabilities;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfDeviceCommunicator;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.controller.sal.connect.netconf.sal.NetconfDeviceRpc;
+import org.opendaylight.controller.sal.connect.netconf.schema.DeviceSchemaContextCache;
 import org.opendaylight.controller.sal.connect.netconf.schema.NetconfRemoteSchemaYangSourceProvider;
 import org.opendaylight.controller.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
 import org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil;
@@ -100,16 +103,27 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
     private final boolean reconnectOnSchemasChange;
 
     private final SchemaContextFactory schemaContextFactory;
+    private final DeviceSchemaContextCache schemaContextCache;
     private final RemoteDeviceHandler<NetconfSessionPreferences> salFacade;
     private final ListeningExecutorService processingExecutor;
     private final SchemaSourceRegistry schemaRegistry;
     private final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver;
     private final NotificationHandler notificationHandler;
+    private final NetconfConnectionManager connectionManager;
     private final List<SchemaSourceRegistration<? extends SchemaSourceRepresentation>> sourceRegistrations = Lists.newArrayList();
 
     // Message transformer is constructed once the schemas are available
     private MessageTransformer<NetconfMessage> messageTransformer;
 
+    // Keeps the schema context of a connected device in the cache
+    @GuardedBy("this")
+    private DeviceSchemaContextCache.Registration schemaContextRegistration;
+
+    // Slot of the setup in progress, setups are admitted by the connection manager
+    @GuardedBy("this")
+    private NetconfConnectionManager.Admission setupAdmission;
+    private volatile boolean connectedBefore;
+
     public NetconfDevice(final SchemaResourcesDTO schemaResourcesDTO, final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
                          final ExecutorService globalProcessingExecutor) {
         this(schemaResourcesDTO, id, salFacade, globalProcessingExecutor, false);
@@ -123,13 +137,21 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
     }
 
 
-    // FIXME reduce parameters
     public NetconfDevice(final SchemaResourcesDTO schemaResourcesDTO, final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
                          final ExecutorService globalProcessingExecutor, final boolean reconnectOnSchemasChange) {
+        this(schemaResourcesDTO, id, salFacade, globalProcessingExecutor, reconnectOnSchemasChange, NetconfConnectionManager.UNBOUNDED);
+    }
+
+    // FIXME reduce parameters
+    public NetconfDevice(final SchemaResourcesDTO schemaResourcesDTO, final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
+                         final ExecutorService globalProcessingExecutor, final boolean reconnectOnSchemasChange,
+                         final NetconfConnectionManager connectionManager) {
         this.id = id;
+        this.connectionManager = Preconditions.checkNotNull(connectionManager);
         this.reconnectOnSchemasChange = reconnectOnSchemasChange;
         this.schemaRegistry = schemaResourcesDTO.getSchemaRegistry();
         this.schemaContextFactory = schemaResourcesDTO.getSchemaContextFactory();
+        this.schemaContextCache = schemaResourcesDTO.getSchemaContextCache();
         this.salFacade = salFacade;
         this.stateSchemasResolver = schemaResourcesDTO.getStateSchemasResolver();
         this.processingExecutor = MoreExecutors.listeningDecorator(globalProcessingExecutor);
@@ -139,6 +161,22 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
     @Override
     public void onRemoteSessionUp(final NetconfSessionPreferences remoteSessionCapabilities,
                                   final NetconfDeviceCommunicator listener) {
+        // Schema download and initial sync are expensive for both sides, they wait for a slot in the connection manager
+        final NetconfConnectionManager.Priority priority = connectedBefore ?
+                NetconfConnectionManager.Priority.RECONNECT : NetconfConnectionManager.Priority.INITIAL;
+        final NetconfConnectionManager.Admission admission = connectionManager.newAdmission(id, priority, new Runnable() {
+            @Override
+            public void run() {
+                setUpDevice(remoteSessionCapabilities, listener);
+            }
+        }, processingExecutor);
+
+        setSetupAdmission(admission);
+        admission.submit();
+    }
+
+    private void setUpDevice(final NetconfSessionPreferences remoteSessionCapabilities,
+                             final NetconfDeviceCommunicator listener) {
         // SchemaContext setup has to be performed in a dedicated thread since
         // we are in a netty thread in this method
         // Yang models are being downloaded in this method and it would cause a
@@ -217,12 +255,17 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
 
     @VisibleForTesting
     void handleSalInitializationSuccess(final SchemaContext result, final NetconfSessionPreferences remoteSessionCapabilities, final DOMRpcService deviceRpc) {
-        messageTransformer = new NetconfMessageTransformer(result);
+        handleSalInitializationSuccess(result, remoteSessionCapabilities, deviceRpc, new NetconfMessageTransformer(result));
+    }
 
-        updateTransformer(messageTransformer);
+    private void handleSalInitializationSuccess(final SchemaContext result, final NetconfSessionPreferences remoteSessionCapabilities,
+                                                final DOMRpcService deviceRpc, final NetconfMessageTransformer transformer) {
+        updateTransformer(transformer);
         // salFacade.onDeviceConnected has to be called before the notification handler is initialized
         salFacade.onDeviceConnected(result, remoteSessionCapabilities, deviceRpc);
-        notificationHandler.onRemoteSchemaUp(messageTransformer);
+        notificationHandler.onRemoteSchemaUp(transformer);
+        connectedBefore = true;
+        releaseSetupAdmission(true);
 
         logger.info("{}: Netconf connector initialized successfully", id);
     }
@@ -253,6 +296,34 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
         }
     }
 
+    private synchronized NetconfConnectionManager.Admission swapSetupAdmission(final NetconfConnectionManager.Admission admission) {
+        final NetconfConnectionManager.Admission previous = setupAdmission;
+        setupAdmission = admission;
+        return previous;
+    }
+
+    private void setSetupAdmission(final NetconfConnectionManager.Admission admission) {
+        // Releasing may start the setup of another device, hence it is done without holding our lock
+        final NetconfConnectionManager.Admission previous = swapSetupAdmission(admission);
+        if (previous != null) {
+            previous.release(false);
+        }
+    }
+
+    private void releaseSetupAdmission(final boolean success) {
+        final NetconfConnectionManager.Admission previous = swapSetupAdmission(null);
+        if (previous != null) {
+            previous.release(success);
+        }
+    }
+
+    private synchronized void setSchemaContextRegistration(final DeviceSchemaContextCache.Registration registration) {
+        if (schemaContextRegistration != null) {
+            schemaContextRegistration.close();
+        }
+        schemaContextRegistration = registration;
+    }
+
     @Override
     public void onRemoteSessionDown() {
         notificationHandler.onRemoteSchemaDown();
@@ -262,6 +333,9 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
             sourceRegistration.close();
         }
         resetMessageTransformer();
+        setSchemaContextRegistration(null);
+        // Frees the slot if the session went down during setup, or withdraws a setup still waiting for one
+        releaseSetupAdmission(false);
     }
 
     @Override
@@ -281,11 +355,18 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
         private final SchemaSourceRegistry schemaRegistry;
         private final SchemaContextFactory schemaContextFactory;
         private final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver;
+        private final DeviceSchemaContextCache schemaContextCache;
 
         public SchemaResourcesDTO(final SchemaSourceRegistry schemaRegistry, final SchemaContextFactory schemaContextFactory, final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver) {
+            this(schemaRegistry, schemaContextFactory, stateSchemasResolver, new DeviceSchemaContextCache());
+        }
+
+        public SchemaResourcesDTO(final SchemaSourceRegistry schemaRegistry, final SchemaContextFactory schemaContextFactory,
+                                  final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver, final DeviceSchemaContextCache schemaContextCache) {
             this.schemaRegistry = Preconditions.checkNotNull(schemaRegistry);
             this.schemaContextFactory = Preconditions.checkNotNull(schemaContextFactory);
             this.stateSchemasResolver = Preconditions.checkNotNull(stateSchemasResolver);
+            this.schemaContextCache = Preconditions.checkNotNull(schemaContextCache);
         }
 
         public SchemaSourceRegistry getSchemaRegistry() {
@@ -299,6 +380,10 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
         public NetconfStateSchemas.NetconfStateSchemasResolver getStateSchemasResolver() {
             return stateSchemasResolver;
         }
+
+        public DeviceSchemaContextCache getSchemaContextCache() {
+            return schemaContextCache;
+        }
     }
 
     /**
@@ -418,7 +503,8 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
                 return;
             }
 
-            final CheckedFuture<SchemaContext, SchemaResolutionException> schemaBuilderFuture = schemaContextFactory.createSchemaContext(requiredSources);
+            // Devices with identical sources share a single schema context
+            final DeviceSchemaContextCache.Registration registration = schemaContextCache.acquire(requiredSources, schemaContextFactory);
 
             final FutureCallback<SchemaContext> RecursiveSchemaBuilderCallback = new FutureCallback<SchemaContext>() {
 
@@ -428,11 +514,16 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
                     final Collection<QName> filteredQNames = Sets.difference(remoteSessionCapabilities.getModuleBasedCaps(), capabilities.getUnresolvedCapabilites().keySet());
                     capabilities.addCapabilities(filteredQNames);
                     capabilities.addNonModuleBasedCapabilities(remoteSessionCapabilities.getNonModuleCaps());
-                    handleSalInitializationSuccess(result, remoteSessionCapabilities, getDeviceSpecificRpc(result));
+                    setSchemaContextRegistration(registration);
+
+                    final NetconfMessageTransformer transformer = registration.newMessageTransformer();
+                    handleSalInitializationSuccess(result, remoteSessionCapabilities, getDeviceSpecificRpc(result, transformer), transformer);
                 }
 
                 @Override
                 public void onFailure(final Throwable t) {
+                    registration.close();
+
                     // In case source missing, try without it
                     if (t instanceof MissingSchemaSourceException) {
                         final SourceIdentifier missingSource = ((MissingSchemaSourceException) t).getSourceId();
@@ -455,11 +546,11 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
                 }
             };
 
-            Futures.addCallback(schemaBuilderFuture, RecursiveSchemaBuilderCallback);
+            Futures.addCallback(registration.getSchemaContext(), RecursiveSchemaBuilderCallback);
         }
 
-        private NetconfDeviceRpc getDeviceSpecificRpc(final SchemaContext result) {
-            return new NetconfDeviceRpc(result, listener, new NetconfMessageTransformer(result));
+        private NetconfDeviceRpc getDeviceSpecificRpc(final SchemaContext result, final NetconfMessageTransformer transformer) {
+            return new NetconfDeviceRpc(result, listener, transformer);
         }
 
         private Collection<SourceIdentifier> stripMissingSource(final Collection<SourceIdentifier> requiredSources, final SourceIdentifier sIdToRemove) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.connection;
+
+import com.google.common.base.Preconditions;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.protocol.framework.ReconnectStrategy;
+
+/**
+ * Reconnect strategy which delays every reconnect scheduled by another strategy by a random amount of time.
+ * Devices which lost their sessions at the same moment, e.g. due to a controller restart, would otherwise
+ * reconnect in lock-step for every attempt.
+ */
+public final class JitteredReconnectStrategy implements ReconnectStrategy {
+    private static final Random RANDOM = new Random();
+
+    private final ReconnectStrategy delegate;
+    private final EventExecutor executor;
+    private final int maxJitterMillis;
+
+    /**
+     * @param delegate strategy deciding whether and when to reconnect
+     * @param executor executor used to schedule the additional delay
+     * @param maxJitterMillis upper bound of the additional delay
+     */
+    public JitteredReconnectStrategy(final ReconnectStrategy delegate, final EventExecutor executor, final int maxJitterMillis) {
+        Preconditions.checkArgument(maxJitterMillis > 0, "Jitter must be positive, %s", maxJitterMillis);
+        this.delegate = Preconditions.checkNotNull(delegate);
+        this.executor = Preconditions.checkNotNull(executor);
+        this.maxJitterMillis = maxJitterMillis;
+    }
+
+    @Override
+    public int getConnectTimeout() throws Exception {
+        return delegate.getConnectTimeout();
+    }
+
+    @Override
+    public Future<Void> scheduleReconnect(final Throwable cause) {
+        final Promise<Void> promise = executor.newPromise();
+        delegate.scheduleReconnect(cause).addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(final Future<Void> future) {
+                if (!future.isSuccess()) {
+                    promise.setFailure(future.cause());
+                    return;
+                }
+
+                executor.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        promise.trySuccess(null);
+                    }
+                }, RANDOM.nextInt(maxJitterMillis), TimeUnit.MILLISECONDS);
+            }
+        });
+        return promise;
+    }
+
+    @Override
+    public void reconnectSuccessful() {
+        delegate.reconnectSuccessful();
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.connection;
+
+import com.google.common.base.Preconditions;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.sal.connect.util.RemoteDeviceId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admission control for the setup of mounted devices. Setting up a device, i.e. resolving and downloading its schemas,
+ * building its schema context and performing the initial synchronization, is expensive for both the controller and
+ * the device. When many devices connect at once, e.g. after a controller restart, this manager lets only a bounded
+ * number of setups run concurrently and queues the rest by priority, devices which were connected before going
+ * first. A setup holds its slot until it is released, either because it finished or because it failed.
+ */
+public final class NetconfConnectionManager {
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfConnectionManager.class);
+
+    /**
+     * Manager which does not limit setups, submitted tasks run immediately in the caller's thread.
+     */
+    public static final NetconfConnectionManager UNBOUNDED = new NetconfConnectionManager(0);
+
+    /**
+     * Setup priorities, in order of precedence.
+     */
+    public enum Priority {
+        /**
+         * Setup of a device which was connected before and lost its session.
+         */
+        RECONNECT,
+        /**
+         * First setup of a device.
+         */
+        INITIAL
+    }
+
+    private final int maxConcurrentSetups;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @GuardedBy("this")
+    private final PriorityQueue<Admission> queue = new PriorityQueue<>();
+    @GuardedBy("this")
+    private int running;
+
+    private final AtomicLong admittedSetups = new AtomicLong();
+    private final AtomicLong completedSetups = new AtomicLong();
+    private final AtomicLong failedSetups = new AtomicLong();
+    private final AtomicLong totalSetupNanos = new AtomicLong();
+    private final AtomicLong maxSetupNanos = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+
+    /**
+     * @param maxConcurrentSetups maximum number of setups running at the same time, non positive value means unlimited
+     */
+    public NetconfConnectionManager(final int maxConcurrentSetups) {
+        this.maxConcurrentSetups = maxConcurrentSetups;
+    }
+
+    /**
+     * Create a setup for a device. The setup has to be submitted to request a slot, which allows the caller
+     * to keep a reference to it before the task starts running.
+     *
+     * @param id device identifier, used for logging
+     * @param priority priority of the setup
+     * @param task task starting the setup
+     * @param executor executor used to run the task if it has to wait for a slot
+     * @return Admission, which has to be released once the setup finishes
+     */
+    public Admission newAdmission(final RemoteDeviceId id, final Priority priority, final Runnable task, final Executor executor) {
+        return new Admission(id, priority, task, executor, sequence.getAndIncrement());
+    }
+
+    private void submit(final Admission admission) {
+        final boolean runNow;
+        synchronized (this) {
+            if (admission.finished.get()) {
+                // Released before being submitted
+                return;
+            }
+
+            if (maxConcurrentSetups <= 0 || running < maxConcurrentSetups) {
+                running++;
+                admission.start();
+                runNow = true;
+            } else {
+                queue.add(admission);
+                runNow = false;
+            }
+        }
+
+        if (runNow) {
+            admission.task.run();
+        } else {
+            LOG.debug("{}: Setup queued with priority {}, {} setups waiting", admission.id, admission.priority, getQueueDepth());
+        }
+    }
+
+    private void onFinished(final Admission admission, final boolean success) {
+        final boolean started;
+        final Admission next;
+        synchronized (this) {
+            started = admission.started;
+            if (!started) {
+                // Withdrawn while waiting, it never held a slot
+                queue.remove(admission);
+                next = null;
+            } else {
+                // The slot is handed over to the next setup, if any
+                next = queue.poll();
+                if (next == null) {
+                    running--;
+                } else {
+                    next.start();
+                }
+            }
+        }
+
+        if (started) {
+            final long elapsed = System.nanoTime() - admission.startNanos;
+            if (success) {
+                completedSetups.incrementAndGet();
+                totalSetupNanos.addAndGet(elapsed);
+                long max;
+                do {
+                    max = maxSetupNanos.get();
+                } while (elapsed > max && !maxSetupNanos.compareAndSet(max, elapsed));
+            } else {
+                failedSetups.incrementAndGet();
+            }
+        }
+
+        // Skip setups withdrawn since being admitted, they have already passed the slot on
+        if (next != null && !next.finished.get()) {
+            LOG.debug("{}: Setup admitted", next.id);
+            next.executor.execute(next.task);
+        }
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    public synchronized int getRunningSetups() {
+        return running;
+    }
+
+    public int getMaxConcurrentSetups() {
+        return maxConcurrentSetups;
+    }
+
+    public long getAdmittedSetups() {
+        return admittedSetups.get();
+    }
+
+    public long getCompletedSetups() {
+        return completedSetups.get();
+    }
+
+    public long getFailedSetups() {
+        return failedSetups.get();
+    }
+
+    public long getAverageSetupMillis() {
+        final long completed = completedSetups.get();
+        return completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalSetupNanos.get() / completed);
+    }
+
+    public long getMaxSetupMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxSetupNanos.get());
+    }
+
+    public long getAverageQueueWaitMillis() {
+        final long admitted = admittedSetups.get();
+        return admitted == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalQueueWaitNanos.get() / admitted);
+    }
+
+    /**
+     * A single setup, admitted or waiting for admission.
+     */
+    public final class Admission implements Comparable<Admission> {
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final RemoteDeviceId id;
+        private final Priority priority;
+        private final Runnable task;
+        private final Executor executor;
+        private final long sequence;
+        private final long queuedNanos = System.nanoTime();
+
+        // Written under the manager lock
+        private volatile long startNanos;
+        private volatile boolean started;
+
+        private Admission(final RemoteDeviceId id, final Priority priority, final Runnable task, final Executor executor,
+                final long sequence) {
+            this.id = Preconditions.checkNotNull(id);
+            this.priority = Preconditions.checkNotNull(priority);
+            this.task = Preconditions.checkNotNull(task);
+            this.executor = Preconditions.checkNotNull(executor);
+            this.sequence = sequence;
+        }
+
+        private void start() {
+            startNanos = System.nanoTime();
+            totalQueueWaitNanos.addAndGet(startNanos - queuedNanos);
+            admittedSetups.incrementAndGet();
+            started = true;
+        }
+
+        /**
+         * Request a slot for this setup. The task is run as soon as a slot is available: immediately
+         * in the caller's thread if there is a free slot, otherwise in the executor once a slot frees up.
+         */
+        public void submit() {
+            NetconfConnectionManager.this.submit(this);
+        }
+
+        /**
+         * Release the slot held by this setup, or withdraw it from the queue if it has not been admitted yet.
+         * Only the first invocation has any effect.
+         *
+         * @param success true if the device was set up successfully
+         */
+        public void release(final boolean success) {
+            if (finished.compareAndSet(false, true)) {
+                onFinished(this, success);
+            }
+        }
+
+        @Override
+        public int compareTo(final Admission o) {
+            final int cmp = priority.compareTo(o.priority);
+            if (cmp != 0) {
+                return cmp;
+            }
+            return sequence < o.sequence ? -1 : (sequence == o.sequence ? 0 : 1);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.connection;
+
+/**
+ * MXBean interface for device setup statistics of {@link NetconfConnectionManager}.
+ */
+public interface NetconfConnectionManagerMXBean {
+
+    /**
+     * Returns the maximum number of concurrent setups, non positive if unlimited.
+     */
+    int getMaxConcurrentSetups();
+
+    /**
+     * Returns the number of setups currently running.
+     */
+    int getRunningSetups();
+
+    /**
+     * Returns the number of setups waiting for admission.
+     */
+    int getQueueDepth();
+
+    /**
+     * Returns the total number of setups admitted.
+     */
+    long getAdmittedSetups();
+
+    /**
+     * Returns the number of setups which finished successfully.
+     */
+    long getCompletedSetups();
+
+    /**
+     * Returns the number of setups which failed or were aborted.
+     */
+    long getFailedSetups();
+
+    /**
+     * Returns the average time in milliseconds a setup waited for admission.
+     */
+    long getAverageQueueWaitMillis();
+
+    /**
+     * Returns the average time in milliseconds between admission and successful connection of a device.
+     */
+    long getAverageSetupMillis();
+
+    /**
+     * Returns the longest time in milliseconds between admission and successful connection of a device.
+     */
+    long getMaxSetupMillis();
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.connection;
+
+import com.google.common.base.Preconditions;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+
+/**
+ * MXBean implementation of the NetconfConnectionManagerMXBean interface that retrieves statistics
+ * from a backing {@link NetconfConnectionManager}.
+ */
+public class NetconfConnectionManagerMXBeanImpl extends AbstractMXBean implements NetconfConnectionManagerMXBean {
+    public static final String JMX_TYPE = "NetconfConnector";
+    public static final String JMX_CATEGORY = "ConnectionManager";
+
+    private final NetconfConnectionManager manager;
+
+    public NetconfConnectionManagerMXBeanImpl(final NetconfConnectionManager manager, final String mBeanName) {
+        super(mBeanName, JMX_TYPE, JMX_CATEGORY);
+        this.manager = Preconditions.checkNotNull(manager);
+    }
+
+    @Override
+    public int getMaxConcurrentSetups() {
+        return manager.getMaxConcurrentSetups();
+    }
+
+    @Override
+    public int getRunningSetups() {
+        return manager.getRunningSetups();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return manager.getQueueDepth();
+    }
+
+    @Override
+    public long getAdmittedSetups() {
+        return manager.getAdmittedSetups();
+    }
+
+    @Override
+    public long getCompletedSetups() {
+        return manager.getCompletedSetups();
+    }
+
+    @Override
+    public long getFailedSetups() {
+        return manager.getFailedSetups();
+    }
+
+    @Override
+    public long getAverageQueueWaitMillis() {
+        return manager.getAverageQueueWaitMillis();
+    }
+
+    @Override
+    public long getAverageSetupMillis() {
+        return manager.getAverageSetupMillis();
+    }
+
+    @Override
+    public long getMaxSetupMillis() {
+        return manager.getMaxSetupMillis();
+    }
+}
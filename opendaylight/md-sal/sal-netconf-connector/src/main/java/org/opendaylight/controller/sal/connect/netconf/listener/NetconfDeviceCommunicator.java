@@ -8,17 +8,23 @@
 package org.opendaylight.controller.sal.connect.netconf.listener;
 
 import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.GenericFutureListener;
-import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.opendaylight.controller.netconf.api.NetconfDocumentedException;
@@ -42,7 +48,14 @@ import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Element;
 
+/**
+ * Session listener which sends RPCs to a remote device and matches their replies. Outstanding requests are tracked
+ * by their message-id, hence replies can arrive in any order, and sending a request does not take any lock, so
+ * any number of threads can drive the same device concurrently. The number of outstanding requests can optionally
+ * be capped, and requests which do not receive a reply in time can optionally be failed.
+ */
 public class NetconfDeviceCommunicator implements NetconfClientSessionListener, RemoteDeviceCommunicator<NetconfMessage> {
 
     private static final Logger logger = LoggerFactory.getLogger(NetconfDeviceCommunicator.class);
@@ -50,11 +63,17 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     private final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice;
     private final Optional<NetconfSessionPreferences> overrideNetconfCapabilities;
     private final RemoteDeviceId id;
+
+    // Guards session transitions only, requests are sent and matched without it
     private final Lock sessionLock = new ReentrantLock();
 
-    // TODO implement concurrent message limit
-    private final Queue<Request> requests = new ArrayDeque<>();
-    private NetconfClientSession session;
+    private final ConcurrentMap<String, Request> requests = new ConcurrentHashMap<>();
+    private final AtomicLong requestCounter = new AtomicLong();
+    private final Semaphore semaphore;
+    private final EventExecutor timeoutExecutor;
+    private final long requestTimeoutMillis;
+
+    private volatile NetconfClientSession session;
     private Future<?> initFuture;
 
     public NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
@@ -69,9 +88,25 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     private NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
             final Optional<NetconfSessionPreferences> overrideNetconfCapabilities) {
+        this(id, remoteDevice, overrideNetconfCapabilities, 0, null, 0);
+    }
+
+    /**
+     * @param rpcMessageLimit maximum number of outstanding requests, non positive value means unlimited
+     * @param timeoutExecutor executor used to time out requests, may be null if requestTimeoutMillis is not positive
+     * @param requestTimeoutMillis time after which a request without reply is failed, non positive value means never
+     */
+    public NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
+            final Optional<NetconfSessionPreferences> overrideNetconfCapabilities, final int rpcMessageLimit,
+            final EventExecutor timeoutExecutor, final long requestTimeoutMillis) {
         this.id = id;
         this.remoteDevice = remoteDevice;
         this.overrideNetconfCapabilities = overrideNetconfCapabilities;
+        this.semaphore = rpcMessageLimit > 0 ? new Semaphore(rpcMessageLimit) : null;
+        Preconditions.checkArgument(requestTimeoutMillis <= 0 || timeoutExecutor != null,
+                "Executor has to be provided for request timeout %s", requestTimeoutMillis);
+        this.timeoutExecutor = timeoutExecutor;
+        this.requestTimeoutMillis = requestTimeoutMillis;
     }
 
     @Override
@@ -120,8 +155,9 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     }
 
     public void disconnect() {
-        if(session != null) {
-            session.close();
+        final NetconfClientSession s = session;
+        if(s != null) {
+            s.close();
         }
     }
 
@@ -133,19 +169,13 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
                 session = null;
 
                 /*
-                 * Walk all requests, check if they have been executing
-                 * or cancelled and remove them from the queue.
+                 * Remove all outstanding requests. Any request added concurrently with this walk
+                 * notices the session is gone and fails on its own.
                  */
-                final Iterator<Request> it = requests.iterator();
+                final Iterator<Request> it = requests.values().iterator();
                 while (it.hasNext()) {
-                    final Request r = it.next();
-                    if (r.future.isUncancellable()) {
-                        futuresToCancel.add( r.future );
-                        it.remove();
-                    } else if (r.future.isCancelled()) {
-                        // This just does some house-cleaning
-                        it.remove();
-                    }
+                    futuresToCancel.add( it.next().future );
+                    it.remove();
                 }
 
                 remoteDevice.onRemoteSessionDown();
@@ -172,8 +202,13 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     }
 
     private RpcResult<NetconfMessage> createErrorRpcResult( RpcError.ErrorType errorType, String message ) {
+        return createErrorRpcResult( errorType, NetconfDocumentedException.ErrorTag.operation_failed, message );
+    }
+
+    private static RpcResult<NetconfMessage> createErrorRpcResult( RpcError.ErrorType errorType,
+                                                                   NetconfDocumentedException.ErrorTag tag, String message ) {
         return RpcResultBuilder.<NetconfMessage>failed()
-                .withError(errorType, NetconfDocumentedException.ErrorTag.operation_failed.getTagValue(), message).build();
+                .withError(errorType, tag.getTagValue(), message).build();
     }
 
     @Override
@@ -195,9 +230,7 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
             initFuture.cancel(false);
         }
         // Disconnect from device
-        if(session != null) {
-            session.close();
-        }
+        disconnect();
 
         tearDown(id + ": Netconf session closed");
     }
@@ -205,8 +238,8 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     @Override
     public void onMessage(final NetconfClientSession session, final NetconfMessage message) {
         /*
-         * Dispatch between notifications and messages. Messages need to be processed
-         * with lock held, notifications do not.
+         * Dispatch between notifications and messages. Messages need to be matched
+         * with their requests, notifications do not.
          */
         if (isNotification(message)) {
             processNotification(message);
@@ -216,58 +249,71 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     }
 
     private void processMessage(final NetconfMessage message) {
-        Request request = null;
-        sessionLock.lock();
-
-        try {
-            request = requests.peek();
-            if (request != null && request.future.isUncancellable()) {
-                requests.poll();
-            } else {
-                request = null;
-                logger.warn("{}: Ignoring unsolicited message {}", id, msgToS(message));
-            }
-        }
-        finally {
-            sessionLock.unlock();
+        final Request request = requests.remove(getMessageId(message));
+        if (request == null) {
+            failOldestRequest(message);
+        } else {
+            completeRequest(request, message);
         }
+    }
 
-        if( request != null ) {
-
-            logger.debug("{}: Message received {}", id, message);
-
-            if(logger.isTraceEnabled()) {
-                logger.trace( "{}: Matched request: {} to response: {}", id, msgToS( request.request ), msgToS( message ) );
-            }
+    private void completeRequest(final Request request, final NetconfMessage message) {
+        logger.debug("{}: Message received {}", id, message);
 
-            try {
-                NetconfMessageTransformUtil.checkValidReply( request.request, message );
-            } catch (final NetconfDocumentedException e) {
-                logger.warn( "{}: Invalid request-reply match, reply message contains different message-id, request: {}, response: {}",
-                             id, msgToS( request.request ), msgToS( message ), e );
+        if(logger.isTraceEnabled()) {
+            logger.trace( "{}: Matched request: {} to response: {}", id, msgToS( request.request ), msgToS( message ) );
+        }
 
-                request.future.set( RpcResultBuilder.<NetconfMessage>failed()
-                        .withRpcError( NetconfMessageTransformUtil.toRpcError( e ) ).build() );
+        try {
+            NetconfMessageTransformUtil.checkSuccessReply(message);
+        } catch(final NetconfDocumentedException e) {
+            logger.warn( "{}: Error reply from remote device, request: {}, response: {}", id,
+                         msgToS( request.request ), msgToS( message ), e );
+
+            request.future.set( RpcResultBuilder.<NetconfMessage>failed()
+                    .withRpcError( NetconfMessageTransformUtil.toRpcError( e ) ).build() );
+            return;
+        }
 
-                //recursively processing message to eventually find matching request
-                processMessage(message);
+        request.future.set( RpcResultBuilder.success( message ).build() );
+    }
 
-                return;
+    /*
+     * A reply whose message-id does not match any outstanding request. Devices which do so typically
+     * echo a wrong message-id, so the reply is attributed to the request which has been waiting longest,
+     * otherwise that request would never complete.
+     */
+    private void failOldestRequest(final NetconfMessage message) {
+        Request oldest = null;
+        for (final Request r : requests.values()) {
+            if (oldest == null || r.sequence < oldest.sequence) {
+                oldest = r;
             }
+        }
 
-            try {
-                NetconfMessageTransformUtil.checkSuccessReply(message);
-            } catch(final NetconfDocumentedException e) {
-                logger.warn( "{}: Error reply from remote device, request: {}, response: {}", id,
-                             msgToS( request.request ), msgToS( message ), e );
-
-                request.future.set( RpcResultBuilder.<NetconfMessage>failed()
-                        .withRpcError( NetconfMessageTransformUtil.toRpcError( e ) ).build() );
-                return;
-            }
+        if (oldest == null || !requests.remove(getMessageId(oldest.request), oldest)) {
+            logger.warn("{}: Ignoring unsolicited message {}", id, msgToS(message));
+            return;
+        }
 
-            request.future.set( RpcResultBuilder.success( message ).build() );
+        try {
+            NetconfMessageTransformUtil.checkValidReply( oldest.request, message );
+        } catch (final NetconfDocumentedException e) {
+            logger.warn( "{}: Invalid request-reply match, reply message contains different message-id, request: {}, response: {}",
+                         id, msgToS( oldest.request ), msgToS( message ), e );
+
+            oldest.future.set( RpcResultBuilder.<NetconfMessage>failed()
+                    .withRpcError( NetconfMessageTransformUtil.toRpcError( e ) ).build() );
+            return;
         }
+
+        // The request was registered while we were looking
+        completeRequest(oldest, message);
+    }
+
+    private static String getMessageId(final NetconfMessage message) {
+        final Element root = message.getDocument().getDocumentElement();
+        return root == null ? "" : root.getAttribute(NetconfMessageTransformUtil.MESSAGE_ID_ATTR);
     }
 
     private static String msgToS(final NetconfMessage msg) {
@@ -276,30 +322,54 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     @Override
     public ListenableFuture<RpcResult<NetconfMessage>> sendRequest(final NetconfMessage message, final QName rpc) {
-        sessionLock.lock();
-        try {
-            return sendRequestWithLock( message, rpc );
-        } finally {
-            sessionLock.unlock();
-        }
-    }
-
-    private ListenableFuture<RpcResult<NetconfMessage>> sendRequestWithLock(
-                                               final NetconfMessage message, final QName rpc) {
         if(logger.isTraceEnabled()) {
             logger.trace("{}: Sending message {}", id, msgToS(message));
         }
 
-        if (session == null) {
+        final NetconfClientSession s = session;
+        if (s == null) {
             logger.warn("{}: Session is disconnected, failing RPC request {}", id, message);
             return Futures.immediateFuture( createSessionDownRpcResult() );
         }
 
+        if (semaphore != null && !semaphore.tryAcquire()) {
+            logger.warn("{}: Limit of outstanding requests reached, failing RPC request {}", id, message);
+            return Futures.immediateFuture( createErrorRpcResult( RpcError.ErrorType.TRANSPORT,
+                    NetconfDocumentedException.ErrorTag.resource_denied,
+                    String.format( "Limit of outstanding requests to %s reached", id.getName() ) ) );
+        }
+
+        final String messageId = getMessageId(message);
         final Request req = new Request( new UncancellableFuture<RpcResult<NetconfMessage>>(true),
-                                         message );
-        requests.add(req);
+                                         message, requestCounter.getAndIncrement() );
+        if (requests.putIfAbsent(messageId, req) != null) {
+            releasePermit();
+            logger.warn("{}: Request with message-id {} is already outstanding, failing RPC request {}", id, messageId, message);
+            return Futures.immediateFuture( createErrorRpcResult( RpcError.ErrorType.RPC,
+                    String.format( "Request with message-id %s is already outstanding", messageId ) ) );
+        }
+
+        req.future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                requests.remove(messageId, req);
+                releasePermit();
+            }
+        }, MoreExecutors.sameThreadExecutor());
 
-        session.sendMessage(req.request).addListener(new FutureListener<Void>() {
+        if (session != s) {
+            // Session went down while we were registering, tearDown may have missed this request
+            if (requests.remove(messageId, req)) {
+                req.future.set( createSessionDownRpcResult() );
+            }
+            return req.future;
+        }
+
+        if (requestTimeoutMillis > 0) {
+            scheduleTimeout(messageId, req);
+        }
+
+        s.sendMessage(req.request).addListener(new FutureListener<Void>() {
             @Override
             public void operationComplete(final Future<Void> future) throws Exception {
                 if( !future.isSuccess() ) {
@@ -324,6 +394,32 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
         return req.future;
     }
 
+    private void scheduleTimeout(final String messageId, final Request req) {
+        final Future<?> timeout = timeoutExecutor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (requests.remove(messageId, req)) {
+                    logger.warn("{}: Request {} timed out after {} ms", id, messageId, requestTimeoutMillis);
+                    req.future.set( createErrorRpcResult( RpcError.ErrorType.TRANSPORT,
+                            String.format( "No reply from %s received within %s ms", id.getName(), requestTimeoutMillis ) ) );
+                }
+            }
+        }, requestTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        req.future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                timeout.cancel(false);
+            }
+        }, MoreExecutors.sameThreadExecutor());
+    }
+
+    private void releasePermit() {
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
     private void processNotification(final NetconfMessage notification) {
         logger.debug("{}: Notification received: {}", id, notification);
 
@@ -342,11 +438,13 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     private static final class Request {
         final UncancellableFuture<RpcResult<NetconfMessage>> future;
         final NetconfMessage request;
+        final long sequence;
 
         private Request(final UncancellableFuture<RpcResult<NetconfMessage>> future,
-                        final NetconfMessage request) {
+                        final NetconfMessage request, final long sequence) {
             this.future = future;
             this.request = request;
+            this.sequence = sequence;
         }
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.schema;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactory;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of schema contexts shared by all devices which are built from the same set of sources. Devices of the same
+ * model and firmware report identical capabilities, so the context is built once, no matter in which order the
+ * sources are listed or how many devices request it concurrently. Each cached context also carries a message
+ * transformer, from which the devices derive their own transformers cheaply.
+ *
+ * Entries are reference counted, a context is evicted once the last device using it closes its registration.
+ * Failed builds are evicted immediately, so that the next request retries them.
+ */
+public final class DeviceSchemaContextCache {
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceSchemaContextCache.class);
+
+    @GuardedBy("this")
+    private final Map<Set<SourceIdentifier>, CacheEntry> entries = new HashMap<>();
+
+    /**
+     * Acquire the schema context built from provided sources. The context is built with the provided factory
+     * unless it is already cached or being built.
+     *
+     * @param sources sources of the schema context
+     * @param factory factory used to build the context if it is not cached
+     * @return Registration, which has to be closed once the context is no longer used
+     */
+    public Registration acquire(final Collection<SourceIdentifier> sources, final SchemaContextFactory factory) {
+        final Set<SourceIdentifier> key = ImmutableSet.copyOf(sources);
+
+        final CacheEntry entry;
+        final boolean created;
+        synchronized (this) {
+            final CacheEntry existing = entries.get(key);
+            if (existing != null) {
+                entry = existing;
+                created = false;
+            } else {
+                entry = new CacheEntry(key);
+                entries.put(key, entry);
+                created = true;
+            }
+            entry.refCount++;
+        }
+
+        if (created) {
+            LOG.debug("Building schema context from {}", key);
+            // The factory may build the context synchronously, hence this is done outside of the lock
+            Futures.addCallback(factory.createSchemaContext(key), entry);
+        } else {
+            LOG.debug("Reusing schema context built from {}", key);
+        }
+        return new Registration(entry);
+    }
+
+    private synchronized void release(final CacheEntry entry) {
+        entry.refCount--;
+        if (entry.refCount == 0) {
+            evict(entry);
+        }
+    }
+
+    private synchronized void evict(final CacheEntry entry) {
+        if (entries.get(entry.sources) == entry) {
+            LOG.debug("Evicting schema context built from {}", entry.sources);
+            entries.remove(entry.sources);
+        }
+    }
+
+    private final class CacheEntry implements FutureCallback<SchemaContext> {
+        private final SettableFuture<SchemaContext> future = SettableFuture.create();
+        private final Set<SourceIdentifier> sources;
+        private volatile NetconfMessageTransformer transformer;
+
+        @GuardedBy("DeviceSchemaContextCache.this")
+        private int refCount;
+
+        CacheEntry(final Set<SourceIdentifier> sources) {
+            this.sources = sources;
+        }
+
+        @Override
+        public void onSuccess(final SchemaContext result) {
+            transformer = new NetconfMessageTransformer(result);
+            future.set(result);
+        }
+
+        @Override
+        public void onFailure(final Throwable t) {
+            evict(this);
+            future.setException(t);
+        }
+    }
+
+    /**
+     * Handle of a single user of a cached schema context.
+     */
+    public final class Registration implements AutoCloseable {
+        private final CacheEntry entry;
+        private boolean closed;
+
+        private Registration(final CacheEntry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * @return Future completed with the schema context, or failed with the exception raised while building it
+         */
+        public ListenableFuture<SchemaContext> getSchemaContext() {
+            return entry.future;
+        }
+
+        /**
+         * Create a message transformer for a single device. May only be called once the schema context
+         * has been built successfully.
+         *
+         * @return New transformer, sharing the schema derived state with all other devices using this context
+         */
+        public NetconfMessageTransformer newMessageTransformer() {
+            final NetconfMessageTransformer template = entry.transformer;
+            Preconditions.checkState(template != null, "Schema context built from %s is not available", entry.sources);
+            return new NetconfMessageTransformer(template);
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+}
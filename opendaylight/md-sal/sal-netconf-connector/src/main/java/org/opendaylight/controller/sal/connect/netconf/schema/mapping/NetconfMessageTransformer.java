@@ -110,6 +110,21 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
         mappedNotifications = Multimaps.index(schemaContext.getNotifications(), QNAME_NOREV_FUNCTION);
     }
 
+    /**
+     * Create a transformer for the same schema context as an existing one, reusing the indices it built.
+     * The new transformer generates its own message-ids and does not contend with the template for locks.
+     *
+     * @param template transformer whose schema context should be used
+     */
+    public NetconfMessageTransformer(final NetconfMessageTransformer template) {
+        this.counter = new MessageCounter();
+        this.schemaContext = template.schemaContext;
+        parserFactory = DomToNormalizedNodeParserFactory.getInstance(XmlUtils.DEFAULT_XML_CODEC_PROVIDER, schemaContext);
+
+        mappedRpcs = template.mappedRpcs;
+        mappedNotifications = template.mappedNotifications;
+    }
+
     @Override
     public synchronized ContainerNode toNotification(final NetconfMessage message) {
         final XmlElement stripped = stripNotification(message);
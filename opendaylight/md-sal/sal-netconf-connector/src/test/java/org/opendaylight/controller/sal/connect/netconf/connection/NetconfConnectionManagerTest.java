@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.connection;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.sal.connect.netconf.connection.NetconfConnectionManager.Admission;
+import org.opendaylight.controller.sal.connect.netconf.connection.NetconfConnectionManager.Priority;
+import org.opendaylight.controller.sal.connect.util.RemoteDeviceId;
+
+public class NetconfConnectionManagerTest {
+
+    private NetconfConnectionManager manager;
+    private List<String> started;
+
+    @Before
+    public void setUp() {
+        manager = new NetconfConnectionManager(1);
+        started = Lists.newArrayList();
+    }
+
+    private Admission submit(final String name, final Priority priority) {
+        final Admission admission = manager.newAdmission(new RemoteDeviceId(name), priority, new Runnable() {
+            @Override
+            public void run() {
+                started.add(name);
+            }
+        }, MoreExecutors.sameThreadExecutor());
+        admission.submit();
+        return admission;
+    }
+
+    @Test
+    public void testPrioritizedAdmission() {
+        final Admission first = submit("first", Priority.INITIAL);
+        final Admission second = submit("second", Priority.INITIAL);
+        final Admission third = submit("third", Priority.RECONNECT);
+
+        assertEquals(Lists.newArrayList("first"), started);
+        assertEquals(1, manager.getRunningSetups());
+        assertEquals(2, manager.getQueueDepth());
+
+        // Reconnecting device goes before the one waiting longer
+        first.release(true);
+        assertEquals(Lists.newArrayList("first", "third"), started);
+
+        third.release(false);
+        assertEquals(Lists.newArrayList("first", "third", "second"), started);
+
+        second.release(true);
+        assertEquals(0, manager.getRunningSetups());
+        assertEquals(0, manager.getQueueDepth());
+        assertEquals(3, manager.getAdmittedSetups());
+        assertEquals(2, manager.getCompletedSetups());
+        assertEquals(1, manager.getFailedSetups());
+    }
+
+    @Test
+    public void testWithdrawnSetup() {
+        final Admission first = submit("first", Priority.INITIAL);
+        final Admission second = submit("second", Priority.INITIAL);
+        submit("third", Priority.INITIAL);
+
+        second.release(false);
+        // Releasing again has no effect
+        second.release(false);
+        assertEquals(1, manager.getQueueDepth());
+
+        first.release(true);
+        assertEquals(Lists.newArrayList("first", "third"), started);
+        assertEquals(1, manager.getRunningSetups());
+        assertEquals(0, manager.getFailedSetups());
+    }
+
+    @Test
+    public void testReleaseBeforeSubmit() {
+        final Admission admission = manager.newAdmission(new RemoteDeviceId("device"), Priority.INITIAL, new Runnable() {
+            @Override
+            public void run() {
+                started.add("device");
+            }
+        }, MoreExecutors.sameThreadExecutor());
+        admission.release(false);
+        admission.submit();
+
+        assertEquals(0, started.size());
+        assertEquals(0, manager.getRunningSetups());
+    }
+}
@@ -9,6 +9,7 @@
 package org.opendaylight.controller.sal.connect.netconf.listener;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -25,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import static org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants.RPC_REPLY_KEY;
 import static org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -334,6 +336,57 @@ public class NetconfDeviceCommunicatorTest {
         verifyResponseMessage( resultFuture2.get(), messageID2 );
     }
 
+    @Test
+    public void testOnOutOfOrderResponseMessages() throws Exception {
+        setupSession();
+
+        String messageID1 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( messageID1 );
+
+        String messageID2 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest( messageID2 );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID2 ) );
+        verifyResponseMessage( resultFuture2.get(), messageID2 );
+        assertFalse( "Request 1 completed", resultFuture1.isDone() );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+        verifyResponseMessage( resultFuture1.get(), messageID1 );
+    }
+
+    @Test
+    public void testConcurrentRpcLimit() throws Exception {
+        communicator = new NetconfDeviceCommunicator( new RemoteDeviceId( "test" ), mockDevice,
+                Optional.<NetconfSessionPreferences>absent(), 1, null, 0 );
+        setupSession();
+
+        String messageID1 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( messageID1 );
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest();
+        verifyErrorRpcResult( resultFuture2.get( 3, TimeUnit.MILLISECONDS ), RpcError.ErrorType.TRANSPORT,
+                              "resource-denied" );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+        verifyResponseMessage( resultFuture1.get(), messageID1 );
+
+        // Permit is released once the reply arrives
+        String messageID3 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture3 = sendRequest( messageID3 );
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID3 ) );
+        verifyResponseMessage( resultFuture3.get(), messageID3 );
+    }
+
+    @Test(timeout=5000)
+    public void testRequestTimeout() throws Exception {
+        communicator = new NetconfDeviceCommunicator( new RemoteDeviceId( "test" ), mockDevice,
+                Optional.<NetconfSessionPreferences>absent(), 0, GlobalEventExecutor.INSTANCE, 10 );
+        setupSession();
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture = sendRequest();
+        verifyErrorRpcResult( resultFuture.get(), RpcError.ErrorType.TRANSPORT, "operation-failed" );
+    }
+
     @Test
     public void testOnResponseMessageWithError() throws Exception {
         setupSession();
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.schema;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.sal.connect.netconf.NetconfDeviceTest;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactory;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaResolutionException;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+
+public class DeviceSchemaContextCacheTest {
+    private static final SourceIdentifier SOURCE1 = new SourceIdentifier("module1", Optional.of("2015-01-01"));
+    private static final SourceIdentifier SOURCE2 = new SourceIdentifier("module2", Optional.of("2015-01-01"));
+
+    private DeviceSchemaContextCache cache;
+    private SchemaContextFactory factory;
+    private SchemaContext schemaContext;
+
+    @Before
+    public void setUp() {
+        cache = new DeviceSchemaContextCache();
+        factory = mock(SchemaContextFactory.class);
+        schemaContext = NetconfDeviceTest.getSchema();
+        final CheckedFuture<SchemaContext, SchemaResolutionException> future = Futures.immediateCheckedFuture(schemaContext);
+        doReturn(future).when(factory).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+    }
+
+    @Test
+    public void testSharedContext() throws Exception {
+        final DeviceSchemaContextCache.Registration reg1 = cache.acquire(ImmutableList.of(SOURCE1, SOURCE2), factory);
+        final DeviceSchemaContextCache.Registration reg2 = cache.acquire(ImmutableList.of(SOURCE2, SOURCE1), factory);
+
+        verify(factory, times(1)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+        assertSame(schemaContext, reg1.getSchemaContext().get());
+        assertSame(schemaContext, reg2.getSchemaContext().get());
+        assertNotNull(reg1.newMessageTransformer());
+        assertNotSame(reg1.newMessageTransformer(), reg2.newMessageTransformer());
+
+        cache.acquire(ImmutableList.of(SOURCE1), factory).close();
+        verify(factory, times(2)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+    }
+
+    @Test
+    public void testEvictionAfterRelease() throws Exception {
+        final DeviceSchemaContextCache.Registration reg1 = cache.acquire(ImmutableList.of(SOURCE1), factory);
+        final DeviceSchemaContextCache.Registration reg2 = cache.acquire(ImmutableList.of(SOURCE1), factory);
+
+        reg1.close();
+        // Closing twice must not release the context used by reg2
+        reg1.close();
+        cache.acquire(ImmutableList.of(SOURCE1), factory).close();
+        verify(factory, times(1)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+
+        reg2.close();
+        cache.acquire(ImmutableList.of(SOURCE1), factory);
+        verify(factory, times(2)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+    }
+
+    @Test
+    public void testFailedBuildIsNotCached() throws Exception {
+        final SchemaResolutionException ex = new SchemaResolutionException("fail",
+                Collections.<SourceIdentifier>emptyList(), HashMultimap.<SourceIdentifier, ModuleImport>create());
+        final CheckedFuture<SchemaContext, SchemaResolutionException> failed = Futures.immediateFailedCheckedFuture(ex);
+        doReturn(failed).when(factory).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+
+        final DeviceSchemaContextCache.Registration reg = cache.acquire(ImmutableList.of(SOURCE1), factory);
+        try {
+            reg.getSchemaContext().get();
+            fail("Build should have failed");
+        } catch (final ExecutionException e) {
+            assertSame(ex, e.getCause());
+        }
+
+        cache.acquire(ImmutableList.of(SOURCE1), factory);
+        verify(factory, times(2)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+    }
+}
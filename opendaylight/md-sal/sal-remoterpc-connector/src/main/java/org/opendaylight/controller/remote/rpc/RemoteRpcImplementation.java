@@ -6,9 +6,9 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import org.opendaylight.controller.remote.rpc.messages.InvokeRpc;
 import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
+import org.opendaylight.controller.remote.rpc.utils.RpcPayloadCodec;
 import org.opendaylight.controller.sal.core.api.RoutedRpcDefaultImplementation;
 import org.opendaylight.controller.sal.core.api.RpcImplementation;
-import org.opendaylight.controller.xml.codec.XmlUtils;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcResult;
@@ -83,7 +83,7 @@ public class RemoteRpcImplementation implements RpcImplementation, RoutedRpcDefa
                 }
 
                 RpcResponse rpcReply = (RpcResponse)reply;
-                CompositeNode result = XmlUtils.xmlToCompositeNode(rpcReply.getResultCompositeNode());
+                CompositeNode result = RpcPayloadCodec.toRpcOutput(rpcReply.getResultNormalizedNode());
                 listenableFuture.set(RpcResultBuilder.success(result).build());
             }
         };
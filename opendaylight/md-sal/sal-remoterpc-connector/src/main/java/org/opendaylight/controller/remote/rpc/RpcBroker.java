@@ -24,13 +24,14 @@ import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
 import org.opendaylight.controller.remote.rpc.messages.InvokeRpc;
 import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
 import org.opendaylight.controller.remote.rpc.messages.UpdateSchemaContext;
+import org.opendaylight.controller.remote.rpc.registry.RoutingSnapshotHolder;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
 import org.opendaylight.controller.remote.rpc.utils.LatestEntryRoutingLogic;
 import org.opendaylight.controller.remote.rpc.utils.RoutingLogic;
+import org.opendaylight.controller.remote.rpc.utils.RpcPayloadCodec;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 import org.opendaylight.controller.sal.core.api.Broker;
 import org.opendaylight.controller.sal.core.api.Broker.ProviderSession;
-import org.opendaylight.controller.xml.codec.XmlUtils;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcResult;
@@ -56,20 +57,36 @@ public class RpcBroker extends AbstractUntypedActor {
     private static final Logger LOG = LoggerFactory.getLogger(RpcBroker.class);
     private final Broker.ProviderSession brokerSession;
     private final ActorRef rpcRegistry;
+    private final RoutingSnapshotHolder routingSnapshots;
     private SchemaContext schemaContext;
     private final RemoteRpcProviderConfig config;
 
     private RpcBroker(Broker.ProviderSession brokerSession, ActorRef rpcRegistry,
-            SchemaContext schemaContext) {
+            RoutingSnapshotHolder routingSnapshots, SchemaContext schemaContext) {
         this.brokerSession = brokerSession;
         this.rpcRegistry = rpcRegistry;
+        this.routingSnapshots = routingSnapshots;
         this.schemaContext = schemaContext;
         config = new RemoteRpcProviderConfig(getContext().system().settings().config());
     }
 
+    /**
+     * Creates props of a broker looking up routers by sending
+     * {@link RpcRegistry.Messages.FindRouters} to the registry.
+     */
     public static Props props(Broker.ProviderSession brokerSession, ActorRef rpcRegistry,
             SchemaContext schemaContext) {
-        return Props.create(new RpcBrokerCreator(brokerSession, rpcRegistry, schemaContext));
+        return props(brokerSession, rpcRegistry, null, schemaContext);
+    }
+
+    /**
+     * Creates props of a broker looking up routers in routing snapshots published by the registry.
+     *
+     * @param routingSnapshots holder of routing snapshots, null to ask the registry for routers
+     */
+    public static Props props(Broker.ProviderSession brokerSession, ActorRef rpcRegistry,
+            RoutingSnapshotHolder routingSnapshots, SchemaContext schemaContext) {
+        return Props.create(new RpcBrokerCreator(brokerSession, rpcRegistry, routingSnapshots, schemaContext));
     }
 
     @Override
@@ -93,6 +110,17 @@ public class RpcBroker extends AbstractUntypedActor {
         }
         RpcRouter.RouteIdentifier<?,?,?> routeId = new RouteIdentifierImpl(
                 null, msg.getRpc(), msg.getIdentifier());
+
+        if(routingSnapshots != null) {
+            RoutingLogic logic = routingSnapshots.getSnapshot().getRoutingLogic(routeId);
+            if(logic == null) {
+                replyNoRemoteImplementation(msg, getSender(), self());
+            } else {
+                finishInvokeRpc(logic, msg, getSender(), self());
+            }
+            return;
+        }
+
         RpcRegistry.Messages.FindRouters findMsg = new RpcRegistry.Messages.FindRouters(routeId);
 
         scala.concurrent.Future<Object> future = ask(rpcRegistry, findMsg, config.getAskDuration());
@@ -115,28 +143,38 @@ public class RpcBroker extends AbstractUntypedActor {
                 List<Pair<ActorRef, Long>> actorRefList = findReply.getRouterWithUpdateTime();
 
                 if(actorRefList == null || actorRefList.isEmpty()) {
-                    String message = String.format(
-                            "No remote implementation found for rpc %s",  msg.getRpc());
-                    sender.tell(new akka.actor.Status.Failure(new RpcErrorsException(
-                            message, Arrays.asList(RpcResultBuilder.newError(ErrorType.RPC,
-                                    "operation-not-supported", message)))), self);
+                    replyNoRemoteImplementation(msg, sender, self);
                     return;
                 }
 
-                finishInvokeRpc(actorRefList, msg, sender, self);
+                finishInvokeRpc(new LatestEntryRoutingLogic(actorRefList), msg, sender, self);
             }
         };
 
         future.onComplete(onComplete, getContext().dispatcher());
     }
 
-    protected void finishInvokeRpc(final List<Pair<ActorRef, Long>> actorRefList,
-            final InvokeRpc msg, final ActorRef sender, final ActorRef self) {
+    private static void replyNoRemoteImplementation(final InvokeRpc msg, final ActorRef sender,
+            final ActorRef self) {
+        String message = String.format(
+                "No remote implementation found for rpc %s",  msg.getRpc());
+        sender.tell(new akka.actor.Status.Failure(new RpcErrorsException(
+                message, Arrays.asList(RpcResultBuilder.newError(ErrorType.RPC,
+                        "operation-not-supported", message)))), self);
+    }
 
-        RoutingLogic logic = new LatestEntryRoutingLogic(actorRefList);
+    protected void finishInvokeRpc(final RoutingLogic logic,
+            final InvokeRpc msg, final ActorRef sender, final ActorRef self) {
 
-        ExecuteRpc executeMsg = new ExecuteRpc(XmlUtils.inputCompositeNodeToXml(msg.getInput(),
-                schemaContext), msg.getRpc());
+        ExecuteRpc executeMsg;
+        try {
+            executeMsg = new ExecuteRpc(RpcPayloadCodec.inputToNormalizedNode(msg.getRpc(),
+                    msg.getInput(), schemaContext), msg.getRpc());
+        } catch (IllegalArgumentException e) {
+            LOG.error("Failed to normalize input of rpc {}", msg.getRpc(), e);
+            sender.tell(new akka.actor.Status.Failure(e), self);
+            return;
+        }
 
         scala.concurrent.Future<Object> future = ask(logic.select(), executeMsg, config.getAskDuration());
 
@@ -161,8 +199,7 @@ public class RpcBroker extends AbstractUntypedActor {
             LOG.debug("Executing rpc {}", msg.getRpc());
         }
         Future<RpcResult<CompositeNode>> future = brokerSession.rpc(msg.getRpc(),
-                XmlUtils.inputXmlToCompositeNode(msg.getRpc(), msg.getInputCompositeNode(),
-                        schemaContext));
+                RpcPayloadCodec.toRpcInput(msg.getRpc(), msg.getInputNormalizedNode()));
 
         ListenableFuture<RpcResult<CompositeNode>> listenableFuture =
                 JdkFutureAdapters.listenInPoolThread(future);
@@ -174,8 +211,16 @@ public class RpcBroker extends AbstractUntypedActor {
             @Override
             public void onSuccess(RpcResult<CompositeNode> result) {
                 if(result.isSuccessful()) {
-                    sender.tell(new RpcResponse(XmlUtils.outputCompositeNodeToXml(result.getResult(),
-                            schemaContext)), self);
+                    RpcResponse response;
+                    try {
+                        response = new RpcResponse(RpcPayloadCodec.outputToNormalizedNode(msg.getRpc(),
+                                result.getResult(), schemaContext));
+                    } catch (IllegalArgumentException e) {
+                        LOG.error("Failed to normalize output of rpc {}", msg.getRpc(), e);
+                        sender.tell(new akka.actor.Status.Failure(e), self);
+                        return;
+                    }
+                    sender.tell(response, self);
                 } else {
                     String message = String.format("Execution of RPC %s failed",  msg.getRpc());
                     Collection<RpcError> errors = result.getErrors();
@@ -202,18 +247,20 @@ public class RpcBroker extends AbstractUntypedActor {
 
         final Broker.ProviderSession brokerSession;
         final ActorRef rpcRegistry;
+        final RoutingSnapshotHolder routingSnapshots;
         final SchemaContext schemaContext;
 
         RpcBrokerCreator(ProviderSession brokerSession, ActorRef rpcRegistry,
-                SchemaContext schemaContext) {
+                RoutingSnapshotHolder routingSnapshots, SchemaContext schemaContext) {
             this.brokerSession = brokerSession;
             this.rpcRegistry = rpcRegistry;
+            this.routingSnapshots = routingSnapshots;
             this.schemaContext = schemaContext;
         }
 
         @Override
         public RpcBroker create() throws Exception {
-            return new RpcBroker(brokerSession, rpcRegistry, schemaContext);
+            return new RpcBroker(brokerSession, rpcRegistry, routingSnapshots, schemaContext);
         }
     }
 }
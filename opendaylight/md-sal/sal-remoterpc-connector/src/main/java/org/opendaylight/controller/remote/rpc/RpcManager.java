@@ -17,6 +17,7 @@ import akka.japi.Function;
 import java.util.Set;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
 import org.opendaylight.controller.remote.rpc.messages.UpdateSchemaContext;
+import org.opendaylight.controller.remote.rpc.registry.RoutingSnapshotHolder;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
 import org.opendaylight.controller.sal.core.api.Broker;
 import org.opendaylight.controller.sal.core.api.RpcProvisionRegistry;
@@ -67,12 +68,14 @@ public class RpcManager extends AbstractUntypedActor {
   private void createRpcActors() {
     LOG.debug("Create rpc registry and broker actors");
 
+    RoutingSnapshotHolder routingSnapshots = new RoutingSnapshotHolder();
+
     rpcRegistry =
-            getContext().actorOf(Props.create(RpcRegistry.class).
+            getContext().actorOf(RpcRegistry.props(routingSnapshots).
                 withMailbox(config.getMailBoxName()), config.getRpcRegistryName());
 
     rpcBroker =
-            getContext().actorOf(RpcBroker.props(brokerSession, rpcRegistry, schemaContext).
+            getContext().actorOf(RpcBroker.props(brokerSession, rpcRegistry, routingSnapshots, schemaContext).
                 withMailbox(config.getMailBoxName()), config.getRpcBrokerName());
 
     RpcRegistry.Messages.SetLocalRouter localRouter = new RpcRegistry.Messages.SetLocalRouter(rpcBroker);
@@ -9,28 +9,60 @@ package org.opendaylight.controller.remote.rpc.messages;
 
 
 import com.google.common.base.Preconditions;
-import java.io.Serializable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputStreamReader;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeOutputStreamWriter;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
-public class ExecuteRpc implements Serializable {
-    private static final long serialVersionUID = 1128904894827335676L;
+/**
+ * Request to execute a rpc on a remote node. The input is serialized in the binary
+ * {@link NormalizedNode} stream format.
+ */
+public class ExecuteRpc implements Externalizable {
+    private static final long serialVersionUID = 1128904894827335677L;
+
+    private NormalizedNode<?, ?> inputNormalizedNode;
+    private QName rpc;
 
-    private final String inputCompositeNode;
-    private final QName rpc;
+    public ExecuteRpc() {
+    }
 
-    public ExecuteRpc(final String inputCompositeNode, final QName rpc) {
-        Preconditions.checkNotNull(inputCompositeNode, "Composite Node input string should be present");
+    public ExecuteRpc(final NormalizedNode<?, ?> inputNormalizedNode, final QName rpc) {
         Preconditions.checkNotNull(rpc, "rpc Qname should not be null");
 
-        this.inputCompositeNode = inputCompositeNode;
+        this.inputNormalizedNode = inputNormalizedNode;
         this.rpc = rpc;
     }
 
-    public String getInputCompositeNode() {
-        return inputCompositeNode;
+    /**
+     * @return normalized input container, null if the rpc has no input
+     */
+    public NormalizedNode<?, ?> getInputNormalizedNode() {
+        return inputNormalizedNode;
     }
 
     public QName getRpc() {
         return rpc;
     }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeObject(rpc);
+        out.writeBoolean(inputNormalizedNode != null);
+        if(inputNormalizedNode != null) {
+            new NormalizedNodeOutputStreamWriter(out).writeNormalizedNode(inputNormalizedNode);
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        rpc = (QName) in.readObject();
+        if(in.readBoolean()) {
+            inputNormalizedNode = new NormalizedNodeInputStreamReader(in).readNormalizedNode();
+        }
+    }
 }
@@ -7,18 +7,49 @@
  */
 package org.opendaylight.controller.remote.rpc.messages;
 
-import java.io.Serializable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputStreamReader;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeOutputStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
-public class RpcResponse implements Serializable {
-    private static final long serialVersionUID = -4211279498688989245L;
+/**
+ * Result of a rpc executed on a remote node. The output is serialized in the binary
+ * {@link NormalizedNode} stream format.
+ */
+public class RpcResponse implements Externalizable {
+    private static final long serialVersionUID = -4211279498688989244L;
+
+    private NormalizedNode<?, ?> resultNormalizedNode;
+
+    public RpcResponse() {
+    }
 
-    private final String resultCompositeNode;
+    public RpcResponse(final NormalizedNode<?, ?> resultNormalizedNode) {
+        this.resultNormalizedNode = resultNormalizedNode;
+    }
+
+    /**
+     * @return normalized output container, null if the rpc has no output
+     */
+    public NormalizedNode<?, ?> getResultNormalizedNode() {
+        return resultNormalizedNode;
+    }
 
-    public RpcResponse(final String resultCompositeNode) {
-        this.resultCompositeNode = resultCompositeNode;
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeBoolean(resultNormalizedNode != null);
+        if(resultNormalizedNode != null) {
+            new NormalizedNodeOutputStreamWriter(out).writeNormalizedNode(resultNormalizedNode);
+        }
     }
 
-    public String getResultCompositeNode() {
-        return resultCompositeNode;
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        if(in.readBoolean()) {
+            resultNormalizedNode = new NormalizedNodeInputStreamReader(in).readNormalizedNode();
+        }
     }
 }
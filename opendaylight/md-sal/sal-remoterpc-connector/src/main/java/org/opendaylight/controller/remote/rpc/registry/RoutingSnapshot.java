@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendaylight.controller.remote.rpc.utils.LatestEntryRoutingLogic;
+import org.opendaylight.controller.remote.rpc.utils.RoutingLogic;
+import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
+
+/**
+ * Immutable view of the routers registered in the cluster for every route, as known by {@link RpcRegistry}
+ * at one point in time. Routes are indexed by rpc type first, so an update of a few routes copies only the
+ * routes of the affected rpc types and the rest of the snapshot is shared with the previous version.
+ */
+public final class RoutingSnapshot {
+
+    static final RoutingSnapshot EMPTY = new RoutingSnapshot(0,
+            Collections.<Object, Map<RouteIdentifier<?, ?, ?>, RoutingLogic>>emptyMap());
+
+    private final long version;
+    private final Map<Object, Map<RouteIdentifier<?, ?, ?>, RoutingLogic>> routesByType;
+
+    private RoutingSnapshot(long version, Map<Object, Map<RouteIdentifier<?, ?, ?>, RoutingLogic>> routesByType) {
+        this.version = version;
+        this.routesByType = routesByType;
+    }
+
+    /**
+     * @return version of the snapshot, incremented every time the registry publishes a change
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Finds the routing logic selecting a router for the given route.
+     *
+     * @param routeId route of the rpc
+     * @return routing logic, null if no router is registered for the route
+     */
+    public RoutingLogic getRoutingLogic(RouteIdentifier<?, ?, ?> routeId) {
+        Map<RouteIdentifier<?, ?, ?>, RoutingLogic> routes = routesByType.get(routeId.getType());
+        return routes == null ? null : routes.get(routeId);
+    }
+
+    /**
+     * Creates next version of the snapshot.
+     *
+     * @param changedRoutes routers for every changed route, an empty list if the route has no router anymore
+     * @return new snapshot, this snapshot is left unchanged
+     */
+    RoutingSnapshot update(Map<RouteIdentifier<?, ?, ?>, List<Pair<ActorRef, Long>>> changedRoutes) {
+        Map<Object, Map<RouteIdentifier<?, ?, ?>, RoutingLogic>> newRoutesByType = new HashMap<>(routesByType);
+        Map<Object, Map<RouteIdentifier<?, ?, ?>, RoutingLogic>> copiedTypes = new HashMap<>();
+
+        for(Map.Entry<RouteIdentifier<?, ?, ?>, List<Pair<ActorRef, Long>>> entry : changedRoutes.entrySet()) {
+            Object type = entry.getKey().getType();
+            Map<RouteIdentifier<?, ?, ?>, RoutingLogic> routes = copiedTypes.get(type);
+            if(routes == null) {
+                Map<RouteIdentifier<?, ?, ?>, RoutingLogic> previous = routesByType.get(type);
+                routes = previous == null ? new HashMap<RouteIdentifier<?, ?, ?>, RoutingLogic>() :
+                    new HashMap<>(previous);
+                copiedTypes.put(type, routes);
+            }
+
+            if(entry.getValue().isEmpty()) {
+                routes.remove(entry.getKey());
+            } else {
+                routes.put(entry.getKey(), new LatestEntryRoutingLogic(entry.getValue()));
+            }
+        }
+
+        for(Map.Entry<Object, Map<RouteIdentifier<?, ?, ?>, RoutingLogic>> entry : copiedTypes.entrySet()) {
+            if(entry.getValue().isEmpty()) {
+                newRoutesByType.remove(entry.getKey());
+            } else {
+                newRoutesByType.put(entry.getKey(), Collections.unmodifiableMap(entry.getValue()));
+            }
+        }
+
+        return new RoutingSnapshot(version + 1, Collections.unmodifiableMap(newRoutesByType));
+    }
+
+    @Override
+    public String toString() {
+        return "RoutingSnapshot{" +
+                "version=" + version +
+                ", routesByType=" + routesByType +
+                '}';
+    }
+}
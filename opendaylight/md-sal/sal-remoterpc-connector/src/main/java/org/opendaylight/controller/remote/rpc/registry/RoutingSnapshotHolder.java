@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+/**
+ * Holds the latest {@link RoutingSnapshot} published by {@link RpcRegistry}. The snapshot is written by the
+ * registry actor only and can be read by any thread without sending a message to the registry.
+ */
+public final class RoutingSnapshotHolder {
+
+    private volatile RoutingSnapshot snapshot = RoutingSnapshot.EMPTY;
+
+    public RoutingSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    void publish(RoutingSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+}
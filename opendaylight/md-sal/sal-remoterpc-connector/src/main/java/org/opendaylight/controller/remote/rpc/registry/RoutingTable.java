@@ -11,8 +11,10 @@ import akka.actor.ActorRef;
 import akka.japi.Option;
 import akka.japi.Pair;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Copier;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 
@@ -45,6 +47,10 @@ public class RoutingTable implements Copier<RoutingTable>, Serializable {
         table.put(routeId, System.currentTimeMillis());
     }
 
+    void addRoute(RpcRouter.RouteIdentifier<?,?,?> routeId, Long updatedTime){
+        table.put(routeId, updatedTime);
+    }
+
     public void removeRoute(RpcRouter.RouteIdentifier<?, ?, ?> routeId){
         table.remove(routeId);
     }
@@ -53,6 +59,10 @@ public class RoutingTable implements Copier<RoutingTable>, Serializable {
         return table.containsKey(routeId);
     }
 
+    public Set<RpcRouter.RouteIdentifier<?, ?, ?>> getRoutes() {
+        return Collections.unmodifiableSet(table.keySet());
+    }
+
     public boolean isEmpty(){
         return table.isEmpty();
     }
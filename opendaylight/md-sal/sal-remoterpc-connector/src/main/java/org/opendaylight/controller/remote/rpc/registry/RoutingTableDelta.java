@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketChange;
+import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
+
+/**
+ * Routes added to and removed from a {@link RoutingTable}. Added routes carry their update time, so every
+ * node applying the change ends up with the same routing table.
+ */
+public final class RoutingTableDelta implements BucketChange<RoutingTable> {
+    private static final long serialVersionUID = -6474359316233766364L;
+
+    private final HashMap<RouteIdentifier<?, ?, ?>, Long> addedRoutes;
+    private final HashSet<RouteIdentifier<?, ?, ?>> removedRoutes;
+
+    private RoutingTableDelta(HashMap<RouteIdentifier<?, ?, ?>, Long> addedRoutes,
+            HashSet<RouteIdentifier<?, ?, ?>> removedRoutes) {
+        this.addedRoutes = addedRoutes;
+        this.removedRoutes = removedRoutes;
+    }
+
+    /**
+     * Creates change adding the routes with the current time as their update time.
+     */
+    public static RoutingTableDelta addRoutes(Collection<RouteIdentifier<?, ?, ?>> routeIds) {
+        Long updatedTime = System.currentTimeMillis();
+        HashMap<RouteIdentifier<?, ?, ?>, Long> added = new HashMap<>();
+        for (RouteIdentifier<?, ?, ?> routeId : routeIds) {
+            added.put(routeId, updatedTime);
+        }
+        return new RoutingTableDelta(added, new HashSet<RouteIdentifier<?, ?, ?>>());
+    }
+
+    /**
+     * Creates change removing the routes.
+     */
+    public static RoutingTableDelta removeRoutes(Collection<RouteIdentifier<?, ?, ?>> routeIds) {
+        return new RoutingTableDelta(new HashMap<RouteIdentifier<?, ?, ?>, Long>(),
+                new HashSet<RouteIdentifier<?, ?, ?>>(routeIds));
+    }
+
+    @Override
+    public void applyTo(RoutingTable table) {
+        for (RouteIdentifier<?, ?, ?> routeId : removedRoutes) {
+            table.removeRoute(routeId);
+        }
+        for (Map.Entry<RouteIdentifier<?, ?, ?>, Long> entry : addedRoutes.entrySet()) {
+            table.addRoute(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public int size() {
+        return addedRoutes.size() + removedRoutes.size();
+    }
+
+    /**
+     * @return routes added or removed by the change
+     */
+    public Set<RouteIdentifier<?, ?, ?>> getChangedRoutes() {
+        Set<RouteIdentifier<?, ?, ?>> changed = new HashSet<>(removedRoutes);
+        changed.addAll(addedRoutes.keySet());
+        return changed;
+    }
+
+    @Override
+    public String toString() {
+        return "RoutingTableDelta{" +
+                "addedRoutes=" + addedRoutes +
+                ", removedRoutes=" + removedRoutes +
+                '}';
+    }
+}
@@ -8,16 +8,23 @@
 package org.opendaylight.controller.remote.rpc.registry;
 
 import akka.actor.ActorRef;
+import akka.actor.Address;
+import akka.actor.Props;
 import akka.japi.Option;
 import akka.japi.Pair;
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.AddOrUpdateRoutes;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRouters;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.RemoveRoutes;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.SetLocalRouter;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketChange;
 import org.opendaylight.controller.remote.rpc.registry.gossip.BucketStore;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
@@ -27,13 +34,27 @@ import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
  * <p/>
  * It uses {@link org.opendaylight.controller.remote.rpc.registry.gossip.BucketStore} to maintain this
  * cluster wide information.
+ * <p/>
+ * Every change of the buckets is also published as a {@link RoutingSnapshot} to a {@link RoutingSnapshotHolder},
+ * so the routers can be looked up without sending {@link Messages.FindRouters} to the registry.
  */
 public class RpcRegistry extends BucketStore<RoutingTable> {
 
+    private final RoutingSnapshotHolder snapshotHolder;
+
     public RpcRegistry() {
+        this(new RoutingSnapshotHolder());
+    }
+
+    public RpcRegistry(RoutingSnapshotHolder snapshotHolder) {
+        this.snapshotHolder = Preconditions.checkNotNull(snapshotHolder);
         getLocalBucket().setData(new RoutingTable());
     }
 
+    public static Props props(RoutingSnapshotHolder snapshotHolder) {
+        return Props.create(RpcRegistry.class, snapshotHolder);
+    }
+
     @Override
     protected void handleReceive(Object message) throws Exception {
         //TODO: if sender is remote, reject message
@@ -57,7 +78,10 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
      * @param message contains {@link akka.actor.ActorRef} for rpc broker
      */
     private void receiveSetLocalRouter(SetLocalRouter message) {
-        getLocalBucket().getData().setRouter(message.getRouter());
+        RoutingTable table = getLocalBucket().getData().copy();
+        table.setRouter(message.getRouter());
+
+        updateLocalBucket(table);
     }
 
     /**
@@ -67,12 +91,7 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
 
         log.debug("AddOrUpdateRoutes: {}", msg.getRouteIdentifiers());
 
-        RoutingTable table = getLocalBucket().getData().copy();
-        for(RpcRouter.RouteIdentifier<?, ?, ?> routeId : msg.getRouteIdentifiers()) {
-            table.addRoute(routeId);
-        }
-
-        updateLocalBucket(table);
+        changeLocalBucket(RoutingTableDelta.addRoutes(msg.getRouteIdentifiers()));
     }
 
     /**
@@ -80,12 +99,7 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
      */
     private void receiveRemoveRoutes(RemoveRoutes msg) {
 
-        RoutingTable table = getLocalBucket().getData().copy();
-        for (RpcRouter.RouteIdentifier<?, ?, ?> routeId : msg.getRouteIdentifiers()) {
-            table.removeRoute(routeId);
-        }
-
-        updateLocalBucket(table);
+        changeLocalBucket(RoutingTableDelta.removeRoutes(msg.getRouteIdentifiers()));
     }
 
     /**
@@ -94,16 +108,19 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
      * @param msg
      */
     private void receiveGetRouter(FindRouters msg) {
+        getSender().tell(new Messages.FindRoutersReply(findRouters(msg.getRouteIdentifier())), getSelf());
+    }
+
+    private List<Pair<ActorRef, Long>> findRouters(RouteIdentifier<?, ?, ?> routeId) {
         List<Pair<ActorRef, Long>> routers = new ArrayList<>();
 
-        RouteIdentifier<?, ?, ?> routeId = msg.getRouteIdentifier();
         findRoutes(getLocalBucket().getData(), routeId, routers);
 
         for(Bucket<RoutingTable> bucket : getRemoteBuckets().values()) {
             findRoutes(bucket.getData(), routeId, routers);
         }
 
-        getSender().tell(new Messages.FindRoutersReply(routers), getSelf());
+        return routers;
     }
 
     private void findRoutes(RoutingTable table, RpcRouter.RouteIdentifier<?, ?, ?> routeId,
@@ -118,6 +135,94 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
         }
     }
 
+    /**
+     * Publishes a new routing snapshot, in which only the routes changed in the updated buckets are looked up
+     * again.
+     *
+     * @param previousBuckets buckets replaced by the update
+     */
+    @Override
+    protected void onBucketsUpdated(Map<Address, Bucket<RoutingTable>> previousBuckets) {
+        Set<RouteIdentifier<?, ?, ?>> changed = new HashSet<>();
+        for(Map.Entry<Address, Bucket<RoutingTable>> entry : previousBuckets.entrySet()) {
+            Bucket<RoutingTable> previous = entry.getValue();
+            collectChangedRoutes(previous == null ? null : previous.getData(), getRoutingTable(entry.getKey()),
+                    changed);
+        }
+
+        publishChangedRoutes(changed);
+    }
+
+    /**
+     * Publishes a new routing snapshot, in which only the routes added or removed by the changes are looked up
+     * again.
+     *
+     * @param address node address
+     * @param changes changes applied to the routing table of the node
+     */
+    @Override
+    protected void onBucketChanged(Address address, List<BucketChange<RoutingTable>> changes) {
+        Set<RouteIdentifier<?, ?, ?>> changed = new HashSet<>();
+        for(BucketChange<RoutingTable> change : changes) {
+            // routing tables are only changed by RoutingTableDelta
+            changed.addAll(((RoutingTableDelta) change).getChangedRoutes());
+        }
+
+        publishChangedRoutes(changed);
+    }
+
+    private void publishChangedRoutes(Set<RouteIdentifier<?, ?, ?>> changed) {
+        if(changed.isEmpty()) {
+            return;
+        }
+
+        Map<RouteIdentifier<?, ?, ?>, List<Pair<ActorRef, Long>>> changedRoutes = new HashMap<>();
+        for(RouteIdentifier<?, ?, ?> routeId : changed) {
+            changedRoutes.put(routeId, findRouters(routeId));
+        }
+
+        RoutingSnapshot snapshot = snapshotHolder.getSnapshot().update(changedRoutes);
+        snapshotHolder.publish(snapshot);
+
+        log.debug("Published routing snapshot version {} with {} changed routes", snapshot.getVersion(),
+                changedRoutes.size());
+    }
+
+    private RoutingTable getRoutingTable(Address address) {
+        Bucket<RoutingTable> bucket = address.equals(getSelfAddress()) ? getLocalBucket() :
+            getRemoteBuckets().get(address);
+        return bucket == null ? null : bucket.getData();
+    }
+
+    private static void collectChangedRoutes(RoutingTable previous, RoutingTable current,
+            Set<RouteIdentifier<?, ?, ?>> changed) {
+        if(previous == null || current == null || previous.getRouter() != current.getRouter()) {
+            // a new router changes every route of the table
+            if(previous != null) {
+                changed.addAll(previous.getRoutes());
+            }
+            if(current != null) {
+                changed.addAll(current.getRoutes());
+            }
+            return;
+        }
+
+        for(RouteIdentifier<?, ?, ?> routeId : previous.getRoutes()) {
+            if(!current.contains(routeId)) {
+                changed.add(routeId);
+            }
+        }
+
+        for(RouteIdentifier<?, ?, ?> routeId : current.getRoutes()) {
+            Option<Pair<ActorRef, Long>> previousRouter = previous.getRouterFor(routeId);
+            Option<Pair<ActorRef, Long>> currentRouter = current.getRouterFor(routeId);
+            if(previousRouter.isEmpty() != currentRouter.isEmpty() || (!currentRouter.isEmpty() &&
+                    !previousRouter.get().second().equals(currentRouter.get().second()))) {
+                changed.add(routeId);
+            }
+        }
+    }
+
     /**
      * All messages used by the RpcRegistry
      */
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import java.io.Serializable;
+
+/**
+ * Change of the data in a {@link Bucket}. Changes are sent to a remote node instead of the whole bucket
+ * when the remote node already has the version of the bucket the change was made to.
+ * Implementations must be immutable, because the same change is sent to many nodes.
+ */
+public interface BucketChange<T> extends Serializable {
+
+    /**
+     * Applies the change to the data in place.
+     *
+     * @param data data of the bucket
+     */
+    public void applyTo(T data);
+
+    /**
+     * @return number of entries changed
+     */
+    public int size();
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Changes which turn a version of a {@link Bucket} into a newer version.
+ */
+public final class BucketDelta<T> implements Serializable {
+    private static final long serialVersionUID = -2707379744535390571L;
+
+    private final Long fromVersion;
+    private final Long toVersion;
+    private final List<BucketChange<T>> changes;
+    private final int size;
+
+    public BucketDelta(Long fromVersion, Long toVersion, List<BucketChange<T>> changes) {
+        Preconditions.checkArgument(fromVersion != null && toVersion != null, "Versions must not be null");
+        Preconditions.checkArgument(changes != null, "Changes must not be null");
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.changes = new ArrayList<>(changes);
+
+        int changed = 0;
+        for (BucketChange<T> change : changes) {
+            changed += change.size();
+        }
+        this.size = changed;
+    }
+
+    /**
+     * @return version of the bucket the changes apply to
+     */
+    public Long getFromVersion() {
+        return fromVersion;
+    }
+
+    /**
+     * @return version of the bucket after the changes are applied
+     */
+    public Long getToVersion() {
+        return toVersion;
+    }
+
+    public List<BucketChange<T>> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * @return number of entries changed by all changes
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "BucketDelta{" +
+                "fromVersion=" + fromVersion +
+                ", toVersion=" + toVersion +
+                ", changes=" + changes +
+                '}';
+    }
+}
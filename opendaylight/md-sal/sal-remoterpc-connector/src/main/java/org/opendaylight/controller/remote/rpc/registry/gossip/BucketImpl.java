@@ -28,9 +28,22 @@ public class BucketImpl<T extends Copier<T>> implements Bucket<T>, Serializable
         this.data = other.getData();
     }
 
+    public BucketImpl(Long version, T data) {
+        this.version = version;
+        this.data = data;
+    }
+
     public void setData(T data) {
         this.data = data;
-        this.version = System.currentTimeMillis()+1;
+        incrementVersion();
+    }
+
+    /**
+     * Moves the bucket to a new version after its data was changed in place. Versions of a bucket are
+     * strictly increasing, even if the data changes more than once in a millisecond.
+     */
+    void incrementVersion() {
+        this.version = Math.max(System.currentTimeMillis() + 1, version + 1);
     }
 
     @Override
@@ -14,13 +14,20 @@ import akka.actor.Address;
 import akka.actor.Props;
 import akka.cluster.ClusterActorRefProvider;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActorWithMetering;
 import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetAllBuckets;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetAllBucketsReply;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketUpdates;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketUpdatesReply;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersions;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersionsReply;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketsByMembers;
@@ -37,12 +44,22 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Buckets are sync'ed across nodes using Gossip protocol (http://en.wikipedia.org/wiki/Gossip_protocol)<p>
  * This store uses a {@link org.opendaylight.controller.remote.rpc.registry.gossip.Gossiper}.
+ * <p>
+ * Buckets can be changed in place by {@link BucketChange}s. The recent changes of every bucket are kept in
+ * a journal, so a node which already has an older version of the bucket is sent only the changes since
+ * that version as a {@link BucketDelta}. The journal is compacted by dropping its oldest changes once it
+ * holds more than {@link #MAX_JOURNAL_SIZE} changed entries; nodes further behind are sent the whole bucket.
  *
  */
 public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMetering {
 
     private static final Long NO_VERSION = -1L;
 
+    /**
+     * Maximum number of changed entries kept in the journal of a bucket
+     */
+    static final int MAX_JOURNAL_SIZE = 10000;
+
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     /**
@@ -60,6 +77,11 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      */
     private final Map<Address, Long> versions = new HashMap<>();
 
+    /**
+     * Recent changes for every bucket which was changed in place since it was last replaced
+     */
+    private final Map<Address, DeltaJournal<T>> journals = new HashMap<>();
+
     /**
      * Cluster address for this node
      */
@@ -99,10 +121,13 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
             receiveGetAllBuckets();
         } else if (message instanceof GetBucketsByMembers) {
             receiveGetBucketsByMembers(((GetBucketsByMembers) message).getMembers());
+        } else if (message instanceof GetBucketUpdates) {
+            receiveGetBucketUpdates(((GetBucketUpdates) message).getKnownVersions());
         } else if (message instanceof GetBucketVersions) {
             receiveGetBucketVersions();
         } else if (message instanceof UpdateRemoteBuckets) {
             receiveUpdateRemoteBuckets(((UpdateRemoteBuckets) message).getBuckets());
+            receiveUpdateRemoteBucketDeltas(((UpdateRemoteBuckets) message).getDeltas());
         } else {
             if(log.isDebugEnabled()) {
                 log.debug("Unhandled message [{}]", message);
@@ -129,10 +154,12 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
         Map<Address, Bucket> all = new HashMap<>(remoteBuckets.size() + 1);
 
         //first add the local bucket
-        all.put(selfAddress, new BucketImpl<>(localBucket));
+        all.put(selfAddress, copyOf(localBucket));
 
         //then get all remote buckets
-        all.putAll(remoteBuckets);
+        for (Map.Entry<Address, Bucket<T>> entry : remoteBuckets.entrySet()) {
+            all.put(entry.getKey(), copyOf(entry.getValue()));
+        }
 
         return all;
     }
@@ -161,19 +188,65 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
 
         //first add the local bucket if asked
         if (members.contains(selfAddress)) {
-            buckets.put(selfAddress, new BucketImpl<>(localBucket));
+            buckets.put(selfAddress, copyOf(localBucket));
         }
 
         //then get buckets for requested remote nodes
         for (Address address : members){
             if (remoteBuckets.containsKey(address)) {
-                buckets.put(address, remoteBuckets.get(address));
+                buckets.put(address, copyOf(remoteBuckets.get(address)));
             }
         }
 
         return buckets;
     }
 
+    /**
+     * Returns updates of the buckets newer than the versions known by the requester
+     *
+     * @param knownVersions versions of the buckets known by the requester
+     */
+    void receiveGetBucketUpdates(Map<Address, Long> knownVersions){
+        final ActorRef sender = getSender();
+        sender.tell(getBucketUpdates(knownVersions), getSelf());
+    }
+
+    /**
+     * Helper to collect updates of requested buckets. The changes since the known version are collected from
+     * the journal of a bucket, if the journal still has them. Otherwise a copy of the whole bucket is collected.
+     *
+     * @param knownVersions versions of the buckets known by the requester, null for an unknown bucket
+     * @return deltas and buckets newer than the known versions
+     */
+    @SuppressWarnings("rawtypes")
+    GetBucketUpdatesReply getBucketUpdates(Map<Address, Long> knownVersions) {
+        Map<Address, Bucket> buckets = new HashMap<>();
+        Map<Address, BucketDelta> deltas = new HashMap<>();
+
+        for (Map.Entry<Address, Long> entry : knownVersions.entrySet()) {
+            Address address = entry.getKey();
+            Bucket<T> bucket = address.equals(selfAddress) ? localBucket : remoteBuckets.get(address);
+            if (bucket == null) {
+                continue;
+            }
+
+            Long knownVersion = entry.getValue();
+            if (knownVersion != null && knownVersion.longValue() >= bucket.getVersion().longValue()) {
+                continue; //requester is up to date
+            }
+
+            DeltaJournal<T> journal = journals.get(address);
+            BucketDelta<T> delta = knownVersion == null || journal == null ? null : journal.since(knownVersion);
+            if (delta != null) {
+                deltas.put(address, delta);
+            } else {
+                buckets.put(address, copyOf(bucket));
+            }
+        }
+
+        return new GetBucketUpdatesReply(buckets, deltas);
+    }
+
     /**
      * Returns versions for all buckets known
      */
@@ -200,6 +273,7 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
         //Remote cant update self's bucket
         receivedBuckets.remove(selfAddress);
 
+        Map<Address, Bucket<T>> previousBuckets = new HashMap<>();
         for (Map.Entry<Address, Bucket> entry : receivedBuckets.entrySet()){
 
             Long localVersion = versions.get(entry.getKey());
@@ -220,23 +294,115 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
 
             //update only if remote version is newer
             if ( remoteVersion.longValue() > localVersion.longValue() ) {
-                remoteBuckets.put(entry.getKey(), receivedBucket);
+                previousBuckets.put(entry.getKey(), remoteBuckets.put(entry.getKey(), receivedBucket));
                 versions.put(entry.getKey(), remoteVersion);
+                journals.remove(entry.getKey());
             }
         }
 
+        if (!previousBuckets.isEmpty()) {
+            onBucketsUpdated(previousBuckets);
+        }
+
         if(log.isDebugEnabled()) {
             log.debug("State after update - Local Bucket [{}], Remote Buckets [{}]", localBucket, remoteBuckets);
         }
     }
 
+    /**
+     * Applies received deltas to local copies of remote buckets. A delta is applied only if it was made to
+     * the version of the bucket this node has; other deltas are ignored and the bucket is synced by a later
+     * gossip round.
+     *
+     * @param receivedDeltas deltas sent by remote
+     *                       {@link org.opendaylight.controller.remote.rpc.registry.gossip.Gossiper}
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void receiveUpdateRemoteBucketDeltas(Map<Address, BucketDelta> receivedDeltas){
+        if (receivedDeltas == null || receivedDeltas.isEmpty()) {
+            return; //nothing to do
+        }
+
+        for (Map.Entry<Address, BucketDelta> entry : receivedDeltas.entrySet()){
+            Address address = entry.getKey();
+            BucketDelta<T> delta = entry.getValue();
+
+            //Remote cant update self's bucket
+            if (delta == null || address.equals(selfAddress)) {
+                continue;
+            }
+
+            Bucket<T> bucket = remoteBuckets.get(address);
+            if (bucket == null || bucket.getData() == null ||
+                    !bucket.getVersion().equals(delta.getFromVersion())) {
+                log.debug("{}: Ignoring delta {} for bucket {} of {}", selfAddress, delta, bucket, address);
+                continue;
+            }
+
+            for (BucketChange<T> change : delta.getChanges()) {
+                change.applyTo(bucket.getData());
+            }
+            remoteBuckets.put(address, new BucketImpl<>(delta.getToVersion(), bucket.getData()));
+            versions.put(address, delta.getToVersion());
+            journalFor(address).append(delta);
+
+            onBucketChanged(address, delta.getChanges());
+        }
+    }
+
     protected BucketImpl<T> getLocalBucket() {
         return localBucket;
     }
 
+    /**
+     * Replaces data of the local bucket. Remote nodes are sent the whole bucket on the next gossip round.
+     *
+     * @param data new data of the bucket, not changed by the store afterwards
+     */
     protected void updateLocalBucket(T data) {
+        Bucket<T> previousBucket = new BucketImpl<>(localBucket);
         localBucket.setData(data);
         versions.put(selfAddress, localBucket.getVersion());
+        journals.remove(selfAddress);
+        onBucketsUpdated(Collections.singletonMap(selfAddress, previousBucket));
+    }
+
+    /**
+     * Changes data of the local bucket in place. Remote nodes having the previous version of the bucket are
+     * sent only the change on the next gossip round.
+     *
+     * @param change change of the data
+     */
+    protected void changeLocalBucket(BucketChange<T> change) {
+        Long previousVersion = localBucket.getVersion();
+        change.applyTo(localBucket.getData());
+        localBucket.incrementVersion();
+        versions.put(selfAddress, localBucket.getVersion());
+        journalFor(selfAddress).append(new BucketDelta<>(previousVersion, localBucket.getVersion(),
+                Collections.singletonList(change)));
+        onBucketChanged(selfAddress, Collections.singletonList(change));
+    }
+
+    /**
+     * Invoked after buckets of some nodes were replaced by newer versions. The new buckets are already
+     * available through {@link #getLocalBucket()} and {@link #getRemoteBuckets()}.
+     *
+     * @param previousBuckets replaced buckets by node address, the value is null if the node was not known before
+     */
+    protected void onBucketsUpdated(Map<Address, Bucket<T>> previousBuckets) {
+    }
+
+    /**
+     * Invoked after changes were applied in place to the bucket of a node.
+     *
+     * @param address node address
+     * @param changes changes applied to the data of the bucket
+     */
+    protected void onBucketChanged(Address address, List<BucketChange<T>> changes) {
+    }
+
+    protected Address getSelfAddress() {
+        return selfAddress;
     }
 
     protected Map<Address, Bucket<T>> getRemoteBuckets() {
@@ -247,4 +413,60 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
     Map<Address, Long> getVersions() {
         return versions;
     }
+
+    private DeltaJournal<T> journalFor(Address address) {
+        DeltaJournal<T> journal = journals.get(address);
+        if (journal == null) {
+            journal = new DeltaJournal<>();
+            journals.put(address, journal);
+        }
+        return journal;
+    }
+
+    /**
+     * Data of buckets is changed in place, so buckets leaving the store are copied
+     */
+    private static <T extends Copier<T>> Bucket<T> copyOf(Bucket<T> bucket) {
+        T data = bucket.getData();
+        return new BucketImpl<>(bucket.getVersion(), data == null ? null : data.copy());
+    }
+
+    /**
+     * Chain of the recent deltas of a bucket, the last one ending at the current version of the bucket
+     */
+    private static final class DeltaJournal<T> {
+        private final Deque<BucketDelta<T>> deltas = new ArrayDeque<>();
+        private int size;
+
+        void append(BucketDelta<T> delta) {
+            deltas.addLast(delta);
+            size += delta.size();
+
+            //compact by dropping the oldest deltas, their changes are part of the whole bucket
+            while (size > MAX_JOURNAL_SIZE && !deltas.isEmpty()) {
+                size -= deltas.removeFirst().size();
+            }
+        }
+
+        /**
+         * @return all changes made after the version, null if the journal does not reach back to it
+         */
+        BucketDelta<T> since(Long version) {
+            List<BucketChange<T>> changes = null;
+            for (BucketDelta<T> delta : deltas) {
+                if (changes == null) {
+                    if (!delta.getFromVersion().equals(version)) {
+                        continue;
+                    }
+                    changes = new ArrayList<>();
+                }
+                changes.addAll(delta.getChanges());
+            }
+
+            if (changes == null) {
+                return null;
+            }
+            return new BucketDelta<T>(version, deltas.getLast().getToVersion(), changes);
+        }
+    }
 }
@@ -19,6 +19,7 @@ import akka.cluster.Member;
 import akka.dispatch.Mapper;
 import akka.pattern.Patterns;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,10 +28,10 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActorWithMetering;
 import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketUpdates;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketUpdatesReply;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersions;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersionsReply;
-import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketsByMembers;
-import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketsByMembersReply;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.UpdateRemoteBuckets;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipEnvelope;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipStatus;
@@ -49,10 +50,12 @@ import scala.concurrent.duration.FiniteDuration;
  * <p/>
  * When bucket versions are received from a remote gossiper, it is compared
  * with bucket store's bucket versions. Which ever buckets are newer
- * locally, are sent to remote gossiper. If any bucket is older in bucket store,
+ * locally, are sent to remote gossiper. A bucket is sent as the delta since the
+ * version known by the remote gossiper, if bucket store still has the changes,
+ * or as a whole otherwise. If any bucket is older in bucket store,
  * a gossip status is sent to remote gossiper so that it can send the newer buckets.
  * <p/>
- * When a bucket is received from a remote gossiper, its sent to the bucket store
+ * When a bucket or a delta is received from a remote gossiper, its sent to the bucket store
  * for update.
  *
  */
@@ -257,31 +260,33 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
             return;
         }
 
-        updateRemoteBuckets(envelope.getBuckets());
+        updateRemoteBuckets(envelope.getBuckets(), envelope.getDeltas());
 
     }
 
     /**
-     * Helper to send received buckets to bucket store
+     * Helper to send received buckets and deltas to bucket store
      *
      * @param buckets
+     * @param deltas
      */
-    void updateRemoteBuckets(Map<Address, Bucket> buckets) {
+    void updateRemoteBuckets(Map<Address, Bucket> buckets, Map<Address, BucketDelta> deltas) {
 
-        UpdateRemoteBuckets updateRemoteBuckets = new UpdateRemoteBuckets(buckets);
+        UpdateRemoteBuckets updateRemoteBuckets = new UpdateRemoteBuckets(buckets, deltas);
         getContext().parent().tell(updateRemoteBuckets, getSelf());
     }
 
     /**
-     * Gets the buckets from bucket store for the given node addresses and sends them to remote gossiper
+     * Gets the updates of buckets from bucket store for the given node addresses and sends them to remote gossiper
      *
-     * @param remote     remote node to send Buckets to
-     * @param addresses  node addresses whose buckets needs to be sent
+     * @param remote          remote node to send Buckets to
+     * @param remoteVersions  versions known by remote node for node addresses whose buckets needs to be sent,
+     *                        null if remote node does not have the bucket
      */
-    void sendGossipTo(final ActorRef remote, final Set<Address> addresses){
+    void sendGossipTo(final ActorRef remote, final Map<Address, Long> remoteVersions){
 
         Future<Object> futureReply =
-                Patterns.ask(getContext().parent(), new GetBucketsByMembers(addresses), config.getAskDuration());
+                Patterns.ask(getContext().parent(), new GetBucketUpdates(remoteVersions), config.getAskDuration());
         futureReply.map(getMapperToSendGossip(remote), getContext().dispatcher());
     }
 
@@ -403,7 +408,11 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
                     }
 
                     if (!localIsNewer.isEmpty()) {
-                        sendGossipTo(sender, localIsNewer);//send newer buckets to remote
+                        Map<Address, Long> newerRemoteVersions = new HashMap<>();
+                        for (Address address : localIsNewer) {
+                            newerRemoteVersions.put(address, remoteVersions.get(address));
+                        }
+                        sendGossipTo(sender, newerRemoteVersions);//send newer buckets to remote
                     }
 
                 }
@@ -414,8 +423,9 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
 
     /**
      * Processes the message from {@link org.opendaylight.controller.remote.rpc.registry.gossip.BucketStore}
-     * that contains {@link org.opendaylight.controller.remote.rpc.registry.gossip.Bucket}.
-     * These buckets are sent to a remote member encapsulated in
+     * that contains {@link org.opendaylight.controller.remote.rpc.registry.gossip.Bucket}s and
+     * {@link org.opendaylight.controller.remote.rpc.registry.gossip.BucketDelta}s.
+     * These are sent to a remote member encapsulated in
      * {@link org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipEnvelope}
      *
      * @param sender the remote member that sent
@@ -429,12 +439,14 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
         return new Mapper<Object, Void>() {
             @Override
             public Void apply(Object msg) {
-                if (msg instanceof GetBucketsByMembersReply) {
-                    Map<Address, Bucket> buckets = ((GetBucketsByMembersReply) msg).getBuckets();
+                if (msg instanceof GetBucketUpdatesReply) {
+                    Map<Address, Bucket> buckets = ((GetBucketUpdatesReply) msg).getBuckets();
+                    Map<Address, BucketDelta> deltas = ((GetBucketUpdatesReply) msg).getDeltas();
                     if(log.isDebugEnabled()) {
-                        log.debug("Buckets to send from {}: {}", selfAddress, buckets);
+                        log.debug("Buckets to send from {}: {}, deltas: {}", selfAddress, buckets, deltas);
                     }
-                    GossipEnvelope envelope = new GossipEnvelope(selfAddress, sender.path().address(), buckets);
+                    GossipEnvelope envelope = new GossipEnvelope(selfAddress, sender.path().address(), buckets,
+                            deltas);
                     sender.tell(envelope, getSelf());
                 }
                 return null;
@@ -49,10 +49,17 @@ public class Messages {
             private static final long serialVersionUID = -4940160367495308286L;
 
             private final Map<Address, Bucket> buckets;
+            private final Map<Address, BucketDelta> deltas;
 
             public ContainsBuckets(Map<Address, Bucket> buckets){
+                this(buckets, Collections.<Address, BucketDelta>emptyMap());
+            }
+
+            public ContainsBuckets(Map<Address, Bucket> buckets, Map<Address, BucketDelta> deltas){
                 Preconditions.checkArgument(buckets != null, "buckets can not be null");
+                Preconditions.checkArgument(deltas != null, "deltas can not be null");
                 this.buckets = buckets;
+                this.deltas = deltas;
             }
 
             public Map<Address, Bucket> getBuckets() {
@@ -67,6 +74,19 @@ public class Messages {
                 }
                 return copy;
             }
+
+            public Map<Address, BucketDelta> getDeltas() {
+                Map<Address, BucketDelta> copy = new HashMap<>(deltas.size());
+
+                for (Map.Entry<Address, BucketDelta> entry : deltas.entrySet()){
+                    //ignore null entries
+                    if ( (entry.getKey() == null) || (entry.getValue() == null) ) {
+                        continue;
+                    }
+                    copy.put(entry.getKey(), entry.getValue());
+                }
+                return copy;
+            }
         }
 
         public static class GetAllBucketsReply extends ContainsBuckets implements Serializable{
@@ -83,6 +103,36 @@ public class Messages {
             }
         }
 
+        /**
+         * Requests buckets newer than the given versions. The reply carries a
+         * {@link org.opendaylight.controller.remote.rpc.registry.gossip.BucketDelta} for a bucket when the
+         * changes since the given version are still known, the whole bucket otherwise.
+         */
+        public static class GetBucketUpdates implements Serializable{
+            private static final long serialVersionUID = 1L;
+            private final Map<Address, Long> knownVersions;
+
+            /**
+             * @param knownVersions version of the bucket known by the requester for every requested member,
+             *                      null if the requester does not have the bucket
+             */
+            public GetBucketUpdates(Map<Address, Long> knownVersions){
+                Preconditions.checkArgument(knownVersions != null, "knownVersions can not be null");
+                this.knownVersions = knownVersions;
+            }
+
+            public Map<Address, Long> getKnownVersions() {
+                return Collections.unmodifiableMap(knownVersions);
+            }
+        }
+
+        public static class GetBucketUpdatesReply extends ContainsBuckets implements Serializable{
+            private static final long serialVersionUID = 1L;
+            public GetBucketUpdatesReply(Map<Address, Bucket> buckets, Map<Address, BucketDelta> deltas) {
+                super(buckets, deltas);
+            }
+        }
+
         public static class GetBucketVersions implements Serializable {
             private static final long serialVersionUID = 1L;
         }
@@ -116,6 +166,10 @@ public class Messages {
             public UpdateRemoteBuckets(Map<Address, Bucket> buckets) {
                 super(buckets);
             }
+
+            public UpdateRemoteBuckets(Map<Address, Bucket> buckets, Map<Address, BucketDelta> deltas) {
+                super(buckets, deltas);
+            }
         }
     }
 
@@ -150,7 +204,12 @@ public class Messages {
             private final Address to;
 
             public GossipEnvelope(Address from, Address to, Map<Address, Bucket> buckets) {
-                super(buckets);
+                this(from, to, buckets, Collections.<Address, BucketDelta>emptyMap());
+            }
+
+            public GossipEnvelope(Address from, Address to, Map<Address, Bucket> buckets,
+                    Map<Address, BucketDelta> deltas) {
+                super(buckets, deltas);
                 Preconditions.checkArgument(to != null, "Recipient of message must not be null");
                 this.to = to;
                 this.from = from;
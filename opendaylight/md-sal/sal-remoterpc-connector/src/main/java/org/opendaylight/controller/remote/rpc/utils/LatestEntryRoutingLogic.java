@@ -13,50 +13,35 @@ import akka.japi.Pair;
 import com.google.common.base.Preconditions;
 
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 /**
- * This class will return First Entry
+ * This class will return the entry with the latest update time. The entry is chosen once when the logic is created,
+ * so {@link #select()} does not do any work and the logic can be shared by threads.
  */
 public class LatestEntryRoutingLogic implements RoutingLogic{
 
-  private SortedSet<Pair<ActorRef, Long>> actorRefSet;
+  private final ActorRef latest;
 
   public LatestEntryRoutingLogic(Collection<Pair<ActorRef, Long>> entries) {
     Preconditions.checkNotNull(entries, "Entries should not be null");
     Preconditions.checkArgument(!entries.isEmpty(), "Entries collection should not be empty");
 
-    actorRefSet = new TreeSet<>(new LatestEntryComparator());
-    actorRefSet.addAll(entries);
-  }
-
-  @Override
-  public ActorRef select() {
-    return actorRefSet.last().first();
-  }
-
-
-  private class LatestEntryComparator implements Comparator<Pair<ActorRef, Long>> {
-
-    @Override
-    public int compare(Pair<ActorRef, Long> o1, Pair<ActorRef, Long> o2) {
-      if(o1 == null && o2 == null) {
-        return 0;
-      }
-      if(o1 == null && o2 != null) {
-        return -1;
+    Pair<ActorRef, Long> latestEntry = null;
+    for(Pair<ActorRef, Long> entry : entries) {
+      if(entry == null) {
+        continue;
       }
-      if(o1 != null && o2 == null) {
-        return 1;
+      if(latestEntry == null || entry.second().compareTo(latestEntry.second()) > 0) {
+        latestEntry = entry;
       }
-
-      return o1.second().compareTo(o2.second());
-
     }
 
+    Preconditions.checkArgument(latestEntry != null, "Entries collection should contain an entry");
+    latest = latestEntry.first();
   }
-}
-
 
+  @Override
+  public ActorRef select() {
+    return latest;
+  }
+}
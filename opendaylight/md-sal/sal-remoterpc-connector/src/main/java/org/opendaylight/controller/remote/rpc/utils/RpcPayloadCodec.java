@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.utils;
+
+import java.util.Collections;
+import org.opendaylight.controller.md.sal.common.impl.util.compat.DataNormalizationOperation;
+import org.opendaylight.controller.md.sal.common.impl.util.compat.DataNormalizer;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.CompositeNode;
+import org.opendaylight.yangtools.yang.data.api.Node;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.ImmutableCompositeNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts RPC inputs and outputs between {@link CompositeNode}s used by the broker and
+ * {@link NormalizedNode}s carried in messages between cluster members.
+ */
+public final class RpcPayloadCodec {
+    private static final Logger LOG = LoggerFactory.getLogger(RpcPayloadCodec.class);
+
+    private RpcPayloadCodec() {
+    }
+
+    /**
+     * Normalizes the input container of the rpc using the rpc input schema node.
+     *
+     * @param rpc QName of the rpc
+     * @param rpcNode composite node of the rpc containing its input
+     * @param schemaContext schema context containing the rpc
+     * @return normalized input, null if the rpc or its input is not known
+     * @throws IllegalArgumentException if the input does not match its schema
+     */
+    public static NormalizedNode<?, ?> inputToNormalizedNode(final QName rpc, final CompositeNode rpcNode,
+            final SchemaContext schemaContext) {
+        final RpcDefinition rpcDef = findRpc(rpc, schemaContext);
+        if(rpcNode == null || rpcDef == null) {
+            return null;
+        }
+        return normalize(rpcNode.getFirstCompositeByName(QName.create(rpc, "input")), rpcDef.getInput());
+    }
+
+    /**
+     * Normalizes the output container of the rpc using the rpc output schema node.
+     *
+     * @param rpc QName of the rpc
+     * @param rpcNode composite node of the rpc containing its output
+     * @param schemaContext schema context containing the rpc
+     * @return normalized output, null if the rpc or its output is not known
+     * @throws IllegalArgumentException if the output does not match its schema
+     */
+    public static NormalizedNode<?, ?> outputToNormalizedNode(final QName rpc, final CompositeNode rpcNode,
+            final SchemaContext schemaContext) {
+        final RpcDefinition rpcDef = findRpc(rpc, schemaContext);
+        if(rpcNode == null || rpcDef == null) {
+            return null;
+        }
+        return normalize(rpcNode.getFirstCompositeByName(QName.create(rpc, "output")), rpcDef.getOutput());
+    }
+
+    /**
+     * Creates the composite node of the rpc containing its input.
+     *
+     * @param rpc QName of the rpc
+     * @param input normalized input container
+     * @return composite node of the rpc, null if the input is null
+     */
+    public static CompositeNode toRpcInput(final QName rpc, final NormalizedNode<?, ?> input) {
+        if(input == null) {
+            return null;
+        }
+        return ImmutableCompositeNode.create(rpc, Collections.<Node<?>>singletonList(DataNormalizer.toLegacy(input)));
+    }
+
+    /**
+     * Converts the normalized output container of a rpc.
+     *
+     * @param output normalized output container
+     * @return output composite node, null if the output is null
+     */
+    public static CompositeNode toRpcOutput(final NormalizedNode<?, ?> output) {
+        if(output == null) {
+            return null;
+        }
+        return (CompositeNode) DataNormalizer.toLegacy(output);
+    }
+
+    private static NormalizedNode<?, ?> normalize(final CompositeNode container, final ContainerSchemaNode schema) {
+        if(container == null || schema == null) {
+            return null;
+        }
+        return DataNormalizationOperation.fromDataSchemaNode(schema).normalize(container);
+    }
+
+    private static RpcDefinition findRpc(final QName rpc, final SchemaContext schemaContext) {
+        if(schemaContext == null) {
+            return null;
+        }
+        for(RpcDefinition rpcDef : schemaContext.getOperations()) {
+            if(rpcDef.getQName().equals(rpc)) {
+                return rpcDef;
+            }
+        }
+        LOG.debug("Rpc {} was not found in schema context", rpc);
+        return null;
+    }
+}
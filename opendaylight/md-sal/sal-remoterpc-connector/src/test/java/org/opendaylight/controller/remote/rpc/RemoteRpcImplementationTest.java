@@ -13,7 +13,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import org.junit.Test;
 import org.opendaylight.controller.remote.rpc.messages.InvokeRpc;
 import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
-import org.opendaylight.controller.xml.codec.XmlUtils;
+import org.opendaylight.controller.remote.rpc.utils.RpcPayloadCodec;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorSeverity;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
@@ -166,8 +166,8 @@ public class RemoteRpcImplementationTest extends AbstractRpcTest {
                             JavaTestKit.duration("5 seconds"), InvokeRpc.class));
 
                     if(output != null) {
-                        probeReg1.reply(new RpcResponse(XmlUtils.outputCompositeNodeToXml(
-                                output, schemaContext)));
+                        probeReg1.reply(new RpcResponse(RpcPayloadCodec.outputToNormalizedNode(
+                                TEST_RPC, output, schemaContext)));
                     } else {
                         probeReg1.reply(new akka.actor.Status.Failure(error));
                     }
@@ -16,6 +16,7 @@ import akka.testkit.JavaTestKit;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
@@ -24,7 +25,7 @@ import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRouters;
 import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
-import org.opendaylight.controller.xml.codec.XmlUtils;
+import org.opendaylight.controller.remote.rpc.utils.RpcPayloadCodec;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorSeverity;
@@ -96,7 +97,7 @@ public class RpcBrokerTest extends AbstractRpcTest {
 
             RpcResponse rpcResponse = expectMsgClass(duration("5 seconds"), RpcResponse.class);
             assertCompositeNodeEquals((CompositeNode)invokeRpcResult.getValue().get(0),
-                    XmlUtils.xmlToCompositeNode(rpcResponse.getResultCompositeNode()));
+                    RpcPayloadCodec.toRpcOutput(rpcResponse.getResultNormalizedNode()));
             assertCompositeNodeEquals(input, inputCaptor.getValue());
         }};
     }
@@ -118,7 +119,7 @@ public class RpcBrokerTest extends AbstractRpcTest {
 
             RpcResponse rpcResponse = expectMsgClass(duration("5 seconds"), RpcResponse.class);
 
-            assertEquals("getResultCompositeNode", "", rpcResponse.getResultCompositeNode());
+            assertNull("getResultNormalizedNode", rpcResponse.getResultNormalizedNode());
         }};
     }
 
@@ -174,7 +175,7 @@ public class RpcBrokerTest extends AbstractRpcTest {
     public void testExecuteRpc() {
         new JavaTestKit(node1) {{
 
-            String xml = "<input xmlns=\"urn:test\"><input-data>foo</input-data></input>";
+            CompositeNode input = makeRPCInput("foo");
 
             CompositeNode invokeRpcResult = makeRPCOutput("bar");
             RpcResult<CompositeNode> rpcResult =
@@ -183,14 +184,16 @@ public class RpcBrokerTest extends AbstractRpcTest {
             when(brokerSession.rpc(eq(TEST_RPC), inputCaptor.capture()))
                     .thenReturn(Futures.immediateFuture(rpcResult));
 
-            ExecuteRpc executeMsg = new ExecuteRpc(xml, TEST_RPC);
+            ExecuteRpc executeMsg = new ExecuteRpc(RpcPayloadCodec.inputToNormalizedNode(TEST_RPC,
+                    input, schemaContext), TEST_RPC);
 
             rpcBroker1.tell(executeMsg, getRef());
 
             RpcResponse rpcResponse = expectMsgClass(duration("5 seconds"), RpcResponse.class);
 
             assertCompositeNodeEquals((CompositeNode)invokeRpcResult.getValue().get(0),
-                    XmlUtils.xmlToCompositeNode(rpcResponse.getResultCompositeNode()));
+                    RpcPayloadCodec.toRpcOutput(rpcResponse.getResultNormalizedNode()));
+            assertCompositeNodeEquals(input, inputCaptor.getValue());
         }};
     }
 
@@ -198,7 +201,6 @@ public class RpcBrokerTest extends AbstractRpcTest {
     public void testExecuteRpcFailureWithRpcErrors() {
         new JavaTestKit(node1) {{
 
-            String xml = "<input xmlns=\"urn:test\"><input-data>foo</input-data></input>";
 
             RpcResult<CompositeNode> rpcResult = RpcResultBuilder.<CompositeNode>failed()
                     .withError(ErrorType.RPC, "tag1", "error", "appTag1", "info1",
@@ -208,7 +210,8 @@ public class RpcBrokerTest extends AbstractRpcTest {
             when(brokerSession.rpc(eq(TEST_RPC), any(CompositeNode.class)))
                     .thenReturn(Futures.immediateFuture(rpcResult));
 
-            ExecuteRpc executeMsg = new ExecuteRpc(xml, TEST_RPC);
+            ExecuteRpc executeMsg = new ExecuteRpc(RpcPayloadCodec.inputToNormalizedNode(TEST_RPC,
+                    makeRPCInput("foo"), schemaContext), TEST_RPC);
 
             rpcBroker1.tell(executeMsg, getRef());
 
@@ -231,13 +234,13 @@ public class RpcBrokerTest extends AbstractRpcTest {
     public void testExecuteRpcFailureWithNoRpcErrors() {
         new JavaTestKit(node1) {{
 
-            String xml = "<input xmlns=\"urn:test\"><input-data>foo</input-data></input>";
 
             RpcResult<CompositeNode> rpcResult = RpcResultBuilder.<CompositeNode>failed().build();
             when(brokerSession.rpc(eq(TEST_RPC), any(CompositeNode.class)))
                     .thenReturn(Futures.immediateFuture(rpcResult));
 
-            ExecuteRpc executeMsg = new ExecuteRpc(xml, TEST_RPC);
+            ExecuteRpc executeMsg = new ExecuteRpc(RpcPayloadCodec.inputToNormalizedNode(TEST_RPC,
+                    makeRPCInput("foo"), schemaContext), TEST_RPC);
 
             rpcBroker1.tell(executeMsg, getRef());
 
@@ -258,13 +261,13 @@ public class RpcBrokerTest extends AbstractRpcTest {
     public void testExecuteRpcFailureWithException() {
         new JavaTestKit(node1) {{
 
-            String xml = "<input xmlns=\"urn:test\"><input-data>foo</input-data></input>";
 
             when(brokerSession.rpc(eq(TEST_RPC), any(CompositeNode.class)))
                     .thenReturn(Futures.<RpcResult<CompositeNode>>immediateFailedFuture(
                             new TestException()));
 
-            ExecuteRpc executeMsg = new ExecuteRpc(xml, TEST_RPC);
+            ExecuteRpc executeMsg = new ExecuteRpc(RpcPayloadCodec.inputToNormalizedNode(TEST_RPC,
+                    makeRPCInput("foo"), schemaContext), TEST_RPC);
 
             rpcBroker1.tell(executeMsg, getRef());
 
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.Test;
+import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
+import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
+import org.opendaylight.controller.remote.rpc.utils.RpcPayloadCodec;
+import org.opendaylight.yangtools.yang.data.api.CompositeNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Unit tests for serialization of rpc payloads sent between nodes.
+ */
+public class RpcPayloadSerializationTest extends AbstractRpcTest {
+
+    @Test
+    public void testExecuteRpcSerialization() throws Exception {
+        CompositeNode input = makeRPCInput("foo");
+        NormalizedNode<?, ?> normalizedInput = RpcPayloadCodec.inputToNormalizedNode(TEST_RPC, input,
+                schemaContext);
+
+        ExecuteRpc clone = roundTrip(new ExecuteRpc(normalizedInput, TEST_RPC));
+
+        assertEquals("getRpc", TEST_RPC, clone.getRpc());
+        assertEquals("getInputNormalizedNode", normalizedInput, clone.getInputNormalizedNode());
+        assertCompositeNodeEquals(input, RpcPayloadCodec.toRpcInput(TEST_RPC, clone.getInputNormalizedNode()));
+    }
+
+    @Test
+    public void testExecuteRpcWithNoInputSerialization() throws Exception {
+        ExecuteRpc clone = roundTrip(new ExecuteRpc(null, TEST_RPC));
+
+        assertEquals("getRpc", TEST_RPC, clone.getRpc());
+        assertNull("getInputNormalizedNode", clone.getInputNormalizedNode());
+    }
+
+    @Test
+    public void testRpcResponseSerialization() throws Exception {
+        CompositeNode output = makeRPCOutput("bar");
+        NormalizedNode<?, ?> normalizedOutput = RpcPayloadCodec.outputToNormalizedNode(TEST_RPC, output,
+                schemaContext);
+
+        RpcResponse clone = roundTrip(new RpcResponse(normalizedOutput));
+
+        assertEquals("getResultNormalizedNode", normalizedOutput, clone.getResultNormalizedNode());
+        assertCompositeNodeEquals((CompositeNode)output.getValue().get(0),
+                RpcPayloadCodec.toRpcOutput(clone.getResultNormalizedNode()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(T message) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketSto
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetAllBucketsReply;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersions;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersionsReply;
+import org.opendaylight.controller.remote.rpc.utils.RoutingLogic;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -131,6 +132,52 @@ public class RpcRegistryTest {
 
     }
 
+    /**
+     * One node cluster. 1. Register rpc, ensure router is published in routing snapshot 2. Then remove
+     * rpc, ensure it is removed from routing snapshot
+     */
+    @Test
+    public void testRoutingSnapshotOnSameNode() throws Exception {
+        final JavaTestKit mockBroker = new JavaTestKit(node1);
+        final RoutingSnapshotHolder snapshotHolder = new RoutingSnapshotHolder();
+        final ActorRef registry = node1.actorOf(RpcRegistry.props(snapshotHolder));
+        try {
+            registry.tell(new SetLocalRouter(mockBroker.getRef()), mockBroker.getRef());
+
+            RouteIdentifier<?, ?, ?> routeId = createRouteIds().get(0);
+            registry.tell(new AddOrUpdateRoutes(Arrays.<RouteIdentifier<?, ?, ?>>asList(routeId)),
+                    mockBroker.getRef());
+
+            RoutingLogic logic = awaitRoutingLogic(snapshotHolder, routeId, true);
+            Assert.assertEquals("Selected router", mockBroker.getRef(), logic.select());
+
+            long version = snapshotHolder.getSnapshot().getVersion();
+            registry.tell(new RemoveRoutes(Arrays.<RouteIdentifier<?, ?, ?>>asList(routeId)),
+                    mockBroker.getRef());
+
+            awaitRoutingLogic(snapshotHolder, routeId, false);
+            Assert.assertTrue("Snapshot version increased", snapshotHolder.getSnapshot().getVersion() > version);
+        } finally {
+            node1.stop(registry);
+        }
+    }
+
+    private static RoutingLogic awaitRoutingLogic(RoutingSnapshotHolder snapshotHolder,
+            RouteIdentifier<?, ?, ?> routeId, boolean present) {
+        for(int nTries = 0; nTries < 50; nTries++) {
+            RoutingLogic logic = snapshotHolder.getSnapshot().getRoutingLogic(routeId);
+            if((logic != null) == present) {
+                return logic;
+            }
+
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+
+        Assert.fail("Route " + routeId + (present ? " missing in " : " still present in ") +
+                snapshotHolder.getSnapshot());
+        return null;
+    }
+
     /**
      * Three node cluster. 1. Register rpc on 1 node, ensure 2nd node gets updated 2. Remove rpc on
      * 1 node, ensure 2nd node gets updated
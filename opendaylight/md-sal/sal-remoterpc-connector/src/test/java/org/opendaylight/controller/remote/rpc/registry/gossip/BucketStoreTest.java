@@ -12,13 +12,21 @@ import akka.actor.Address;
 import akka.actor.Props;
 import akka.testkit.TestActorRef;
 import com.typesafe.config.ConfigFactory;
+import java.net.URI;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.controller.remote.rpc.RouteIdentifierImpl;
 import org.opendaylight.controller.remote.rpc.TerminationMonitor;
+import org.opendaylight.controller.remote.rpc.registry.RoutingTable;
+import org.opendaylight.controller.remote.rpc.registry.RoutingTableDelta;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketUpdatesReply;
+import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
 
 public class BucketStoreTest {
 
@@ -125,14 +133,85 @@ public class BucketStoreTest {
 
     }
 
+    /**
+     * Given deltas of remote buckets
+     * Should apply only deltas made to the version of the local copy and serve them to others
+     */
+    @Test
+    public void testReceiveUpdateRemoteBucketDeltas() throws Exception {
+
+        BucketStore store = createStore("testDeltaStore");
+
+        Address a1 = new Address("tcp", "system1");
+        RouteIdentifier<?, ?, ?> r1 = new RouteIdentifierImpl(null, new QName(new URI("/mockrpc"), "type1"), null);
+        RouteIdentifier<?, ?, ?> r2 = new RouteIdentifierImpl(null, new QName(new URI("/mockrpc"), "type2"), null);
+
+        RoutingTable table = new RoutingTable();
+        table.addRoute(r1);
+        Bucket b1 = new BucketImpl(1L, table);
+
+        Map<Address, Bucket> remoteBuckets = new HashMap<>();
+        remoteBuckets.put(a1, b1);
+        store.receiveUpdateRemoteBuckets(remoteBuckets);
+
+        //Given delta made to the known version
+        Map<Address, BucketDelta> deltas = new HashMap<>();
+        deltas.put(a1, new BucketDelta(1L, 2L, Arrays.asList(
+                RoutingTableDelta.addRoutes(Arrays.<RouteIdentifier<?, ?, ?>>asList(r2)))));
+        store.receiveUpdateRemoteBucketDeltas(deltas);
+
+        //Should apply the delta
+        Bucket<RoutingTable> b1_inStore = (Bucket<RoutingTable>) store.getRemoteBuckets().get(a1);
+        Assert.assertEquals(Long.valueOf(2L), b1_inStore.getVersion());
+        Assert.assertTrue(b1_inStore.getData().contains(r1));
+        Assert.assertTrue(b1_inStore.getData().contains(r2));
+        Assert.assertEquals(Long.valueOf(2L), store.getVersions().get(a1));
+
+        //Given delta made to another version
+        deltas.put(a1, new BucketDelta(1L, 3L, Arrays.asList(
+                RoutingTableDelta.removeRoutes(Arrays.<RouteIdentifier<?, ?, ?>>asList(r1)))));
+        store.receiveUpdateRemoteBucketDeltas(deltas);
+
+        //Should NOT apply the delta
+        b1_inStore = (Bucket<RoutingTable>) store.getRemoteBuckets().get(a1);
+        Assert.assertEquals(Long.valueOf(2L), b1_inStore.getVersion());
+        Assert.assertTrue(b1_inStore.getData().contains(r1));
+
+        //Should send delta to a node knowing version 1
+        Map<Address, Long> knownVersions = new HashMap<>();
+        knownVersions.put(a1, 1L);
+        GetBucketUpdatesReply updates = store.getBucketUpdates(knownVersions);
+        Assert.assertTrue(updates.getBuckets().isEmpty());
+        Assert.assertEquals(Long.valueOf(2L), updates.getDeltas().get(a1).getToVersion());
+
+        //Should send whole bucket to a node not knowing the bucket
+        knownVersions.put(a1, null);
+        updates = store.getBucketUpdates(knownVersions);
+        Assert.assertTrue(updates.getDeltas().isEmpty());
+        Bucket<RoutingTable> b1_sent = updates.getBuckets().get(a1);
+        Assert.assertEquals(Long.valueOf(2L), b1_sent.getVersion());
+        Assert.assertEquals(2, b1_sent.getData().size());
+        Assert.assertNotSame(b1_inStore.getData(), b1_sent.getData());
+
+        //Should send nothing to an up to date node
+        knownVersions.put(a1, 2L);
+        updates = store.getBucketUpdates(knownVersions);
+        Assert.assertTrue(updates.getBuckets().isEmpty());
+        Assert.assertTrue(updates.getDeltas().isEmpty());
+    }
+
     /**
      * Create BucketStore actor and returns the underlying instance of BucketStore class.
      *
      * @return instance of BucketStore class
      */
     private static BucketStore createStore(){
+        return createStore("testStore");
+    }
+
+    private static BucketStore createStore(String name){
         final Props props = Props.create(BucketStore.class);
-        final TestActorRef<BucketStore> testRef = TestActorRef.create(system, props, "testStore");
+        final TestActorRef<BucketStore> testRef = TestActorRef.create(system, props, name);
         return testRef.underlyingActor();
     }
 }
\ No newline at end of file
@@ -109,9 +109,9 @@ public class GossiperTest {
         Address notSelf = new Address("tcp", "not-self");
 
         GossipEnvelope envelope = new GossipEnvelope(notSelf, notSelf, mock(Map.class));
-        doNothing().when(mockGossiper).updateRemoteBuckets(anyMap());
+        doNothing().when(mockGossiper).updateRemoteBuckets(anyMap(), anyMap());
         mockGossiper.receiveGossip(envelope);
-        verify(mockGossiper, times(0)).updateRemoteBuckets(anyMap());
+        verify(mockGossiper, times(0)).updateRemoteBuckets(anyMap(), anyMap());
     }
 
     /**
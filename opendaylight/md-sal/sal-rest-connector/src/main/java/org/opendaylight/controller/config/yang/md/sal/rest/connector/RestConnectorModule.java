@@ -26,6 +26,10 @@ public class RestConnectorModule extends org.opendaylight.controller.config.yang
         RestconfProviderImpl instance = new RestconfProviderImpl();
         // Set its port
         instance.setWebsocketPort(getWebsocketPort());
+        instance.setMaxConcurrentRequests(getMaxConcurrentRequests());
+        instance.setResponseCacheSize(getResponseCacheSize());
+        instance.setNotificationQueueDepth(getNotificationQueueDepth());
+        instance.setDisconnectSlowSubscribers(getDisconnectSlowSubscribers());
         // Register it with the Broker
         getDomBrokerDependency().registerProvider(instance);
 
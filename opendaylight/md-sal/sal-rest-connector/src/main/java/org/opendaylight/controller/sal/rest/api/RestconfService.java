@@ -21,6 +21,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
+import org.opendaylight.controller.sal.restconf.impl.BatchContext;
 import org.opendaylight.controller.sal.restconf.impl.NormalizedNodeContext;
 
 /**
@@ -141,6 +142,16 @@ public interface RestconfService {
     @Path("/config/{identifier:.+}")
     public Response deleteConfigurationData(@Encoded @PathParam("identifier") String identifier);
 
+    /**
+     * Apply edits of configuration data in a single transaction. Either all edits are committed, or none of
+     * them is and errors of all failed edits are reported.
+     */
+    @POST
+    @Path("/batch/config")
+    @Consumes({ Draft02.MediaTypes.DATA + JSON, Draft02.MediaTypes.DATA + XML, MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_XML, MediaType.TEXT_XML })
+    public Response batchConfigurationData(BatchContext batch);
+
     @GET
     @Path("/streams/stream/{identifier:.+}")
     public Response subscribeToStream(@Encoded @PathParam("identifier") String identifier, @Context UriInfo uriInfo);
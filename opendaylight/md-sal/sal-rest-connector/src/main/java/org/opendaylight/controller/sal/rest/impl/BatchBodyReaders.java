@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl;
+
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit.Operation;
+import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
+import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
+import org.opendaylight.controller.sal.restconf.impl.RestconfDocumentedException;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorTag;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorType;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Validation shared by readers of {@link org.opendaylight.controller.sal.restconf.impl.BatchContext}.
+ */
+final class BatchBodyReaders {
+
+    private BatchBodyReaders() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    private static String toEdit(final String editId, final int index) {
+        return editId != null ? editId : "#" + (index + 1);
+    }
+
+    static RestconfDocumentedException malformedEdit(final String editId, final int index, final String reason) {
+        return new RestconfDocumentedException("Edit " + toEdit(editId, index) + ": " + reason, ErrorType.PROTOCOL,
+                ErrorTag.MALFORMED_MESSAGE);
+    }
+
+    static InstanceIdentifierContext<?> resolveTarget(final String editId, final int index, final String target) {
+        try {
+            return ControllerContext.getInstance().toInstanceIdentifier(target);
+        } catch (final RestconfDocumentedException e) {
+            throw new RestconfDocumentedException(e.getMessage(), e,
+                    BatchEdit.toEditErrors(toEdit(editId, index), e));
+        }
+    }
+
+    static BatchEdit createEdit(final String editId, final int index, final Operation operation,
+            final InstanceIdentifierContext<?> target, final NormalizedNode<?, ?> data) {
+        if (editId == null || editId.isEmpty()) {
+            throw malformedEdit(editId, index, "edit-id is missing");
+        }
+        if (operation == null) {
+            throw malformedEdit(editId, index, "operation is missing");
+        }
+        if (target == null) {
+            throw malformedEdit(editId, index, "target is missing");
+        }
+        if (operation.hasValue() && data == null) {
+            throw malformedEdit(editId, index, "operation " + operation + " requires a value");
+        }
+        if (!operation.hasValue() && data != null) {
+            throw malformedEdit(editId, index, "operation " + operation + " does not take a value");
+        }
+        return new BatchEdit(editId, operation, target, data);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl;
+
+import com.google.common.base.Preconditions;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.opendaylight.controller.sal.restconf.impl.ResponseCache;
+
+/**
+ * Output stream keeping a copy of the response body written through it, so it can be stored in
+ * a {@link ResponseCache.Entry}. Bodies larger than {@link ResponseCache#MAX_CACHED_BODY_SIZE} are not kept.
+ */
+final class BodyCachingOutputStream extends FilterOutputStream {
+
+    private ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    BodyCachingOutputStream(final OutputStream out) {
+        super(Preconditions.checkNotNull(out));
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        out.write(b);
+        copy(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        out.write(b, off, len);
+        copy(b, off, len);
+    }
+
+    private void copy(final byte[] b, final int off, final int len) {
+        if (body != null) {
+            if (body.size() + len > ResponseCache.MAX_CACHED_BODY_SIZE) {
+                body = null;
+            } else {
+                body.write(b, off, len);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Entity stream is owned and closed by the container
+        flush();
+    }
+
+    /**
+     * Store the body written so far into the cache entry.
+     */
+    void storeBody(final ResponseCache.Entry entry, final String format) {
+        if (body != null) {
+            entry.putBody(format, body.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl;
+
+import com.google.common.base.Preconditions;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream flushing the response entity stream every time a threshold of data has been written to it.
+ * Body writers serialize data incrementally, flushing periodically commits the response early and sends each
+ * part of the body to the client as a chunk, instead of accumulating it in the container.
+ */
+public final class FlushingOutputStream extends FilterOutputStream {
+
+    public static final int DEFAULT_FLUSH_THRESHOLD = 64 * 1024;
+
+    private final int flushThreshold;
+    private int unflushed;
+
+    public FlushingOutputStream(final OutputStream out) {
+        this(out, DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    public FlushingOutputStream(final OutputStream out, final int flushThreshold) {
+        super(Preconditions.checkNotNull(out));
+        Preconditions.checkArgument(flushThreshold > 0, "Flush threshold has to be > 0");
+        this.flushThreshold = flushThreshold;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        out.write(b);
+        written(1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        // FilterOutputStream would write the array byte by byte
+        out.write(b, off, len);
+        written(len);
+    }
+
+    private void written(final int len) throws IOException {
+        unflushed += len;
+        if (unflushed >= flushThreshold) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        unflushed = 0;
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Entity stream is owned and closed by the container
+        flush();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl;
+
+import com.google.common.base.Charsets;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+import org.opendaylight.controller.sal.rest.api.Draft02;
+import org.opendaylight.controller.sal.rest.api.RestconfService;
+import org.opendaylight.controller.sal.restconf.impl.BatchContext;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit.Operation;
+import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
+import org.opendaylight.controller.sal.restconf.impl.RestconfDocumentedException;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorTag;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorType;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the JSON form of {@link BatchContext}. Edits are read one at a time and their values are parsed as
+ * they are encountered, unless they precede the target of their edit.
+ */
+@Provider
+@Consumes({ Draft02.MediaTypes.DATA + RestconfService.JSON, MediaType.APPLICATION_JSON })
+public class JsonBatchBodyReader implements MessageBodyReader<BatchContext> {
+
+    private final static Logger LOG = LoggerFactory.getLogger(JsonBatchBodyReader.class);
+
+    @Override
+    public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+            final MediaType mediaType) {
+        return type.equals(BatchContext.class);
+    }
+
+    @Override
+    public BatchContext readFrom(final Class<BatchContext> type, final Type genericType,
+            final Annotation[] annotations, final MediaType mediaType,
+            final MultivaluedMap<String, String> httpHeaders, final InputStream entityStream) throws IOException,
+            WebApplicationException {
+        try {
+            final JsonReader reader = new JsonReader(new InputStreamReader(entityStream, Charsets.UTF_8));
+            final List<BatchEdit> edits = new ArrayList<>();
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String name = reader.nextName();
+                if (BatchContext.EDIT.equals(name)) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        edits.add(readEdit(reader, edits.size()));
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return new BatchContext(edits);
+        } catch (final RestconfDocumentedException e) {
+            throw e;
+        } catch (final Exception e) {
+            LOG.debug("Error parsing json input", e);
+
+            throw new RestconfDocumentedException("Error parsing input: " + e.getMessage(), ErrorType.PROTOCOL,
+                    ErrorTag.MALFORMED_MESSAGE);
+        }
+    }
+
+    private static BatchEdit readEdit(final JsonReader reader, final int index) throws IOException {
+        String editId = null;
+        Operation operation = null;
+        InstanceIdentifierContext<?> target = null;
+        NormalizedNode<?, ?> data = null;
+        JsonElement bufferedValue = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (BatchContext.EDIT_ID.equals(name)) {
+                editId = reader.nextString();
+            } else if (BatchContext.OPERATION.equals(name)) {
+                final String operationName = reader.nextString();
+                operation = Operation.forName(operationName);
+                if (operation == null) {
+                    throw BatchBodyReaders.malformedEdit(editId, index, "unknown operation " + operationName);
+                }
+            } else if (BatchContext.TARGET.equals(name)) {
+                target = BatchBodyReaders.resolveTarget(editId, index, reader.nextString());
+            } else if (BatchContext.VALUE.equals(name)) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                } else if (target != null) {
+                    data = parseValue(editId, index, target, reader);
+                } else {
+                    bufferedValue = new JsonParser().parse(reader);
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (bufferedValue != null && target != null) {
+            data = parseValue(editId, index, target, new JsonReader(new StringReader(bufferedValue.toString())));
+        }
+        return BatchBodyReaders.createEdit(editId, index, operation, target, data);
+    }
+
+    private static NormalizedNode<?, ?> parseValue(final String editId, final int index,
+            final InstanceIdentifierContext<?> target, final JsonReader reader) {
+        try {
+            return JsonNormalizedNodeBodyReader.parse(target, false, reader);
+        } catch (final RuntimeException e) {
+            LOG.debug("Error parsing value of edit {}", editId, e);
+            throw BatchBodyReaders.malformedEdit(editId, index, "invalid value: " + e.getMessage());
+        }
+    }
+}
@@ -63,34 +63,7 @@ public class JsonNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPr
             if (entityStream.available() < 1) {
                 return new NormalizedNodeContext(path, null);
             }
-            final NormalizedNodeResult resultHolder = new NormalizedNodeResult();
-            final NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(resultHolder);
-
-            final SchemaNode parentSchema;
-            if(isPost()) {
-                // FIXME: We need dispatch for RPC.
-                parentSchema = path.getSchemaNode();
-            } else if(path.getSchemaNode() instanceof SchemaContext) {
-                parentSchema = path.getSchemaContext();
-            } else {
-                if (SchemaPath.ROOT.equals(path.getSchemaNode().getPath().getParent())) {
-                    parentSchema = path.getSchemaContext();
-                } else {
-                    parentSchema = SchemaContextUtil.findDataSchemaNode(path.getSchemaContext(), path.getSchemaNode().getPath().getParent());
-                }
-            }
-
-            final JsonParserStream jsonParser = JsonParserStream.create(writer, path.getSchemaContext(), parentSchema);
-            final JsonReader reader = new JsonReader(new InputStreamReader(entityStream));
-            jsonParser.parse(reader);
-
-            final NormalizedNode<?, ?> partialResult = resultHolder.getResult();
-            final NormalizedNode<?, ?> result;
-            if(partialResult instanceof MapNode) {
-                result = Iterables.getOnlyElement(((MapNode) partialResult).getValue());
-            } else {
-                result = partialResult;
-            }
+            final NormalizedNode<?, ?> result = parse(path, isPost(), new JsonReader(new InputStreamReader(entityStream)));
             return new NormalizedNodeContext(path,result);
         } catch (final Exception e) {
             LOG.debug("Error parsing json input", e);
@@ -99,5 +72,41 @@ public class JsonNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPr
                     ErrorTag.MALFORMED_MESSAGE);
         }
     }
+
+    /**
+     * Parse the next value of the reader as data of the node identified by the path, or of its child if the value
+     * is the payload of a POST request.
+     */
+    static NormalizedNode<?, ?> parse(final InstanceIdentifierContext<?> path, final boolean isPost,
+            final JsonReader reader) {
+        final NormalizedNodeResult resultHolder = new NormalizedNodeResult();
+        final NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(resultHolder);
+
+        final SchemaNode parentSchema;
+        if(isPost) {
+            // FIXME: We need dispatch for RPC.
+            parentSchema = path.getSchemaNode();
+        } else if(path.getSchemaNode() instanceof SchemaContext) {
+            parentSchema = path.getSchemaContext();
+        } else {
+            if (SchemaPath.ROOT.equals(path.getSchemaNode().getPath().getParent())) {
+                parentSchema = path.getSchemaContext();
+            } else {
+                parentSchema = SchemaContextUtil.findDataSchemaNode(path.getSchemaContext(), path.getSchemaNode().getPath().getParent());
+            }
+        }
+
+        final JsonParserStream jsonParser = JsonParserStream.create(writer, path.getSchemaContext(), parentSchema);
+        jsonParser.parse(reader);
+
+        final NormalizedNode<?, ?> partialResult = resultHolder.getResult();
+        final NormalizedNode<?, ?> result;
+        if(partialResult instanceof MapNode) {
+            result = Iterables.getOnlyElement(((MapNode) partialResult).getValue());
+        } else {
+            result = partialResult;
+        }
+        return result;
+    }
 }
 
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.sal.rest.impl;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
@@ -15,6 +16,7 @@ import java.io.OutputStreamWriter;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.util.Map.Entry;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
@@ -25,13 +27,12 @@ import org.opendaylight.controller.sal.rest.api.Draft02;
 import org.opendaylight.controller.sal.rest.api.RestconfService;
 import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
 import org.opendaylight.controller.sal.restconf.impl.NormalizedNodeContext;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.controller.sal.restconf.impl.ResponseCache;
+import org.opendaylight.controller.sal.restconf.impl.WriterParameters;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
-import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
@@ -47,6 +48,15 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
     Draft02.MediaTypes.OPERATION + RestconfService.JSON, MediaType.APPLICATION_JSON })
 public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<NormalizedNodeContext> {
 
+    /**
+     * Codec factories cache codecs for the types they encounter, so they are shared by all responses
+     * of a schema context. Only the factory of the last used context is kept, factories reference their
+     * context, so a cache keyed by contexts would never let a replaced context go.
+     */
+    private static volatile CodecFactoryHolder codecFactory;
+
+    private static final String CACHED_BODY_FORMAT = "json";
+
     @Override
     public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
         return type.equals(NormalizedNodeContext.class);
@@ -65,38 +75,56 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
         if (data == null) {
             return;
         }
+        for (final Entry<String, Object> header : t.getHeaders().entrySet()) {
+            httpHeaders.add(header.getKey(), header.getValue());
+        }
 
         @SuppressWarnings("unchecked")
         final InstanceIdentifierContext<SchemaNode> context = (InstanceIdentifierContext<SchemaNode>) t.getInstanceIdentifierContext();
 
+        final ResponseCache.Entry cacheEntry = t.getCacheEntry();
+        if (cacheEntry != null) {
+            final byte[] body = cacheEntry.getBody(CACHED_BODY_FORMAT);
+            if (body != null) {
+                entityStream.write(body);
+                return;
+            }
+        }
+
         SchemaPath path = context.getSchemaNode().getPath();
-        final JsonWriter jsonWriter = createJsonWriter(entityStream);
+        final BodyCachingOutputStream cachingStream = cacheEntry != null ? new BodyCachingOutputStream(entityStream)
+                : null;
+        final JsonWriter jsonWriter = createJsonWriter(cachingStream != null ? cachingStream : entityStream);
         jsonWriter.beginObject();
-        writeNormalizedNode(jsonWriter,path,context,data);
+        writeNormalizedNode(jsonWriter,path,context,data,t.getWriterParameters());
         jsonWriter.endObject();
         jsonWriter.flush();
+        if (cachingStream != null) {
+            cachingStream.storeBody(cacheEntry, CACHED_BODY_FORMAT);
+        }
     }
 
     private void writeNormalizedNode(JsonWriter jsonWriter, SchemaPath path,
-            InstanceIdentifierContext<SchemaNode> context, NormalizedNode<?, ?> data) throws IOException {
-        final NormalizedNodeWriter nnWriter;
+            InstanceIdentifierContext<SchemaNode> context, NormalizedNode<?, ?> data, WriterParameters writerParameters)
+                    throws IOException {
+        final RestconfNormalizedNodeWriter nnWriter;
         if (SchemaPath.ROOT.equals(path)) {
             /*
              *  Creates writer without initialNs and we write children of root data container
              *  which is not visible in restconf
              */
-            nnWriter = createNormalizedNodeWriter(context,path,jsonWriter);
-            writeChildren(nnWriter,(ContainerNode) data);
+            nnWriter = createNormalizedNodeWriter(context,path,jsonWriter,writerParameters);
+            nnWriter.writeChildren((ContainerNode) data);
         } else if (context.getSchemaNode() instanceof RpcDefinition) {
             /*
              *  RpcDefinition is not supported as initial codec in JSONStreamWriter,
              *  so we need to emit initial output declaratation..
              */
             path = ((RpcDefinition) context.getSchemaNode()).getOutput().getPath();
-            nnWriter = createNormalizedNodeWriter(context,path,jsonWriter);
+            nnWriter = createNormalizedNodeWriter(context,path,jsonWriter,writerParameters);
             jsonWriter.name("output");
             jsonWriter.beginObject();
-            writeChildren(nnWriter, (ContainerNode) data);
+            nnWriter.writeChildren((ContainerNode) data);
             jsonWriter.endObject();
         } else {
             path = path.getParent();
@@ -104,20 +132,14 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
             if(data instanceof MapEntryNode) {
                 data = ImmutableNodes.mapNodeBuilder(data.getNodeType()).withChild(((MapEntryNode) data)).build();
             }
-            nnWriter = createNormalizedNodeWriter(context,path,jsonWriter);
+            nnWriter = createNormalizedNodeWriter(context,path,jsonWriter,writerParameters);
             nnWriter.write(data);
         }
         nnWriter.flush();
     }
 
-    private void writeChildren(final NormalizedNodeWriter nnWriter, final ContainerNode data) throws IOException {
-        for(final DataContainerChild<? extends PathArgument, ?> child : data.getValue()) {
-            nnWriter.write(child);
-        }
-    }
-
-    private NormalizedNodeWriter createNormalizedNodeWriter(final InstanceIdentifierContext<SchemaNode> context,
-            final SchemaPath path, final JsonWriter jsonWriter) {
+    private RestconfNormalizedNodeWriter createNormalizedNodeWriter(final InstanceIdentifierContext<SchemaNode> context,
+            final SchemaPath path, final JsonWriter jsonWriter, final WriterParameters writerParameters) {
 
         final SchemaNode schema = context.getSchemaNode();
         final JSONCodecFactory codecs = getCodecFactory(context);
@@ -133,18 +155,41 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
             initialNs = null;
         }
         final NormalizedNodeStreamWriter streamWriter = JSONNormalizedNodeStreamWriter.createNestedWriter(codecs,path,initialNs,jsonWriter);
-        return NormalizedNodeWriter.forStreamWriter(streamWriter);
+        return RestconfNormalizedNodeWriter.forStreamWriter(streamWriter, writerParameters);
     }
 
     private JsonWriter createJsonWriter(final OutputStream entityStream) {
         // FIXME BUG-2153: Add pretty print support
-        return JsonWriterFactory.createJsonWriter(new OutputStreamWriter(entityStream, Charsets.UTF_8));
+        // Data is written as it is serialized, see FlushingOutputStream
+        return JsonWriterFactory.createJsonWriter(new OutputStreamWriter(new FlushingOutputStream(entityStream), Charsets.UTF_8));
 
     }
 
     private JSONCodecFactory getCodecFactory(final InstanceIdentifierContext<?> context) {
-        // TODO: Performance: Cache JSON Codec factory and schema context
-        return JSONCodecFactory.create(context.getSchemaContext());
+        return getCodecFactory(context.getSchemaContext());
+    }
+
+    @VisibleForTesting
+    static JSONCodecFactory getCodecFactory(final SchemaContext schemaContext) {
+        final CodecFactoryHolder current = codecFactory;
+        if (current != null && current.schemaContext == schemaContext) {
+            return current.factory;
+        }
+
+        // Racing threads may create more factories for the same context, only one of them is kept
+        final JSONCodecFactory factory = JSONCodecFactory.create(schemaContext);
+        codecFactory = new CodecFactoryHolder(schemaContext, factory);
+        return factory;
+    }
+
+    private static final class CodecFactoryHolder {
+        final SchemaContext schemaContext;
+        final JSONCodecFactory factory;
+
+        CodecFactoryHolder(final SchemaContext schemaContext, final JSONCodecFactory factory) {
+            this.schemaContext = schemaContext;
+            this.factory = factory;
+        }
     }
 
 }
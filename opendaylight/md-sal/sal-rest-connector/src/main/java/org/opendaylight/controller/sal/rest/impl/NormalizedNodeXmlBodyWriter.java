@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Map.Entry;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
@@ -27,12 +28,13 @@ import org.opendaylight.controller.sal.rest.api.Draft02;
 import org.opendaylight.controller.sal.rest.api.RestconfService;
 import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
 import org.opendaylight.controller.sal.restconf.impl.NormalizedNodeContext;
+import org.opendaylight.controller.sal.restconf.impl.ResponseCache;
+import org.opendaylight.controller.sal.restconf.impl.WriterParameters;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.opendaylight.yangtools.yang.data.impl.codec.xml.XMLStreamNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
@@ -45,6 +47,7 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<NormalizedNodeContext> {
 
     private static final XMLOutputFactory XML_FACTORY;
+    private static final String CACHED_BODY_FORMAT = "xml";
 
     static {
         XML_FACTORY = XMLOutputFactory.newFactory();
@@ -72,10 +75,26 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
         if (t.getData() == null) {
             return;
         }
+        for (final Entry<String, Object> header : t.getHeaders().entrySet()) {
+            httpHeaders.add(header.getKey(), header.getValue());
+        }
+
+        final ResponseCache.Entry cacheEntry = t.getCacheEntry();
+        if (cacheEntry != null) {
+            final byte[] body = cacheEntry.getBody(CACHED_BODY_FORMAT);
+            if (body != null) {
+                entityStream.write(body);
+                return;
+            }
+        }
 
+        final BodyCachingOutputStream cachingStream = cacheEntry != null ? new BodyCachingOutputStream(entityStream)
+                : null;
         XMLStreamWriter xmlWriter;
         try {
-            xmlWriter = XML_FACTORY.createXMLStreamWriter(entityStream);
+            // Data is written as it is serialized, see FlushingOutputStream
+            xmlWriter = XML_FACTORY.createXMLStreamWriter(
+                    new FlushingOutputStream(cachingStream != null ? cachingStream : entityStream));
         } catch (final XMLStreamException e) {
             throw new IllegalStateException(e);
         } catch (final FactoryConfigurationError e) {
@@ -86,20 +105,25 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
 
 
 
-        writeNormalizedNode(xmlWriter,schemaPath,pathContext,data);
+        writeNormalizedNode(xmlWriter,schemaPath,pathContext,data,t.getWriterParameters());
+        if (cachingStream != null) {
+            cachingStream.storeBody(cacheEntry, CACHED_BODY_FORMAT);
+        }
     }
 
-    private void writeNormalizedNode(XMLStreamWriter xmlWriter, SchemaPath schemaPath,InstanceIdentifierContext<?> pathContext, NormalizedNode<?, ?> data) throws IOException {
-        final NormalizedNodeWriter nnWriter;
+    private void writeNormalizedNode(XMLStreamWriter xmlWriter, SchemaPath schemaPath,InstanceIdentifierContext<?> pathContext,
+            NormalizedNode<?, ?> data, WriterParameters writerParameters) throws IOException {
+        final RestconfNormalizedNodeWriter nnWriter;
         final SchemaContext schemaCtx = pathContext.getSchemaContext();
         if (SchemaPath.ROOT.equals(schemaPath)) {
-            nnWriter = createNormalizedNodeWriter(xmlWriter, schemaCtx, schemaPath);
+            nnWriter = createNormalizedNodeWriter(xmlWriter, schemaCtx, schemaPath, writerParameters);
             writeElements(xmlWriter, nnWriter, (ContainerNode) data);
         }  else if (pathContext.getSchemaNode() instanceof RpcDefinition) {
-            nnWriter = createNormalizedNodeWriter(xmlWriter, schemaCtx, ((RpcDefinition) pathContext.getSchemaNode()).getOutput().getPath());
+            nnWriter = createNormalizedNodeWriter(xmlWriter, schemaCtx, ((RpcDefinition) pathContext.getSchemaNode()).getOutput().getPath(),
+                    writerParameters);
             writeElements(xmlWriter, nnWriter, (ContainerNode) data);
         } else {
-            nnWriter = createNormalizedNodeWriter(xmlWriter, schemaCtx, schemaPath.getParent());
+            nnWriter = createNormalizedNodeWriter(xmlWriter, schemaCtx, schemaPath.getParent(), writerParameters);
             if (data instanceof MapEntryNode) {
                 // Restconf allows returning one list item. We need to wrap it
                 // in map node in order to serialize it properly
@@ -110,21 +134,19 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
         nnWriter.flush();
     }
 
-    private NormalizedNodeWriter createNormalizedNodeWriter(XMLStreamWriter xmlWriter,
-            SchemaContext schemaContext, SchemaPath schemaPath) {
+    private RestconfNormalizedNodeWriter createNormalizedNodeWriter(XMLStreamWriter xmlWriter,
+            SchemaContext schemaContext, SchemaPath schemaPath, WriterParameters writerParameters) {
         NormalizedNodeStreamWriter xmlStreamWriter = XMLStreamNormalizedNodeStreamWriter.create(xmlWriter, schemaContext, schemaPath);
-        return NormalizedNodeWriter.forStreamWriter(xmlStreamWriter);
+        return RestconfNormalizedNodeWriter.forStreamWriter(xmlStreamWriter, writerParameters);
     }
 
-    private void writeElements(final XMLStreamWriter xmlWriter, final NormalizedNodeWriter nnWriter, final ContainerNode data)
+    private void writeElements(final XMLStreamWriter xmlWriter, final RestconfNormalizedNodeWriter nnWriter, final ContainerNode data)
             throws IOException {
         try {
             final QName name = data.getNodeType();
             xmlWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, name.getLocalName(), name.getNamespace().toString());
             xmlWriter.writeDefaultNamespace(name.getNamespace().toString());
-            for(NormalizedNode<?,?> child : data.getValue()) {
-                nnWriter.write(child);
-            }
+            nnWriter.writeChildren(data);
             nnWriter.flush();
             xmlWriter.writeEndElement();
             xmlWriter.flush();
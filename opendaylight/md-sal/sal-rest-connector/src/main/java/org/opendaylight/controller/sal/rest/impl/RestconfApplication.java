@@ -27,6 +27,8 @@ public class RestconfApplication extends Application {
                 .add(RestconfDocumentedExceptionMapper.class)
                 .add(XmlNormalizedNodeBodyReader.class)
                 .add(JsonNormalizedNodeBodyReader.class)
+                .add(XmlBatchBodyReader.class)
+                .add(JsonBatchBodyReader.class)
                 .add(NormalizedNodeJsonBodyWriter.class)
                 .add(NormalizedNodeXmlBodyWriter.class)
                 .add(SchemaExportContentYinBodyWriter.class)
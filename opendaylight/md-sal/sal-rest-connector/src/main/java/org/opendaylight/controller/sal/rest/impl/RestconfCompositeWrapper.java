@@ -1,11 +1,18 @@
 package org.opendaylight.controller.sal.rest.impl;
 
 import com.google.common.base.Preconditions;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.controller.md.sal.rest.schema.SchemaExportContext;
 import org.opendaylight.controller.md.sal.rest.schema.SchemaRetrievalService;
 import org.opendaylight.controller.sal.rest.api.RestconfService;
+import org.opendaylight.controller.sal.restconf.impl.BatchContext;
 import org.opendaylight.controller.sal.restconf.impl.NormalizedNodeContext;
 
 public class RestconfCompositeWrapper implements RestconfService, SchemaRetrievalService {
@@ -13,6 +20,9 @@ public class RestconfCompositeWrapper implements RestconfService, SchemaRetrieva
     private final RestconfService restconf;
     private final SchemaRetrievalService schema;
 
+    @Context
+    private Request request;
+
     public RestconfCompositeWrapper(final RestconfService restconf, final SchemaRetrievalService schema) {
         this.restconf = Preconditions.checkNotNull(restconf);
         this.schema = Preconditions.checkNotNull(schema);
@@ -60,12 +70,12 @@ public class RestconfCompositeWrapper implements RestconfService, SchemaRetrieva
 
     @Override
     public NormalizedNodeContext readConfigurationData(final String identifier, final UriInfo uriInfo) {
-        return restconf.readConfigurationData(identifier, uriInfo);
+        return evaluatePreconditions(restconf.readConfigurationData(identifier, uriInfo));
     }
 
     @Override
     public NormalizedNodeContext readOperationalData(final String identifier, final UriInfo uriInfo) {
-        return restconf.readOperationalData(identifier, uriInfo);
+        return evaluatePreconditions(restconf.readOperationalData(identifier, uriInfo));
     }
 
     @Override
@@ -88,6 +98,11 @@ public class RestconfCompositeWrapper implements RestconfService, SchemaRetrieva
         return restconf.deleteConfigurationData(identifier);
     }
 
+    @Override
+    public Response batchConfigurationData(final BatchContext batch) {
+        return restconf.batchConfigurationData(batch);
+    }
+
     @Override
     public Response subscribeToStream(final String identifier, final UriInfo uriInfo) {
         return restconf.subscribeToStream(identifier, uriInfo);
@@ -102,4 +117,19 @@ public class RestconfCompositeWrapper implements RestconfService, SchemaRetrieva
     public SchemaExportContext getSchema(final String mountId) {
         return schema.getSchema(mountId);
     }
+
+    /**
+     * Evaluate conditional headers of the request against the entity tag of read data, the client gets
+     * 304 Not Modified instead of the data if its copy has the same entity tag.
+     */
+    private NormalizedNodeContext evaluatePreconditions(final NormalizedNodeContext context) {
+        final Object entityTag = context.getHeaders().get(HttpHeaders.ETAG);
+        if (request != null && entityTag instanceof EntityTag) {
+            final ResponseBuilder builder = request.evaluatePreconditions((EntityTag) entityTag);
+            if (builder != null) {
+                throw new WebApplicationException(builder.tag((EntityTag) entityTag).build());
+            }
+        }
+        return context;
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Set;
+import org.opendaylight.controller.sal.restconf.impl.FieldsSelection;
+import org.opendaylight.controller.sal.restconf.impl.WriterParameters;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyXmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+
+/**
+ * Counterpart of {@link org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter}, which
+ * emits only the part of the data selected by {@link WriterParameters}. Data is bounded while it is traversed,
+ * so subtrees which are not selected are never visited.
+ *
+ * Depth counts containers and list entries, the written node being at depth 1. Children of nodes at the
+ * maximum depth are not written, except for the key leaves of list entries. Choices, augmentations and
+ * the lists themselves do not count. Field selection is applied to the children of the written node,
+ * or to the children of its entries if it is a list.
+ */
+public final class RestconfNormalizedNodeWriter implements Closeable, Flushable {
+
+    private final NormalizedNodeStreamWriter writer;
+    private final int maxDepth;
+    private final FieldsSelection fields;
+
+    private RestconfNormalizedNodeWriter(final NormalizedNodeStreamWriter writer, final WriterParameters parameters) {
+        this.writer = Preconditions.checkNotNull(writer);
+        this.maxDepth = parameters.getDepth() == null ? Integer.MAX_VALUE : parameters.getDepth();
+        this.fields = parameters.getFields();
+    }
+
+    public static RestconfNormalizedNodeWriter forStreamWriter(final NormalizedNodeStreamWriter writer,
+            final WriterParameters parameters) {
+        return new RestconfNormalizedNodeWriter(writer, parameters);
+    }
+
+    /**
+     * Write a node, which is the target of the request.
+     */
+    public RestconfNormalizedNodeWriter write(final NormalizedNode<?, ?> node) throws IOException {
+        writeNode(node, maxDepth, fields);
+        return this;
+    }
+
+    /**
+     * Write children of a node, which is the target of the request, but is not itself visible in the data,
+     * like the datastore root. The children are the topmost written nodes.
+     */
+    public RestconfNormalizedNodeWriter writeChildren(final DataContainerNode<?> node) throws IOException {
+        writeChildren(node.getValue(), maxDepth, fields, null);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+        writer.close();
+    }
+
+    private void writeNode(final NormalizedNode<?, ?> node, final int depth, final FieldsSelection selection)
+            throws IOException {
+        if (node instanceof LeafNode) {
+            writer.leafNode(((LeafNode<?>) node).getIdentifier(), node.getValue());
+        } else if (node instanceof LeafSetNode) {
+            final LeafSetNode<?> leafSet = (LeafSetNode<?>) node;
+            writer.startLeafSet(leafSet.getIdentifier(), leafSet.getValue().size());
+            for (final LeafSetEntryNode<?> entry : leafSet.getValue()) {
+                writer.leafSetEntryNode(entry.getValue());
+            }
+            writer.endNode();
+        } else if (node instanceof AnyXmlNode) {
+            writer.anyxmlNode(((AnyXmlNode) node).getIdentifier(), node.getValue());
+        } else if (node instanceof ContainerNode) {
+            final ContainerNode container = (ContainerNode) node;
+            writer.startContainerNode(container.getIdentifier(), container.getValue().size());
+            if (depth > 1) {
+                writeChildren(container.getValue(), depth - 1, selection, null);
+            }
+            writer.endNode();
+        } else if (node instanceof MapNode) {
+            final MapNode map = (MapNode) node;
+            if (map instanceof OrderedMapNode) {
+                writer.startOrderedMapNode(map.getIdentifier(), map.getValue().size());
+            } else {
+                writer.startMapNode(map.getIdentifier(), map.getValue().size());
+            }
+            for (final MapEntryNode entry : map.getValue()) {
+                writeMapEntry(entry, depth, selection);
+            }
+            writer.endNode();
+        } else if (node instanceof MapEntryNode) {
+            writeMapEntry((MapEntryNode) node, depth, selection);
+        } else if (node instanceof UnkeyedListNode) {
+            final UnkeyedListNode list = (UnkeyedListNode) node;
+            writer.startUnkeyedList(list.getIdentifier(), list.getValue().size());
+            for (final UnkeyedListEntryNode entry : list.getValue()) {
+                writer.startUnkeyedListItem(entry.getIdentifier(), entry.getValue().size());
+                if (depth > 1) {
+                    writeChildren(entry.getValue(), depth - 1, selection, null);
+                }
+                writer.endNode();
+            }
+            writer.endNode();
+        } else if (node instanceof ChoiceNode) {
+            final ChoiceNode choice = (ChoiceNode) node;
+            writer.startChoiceNode(choice.getIdentifier(), choice.getValue().size());
+            writeChildren(choice.getValue(), depth, selection, null);
+            writer.endNode();
+        } else if (node instanceof AugmentationNode) {
+            final AugmentationNode augmentation = (AugmentationNode) node;
+            writer.startAugmentationNode(augmentation.getIdentifier());
+            writeChildren(augmentation.getValue(), depth, selection, null);
+            writer.endNode();
+        } else {
+            throw new IllegalStateException("It wasn't possible to serialize node " + node);
+        }
+    }
+
+    private void writeMapEntry(final MapEntryNode entry, final int depth, final FieldsSelection selection)
+            throws IOException {
+        writer.startMapEntryNode(entry.getIdentifier(), entry.getValue().size());
+
+        // Keys identify the entry, they are written first and regardless of depth and selection
+        final Set<QName> keys = entry.getIdentifier().getKeyValues().keySet();
+        for (final QName key : keys) {
+            final Optional<DataContainerChild<? extends PathArgument, ?>> keyLeaf =
+                    entry.getChild(new NodeIdentifier(key));
+            if (keyLeaf.isPresent()) {
+                writeNode(keyLeaf.get(), depth, null);
+            }
+        }
+        if (depth > 1) {
+            writeChildren(entry.getValue(), depth - 1, selection, keys);
+        }
+        writer.endNode();
+    }
+
+    /**
+     * @param depth depth of the children
+     * @param selection selection within the parent of the children, null for all children
+     * @param skipped names of children which were already written, may be null
+     */
+    private void writeChildren(final Iterable<? extends DataContainerChild<? extends PathArgument, ?>> children,
+            final int depth, final FieldsSelection selection, final Set<QName> skipped) throws IOException {
+        for (final DataContainerChild<? extends PathArgument, ?> child : children) {
+            if (child instanceof ChoiceNode || child instanceof AugmentationNode) {
+                // Not visible in the data tree, their children are selected directly
+                writeNode(child, depth, selection);
+                continue;
+            }
+
+            final QName name = child.getNodeType();
+            if (skipped != null && child.getIdentifier() instanceof NodeIdentifier && skipped.contains(name)) {
+                continue;
+            }
+            if (selection == null) {
+                writeNode(child, depth, null);
+            } else {
+                final FieldsSelection childSelection = selection.getChild(name);
+                if (childSelection != null) {
+                    writeNode(child, depth, childSelection.selectsAll() ? null : childSelection);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+import org.opendaylight.controller.sal.rest.api.Draft02;
+import org.opendaylight.controller.sal.rest.api.RestconfService;
+import org.opendaylight.controller.sal.restconf.impl.BatchContext;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit.Operation;
+import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
+import org.opendaylight.controller.sal.restconf.impl.RestconfDocumentedException;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorTag;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorType;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Reads the XML form of {@link BatchContext}.
+ */
+@Provider
+@Consumes({ Draft02.MediaTypes.DATA + RestconfService.XML, MediaType.APPLICATION_XML, MediaType.TEXT_XML })
+public class XmlBatchBodyReader implements MessageBodyReader<BatchContext> {
+
+    private final static Logger LOG = LoggerFactory.getLogger(XmlBatchBodyReader.class);
+
+    @Override
+    public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+            final MediaType mediaType) {
+        return type.equals(BatchContext.class);
+    }
+
+    @Override
+    public BatchContext readFrom(final Class<BatchContext> type, final Type genericType,
+            final Annotation[] annotations, final MediaType mediaType,
+            final MultivaluedMap<String, String> httpHeaders, final InputStream entityStream) throws IOException,
+            WebApplicationException {
+        try {
+            final Document doc = XmlNormalizedNodeBodyReader.newDocumentBuilder().parse(entityStream);
+            final Element root = doc.getDocumentElement();
+            if (!isBatchElement(root, BatchContext.BATCH)) {
+                throw new RestconfDocumentedException("Root element has to be " + BatchContext.BATCH + " in namespace "
+                        + BatchContext.NAMESPACE, ErrorType.PROTOCOL, ErrorTag.MALFORMED_MESSAGE);
+            }
+
+            final List<BatchEdit> edits = new ArrayList<>();
+            for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element && isBatchElement((Element) child, BatchContext.EDIT)) {
+                    edits.add(readEdit((Element) child, edits.size()));
+                }
+            }
+            return new BatchContext(edits);
+        } catch (final RestconfDocumentedException e) {
+            throw e;
+        } catch (final Exception e) {
+            LOG.debug("Error parsing xml input", e);
+
+            throw new RestconfDocumentedException("Error parsing input: " + e.getMessage(), ErrorType.PROTOCOL,
+                    ErrorTag.MALFORMED_MESSAGE);
+        }
+    }
+
+    private static boolean isBatchElement(final Element element, final String name) {
+        return name.equals(element.getLocalName()) && BatchContext.NAMESPACE.equals(element.getNamespaceURI());
+    }
+
+    private static BatchEdit readEdit(final Element edit, final int index) {
+        String editId = null;
+        String operationName = null;
+        String targetPath = null;
+        Element value = null;
+        for (Node child = edit.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!(child instanceof Element)) {
+                continue;
+            }
+            final Element element = (Element) child;
+            if (isBatchElement(element, BatchContext.EDIT_ID)) {
+                editId = element.getTextContent().trim();
+            } else if (isBatchElement(element, BatchContext.OPERATION)) {
+                operationName = element.getTextContent().trim();
+            } else if (isBatchElement(element, BatchContext.TARGET)) {
+                targetPath = element.getTextContent().trim();
+            } else if (isBatchElement(element, BatchContext.VALUE)) {
+                value = firstChildElement(element);
+            }
+        }
+
+        Operation operation = null;
+        if (operationName != null) {
+            operation = Operation.forName(operationName);
+            if (operation == null) {
+                throw BatchBodyReaders.malformedEdit(editId, index, "unknown operation " + operationName);
+            }
+        }
+
+        final InstanceIdentifierContext<?> target = targetPath == null ? null
+                : BatchBodyReaders.resolveTarget(editId, index, targetPath);
+        NormalizedNode<?, ?> data = null;
+        if (value != null && target != null) {
+            try {
+                data = XmlNormalizedNodeBodyReader.parse(target, value);
+            } catch (final RuntimeException e) {
+                LOG.debug("Error parsing value of edit {}", editId, e);
+                throw BatchBodyReaders.malformedEdit(editId, index, "invalid value: " + e.getMessage());
+            }
+        }
+        return BatchBodyReaders.createEdit(editId, index, operation, target, data);
+    }
+
+    private static Element firstChildElement(final Element parent) {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                return (Element) child;
+            }
+        }
+        return null;
+    }
+}
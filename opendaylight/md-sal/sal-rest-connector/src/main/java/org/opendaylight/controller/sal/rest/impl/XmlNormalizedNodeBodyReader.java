@@ -98,7 +98,7 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
             }
             final Document doc = dBuilder.parse(entityStream);
 
-            final NormalizedNode<?, ?> result = parse(path.get(),doc);
+            final NormalizedNode<?, ?> result = parse(path.get(),doc.getDocumentElement());
             return new NormalizedNodeContext(path.get(),result);
         } catch (final Exception e) {
             LOG.debug("Error parsing xml input", e);
@@ -108,9 +108,16 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
         }
     }
 
-    private static NormalizedNode<?,?> parse(final InstanceIdentifierContext<?> pathContext,final Document doc) {
+    static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        return BUILDERFACTORY.newDocumentBuilder();
+    }
+
+    /**
+     * Parse data of the node identified by the path, or of its child, from the element.
+     */
+    static NormalizedNode<?,?> parse(final InstanceIdentifierContext<?> pathContext,final Element element) {
 
-        final List<Element> elements = Collections.singletonList(doc.getDocumentElement());
+        final List<Element> elements = Collections.singletonList(element);
         final SchemaNode schemaNodeContext = pathContext.getSchemaNode();
         DataSchemaNode schemaNode = null;
         if (schemaNodeContext instanceof RpcDefinition) {
@@ -121,7 +128,7 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
             throw new IllegalStateException("Unknow SchemaNode");
         }
 
-        final String docRootElm = doc.getDocumentElement().getLocalName();
+        final String docRootElm = element.getLocalName();
         final String schemaNodeName = pathContext.getSchemaNode().getQName().getLocalName();
 
         if (!schemaNodeName.equalsIgnoreCase(docRootElm)) {
@@ -139,7 +146,7 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
                 DomToNormalizedNodeParserFactory.getInstance(XmlUtils.DEFAULT_XML_CODEC_PROVIDER, pathContext.getSchemaContext());
 
         if(schemaNode instanceof ContainerSchemaNode) {
-            return parserFactory.getContainerNodeParser().parse(Collections.singletonList(doc.getDocumentElement()), (ContainerSchemaNode) schemaNode);
+            return parserFactory.getContainerNodeParser().parse(elements, (ContainerSchemaNode) schemaNode);
         } else if(schemaNode instanceof ListSchemaNode) {
             final ListSchemaNode casted = (ListSchemaNode) schemaNode;
             return parserFactory.getMapEntryNodeParser().parse(elements, casted);
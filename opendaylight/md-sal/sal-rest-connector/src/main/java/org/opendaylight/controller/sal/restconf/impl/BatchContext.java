@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+
+/**
+ * Edits of configuration data applied together in a single transaction, modeled after YANG Patch. In XML
+ * the edits are carried as
+ *
+ * <pre>
+ * &lt;batch xmlns="urn:opendaylight:params:xml:ns:yang:controller:md:sal:rest:batch"&gt;
+ *   &lt;edit&gt;
+ *     &lt;edit-id&gt;1&lt;/edit-id&gt;
+ *     &lt;operation&gt;replace&lt;/operation&gt;
+ *     &lt;target&gt;module:container/list/key&lt;/target&gt;
+ *     &lt;value&gt;&lt;list xmlns="module-namespace"&gt;...&lt;/list&gt;&lt;/value&gt;
+ *   &lt;/edit&gt;
+ * &lt;/batch&gt;
+ * </pre>
+ *
+ * and in JSON as
+ *
+ * <pre>
+ * { "edit" : [ { "edit-id" : "1", "operation" : "replace", "target" : "module:container/list/key",
+ *                "value" : { "module:list" : [ { ... } ] } } ] }
+ * </pre>
+ *
+ * Targets have the form of RESTCONF data resource identifiers. Edits are applied in order, each one sees
+ * the data written by the previous ones.
+ */
+public final class BatchContext {
+
+    public static final String NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:rest:batch";
+    public static final String BATCH = "batch";
+    public static final String EDIT = "edit";
+    public static final String EDIT_ID = "edit-id";
+    public static final String OPERATION = "operation";
+    public static final String TARGET = "target";
+    public static final String VALUE = "value";
+
+    private final List<BatchEdit> edits;
+
+    public BatchContext(final List<BatchEdit> edits) {
+        this.edits = ImmutableList.copyOf(edits);
+    }
+
+    public List<BatchEdit> getEdits() {
+        return edits;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+
+/**
+ * One edit of a {@link BatchContext}. The target identifies the edited data node itself and the value is the
+ * new data of that node, as in the payload of a PUT request to the target.
+ */
+public final class BatchEdit {
+
+    public enum Operation {
+        /**
+         * Create the target, fail if it exists.
+         */
+        CREATE("create", true),
+        /**
+         * Create or replace the target.
+         */
+        REPLACE("replace", true),
+        /**
+         * Merge the value into the target.
+         */
+        MERGE("merge", true),
+        /**
+         * Delete the target, fail if it does not exist.
+         */
+        DELETE("delete", false),
+        /**
+         * Delete the target if it exists.
+         */
+        REMOVE("remove", false);
+
+        private final String name;
+        private final boolean hasValue;
+
+        private Operation(final String name, final boolean hasValue) {
+            this.name = name;
+            this.hasValue = hasValue;
+        }
+
+        /**
+         * @return True if edits with the operation carry a value
+         */
+        public boolean hasValue() {
+            return hasValue;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        /**
+         * @return Operation of the name, or null if there is no such operation
+         */
+        public static Operation forName(final String name) {
+            for (final Operation operation : values()) {
+                if (operation.name.equals(name)) {
+                    return operation;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final String editId;
+    private final Operation operation;
+    private final InstanceIdentifierContext<? extends SchemaNode> target;
+    private final NormalizedNode<?, ?> data;
+
+    /**
+     * Edits are not validated here, body readers report malformed edits to the client before creating them.
+     */
+    public BatchEdit(final String editId, final Operation operation,
+            final InstanceIdentifierContext<? extends SchemaNode> target, final NormalizedNode<?, ?> data) {
+        this.editId = editId;
+        this.operation = operation;
+        this.target = target;
+        this.data = data;
+    }
+
+    /**
+     * @param edit identification of an edit
+     * @param cause failure of the edit
+     * @return Errors of the failure, with messages naming the edit
+     */
+    public static List<RestconfError> toEditErrors(final String edit, final RestconfDocumentedException cause) {
+        final List<RestconfError> errors = new ArrayList<>(cause.getErrors().size());
+        for (final RestconfError error : cause.getErrors()) {
+            errors.add(new RestconfError(error.getErrorType(), error.getErrorTag(),
+                    "Edit " + edit + ": " + error.getErrorMessage(), error.getErrorAppTag(), error.getErrorInfo()));
+        }
+        return errors;
+    }
+
+    public String getEditId() {
+        return editId;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public InstanceIdentifierContext<? extends SchemaNode> getTarget() {
+        return target;
+    }
+
+    /**
+     * @return New data of the target, null for operations which delete it
+     */
+    public NormalizedNode<?, ?> getData() {
+        return data;
+    }
+}
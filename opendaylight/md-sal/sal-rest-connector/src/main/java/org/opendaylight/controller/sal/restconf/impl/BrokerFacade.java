@@ -14,8 +14,11 @@ import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import javax.ws.rs.core.Response.Status;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
@@ -27,6 +30,7 @@ import org.opendaylight.controller.md.sal.common.impl.util.compat.DataNormalizat
 import org.opendaylight.controller.md.sal.common.impl.util.compat.DataNormalizer;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataChangeListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataReadTransaction;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataReadWriteTransaction;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
@@ -34,14 +38,21 @@ import org.opendaylight.controller.md.sal.dom.api.DOMMountPoint;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
+import org.opendaylight.controller.md.sal.dom.spi.DOMDataPagedReadTransaction;
+import org.opendaylight.controller.md.sal.dom.store.impl.MapNodePaging;
 import org.opendaylight.controller.sal.core.api.Broker.ConsumerSession;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.core.spi.data.DOMStorePagedReadTransaction;
 import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorTag;
 import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorType;
 import org.opendaylight.controller.sal.streams.listeners.ListenerAdapter;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
@@ -104,6 +115,24 @@ public class BrokerFacade {
         throw new RestconfDocumentedException("DOM data broker service isn't available for mount point.");
     }
 
+    // READ page of a keyed list
+    public DOMStoreMapPage readDataPage(final LogicalDatastoreType datastore, final YangInstanceIdentifier path,
+            final NodeIdentifierWithPredicates startKey, final int limit, final Collection<PathArgument> fields) {
+        checkPreconditions();
+        return readPageViaTransaction(domDataBroker.newReadOnlyTransaction(), datastore, path, startKey, limit, fields);
+    }
+
+    public DOMStoreMapPage readDataPage(final DOMMountPoint mountPoint, final LogicalDatastoreType datastore,
+            final YangInstanceIdentifier path, final NodeIdentifierWithPredicates startKey, final int limit,
+            final Collection<PathArgument> fields) {
+        final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
+        if (domDataBrokerService.isPresent()) {
+            return readPageViaTransaction(domDataBrokerService.get().newReadOnlyTransaction(), datastore, path,
+                    startKey, limit, fields);
+        }
+        throw new RestconfDocumentedException("DOM data broker service isn't available for mount point.");
+    }
+
     // PUT configuration
     public CheckedFuture<Void, TransactionCommitFailedException> commitConfigurationDataPut(
             final YangInstanceIdentifier path, final NormalizedNode<?, ?> payload) {
@@ -158,6 +187,40 @@ public class BrokerFacade {
         throw new RestconfDocumentedException("DOM data broker service isn't available for mount point.");
     }
 
+    // Batch of configuration edits
+    /**
+     * Apply the edits in a single transaction and submit it. If any edit fails, the transaction is cancelled and
+     * errors of all failed edits are reported.
+     */
+    public CheckedFuture<Void, TransactionCommitFailedException> commitConfigurationDataBatch(
+            final List<BatchEdit> edits) {
+        checkPreconditions();
+        final DataNormalizationOperation<?> rootOp = ControllerContext.getInstance().getRootOperation();
+        final DOMDataReadWriteTransaction rwTransaction = domDataBroker.newReadWriteTransaction();
+
+        // Parents created or found by previous edits, most edits of a batch share them
+        final Set<YangInstanceIdentifier> existingParents = new HashSet<>();
+        final List<RestconfError> errors = new ArrayList<>();
+        for (final BatchEdit edit : edits) {
+            try {
+                applyEdit(rwTransaction, edit, rootOp, existingParents);
+            } catch (final RestconfDocumentedException e) {
+                errors.addAll(BatchEdit.toEditErrors(edit.getEditId(), e));
+            } catch (final IllegalArgumentException | IllegalStateException e) {
+                LOG.debug("Edit {} of batch failed", edit.getEditId(), e);
+                errors.add(new RestconfError(ErrorType.APPLICATION, ErrorTag.OPERATION_FAILED,
+                        "Edit " + edit.getEditId() + ": " + e.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            rwTransaction.cancel();
+            throw new RestconfDocumentedException("Batch was not applied", null, errors);
+        }
+        LOG.trace("Batch of {} edits via Restconf", edits.size());
+        return rwTransaction.submit();
+    }
+
     // RPC
     public CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final SchemaPath type, final NormalizedNode<?, ?> input) {
         checkPreconditions();
@@ -182,6 +245,12 @@ public class BrokerFacade {
         listener.setRegistration(registration);
     }
 
+    public ListenerRegistration<DOMDataChangeListener> registerDataChangeListener(final LogicalDatastoreType datastore,
+            final YangInstanceIdentifier path, final DOMDataChangeListener listener, final DataChangeScope scope) {
+        checkPreconditions();
+        return domDataBroker.registerDataChangeListener(datastore, path, listener, scope);
+    }
+
     private NormalizedNode<?, ?> readDataViaTransaction(final DOMDataReadTransaction transaction,
             final LogicalDatastoreType datastore, final YangInstanceIdentifier path) {
         LOG.trace("Read " + datastore.name() + " via Restconf: {}", path);
@@ -204,6 +273,50 @@ public class BrokerFacade {
         return null;
     }
 
+    /**
+     * Reads a page of a keyed list. Only the page is read from datastores which support paged reads, others,
+     * like those of mount points, return the whole list, which is then cut down to the page. A start key which
+     * does not identify an entry of the list is reported as an invalid value.
+     */
+    private DOMStoreMapPage readPageViaTransaction(final DOMDataReadOnlyTransaction transaction,
+            final LogicalDatastoreType datastore, final YangInstanceIdentifier path,
+            final NodeIdentifierWithPredicates startKey, final int limit, final Collection<PathArgument> fields) {
+        try {
+            if (transaction instanceof DOMDataPagedReadTransaction) {
+                LOG.trace("Read page of " + datastore.name() + " via Restconf: {} from {} limit {}", path, startKey, limit);
+                final Optional<DOMStoreMapPage> page = ((DOMDataPagedReadTransaction) transaction).readPage(
+                        datastore, path, startKey, limit, fields).checkedGet();
+                return page.isPresent() ? page.get() : null;
+            }
+
+            final NormalizedNode<?, ?> data = readDataViaTransaction(transaction, datastore, path);
+            if (data == null) {
+                return null;
+            }
+            if (!(data instanceof MapNode)) {
+                throw new RestconfDocumentedException("Data at " + path + " is not a keyed list",
+                        ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
+            }
+            return MapNodePaging.extractPage((MapNode) data, startKey, limit, fields);
+        } catch (final ReadFailedException e) {
+            if (isStartKeyMissing(e)) {
+                throw new RestconfDocumentedException(e.getMessage(), ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
+            }
+            throw new RestconfDocumentedException("Problem to get data from transaction.", e);
+        } finally {
+            transaction.close();
+        }
+    }
+
+    private static boolean isStartKeyMissing(final ReadFailedException e) {
+        for (final RpcError error : e.getErrorList()) {
+            if (DOMStorePagedReadTransaction.START_KEY_MISSING_TAG.equals(error.getTag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private CheckedFuture<Void, TransactionCommitFailedException> postDataViaTransaction(
             final DOMDataReadWriteTransaction rWTransaction, final LogicalDatastoreType datastore,
             final YangInstanceIdentifier parentPath, final NormalizedNode<?, ?> payload, final DataNormalizationOperation<?> root) {
@@ -253,6 +366,74 @@ public class BrokerFacade {
         return writeTransaction.submit();
     }
 
+    private void applyEdit(final DOMDataReadWriteTransaction rwTransaction, final BatchEdit edit,
+            final DataNormalizationOperation<?> root, final Set<YangInstanceIdentifier> existingParents) {
+        if (edit.getTarget().getMountPoint() != null) {
+            throw new RestconfDocumentedException("Edits of data behind mount points are not supported in batches",
+                    ErrorType.APPLICATION, ErrorTag.OPERATION_NOT_SUPPORTED);
+        }
+
+        final YangInstanceIdentifier path = edit.getTarget().getInstanceIdentifier();
+        switch (edit.getOperation()) {
+        case CREATE:
+            if (exists(rwTransaction, CONFIGURATION, path)) {
+                throw new RestconfDocumentedException("Data already exists for path: " + path, ErrorType.PROTOCOL,
+                        ErrorTag.DATA_EXISTS);
+            }
+            mergeMissingParents(CONFIGURATION, path, rwTransaction, root, existingParents);
+            rwTransaction.put(CONFIGURATION, path, edit.getData());
+            forgetParentsWithin(existingParents, path);
+            break;
+        case REPLACE:
+            mergeMissingParents(CONFIGURATION, path, rwTransaction, root, existingParents);
+            rwTransaction.put(CONFIGURATION, path, edit.getData());
+            forgetParentsWithin(existingParents, path);
+            break;
+        case MERGE:
+            mergeMissingParents(CONFIGURATION, path, rwTransaction, root, existingParents);
+            rwTransaction.merge(CONFIGURATION, path, edit.getData());
+            break;
+        case DELETE:
+            if (!exists(rwTransaction, CONFIGURATION, path)) {
+                throw new RestconfDocumentedException("Data specified for deleting doesn't exist.",
+                        ErrorType.APPLICATION, ErrorTag.DATA_MISSING);
+            }
+            rwTransaction.delete(CONFIGURATION, path);
+            forgetParentsWithin(existingParents, path);
+            break;
+        case REMOVE:
+            if (exists(rwTransaction, CONFIGURATION, path)) {
+                rwTransaction.delete(CONFIGURATION, path);
+                forgetParentsWithin(existingParents, path);
+            }
+            break;
+        default:
+            throw new IllegalStateException("Unhandled operation " + edit.getOperation());
+        }
+    }
+
+    /**
+     * Drops the path and paths under it, which may not exist anymore once the path was replaced or deleted.
+     */
+    private static void forgetParentsWithin(final Set<YangInstanceIdentifier> existingParents,
+            final YangInstanceIdentifier path) {
+        final Iterator<YangInstanceIdentifier> it = existingParents.iterator();
+        while (it.hasNext()) {
+            if (path.contains(it.next())) {
+                it.remove();
+            }
+        }
+    }
+
+    private static boolean exists(final DOMDataReadWriteTransaction rwTransaction,
+            final LogicalDatastoreType datastore, final YangInstanceIdentifier path) {
+        try {
+            return rwTransaction.exists(datastore, path).checkedGet();
+        } catch (final ReadFailedException e) {
+            throw new RestconfDocumentedException("Problem to get data from transaction.", e);
+        }
+    }
+
     public void setDomDataBroker(final DOMDataBroker domDataBroker) {
         this.domDataBroker = domDataBroker;
     }
@@ -260,6 +441,21 @@ public class BrokerFacade {
     private final void ensureParentsByMerge(final LogicalDatastoreType store,
             final YangInstanceIdentifier normalizedPath, final DOMDataReadWriteTransaction rwTx,
             final DataNormalizationOperation<?> root) {
+        try {
+            mergeMissingParents(store, normalizedPath, rwTx, root, null);
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            rwTx.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * @param existingParents paths known to exist in the transaction, which are not read again, updated with
+     *                        the parents of the path, may be null
+     */
+    private static void mergeMissingParents(final LogicalDatastoreType store,
+            final YangInstanceIdentifier normalizedPath, final DOMDataReadWriteTransaction rwTx,
+            final DataNormalizationOperation<?> root, final Set<YangInstanceIdentifier> existingParents) {
         final List<PathArgument> currentArguments = new ArrayList<>();
         final Iterator<PathArgument> iterator = normalizedPath.getPathArguments().iterator();
         DataNormalizationOperation<?> currentOp = root;
@@ -268,12 +464,18 @@ public class BrokerFacade {
             try {
                 currentOp = currentOp.getChild(currentArg);
             } catch (final DataNormalizationException e) {
-                rwTx.cancel();
                 throw new IllegalArgumentException(
                         String.format("Invalid child encountered in path %s", normalizedPath), e);
             }
             currentArguments.add(currentArg);
+            if (!iterator.hasNext()) {
+                break;
+            }
+
             final YangInstanceIdentifier currentPath = YangInstanceIdentifier.create(currentArguments);
+            if (existingParents != null && existingParents.contains(currentPath)) {
+                continue;
+            }
 
             final Boolean exists;
 
@@ -283,13 +485,15 @@ public class BrokerFacade {
                 exists = future.checkedGet();
             } catch (final ReadFailedException e) {
                 LOG.error("Failed to read pre-existing data from store {} path {}", store, currentPath, e);
-                rwTx.cancel();
                 throw new IllegalStateException("Failed to read pre-existing data", e);
             }
 
-            if (!exists && iterator.hasNext()) {
+            if (!exists) {
                 rwTx.merge(store, currentPath, currentOp.createDefault(currentArg));
             }
+            if (existingParents != null) {
+                existingParents.add(currentPath);
+            }
         }
     }
 }
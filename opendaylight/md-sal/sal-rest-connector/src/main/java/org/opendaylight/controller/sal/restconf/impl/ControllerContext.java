@@ -94,11 +94,18 @@ public class ControllerContext implements SchemaContextListener {
     private volatile SchemaContext globalSchema;
     private volatile DOMMountPointService mountService;
 
+    /**
+     * Index of the global schema context, replaced together with it.
+     */
+    private volatile SchemaIndex schemaIndex;
+
     private DataNormalizer dataNormalizer;
 
     public void setGlobalSchema(final SchemaContext globalSchema) {
+        final SchemaIndex index = new SchemaIndex(globalSchema);
+        schemaIndex = index;
+        dataNormalizer = index.getDataNormalizer();
         this.globalSchema = globalSchema;
-        dataNormalizer = new DataNormalizer(globalSchema);
     }
 
     public void setMountService(final DOMMountPointService mountService) {
@@ -141,6 +148,13 @@ public class ControllerContext implements SchemaContextListener {
             return new InstanceIdentifierContext<>(ROOT, globalSchema, null, globalSchema);
         }
 
+        // Resolution of identifiers outside mount points depends only on the schema context
+        final SchemaIndex index = schemaIndex;
+        final InstanceIdentifierContext cached = index.getIdentifier(restconfInstance);
+        if (cached != null) {
+            return cached;
+        }
+
         final List<String> pathArgs = urlPathArgsDecode(SLASH_SPLITTER.split(restconfInstance));
         omitFirstAndLastEmptyString(pathArgs);
         if (pathArgs.isEmpty()) {
@@ -155,7 +169,7 @@ public class ControllerContext implements SchemaContextListener {
         }
 
         final InstanceIdentifierBuilder builder = YangInstanceIdentifier.builder();
-        final Module latestModule = globalSchema.findModuleByName(startModule, null);
+        final Module latestModule = index.findModuleByName(startModule);
         final InstanceIdentifierContext iiWithSchemaNode = collectPathArguments(builder, pathArgs, latestModule, null,
                 toMountPointIdentifier);
 
@@ -163,6 +177,9 @@ public class ControllerContext implements SchemaContextListener {
             throw new RestconfDocumentedException("URI has bad format", ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
         }
 
+        if (iiWithSchemaNode.getMountPoint() == null && iiWithSchemaNode.getSchemaContext() == index.getSchemaContext()) {
+            index.putIdentifier(restconfInstance, iiWithSchemaNode);
+        }
         return iiWithSchemaNode;
     }
 
@@ -190,7 +207,7 @@ public class ControllerContext implements SchemaContextListener {
     public Module findModuleByName(final String moduleName) {
         checkPreconditions();
         Preconditions.checkArgument(moduleName != null && !moduleName.isEmpty());
-        return globalSchema.findModuleByName(moduleName, null);
+        return schemaIndex.findModuleByName(moduleName);
     }
 
     public Module findModuleByName(final DOMMountPoint mountPoint, final String moduleName) {
@@ -570,7 +587,7 @@ public class ControllerContext implements SchemaContextListener {
             Module module = null;
             if (mountPoint == null) {
                 checkPreconditions();
-                module = globalSchema.findModuleByName(moduleName, null);
+                module = schemaIndex.findModuleByName(moduleName);
                 if (module == null) {
                     throw new RestconfDocumentedException("\"" + moduleName + "\" module does not exist.",
                             ErrorType.PROTOCOL, ErrorTag.UNKNOWN_ELEMENT);
@@ -588,7 +605,8 @@ public class ControllerContext implements SchemaContextListener {
                 }
             }
 
-            targetNode = findInstanceDataChildByNameAndNamespace(parentNode, nodeName, module.getNamespace());
+            targetNode = findInstanceDataChildByNameAndNamespace(
+                    findInstanceDataChildren(parentNode, nodeName, mountPoint), module.getNamespace());
 
             if (targetNode == null && parentNode instanceof Module) {
                 final RpcDefinition rpc = ControllerContext.getInstance().getRpcDefinition(head);
@@ -605,7 +623,7 @@ public class ControllerContext implements SchemaContextListener {
                         ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
             }
         } else {
-            final List<DataSchemaNode> potentialSchemaNodes = findInstanceDataChildrenByName(parentNode, nodeName);
+            final List<DataSchemaNode> potentialSchemaNodes = findInstanceDataChildren(parentNode, nodeName, mountPoint);
             if (potentialSchemaNodes.size() > 1) {
                 final StringBuilder strBuilder = new StringBuilder();
                 for (final DataSchemaNode potentialNodeSchema : potentialSchemaNodes) {
@@ -678,15 +696,30 @@ public class ControllerContext implements SchemaContextListener {
     private InstanceIdentifierContext createContext(final YangInstanceIdentifier instance, final DataSchemaNode dataSchemaNode,
             final DOMMountPoint mountPoint, final SchemaContext schemaContext) {
 
-        final YangInstanceIdentifier instanceIdentifier = new DataNormalizer(schemaContext).toNormalized(instance);
+        final SchemaIndex index = schemaIndex;
+        final DataNormalizer normalizer = index.getSchemaContext() == schemaContext ? index.getDataNormalizer()
+                : new DataNormalizer(schemaContext);
+        final YangInstanceIdentifier instanceIdentifier = normalizer.toNormalized(instance);
         return new InstanceIdentifierContext(instanceIdentifier, dataSchemaNode, mountPoint,schemaContext);
     }
 
+    /**
+     * Children of nodes of the global schema context are looked up in its index.
+     */
+    private List<DataSchemaNode> findInstanceDataChildren(final DataNodeContainer container, final String name,
+            final DOMMountPoint mountPoint) {
+        return mountPoint == null ? schemaIndex.findInstanceDataChildrenByName(container, name)
+                : findInstanceDataChildrenByName(container, name);
+    }
+
     public static DataSchemaNode findInstanceDataChildByNameAndNamespace(final DataNodeContainer container, final String name,
             final URI namespace) {
-        Preconditions.<URI> checkNotNull(namespace);
+        return findInstanceDataChildByNameAndNamespace(findInstanceDataChildrenByName(container, name), namespace);
+    }
 
-        final List<DataSchemaNode> potentialSchemaNodes = findInstanceDataChildrenByName(container, name);
+    private static DataSchemaNode findInstanceDataChildByNameAndNamespace(
+            final List<DataSchemaNode> potentialSchemaNodes, final URI namespace) {
+        Preconditions.<URI> checkNotNull(namespace);
 
         final Predicate<DataSchemaNode> filter = new Predicate<DataSchemaNode>() {
             @Override
@@ -809,7 +842,7 @@ public class ControllerContext implements SchemaContextListener {
         checkPreconditions();
         final String module = toModuleName(name);
         final String node = toNodeName(name);
-        final Module m = globalSchema.findModuleByName(module, null);
+        final Module m = schemaIndex.findModuleByName(module);
         return m == null ? null : QName.create(m.getQNameModule(), node);
     }
 
@@ -886,13 +919,28 @@ public class ControllerContext implements SchemaContextListener {
             final ListSchemaNode node, final DOMMountPoint mount) {
         final QName nodeType = argument.getNodeType();
         final CharSequence nodeIdentifier = this.toRestconfIdentifier(nodeType, mount);
-        final Map<QName, Object> keyValues = argument.getKeyValues();
+        final String keyValues = toRestconfKeyValues(argument, node, mount);
+        if (keyValues == null) {
+            return null;
+        }
 
         final StringBuilder builder = new StringBuilder();
         builder.append('/');
         builder.append(nodeIdentifier);
         builder.append('/');
+        builder.append(keyValues);
+        return builder.toString();
+    }
+
+    /**
+     * @return Key values of a list entry in the form used by restconf URIs, separated by slashes, or null if
+     *         they cannot be encoded
+     */
+    public String toRestconfKeyValues(final NodeIdentifierWithPredicates argument, final ListSchemaNode node,
+            final DOMMountPoint mount) {
+        final Map<QName, Object> keyValues = argument.getKeyValues();
 
+        final StringBuilder builder = new StringBuilder();
         final List<QName> keyDefinition = node.getKeyDefinition();
         boolean hasElements = false;
         for (final QName key : keyDefinition) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yangtools.yang.common.QName;
+
+/**
+ * Tree of data nodes selected by the fields query parameter. Each level holds the selected children
+ * of a data node, a level without children selects the whole subtree. Children of choices and
+ * augmentations are selected directly by their names, as the choices and augmentations do not
+ * appear in the data tree presented to the client.
+ */
+public final class FieldsSelection {
+
+    private final Map<QName, FieldsSelection> children = new LinkedHashMap<>();
+
+    /**
+     * @return True if the whole subtree of the node is selected
+     */
+    public boolean selectsAll() {
+        return children.isEmpty();
+    }
+
+    /**
+     * @param name name of a child node
+     * @return Selection within the child, or null if the child is not selected
+     */
+    public FieldsSelection getChild(final QName name) {
+        return selectsAll() ? this : children.get(name);
+    }
+
+    public Set<QName> getSelectedChildren() {
+        return Collections.unmodifiableSet(children.keySet());
+    }
+
+    /**
+     * @param name name of a child node
+     * @return Selection within the child, which selects the whole child until a child of its own is added
+     */
+    public FieldsSelection addChild(final QName name) {
+        FieldsSelection child = children.get(name);
+        if (child == null) {
+            child = new FieldsSelection();
+            children.put(name, child);
+        }
+        return child;
+    }
+
+    @Override
+    public String toString() {
+        return children.toString();
+    }
+}
@@ -1,5 +1,7 @@
 package org.opendaylight.controller.sal.restconf.impl;
 
+import java.util.Collections;
+import java.util.Map;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 
@@ -7,10 +9,27 @@ public class NormalizedNodeContext {
 
     private final InstanceIdentifierContext<? extends SchemaNode> context;
     private final NormalizedNode<?,?> data;
+    private final WriterParameters writerParameters;
+    private final Map<String, Object> headers;
+    private final ResponseCache.Entry cacheEntry;
 
     public NormalizedNodeContext(final InstanceIdentifierContext<? extends SchemaNode> context, final NormalizedNode<?, ?> data) {
+        this(context, data, WriterParameters.DEFAULT, Collections.<String, Object>emptyMap());
+    }
+
+    public NormalizedNodeContext(final InstanceIdentifierContext<? extends SchemaNode> context, final NormalizedNode<?, ?> data,
+            final WriterParameters writerParameters, final Map<String, Object> headers) {
+        this(context, data, writerParameters, headers, null);
+    }
+
+    public NormalizedNodeContext(final InstanceIdentifierContext<? extends SchemaNode> context, final NormalizedNode<?, ?> data,
+            final WriterParameters writerParameters, final Map<String, Object> headers,
+            final ResponseCache.Entry cacheEntry) {
         this.context = context;
         this.data = data;
+        this.writerParameters = writerParameters;
+        this.headers = headers;
+        this.cacheEntry = cacheEntry;
     }
 
     public InstanceIdentifierContext<? extends SchemaNode> getInstanceIdentifierContext() {
@@ -20,4 +39,23 @@ public class NormalizedNodeContext {
     public NormalizedNode<?, ?> getData() {
         return data;
     }
+
+    public WriterParameters getWriterParameters() {
+        return writerParameters;
+    }
+
+    /**
+     * @return Headers which should be added to the response carrying this data
+     */
+    public Map<String, Object> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return Cache entry the data comes from, which keeps bodies serialized from it, or null if the
+     *         serialized body is not cached
+     */
+    public ResponseCache.Entry getCacheEntry() {
+        return cacheEntry;
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.ws.rs.core.EntityTag;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataChangeListener;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of data read by RESTCONF, keyed by datastore and path. Each entry carries an entity tag
+ * identifying its version of the data, and the serialized response bodies produced from it.
+ *
+ * An entry listens for changes of its subtree and is evicted as soon as the subtree is modified, the next
+ * read loads the data again and tags it with a new entity tag. Listeners are registered before the data is
+ * read, so no modification committed after the read can go unnoticed. A modification reported before the
+ * entry is inserted into the cache marks the entry invalidated, which is checked once the entry is inserted.
+ *
+ * Entity tags are weak: the same tag is sent with every representation of the data, JSON or XML, complete or
+ * bounded by depth and fields, which are semantically equivalent but not byte-for-byte identical.
+ */
+public final class ResponseCache implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseCache.class);
+
+    /**
+     * Largest serialized body kept by an entry, larger bodies are serialized for each response.
+     */
+    public static final int MAX_CACHED_BODY_SIZE = 256 * 1024;
+
+    // Distinguishes entity tags issued before a restart from the current ones
+    private static final String TAG_PREFIX = Long.toHexString(System.currentTimeMillis()) + "-";
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final BrokerFacade broker;
+    private final Cache<Key, Entry> cache;
+
+    public ResponseCache(final BrokerFacade broker, final long maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0, "Maximum size has to be > 0");
+        this.broker = Preconditions.checkNotNull(broker);
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize)
+                .removalListener(new RemovalListener<Key, Entry>() {
+                    @Override
+                    public void onRemoval(final RemovalNotification<Key, Entry> notification) {
+                        notification.getValue().closeRegistration();
+                    }
+                }).build();
+    }
+
+    /**
+     * @return Cached data of the path, read from the datastore if it is not cached
+     */
+    public Entry get(final LogicalDatastoreType datastore, final YangInstanceIdentifier path) {
+        final Key key = new Key(datastore, path);
+        final Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isInvalidated()) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            cache.asMap().remove(key, cached);
+        }
+
+        final Entry loaded;
+        try {
+            loaded = cache.get(key, new Callable<Entry>() {
+                @Override
+                public Entry call() {
+                    return load(key);
+                }
+            });
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RestconfDocumentedException) {
+                throw (RestconfDocumentedException) e.getCause();
+            }
+            throw new RestconfDocumentedException("Problem to get data from transaction.", e.getCause());
+        }
+
+        // The data may have changed before the entry was inserted, in which case the listener could not evict it.
+        // The data is still as recent as the request, but must not be served to later ones.
+        if (loaded.isInvalidated()) {
+            cache.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    private Entry load(final Key key) {
+        final Entry entry = new Entry(key, TAG_PREFIX + Long.toHexString(generation.incrementAndGet()));
+        entry.setRegistration(broker.registerDataChangeListener(key.datastore, key.path, entry,
+                DataChangeScope.SUBTREE));
+        try {
+            entry.setData(key.datastore == LogicalDatastoreType.CONFIGURATION
+                    ? broker.readConfigurationData(key.path) : broker.readOperationalData(key.path));
+        } catch (final RuntimeException e) {
+            entry.closeRegistration();
+            throw e;
+        }
+        return entry;
+    }
+
+    /**
+     * @return Number of reads served from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    private static final class Key {
+        private final LogicalDatastoreType datastore;
+        private final YangInstanceIdentifier path;
+
+        Key(final LogicalDatastoreType datastore, final YangInstanceIdentifier path) {
+            this.datastore = Preconditions.checkNotNull(datastore);
+            this.path = Preconditions.checkNotNull(path);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * datastore.hashCode() + path.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return datastore == other.datastore && path.equals(other.path);
+        }
+    }
+
+    /**
+     * Version of the data of a path. Data is null if it did not exist when it was read.
+     */
+    public final class Entry implements DOMDataChangeListener {
+        private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+        private final Key key;
+        private final EntityTag entityTag;
+        private volatile ListenerRegistration<DOMDataChangeListener> registration;
+        private volatile boolean invalidated;
+
+        // Guarded by this, events may be delivered before the data is read
+        private NormalizedNode<?, ?> data;
+        private boolean loaded;
+        private boolean changedWhileLoading;
+        private NormalizedNode<?, ?> updatedWhileLoading;
+
+        Entry(final Key key, final String tag) {
+            this.key = key;
+            this.entityTag = new EntityTag(tag, true);
+        }
+
+        public synchronized NormalizedNode<?, ?> getData() {
+            return data;
+        }
+
+        public EntityTag getEntityTag() {
+            return entityTag;
+        }
+
+        /**
+         * @param format media type, or other identification of the serialization format
+         * @return Body serialized from the data, or null if it was not cached yet
+         */
+        public byte[] getBody(final String format) {
+            return bodies.get(format);
+        }
+
+        public void putBody(final String format, final byte[] body) {
+            if (body.length <= MAX_CACHED_BODY_SIZE) {
+                bodies.put(format, body);
+            }
+        }
+
+        /**
+         * @return True if the data changed since it was read, the entry is going to be evicted
+         */
+        public boolean isInvalidated() {
+            return invalidated;
+        }
+
+        synchronized void setData(final NormalizedNode<?, ?> data) {
+            this.data = data;
+            loaded = true;
+            // The last event delivered before the read reports the data as it is after the latest commit
+            if (changedWhileLoading && !Objects.equals(updatedWhileLoading, data)) {
+                invalidated = true;
+            }
+            updatedWhileLoading = null;
+        }
+
+        void setRegistration(final ListenerRegistration<DOMDataChangeListener> registration) {
+            this.registration = registration;
+        }
+
+        void closeRegistration() {
+            final ListenerRegistration<DOMDataChangeListener> reg = registration;
+            if (reg != null) {
+                registration = null;
+                reg.close();
+            }
+        }
+
+        @Override
+        public void onDataChanged(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
+            final NormalizedNode<?, ?> updated = change.getUpdatedSubtree();
+            synchronized (this) {
+                if (!loaded) {
+                    changedWhileLoading = true;
+                    updatedWhileLoading = updated;
+                    return;
+                }
+
+                // The initial event after registration reports the data as it is, which is not a modification
+                if (updated == data || Objects.equals(updated, data)) {
+                    return;
+                }
+            }
+
+            LOG.trace("Data of {} changed, evicting its cached version {}", key.path, entityTag);
+            invalidated = true;
+            cache.asMap().remove(key, this);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -36,6 +37,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
@@ -52,6 +54,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.md.sal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
 import org.opendaylight.controller.sal.rest.api.Draft02;
 import org.opendaylight.controller.sal.rest.api.RestconfService;
 import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorTag;
@@ -118,7 +121,10 @@ public class RestconfImpl implements RestconfService {
 
     private enum UriParameters {
         PRETTY_PRINT("prettyPrint"),
-        DEPTH("depth");
+        DEPTH("depth"),
+        FIELDS("fields"),
+        LIMIT("limit"),
+        START_KEY("start-key");
 
         private String uriParameterName;
 
@@ -160,6 +166,11 @@ public class RestconfImpl implements RestconfService {
 
     private ControllerContext controllerContext;
 
+    /**
+     * Cache of data read from the datastores, absent if responses are not cached.
+     */
+    private volatile ResponseCache responseCache;
+
     private static final Logger LOG = LoggerFactory.getLogger(RestconfImpl.class);
 
     private static final DataChangeScope DEFAULT_SCOPE = DataChangeScope.BASE;
@@ -174,6 +185,15 @@ public class RestconfImpl implements RestconfService {
 
     private static final String SCOPE_PARAM_NAME = "scope";
 
+    /**
+     * Response header carrying the start-key of the next page of a paged list read, absent on the last page.
+     */
+    private static final String NEXT_START_KEY_HEADER = "X-Next-Start-Key";
+
+    private static final Splitter FIELDS_SPLITTER = Splitter.on(';').omitEmptyStrings().trimResults();
+
+    private static final Splitter FIELD_PATH_SPLITTER = Splitter.on('/').omitEmptyStrings().trimResults();
+
     private static final String NETCONF_BASE = "urn:ietf:params:xml:ns:netconf:base:1.0";
 
     private static final String NETCONF_BASE_PAYLOAD_NAME = "data";
@@ -203,6 +223,14 @@ public class RestconfImpl implements RestconfService {
         this.controllerContext = controllerContext;
     }
 
+    public void setResponseCache(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     private RestconfImpl() {
     }
 
@@ -867,21 +895,145 @@ public class RestconfImpl implements RestconfService {
 
     @Override
     public NormalizedNodeContext readConfigurationData(final String identifier, final UriInfo uriInfo) {
-        final InstanceIdentifierContext iiWithData = controllerContext.toInstanceIdentifier(identifier);
+        return readData(identifier, uriInfo, LogicalDatastoreType.CONFIGURATION);
+    }
+
+    @Override
+    public NormalizedNodeContext readOperationalData(final String identifier, final UriInfo uriInfo) {
+        return readData(identifier, uriInfo, LogicalDatastoreType.OPERATIONAL);
+    }
+
+    /**
+     * Depth and fields bound the data written into the response, limit and start-key select a page of a keyed
+     * list, which is read from the datastore instead of the whole list. Other reads outside mount points are
+     * served from the response cache if it is enabled, and are tagged with the entity tag of the cached data.
+     */
+    private NormalizedNodeContext readData(final String identifier, final UriInfo uriInfo,
+            final LogicalDatastoreType datastore) {
+        final InstanceIdentifierContext<?> iiWithData = controllerContext.toInstanceIdentifier(identifier);
+        final Integer depth = parseDepthParameter(uriInfo);
+        final FieldsSelection fields = parseFieldsParameter(uriInfo, iiWithData);
+        final WriterParameters writerParameters = depth == null && fields == null ? WriterParameters.DEFAULT
+                : new WriterParameters(depth, fields);
+
+        final Integer limit = parseLimitParameter(uriInfo);
+        final String startKey = uriInfo.getQueryParameters(false).getFirst(UriParameters.START_KEY.toString());
+        if (limit != null || !Strings.isNullOrEmpty(startKey)) {
+            return readDataPage(identifier, iiWithData, datastore, writerParameters,
+                    limit == null ? Integer.MAX_VALUE : limit, startKey);
+        }
+
         final DOMMountPoint mountPoint = iiWithData.getMountPoint();
-        NormalizedNode<?, ?> data = null;
         final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
-        if (mountPoint != null) {
-            data = broker.readConfigurationData(mountPoint, normalizedII);
+        final ResponseCache cache = responseCache;
+        if (cache != null && mountPoint == null) {
+            return readCachedData(cache, iiWithData, datastore, writerParameters);
+        }
+
+        NormalizedNode<?, ?> data = null;
+        if (datastore == LogicalDatastoreType.CONFIGURATION) {
+            data = mountPoint != null ? broker.readConfigurationData(mountPoint, normalizedII)
+                    : broker.readConfigurationData(normalizedII);
         } else {
-            data = broker.readConfigurationData(normalizedII);
+            data = mountPoint != null ? broker.readOperationalData(mountPoint, normalizedII)
+                    : broker.readOperationalData(normalizedII);
         }
         if(data == null) {
             throw new RestconfDocumentedException(
                 "Request could not be completed because the relevant data model content does not exist.",
                 ErrorType.APPLICATION, ErrorTag.DATA_MISSING);
         }
-        return new NormalizedNodeContext(iiWithData, data);
+        return new NormalizedNodeContext(iiWithData, data, writerParameters, Collections.<String, Object>emptyMap());
+    }
+
+    private static NormalizedNodeContext readCachedData(final ResponseCache cache,
+            final InstanceIdentifierContext<?> iiWithData, final LogicalDatastoreType datastore,
+            final WriterParameters writerParameters) {
+        final ResponseCache.Entry entry = cache.get(datastore, iiWithData.getInstanceIdentifier());
+        if (entry.getData() == null) {
+            throw new RestconfDocumentedException(
+                "Request could not be completed because the relevant data model content does not exist.",
+                ErrorType.APPLICATION, ErrorTag.DATA_MISSING);
+        }
+
+        // Entity tag identifies the data, bodies bounded by query parameters are not cached
+        final Map<String, Object> headers = Collections.<String, Object>singletonMap(HttpHeaders.ETAG,
+                entry.getEntityTag());
+        return new NormalizedNodeContext(iiWithData, entry.getData(), writerParameters, headers,
+                writerParameters == WriterParameters.DEFAULT ? entry : null);
+    }
+
+    /**
+     * Reads a single page of a keyed list. Every request reads its page from a new snapshot of the datastore,
+     * so the pages a client walks through are not consistent with each other: entries created or deleted between
+     * two requests may be skipped or missed, and a start key which has been deleted in the meantime is rejected as
+     * an invalid value, after which the client has to start over.
+     */
+    private NormalizedNodeContext readDataPage(final String identifier, final InstanceIdentifierContext<?> iiWithData,
+            final LogicalDatastoreType datastore, final WriterParameters writerParameters, final int limit,
+            final String startKey) {
+        final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
+        if (!(iiWithData.getSchemaNode() instanceof ListSchemaNode)
+                || ((ListSchemaNode) iiWithData.getSchemaNode()).getKeyDefinition().isEmpty()
+                || normalizedII.getLastPathArgument() instanceof NodeIdentifierWithPredicates) {
+            throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                    "Invalid paging parameters for: " + identifier, null,
+                    "The limit and start-key parameters are supported only for keyed lists"));
+        }
+        final ListSchemaNode listNode = (ListSchemaNode) iiWithData.getSchemaNode();
+        final DOMMountPoint mountPoint = iiWithData.getMountPoint();
+
+        NodeIdentifierWithPredicates startKeyId = null;
+        if (!Strings.isNullOrEmpty(startKey)) {
+            // Start key has the form of the list entry's path arguments following the list
+            final PathArgument entryArgument = controllerContext.toInstanceIdentifier(identifier + "/" + startKey)
+                    .getInstanceIdentifier().getLastPathArgument();
+            if (!(entryArgument instanceof NodeIdentifierWithPredicates)) {
+                throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                        "Invalid start-key parameter: " + startKey, null,
+                        "The start-key parameter must contain values of all keys of the list"));
+            }
+            startKeyId = (NodeIdentifierWithPredicates) entryArgument;
+        }
+
+        final Collection<PathArgument> fields = toPageFields(listNode, writerParameters.getFields());
+        final DOMStoreMapPage page = mountPoint != null
+                ? broker.readDataPage(mountPoint, datastore, normalizedII, startKeyId, limit, fields)
+                : broker.readDataPage(datastore, normalizedII, startKeyId, limit, fields);
+        if (page == null) {
+            throw new RestconfDocumentedException(
+                "Request could not be completed because the relevant data model content does not exist.",
+                ErrorType.APPLICATION, ErrorTag.DATA_MISSING);
+        }
+
+        final Map<String, Object> headers = new HashMap<>();
+        if (page.getNextKey().isPresent()) {
+            final String nextKey = controllerContext.toRestconfKeyValues(page.getNextKey().get(), listNode, mountPoint);
+            if (nextKey != null) {
+                headers.put(NEXT_START_KEY_HEADER, nextKey);
+            }
+        }
+        return new NormalizedNodeContext(iiWithData, page.getData(), writerParameters, headers);
+    }
+
+    /**
+     * Children of list entries which the datastore has to return to satisfy the field selection. Fields within
+     * choices and augmentations are not addressed by node identifiers, whole entries are read for them.
+     */
+    private static Collection<PathArgument> toPageFields(final ListSchemaNode listNode, final FieldsSelection selection) {
+        if (selection == null) {
+            return Collections.emptyList();
+        }
+
+        final List<PathArgument> fields = new ArrayList<>();
+        for (final QName name : selection.getSelectedChildren()) {
+            final DataSchemaNode child = listNode.getDataChildByName(name);
+            if (child == null || child.isAugmenting()) {
+                return Collections.emptyList();
+            }
+            fields.add(new NodeIdentifier(name));
+        }
+        return fields;
     }
 
     @SuppressWarnings("unchecked")
@@ -926,23 +1078,87 @@ public class RestconfImpl implements RestconfService {
         }
     }
 
-    @Override
-    public NormalizedNodeContext readOperationalData(final String identifier, final UriInfo info) {
-        final InstanceIdentifierContext iiWithData = controllerContext.toInstanceIdentifier(identifier);
-        final DOMMountPoint mountPoint = iiWithData.getMountPoint();
-        NormalizedNode<?, ?> data = null;
-        final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
-        if (mountPoint != null) {
-            data = broker.readOperationalData(mountPoint, normalizedII);
+    private Integer parseLimitParameter(final UriInfo info) {
+        final String param = info.getQueryParameters(false).getFirst(UriParameters.LIMIT.toString());
+        if (Strings.isNullOrEmpty(param)) {
+            return null;
+        }
+
+        try {
+            final Integer limit = Integer.valueOf(param);
+            if (limit < 1) {
+                throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                        "Invalid limit parameter: " + limit, null,
+                        "The limit parameter must be a positive integer"));
+            }
+
+            return limit;
+        } catch (final NumberFormatException e) {
+            throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                    "Invalid limit parameter: " + e.getMessage(), null,
+                    "The limit parameter must be a positive integer"));
+        }
+    }
+
+    /**
+     * Fields are separated by semicolons, each of them is a slash separated path of data nodes relative to the
+     * requested node, or to entries of the requested list. Node names can be qualified by their module names.
+     */
+    private FieldsSelection parseFieldsParameter(final UriInfo info, final InstanceIdentifierContext<?> iiWithData) {
+        final String param = info.getQueryParameters(false).getFirst(UriParameters.FIELDS.toString());
+        if (Strings.isNullOrEmpty(param)) {
+            return null;
+        }
+        if (!(iiWithData.getSchemaNode() instanceof DataNodeContainer)) {
+            throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                    "Invalid fields parameter: " + param, null,
+                    "The fields parameter is supported only for containers and lists"));
+        }
+
+        final FieldsSelection fields = new FieldsSelection();
+        for (final String field : FIELDS_SPLITTER.split(param)) {
+            FieldsSelection selection = fields;
+            DataNodeContainer parent = (DataNodeContainer) iiWithData.getSchemaNode();
+            for (final String name : FIELD_PATH_SPLITTER.split(field)) {
+                if (parent == null) {
+                    throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL,
+                            ErrorTag.INVALID_VALUE, "Invalid fields parameter: " + field, null,
+                            "Only containers and lists can contain selected fields"));
+                }
+                final DataSchemaNode child = findFieldNode(parent, name, iiWithData.getMountPoint());
+                selection = selection.addChild(child.getQName());
+                parent = child instanceof DataNodeContainer ? (DataNodeContainer) child : null;
+            }
+        }
+        return fields.selectsAll() ? null : fields;
+    }
+
+    private DataSchemaNode findFieldNode(final DataNodeContainer parent, final String name,
+            final DOMMountPoint mountPoint) {
+        final int colon = name.indexOf(':');
+        final List<DataSchemaNode> candidates;
+        if (colon != CHAR_NOT_FOUND) {
+            final String moduleName = name.substring(0, colon);
+            final URI namespace = mountPoint != null ? controllerContext.findNamespaceByModuleName(mountPoint, moduleName)
+                    : controllerContext.findNamespaceByModuleName(moduleName);
+            final DataSchemaNode child = namespace == null ? null
+                    : ControllerContext.findInstanceDataChildByNameAndNamespace(parent, name.substring(colon + 1), namespace);
+            candidates = child == null ? Collections.<DataSchemaNode>emptyList() : Collections.singletonList(child);
         } else {
-            data = broker.readOperationalData(normalizedII);
+            candidates = ControllerContext.findInstanceDataChildrenByName(parent, name);
         }
-        if(data == null) {
-            throw new RestconfDocumentedException(
-                "Request could not be completed because the relevant data model content does not exist.",
-                ErrorType.APPLICATION, ErrorTag.DATA_MISSING);
+
+        if (candidates.isEmpty()) {
+            throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                    "Invalid fields parameter: unknown node " + name, null,
+                    "The fields parameter must contain names of data nodes"));
+        }
+        if (candidates.size() > 1) {
+            throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                    "Invalid fields parameter: ambiguous node " + name, null,
+                    "Nodes with equal names have to be prefixed with their module names"));
         }
-        return new NormalizedNodeContext(iiWithData, data);
+        return candidates.get(0);
     }
 
     private boolean parsePrettyPrintParameter(final UriInfo info) {
@@ -1003,6 +1219,55 @@ public class RestconfImpl implements RestconfService {
         return Response.status(Status.OK).build();
     }
 
+    @Override
+    public Response batchConfigurationData(final BatchContext batch) {
+        Preconditions.checkNotNull(batch);
+
+        final List<RestconfError> errors = new ArrayList<>();
+        for (final BatchEdit edit : batch.getEdits()) {
+            if (edit.getData() == null) {
+                continue;
+            }
+            final InstanceIdentifierContext<DataSchemaNode> iiWithData =
+                    (InstanceIdentifierContext<DataSchemaNode>) edit.getTarget();
+            try {
+                validateTopLevelNodeName(new NormalizedNodeContext(iiWithData, edit.getData()),
+                        iiWithData.getInstanceIdentifier());
+                validateListKeysEqualityInPayloadAndUri(iiWithData, edit.getData());
+            } catch (final RestconfDocumentedException e) {
+                errors.addAll(BatchEdit.toEditErrors(edit.getEditId(), e));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new RestconfDocumentedException("Batch was not applied", null, errors);
+        }
+
+        /*
+         * The whole batch is retried on OptimisticLockFailedException for the same reasons as a single PUT in
+         * updateConfigurationData.
+         */
+        int tries = 2;
+        while(true) {
+            try {
+                broker.commitConfigurationDataBatch(batch.getEdits()).checkedGet();
+                break;
+            } catch (final TransactionCommitFailedException e) {
+                if(e instanceof OptimisticLockFailedException) {
+                    if(--tries <= 0) {
+                        LOG.debug("Got OptimisticLockFailedException on last try - failing");
+                        throw new RestconfDocumentedException(e.getMessage(), e, e.getErrorList());
+                    }
+
+                    LOG.debug("Got OptimisticLockFailedException - trying again");
+                } else {
+                    throw new RestconfDocumentedException(e.getMessage(), e, e.getErrorList());
+                }
+            }
+        }
+
+        return Response.status(Status.OK).build();
+    }
+
     private void validateTopLevelNodeName(final NormalizedNodeContext node,
             final YangInstanceIdentifier identifier) {
 
@@ -24,6 +24,7 @@ import org.opendaylight.controller.sal.core.api.Broker.ProviderSession;
 import org.opendaylight.controller.sal.core.api.Provider;
 import org.opendaylight.controller.sal.core.api.model.SchemaService;
 import org.opendaylight.controller.sal.rest.api.RestConnector;
+import org.opendaylight.controller.sal.streams.listeners.Notificator;
 import org.opendaylight.controller.sal.streams.websockets.WebSocketServer;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev100924.PortNumber;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
@@ -34,12 +35,33 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
     private final StatisticsRestconfServiceWrapper stats = StatisticsRestconfServiceWrapper.getInstance();
     private ListenerRegistration<SchemaContextListener> listenerRegistration;
     private PortNumber port;
+    private long maxConcurrentRequests;
+    private long responseCacheSize;
+    private ResponseCache responseCache;
+    private long notificationQueueDepth = Notificator.DEFAULT_SUBSCRIBER_QUEUE_DEPTH;
+    private boolean disconnectSlowSubscribers;
     private Thread webSocketServerThread;
 
     public void setWebsocketPort(final PortNumber port) {
         this.port = port;
     }
 
+    public void setMaxConcurrentRequests(final long maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public void setResponseCacheSize(final long responseCacheSize) {
+        this.responseCacheSize = responseCacheSize;
+    }
+
+    public void setNotificationQueueDepth(final long notificationQueueDepth) {
+        this.notificationQueueDepth = notificationQueueDepth;
+    }
+
+    public void setDisconnectSlowSubscribers(final boolean disconnectSlowSubscribers) {
+        this.disconnectSlowSubscribers = disconnectSlowSubscribers;
+    }
+
     @Override
     public void onSessionInitiated(final ProviderSession session) {
         final DOMDataBroker domDataBroker = session.getService(DOMDataBroker.class);
@@ -49,11 +71,18 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
         final SchemaService schemaService = session.getService(SchemaService.class);
         listenerRegistration = schemaService.registerSchemaContextListener(ControllerContext.getInstance());
         BrokerFacade.getInstance().setRpcService(session.getService(DOMRpcService.class));
+        stats.setMaxConcurrentRequests((int) Math.min(maxConcurrentRequests, Integer.MAX_VALUE));
+        if (responseCacheSize > 0) {
+            responseCache = new ResponseCache(BrokerFacade.getInstance(), responseCacheSize);
+            RestconfImpl.getInstance().setResponseCache(responseCache);
+        }
 
 
         ControllerContext.getInstance().setSchemas(schemaService.getGlobalContext());
         ControllerContext.getInstance().setMountService(session.getService(DOMMountPointService.class));
 
+        Notificator.setSubscriberQueueDepth((int) Math.min(notificationQueueDepth, Integer.MAX_VALUE));
+        Notificator.setDisconnectSlowSubscribers(disconnectSlowSubscribers);
         webSocketServerThread = new Thread(WebSocketServer.createInstance(port.getValue().intValue()));
         webSocketServerThread.setName("Web socket server on port " + port);
         webSocketServerThread.start();
@@ -71,6 +100,11 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
             listenerRegistration.close();
         }
 
+        if (responseCache != null) {
+            RestconfImpl.getInstance().setResponseCache(null);
+            responseCache.close();
+        }
+
         WebSocketServer.destroyInstance();
         webSocketServerThread.interrupt();
     }
@@ -100,6 +134,17 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
         return operational;
     }
 
+    @Override
+    public BigInteger getRejectedRequests() {
+        return stats.getRejected();
+    }
+
+    @Override
+    public BigInteger getResponseCacheHits() {
+        final ResponseCache cache = responseCache;
+        return BigInteger.valueOf(cache != null ? cache.getHits() : 0);
+    }
+
     @Override
     public Rpcs getRpcs() {
         final BigInteger rpcInvoke = stats.getRpc();
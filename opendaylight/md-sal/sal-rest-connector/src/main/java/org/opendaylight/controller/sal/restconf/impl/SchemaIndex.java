@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendaylight.controller.md.sal.common.impl.util.compat.DataNormalizer;
+import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * Lookup structures of one schema context used to resolve RESTCONF URIs, which would otherwise be searched
+ * for on every request. An index is created for each generation of the global schema context and is dropped
+ * with it, so nothing it holds is ever invalidated individually.
+ */
+final class SchemaIndex {
+
+    /**
+     * Maximum number of resolved URIs kept for the global schema context.
+     */
+    private static final int MAX_CACHED_IDENTIFIERS = 4096;
+
+    private static final CacheLoader<DataNodeContainer, ImmutableListMultimap<String, DataSchemaNode>> CHILDREN_LOADER =
+            new CacheLoader<DataNodeContainer, ImmutableListMultimap<String, DataSchemaNode>>() {
+                @Override
+                public ImmutableListMultimap<String, DataSchemaNode> load(final DataNodeContainer key) {
+                    final ImmutableListMultimap.Builder<String, DataSchemaNode> builder = ImmutableListMultimap.builder();
+                    collectInstanceDataChildren(builder, key);
+                    return builder.build();
+                }
+            };
+
+    private final SchemaContext schemaContext;
+    private final Map<String, Module> modulesByName;
+    private final DataNormalizer dataNormalizer;
+
+    // Keyed by identity of the schema nodes, which belong to the indexed schema context
+    private final LoadingCache<DataNodeContainer, ImmutableListMultimap<String, DataSchemaNode>> children =
+            CacheBuilder.newBuilder().weakKeys().build(CHILDREN_LOADER);
+
+    private final Cache<String, InstanceIdentifierContext<?>> identifiers =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_IDENTIFIERS).build();
+
+    SchemaIndex(final SchemaContext schemaContext) {
+        this.schemaContext = Preconditions.checkNotNull(schemaContext);
+        this.dataNormalizer = new DataNormalizer(schemaContext);
+
+        // First module of each name, which is the one SchemaContext.findModuleByName(name, null) resolves
+        final Map<String, Module> modules = new HashMap<>();
+        for (final Module module : schemaContext.getModules()) {
+            if (!modules.containsKey(module.getName())) {
+                modules.put(module.getName(), module);
+            }
+        }
+        this.modulesByName = ImmutableMap.copyOf(modules);
+    }
+
+    SchemaContext getSchemaContext() {
+        return schemaContext;
+    }
+
+    DataNormalizer getDataNormalizer() {
+        return dataNormalizer;
+    }
+
+    /**
+     * @return Module resolved as by {@link SchemaContext#findModuleByName(String, java.util.Date)} without
+     *         revision, or null if the schema context does not contain it
+     */
+    Module findModuleByName(final String name) {
+        return modulesByName.get(name);
+    }
+
+    /**
+     * Indexed equivalent of {@link ControllerContext#findInstanceDataChildrenByName(DataNodeContainer, String)}.
+     */
+    List<DataSchemaNode> findInstanceDataChildrenByName(final DataNodeContainer container, final String name) {
+        return children.getUnchecked(container).get(name);
+    }
+
+    /**
+     * @return Previously resolved identifier of the URI, or null
+     */
+    InstanceIdentifierContext<?> getIdentifier(final String uri) {
+        return identifiers.getIfPresent(uri);
+    }
+
+    /**
+     * Remember the identifier resolved from the URI. Identifiers crossing mount points depend on the mount
+     * point service in addition to the schema context and must not be stored.
+     */
+    void putIdentifier(final String uri, final InstanceIdentifierContext<?> identifier) {
+        Preconditions.checkArgument(identifier.getMountPoint() == null, "Identifier %s crosses a mount point",
+                uri);
+        identifiers.put(uri, identifier);
+    }
+
+    private static void collectInstanceDataChildren(final ImmutableListMultimap.Builder<String, DataSchemaNode> builder,
+            final DataNodeContainer container) {
+        final List<ChoiceCaseNode> cases = new ArrayList<>();
+        for (final DataSchemaNode child : container.getChildNodes()) {
+            if (ControllerContext.isInstantiatedDataSchema(child)) {
+                builder.put(child.getQName().getLocalName(), child);
+            } else if (child instanceof ChoiceSchemaNode) {
+                cases.addAll(((ChoiceSchemaNode) child).getCases());
+            }
+        }
+
+        // Same order as ControllerContext.collectInstanceDataNodeContainers, direct children come first
+        for (final ChoiceCaseNode caze : cases) {
+            collectInstanceDataChildren(builder, caze);
+        }
+    }
+}
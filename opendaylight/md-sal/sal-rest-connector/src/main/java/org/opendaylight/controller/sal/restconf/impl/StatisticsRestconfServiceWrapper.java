@@ -8,8 +8,10 @@
 package org.opendaylight.controller.sal.restconf.impl;
 
 import java.math.BigInteger;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.controller.sal.rest.api.RestconfService;
 
@@ -21,6 +23,18 @@ public class StatisticsRestconfServiceWrapper implements RestconfService {
     AtomicLong configPost = new AtomicLong();
     AtomicLong configPut = new AtomicLong();
     AtomicLong configDelete = new AtomicLong();
+    AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Permits for requests accessing the datastore or invoking RPCs, absent if their number is not limited.
+     * Requests block their container thread until the datastore completes them, so limiting them keeps
+     * slow commits from exhausting the container's threads.
+     * <p>
+     * A permit is released when the service method returns, before the body writer serializes the response.
+     * By then the request no longer holds datastore resources, and writing the response is paced by the client,
+     * so holding the permit until the entity is written would let slow readers lock out all other requests.
+     */
+    private volatile Semaphore inFlightPermits;
 
     private static final StatisticsRestconfServiceWrapper INSTANCE = new StatisticsRestconfServiceWrapper(RestconfImpl.getInstance());
 
@@ -34,6 +48,29 @@ public class StatisticsRestconfServiceWrapper implements RestconfService {
         return INSTANCE;
     }
 
+    /**
+     * @param maxConcurrentRequests maximum number of data and RPC requests processed at once, further requests
+     *                              are rejected with 503 Service Unavailable; 0 for no limit
+     */
+    public void setMaxConcurrentRequests(final int maxConcurrentRequests) {
+        inFlightPermits = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests) : null;
+    }
+
+    private Semaphore acquirePermit() {
+        final Semaphore permits = inFlightPermits;
+        if (permits != null && !permits.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new RestconfDocumentedException(Status.SERVICE_UNAVAILABLE);
+        }
+        return permits;
+    }
+
+    private static void releasePermit(final Semaphore permits) {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
     @Override
     public Object getRoot() {
         return delegate.getRoot();
@@ -67,48 +104,98 @@ public class StatisticsRestconfServiceWrapper implements RestconfService {
     @Override
     public NormalizedNodeContext invokeRpc(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo) {
         rpc.incrementAndGet();
-        return delegate.invokeRpc(identifier, payload, uriInfo);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.invokeRpc(identifier, payload, uriInfo);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
     public NormalizedNodeContext invokeRpc(final String identifier, final String noPayload, final UriInfo uriInfo) {
         rpc.incrementAndGet();
-        return delegate.invokeRpc(identifier, noPayload, uriInfo);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.invokeRpc(identifier, noPayload, uriInfo);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
     public NormalizedNodeContext readConfigurationData(final String identifier, final UriInfo uriInfo) {
         configGet.incrementAndGet();
-        return delegate.readConfigurationData(identifier, uriInfo);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.readConfigurationData(identifier, uriInfo);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
     public NormalizedNodeContext readOperationalData(final String identifier, final UriInfo uriInfo) {
         operationalGet.incrementAndGet();
-        return delegate.readOperationalData(identifier, uriInfo);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.readOperationalData(identifier, uriInfo);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
     public Response updateConfigurationData(final String identifier, final NormalizedNodeContext payload) {
         configPut.incrementAndGet();
-        return delegate.updateConfigurationData(identifier, payload);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.updateConfigurationData(identifier, payload);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
     public Response createConfigurationData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo) {
         configPost.incrementAndGet();
-        return delegate.createConfigurationData(identifier, payload, uriInfo);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.createConfigurationData(identifier, payload, uriInfo);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
     public Response createConfigurationData(final NormalizedNodeContext payload, final UriInfo uriInfo) {
         configPost.incrementAndGet();
-        return delegate.createConfigurationData(payload, uriInfo);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.createConfigurationData(payload, uriInfo);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
     public Response deleteConfigurationData(final String identifier) {
-        return delegate.deleteConfigurationData(identifier);
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.deleteConfigurationData(identifier);
+        } finally {
+            releasePermit(permits);
+        }
+    }
+
+    @Override
+    public Response batchConfigurationData(final BatchContext batch) {
+        final Semaphore permits = acquirePermit();
+        try {
+            return delegate.batchConfigurationData(batch);
+        } finally {
+            releasePermit(permits);
+        }
     }
 
     @Override
@@ -121,6 +208,10 @@ public class StatisticsRestconfServiceWrapper implements RestconfService {
         return delegate.getAvailableStreams(uriInfo);
     }
 
+    public BigInteger getRejected() {
+        return BigInteger.valueOf(rejected.get());
+    }
+
     public BigInteger getConfigDelete() {
         return BigInteger.valueOf(configDelete.get());
     }
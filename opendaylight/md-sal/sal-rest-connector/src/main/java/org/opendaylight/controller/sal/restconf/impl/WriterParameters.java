@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl;
+
+/**
+ * Parameters of a read request which bound the data written into the response, see
+ * {@link org.opendaylight.controller.sal.rest.impl.RestconfNormalizedNodeWriter}.
+ */
+public final class WriterParameters {
+
+    public static final WriterParameters DEFAULT = new WriterParameters(null, null);
+
+    private final Integer depth;
+    private final FieldsSelection fields;
+
+    /**
+     * @param depth maximum depth of written data, null for unbounded
+     * @param fields selection of written data nodes, null for all nodes
+     */
+    public WriterParameters(final Integer depth, final FieldsSelection fields) {
+        this.depth = depth;
+        this.fields = fields;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public FieldsSelection getFields() {
+        return fields;
+    }
+}
@@ -7,38 +7,28 @@
  */
 package org.opendaylight.controller.sal.streams.listeners;
 
-import com.google.common.base.Charsets;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.eventbus.AsyncEventBus;
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
-import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
-import io.netty.util.internal.ConcurrentSet;
 import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
+import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.regex.Pattern;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataChangeListener;
-import org.opendaylight.controller.sal.rest.impl.XmlMapper;
 import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -49,29 +39,31 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgum
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
 /**
  * {@link ListenerAdapter} is responsible to track events, which occurred by changing data in data source.
+ * Each event is serialized once and the same buffer is queued to every subscriber, see
+ * {@link NotificationSubscriber}.
  */
 public class ListenerAdapter implements DOMDataChangeListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(ListenerAdapter.class);
-    private static final DocumentBuilderFactory DBF = DocumentBuilderFactory.newInstance();
-    private static final TransformerFactory FACTORY = TransformerFactory.newInstance();
-    private static final Pattern RFC3339_PATTERN = Pattern.compile("(\\d\\d)(\\d\\d)$");
-
-    private final XmlMapper xmlMapper = new XmlMapper();
-    private final SimpleDateFormat rfc3339 = new SimpleDateFormat("yyyy-MM-dd'T'hh:mm:ssZ");
+    private static final XMLOutputFactory XML_FACTORY = XMLOutputFactory.newFactory();
+    private static final String NOTIFICATION_NAMESPACE = "urn:ietf:params:xml:ns:netconf:notification:1.0";
+    private static final String DATA_CHANGED_NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote";
+    private static final ThreadLocal<DateFormat> RFC3339 = new ThreadLocal<DateFormat>() {
+        @Override
+        protected DateFormat initialValue() {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+        }
+    };
 
     private final YangInstanceIdentifier path;
     private ListenerRegistration<DOMDataChangeListener> registration;
     private final String streamName;
-    private Set<Channel> subscribers = new ConcurrentSet<>();
-    private final EventBus eventBus;
-    private final EventBusChangeRecorder eventBusChangeRecorder;
+    private final int subscriberQueueDepth;
+    private final boolean disconnectSlowSubscribers;
+    private final ConcurrentMap<Channel, NotificationSubscriber> subscribers = new ConcurrentHashMap<>();
 
     /**
      * Creates new {@link ListenerAdapter} listener specified by path and stream name.
@@ -82,168 +74,106 @@ public class ListenerAdapter implements DOMDataChangeListener {
      *            The name of the stream.
      */
     ListenerAdapter(final YangInstanceIdentifier path, final String streamName) {
+        this(path, streamName, Notificator.DEFAULT_SUBSCRIBER_QUEUE_DEPTH, false);
+    }
+
+    /**
+     * Creates new {@link ListenerAdapter} listener specified by path and stream name.
+     *
+     * @param path
+     *            Path to data in data store.
+     * @param streamName
+     *            The name of the stream.
+     * @param subscriberQueueDepth
+     *            Maximum number of notifications waiting to be sent to one subscriber.
+     * @param disconnectSlowSubscribers
+     *            True if subscribers with full queue are disconnected, false if their oldest notifications are
+     *            dropped.
+     */
+    ListenerAdapter(final YangInstanceIdentifier path, final String streamName, final int subscriberQueueDepth,
+            final boolean disconnectSlowSubscribers) {
         Preconditions.checkNotNull(path);
         Preconditions.checkArgument(streamName != null && !streamName.isEmpty());
+        Preconditions.checkArgument(subscriberQueueDepth > 0);
         this.path = path;
         this.streamName = streamName;
-        eventBus = new AsyncEventBus(Executors.newSingleThreadExecutor());
-        eventBusChangeRecorder = new EventBusChangeRecorder();
-        eventBus.register(eventBusChangeRecorder);
+        this.subscriberQueueDepth = subscriberQueueDepth;
+        this.disconnectSlowSubscribers = disconnectSlowSubscribers;
     }
 
     @Override
     public void onDataChanged(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
-        // TODO Auto-generated method stub
+        if (subscribers.isEmpty()) {
+            return;
+        }
 
         if (!change.getCreatedData().isEmpty() || !change.getUpdatedData().isEmpty()
                 || !change.getRemovedPaths().isEmpty()) {
-            final String xml = prepareXmlFrom(change);
-            final Event event = new Event(EventType.NOTIFY);
-            event.setData(xml);
-            eventBus.post(event);
-        }
-    }
-
-    /**
-     * Tracks events of data change by customer.
-     */
-    private final class EventBusChangeRecorder {
-        @Subscribe
-        public void recordCustomerChange(final Event event) {
-            if (event.getType() == EventType.REGISTER) {
-                final Channel subscriber = event.getSubscriber();
-                if (!subscribers.contains(subscriber)) {
-                    subscribers.add(subscriber);
-                }
-            } else if (event.getType() == EventType.DEREGISTER) {
-                subscribers.remove(event.getSubscriber());
-                Notificator.removeListenerIfNoSubscriberExists(ListenerAdapter.this);
-            } else if (event.getType() == EventType.NOTIFY) {
-                for (final Channel subscriber : subscribers) {
-                    if (subscriber.isActive()) {
-                        LOG.debug("Data are sent to subscriber {}:", subscriber.remoteAddress());
-                        subscriber.writeAndFlush(new TextWebSocketFrame(event.getData()));
-                    } else {
-                        LOG.debug("Subscriber {} is removed - channel is not active yet.", subscriber.remoteAddress());
-                        subscribers.remove(subscriber);
-                    }
-                }
+            final byte[] xml = prepareXmlFrom(change);
+            if (xml != null) {
+                // Shared by all subscribers, each of them writes a duplicate
+                notifySubscribers(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(xml)));
             }
         }
     }
 
     /**
-     * Represents event of specific {@link EventType} type, holds data and {@link Channel} subscriber.
+     * Queues message to all active subscribers and removes inactive ones.
+     *
+     * @param message
+     *            Serialized event
      */
-    private final class Event {
-        private final EventType type;
-        private Channel subscriber;
-        private String data;
-
-        /**
-         * Creates new event specified by {@link EventType} type.
-         *
-         * @param type
-         *            EventType
-         */
-        public Event(final EventType type) {
-            this.type = type;
-        }
-
-        /**
-         * Gets the {@link Channel} subscriber.
-         *
-         * @return Channel
-         */
-        public Channel getSubscriber() {
-            return subscriber;
-        }
-
-        /**
-         * Sets subscriber for event.
-         *
-         * @param subscriber
-         *            Channel
-         */
-        public void setSubscriber(final Channel subscriber) {
-            this.subscriber = subscriber;
-        }
-
-        /**
-         * Gets event String.
-         *
-         * @return String representation of event data.
-         */
-        public String getData() {
-            return data;
-        }
-
-        /**
-         * Sets event data.
-         *
-         * @param data String.
-         */
-        public void setData(final String data) {
-            this.data = data;
-        }
-
-        /**
-         * Gets event type.
-         *
-         * @return The type of the event.
-         */
-        public EventType getType() {
-            return type;
+    private void notifySubscribers(final ByteBuf message) {
+        final Iterator<NotificationSubscriber> it = subscribers.values().iterator();
+        while (it.hasNext()) {
+            final NotificationSubscriber subscriber = it.next();
+            final Channel channel = subscriber.getChannel();
+            if (!channel.isActive()) {
+                LOG.debug("Subscriber {} is removed - channel is not active yet.", channel.remoteAddress());
+                it.remove();
+                subscriber.close();
+            } else if (subscriber.offer(message)) {
+                LOG.debug("Data are queued to subscriber {}:", channel.remoteAddress());
+            } else {
+                it.remove();
+                subscriber.close();
+            }
         }
     }
 
     /**
-     * Type of the event.
-     */
-    private enum EventType {
-        REGISTER,
-        DEREGISTER,
-        NOTIFY;
-    }
-
-    /**
-     * Prepare data in printable form and transform it to String.
+     * Prepare data in printable form.
      *
      * @param change
      *            DataChangeEvent
-     * @return Data in printable form.
+     * @return UTF-8 encoded data in printable form, null if the data could not be written.
      */
-    private String prepareXmlFrom(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
-        final Document doc = createDocument();
-        final Element notificationElement = doc.createElementNS("urn:ietf:params:xml:ns:netconf:notification:1.0",
-                "notification");
-        doc.appendChild(notificationElement);
-
-        final Element eventTimeElement = doc.createElement("eventTime");
-        eventTimeElement.setTextContent(toRFC3339(new Date()));
-        notificationElement.appendChild(eventTimeElement);
-
-        final Element dataChangedNotificationEventElement = doc.createElementNS(
-                "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote", "data-changed-notification");
-        addValuesToDataChangedNotificationEventElement(doc, dataChangedNotificationEventElement, change);
-        notificationElement.appendChild(dataChangedNotificationEventElement);
-
+    @VisibleForTesting
+    byte[] prepareXmlFrom(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
         try {
-            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-            final Transformer transformer = FACTORY.newTransformer();
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
-            transformer.setOutputProperty(OutputKeys.METHOD, "xml");
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-            transformer.transform(new DOMSource(doc), new StreamResult(new OutputStreamWriter(out, Charsets.UTF_8)));
-            final byte[] charData = out.toByteArray();
-            return new String(charData, "UTF-8");
-        } catch (TransformerException | UnsupportedEncodingException e) {
-            final String msg = "Error during transformation of Document into String";
-            LOG.error(msg, e);
-            return msg;
+            final XMLStreamWriter writer = XML_FACTORY.createXMLStreamWriter(out, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeStartElement("notification");
+            writer.writeDefaultNamespace(NOTIFICATION_NAMESPACE);
+
+            writer.writeStartElement("eventTime");
+            writer.writeCharacters(toRFC3339(new Date()));
+            writer.writeEndElement();
+
+            writer.writeStartElement("data-changed-notification");
+            writer.writeDefaultNamespace(DATA_CHANGED_NAMESPACE);
+            writeDataChangedNotificationEvents(writer, change);
+            writer.writeEndElement();
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (final XMLStreamException e) {
+            LOG.error("Error during serialization of data change event of stream {}", streamName, e);
+            return null;
         }
+        return out.toByteArray();
     }
 
     /**
@@ -253,109 +183,94 @@ public class ListenerAdapter implements DOMDataChangeListener {
      *            Date
      * @return Data specified by RFC3339.
      */
-    private String toRFC3339(final Date d) {
-        return RFC3339_PATTERN.matcher(rfc3339.format(d)).replaceAll("$1:$2");
-    }
-
-    /**
-     * Creates {@link Document} document.
-     * @return {@link Document} document.
-     */
-    private Document createDocument() {
-        final DocumentBuilder bob;
-        try {
-            bob = DBF.newDocumentBuilder();
-        } catch (final ParserConfigurationException e) {
-            return null;
-        }
-        return bob.newDocument();
+    private static String toRFC3339(final Date d) {
+        // Offset is formatted as +hhmm, also for UTC where XXX would give Z, and needs the colon of RFC3339
+        final String formatted = RFC3339.get().format(d);
+        final int colon = formatted.length() - 2;
+        return formatted.substring(0, colon) + ':' + formatted.substring(colon);
     }
 
     /**
-     * Adds values to data changed notification event element.
+     * Writes data change events of the change.
      *
-     * @param doc
-     *            {@link Document}
-     * @param dataChangedNotificationEventElement
-     *            {@link Element}
+     * @param writer
+     *            {@link XMLStreamWriter}
      * @param change
      *            {@link AsyncDataChangeEvent}
      */
-    private void addValuesToDataChangedNotificationEventElement(final Document doc,
-            final Element dataChangedNotificationEventElement,
-            final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
-        addValuesFromDataToElement(doc, change.getCreatedData().keySet(), dataChangedNotificationEventElement,
-                Operation.CREATED);
+    private static void writeDataChangedNotificationEvents(final XMLStreamWriter writer,
+            final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change)
+            throws XMLStreamException {
+        writeDataChangeEvents(writer, change.getCreatedData().keySet(), Operation.CREATED);
         if (change.getCreatedData().isEmpty()) {
-            addValuesFromDataToElement(doc, change.getUpdatedData().keySet(), dataChangedNotificationEventElement,
-                    Operation.UPDATED);
+            writeDataChangeEvents(writer, change.getUpdatedData().keySet(), Operation.UPDATED);
         }
-        addValuesFromDataToElement(doc, change.getRemovedPaths(), dataChangedNotificationEventElement,
-                Operation.DELETED);
+        writeDataChangeEvents(writer, change.getRemovedPaths(), Operation.DELETED);
     }
 
     /**
-     * Adds values from data to element.
+     * Writes data change events of the paths.
      *
-     * @param doc
-     *            {@link Document}
+     * @param writer
+     *            {@link XMLStreamWriter}
      * @param data
      *            Set of {@link YangInstanceIdentifier}.
-     * @param element
-     *            {@link Element}
      * @param operation
      *            {@link Operation}
      */
-    private void addValuesFromDataToElement(final Document doc, final Set<YangInstanceIdentifier> data, final Element element,
-            final Operation operation) {
+    private static void writeDataChangeEvents(final XMLStreamWriter writer, final Set<YangInstanceIdentifier> data,
+            final Operation operation) throws XMLStreamException {
         if (data == null || data.isEmpty()) {
             return;
         }
         for (final YangInstanceIdentifier path : data) {
             if (!ControllerContext.getInstance().isNodeMixin(path)) {
-                final Node node = createDataChangeEventElement(doc, path, operation);
-                element.appendChild(node);
+                writeDataChangeEvent(writer, path, operation);
             }
         }
     }
 
-
     /**
-     * Creates changed event element from data.
+     * Writes changed event element.
      *
-     * @param doc
-     *            {@link Document}
+     * @param writer
+     *            {@link XMLStreamWriter}
      * @param path
      *            Path to data in data store.
      * @param operation
      *            {@link Operation}
-     * @return {@link Node} node represented by changed event element.
      */
-    private Node createDataChangeEventElement(final Document doc, final YangInstanceIdentifier path, final Operation operation) {
-        final Element dataChangeEventElement = doc.createElement("data-change-event");
-        final Element pathElement = doc.createElement("path");
-        addPathAsValueToElement(path, pathElement);
-        dataChangeEventElement.appendChild(pathElement);
+    private static void writeDataChangeEvent(final XMLStreamWriter writer, final YangInstanceIdentifier path,
+            final Operation operation) throws XMLStreamException {
+        writer.writeStartElement("data-change-event");
+
+        // Map< key = namespace, value = prefix>
+        final Map<String, String> prefixes = new HashMap<>();
+        final String pathText = pathToText(path, prefixes);
+        writer.writeStartElement("path");
+        for (final Map.Entry<String, String> prefix : prefixes.entrySet()) {
+            writer.writeNamespace(prefix.getValue(), prefix.getKey());
+        }
+        writer.writeCharacters(pathText);
+        writer.writeEndElement();
 
-        final Element operationElement = doc.createElement("operation");
-        operationElement.setTextContent(operation.value);
-        dataChangeEventElement.appendChild(operationElement);
+        writer.writeStartElement("operation");
+        writer.writeCharacters(operation.value);
+        writer.writeEndElement();
 
-        return dataChangeEventElement;
+        writer.writeEndElement();
     }
 
-
     /**
-     * Adds path as value to element.
+     * Converts path to its XPath text.
      *
      * @param path
      *            Path to data in data store.
-     * @param element
-     *            {@link Element}
+     * @param prefixes
+     *            Map of namespaces and prefixes, filled with prefixes used in the text.
+     * @return XPath text of the path.
      */
-    private void addPathAsValueToElement(final YangInstanceIdentifier path, final Element element) {
-        // Map< key = namespace, value = prefix>
-        final Map<String, String> prefixes = new HashMap<>();
+    private static String pathToText(final YangInstanceIdentifier path, final Map<String, String> prefixes) {
         final YangInstanceIdentifier normalizedPath = ControllerContext.getInstance().toXpathRepresentation(path);
         final StringBuilder textContent = new StringBuilder();
 
@@ -365,13 +280,13 @@ public class ListenerAdapter implements DOMDataChangeListener {
                 continue;
             }
             textContent.append("/");
-            writeIdentifierWithNamespacePrefix(element, textContent, pathArgument.getNodeType(), prefixes);
+            writeIdentifierWithNamespacePrefix(textContent, pathArgument.getNodeType(), prefixes);
             if (pathArgument instanceof NodeIdentifierWithPredicates) {
                 final Map<QName, Object> predicates = ((NodeIdentifierWithPredicates) pathArgument).getKeyValues();
                 for (final QName keyValue : predicates.keySet()) {
                     final String predicateValue = String.valueOf(predicates.get(keyValue));
                     textContent.append("[");
-                    writeIdentifierWithNamespacePrefix(element, textContent, keyValue, prefixes);
+                    writeIdentifierWithNamespacePrefix(textContent, keyValue, prefixes);
                     textContent.append("='");
                     textContent.append(predicateValue);
                     textContent.append("'");
@@ -384,14 +299,12 @@ public class ListenerAdapter implements DOMDataChangeListener {
                 textContent.append("]");
             }
         }
-        element.setTextContent(textContent.toString());
+        return textContent.toString();
     }
 
     /**
      * Writes identifier that consists of prefix and QName.
      *
-     * @param element
-     *            {@link Element}
      * @param textContent
      *            StringBuilder
      * @param qName
@@ -399,15 +312,14 @@ public class ListenerAdapter implements DOMDataChangeListener {
      * @param prefixes
      *            Map of namespaces and prefixes.
      */
-    private static void writeIdentifierWithNamespacePrefix(final Element element, final StringBuilder textContent,
-            final QName qName, final Map<String, String> prefixes) {
+    private static void writeIdentifierWithNamespacePrefix(final StringBuilder textContent, final QName qName,
+            final Map<String, String> prefixes) {
         final String namespace = qName.getNamespace().toString();
         String prefix = prefixes.get(namespace);
         if (prefix == null) {
             prefix = generateNewPrefix(prefixes.values());
         }
 
-        element.setAttribute("xmlns:" + prefix, namespace);
         textContent.append(prefix);
         prefixes.put(namespace, prefix);
 
@@ -424,11 +336,11 @@ public class ListenerAdapter implements DOMDataChangeListener {
      */
     private static String generateNewPrefix(final Collection<String> prefixes) {
         StringBuilder result = null;
-        final Random random = new Random();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
         do {
             result = new StringBuilder();
             for (int i = 0; i < 4; i++) {
-                final int randomNumber = 0x61 + (Math.abs(random.nextInt()) % 26);
+                final int randomNumber = 0x61 + random.nextInt(26);
                 result.append(Character.toChars(randomNumber));
             }
         } while (prefixes.contains(result.toString()));
@@ -465,13 +377,16 @@ public class ListenerAdapter implements DOMDataChangeListener {
     }
 
     /**
-     * Removes all subscribers and unregisters event bus change recorder form event bus.
+     * Removes all subscribers and closes the registration of the listener.
      */
     public void close() throws Exception {
-        subscribers = new ConcurrentSet<>();
+        final Iterator<NotificationSubscriber> it = subscribers.values().iterator();
+        while (it.hasNext()) {
+            it.next().close();
+            it.remove();
+        }
         registration.close();
         registration = null;
-        eventBus.unregister(eventBusChangeRecorder);
     }
 
     /**
@@ -484,32 +399,36 @@ public class ListenerAdapter implements DOMDataChangeListener {
     }
 
     /**
-     * Creates event of type {@link EventType#REGISTER}, set {@link Channel} subscriber to the event and post event into
-     * event bus.
+     * Adds {@link Channel} subscriber, which gets notifications queued after this call.
      *
      * @param subscriber
      *            Channel
      */
     public void addSubscriber(final Channel subscriber) {
         if (!subscriber.isActive()) {
-            LOG.debug("Channel is not active between websocket server and subscriber {}" + subscriber.remoteAddress());
+            LOG.debug("Channel is not active between websocket server and subscriber {}", subscriber.remoteAddress());
+        }
+        if (!subscribers.containsKey(subscriber)) {
+            final NotificationSubscriber queue = new NotificationSubscriber(subscriber, subscriberQueueDepth,
+                    disconnectSlowSubscribers);
+            if (subscribers.putIfAbsent(subscriber, queue) != null) {
+                queue.close();
+            }
         }
-        final Event event = new Event(EventType.REGISTER);
-        event.setSubscriber(subscriber);
-        eventBus.post(event);
     }
 
     /**
-     * Creates event of type {@link EventType#DEREGISTER}, sets {@link Channel} subscriber to the event and posts event
-     * into event bus.
+     * Removes {@link Channel} subscriber and removes this listener if it was the last subscriber.
      *
      * @param subscriber
      */
     public void removeSubscriber(final Channel subscriber) {
         LOG.debug("Subscriber {} is removed.", subscriber.remoteAddress());
-        final Event event = new Event(EventType.DEREGISTER);
-        event.setSubscriber(subscriber);
-        eventBus.post(event);
+        final NotificationSubscriber queue = subscribers.remove(subscriber);
+        if (queue != null) {
+            queue.close();
+        }
+        Notificator.removeListenerIfNoSubscriberExists(this);
     }
 
     /**
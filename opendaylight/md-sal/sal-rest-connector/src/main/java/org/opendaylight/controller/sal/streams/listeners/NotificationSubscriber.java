@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.streams.listeners;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link NotificationSubscriber} holds notifications waiting to be sent to one websocket {@link Channel}. Messages
+ * are written from the event loop of the channel only while the channel is writable, so a slow subscriber fills
+ * its own bounded queue instead of blocking the listener or other subscribers. When the queue is full, either the
+ * oldest message is dropped or the subscriber is disconnected.
+ */
+final class NotificationSubscriber extends ChannelInboundHandlerAdapter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationSubscriber.class);
+
+    private final Channel channel;
+    private final int queueDepth;
+    private final boolean disconnectWhenFull;
+    private final Queue<ByteBuf> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Runnable drainTask = new Runnable() {
+        @Override
+        public void run() {
+            drainScheduled.set(false);
+            drain();
+        }
+    };
+    private long dropped;
+
+    /**
+     * Creates subscriber of the channel and adds it to the pipeline of the channel to be notified when the channel
+     * becomes writable.
+     *
+     * @param channel
+     *            Channel of the subscriber.
+     * @param queueDepth
+     *            Maximum number of messages waiting to be written.
+     * @param disconnectWhenFull
+     *            True if the channel should be closed instead of dropping messages.
+     */
+    NotificationSubscriber(final Channel channel, final int queueDepth, final boolean disconnectWhenFull) {
+        Preconditions.checkArgument(queueDepth > 0, "Queue depth has to be positive");
+        this.channel = Preconditions.checkNotNull(channel);
+        this.queueDepth = queueDepth;
+        this.disconnectWhenFull = disconnectWhenFull;
+        channel.pipeline().addLast(this);
+    }
+
+    Channel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Queues message to be sent to the subscriber. It is called by one thread at a time, because data change
+     * listeners are not notified concurrently.
+     *
+     * @param message
+     *            Content of the text frame, which is not released by the subscriber.
+     * @return False if the subscriber was disconnected because it did not keep up with messages.
+     */
+    boolean offer(final ByteBuf message) {
+        if (queued.get() >= queueDepth) {
+            if (disconnectWhenFull) {
+                LOG.warn("Subscriber {} is disconnected - {} notifications are waiting to be sent.",
+                        channel.remoteAddress(), queueDepth);
+                channel.close();
+                return false;
+            }
+            if (queue.poll() != null) {
+                queued.decrementAndGet();
+            }
+            if (dropped++ == 0) {
+                LOG.warn("Subscriber {} does not keep up - notifications are dropped.", channel.remoteAddress());
+            }
+        }
+
+        queue.add(message);
+        queued.incrementAndGet();
+        if (drainScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(drainTask);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the subscriber from the pipeline of the channel and discards messages waiting to be sent.
+     */
+    void close() {
+        queue.clear();
+        queued.set(0);
+        try {
+            channel.pipeline().remove(this);
+        } catch (final NoSuchElementException e) {
+            LOG.trace("Subscriber {} was already removed from channel pipeline", channel.remoteAddress(), e);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            drain();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    private void drain() {
+        boolean written = false;
+        while (channel.isWritable()) {
+            final ByteBuf message = queue.poll();
+            if (message == null) {
+                break;
+            }
+            queued.decrementAndGet();
+            channel.write(new TextWebSocketFrame(message.duplicate()));
+            written = true;
+        }
+        if (written) {
+            channel.flush();
+        }
+    }
+}
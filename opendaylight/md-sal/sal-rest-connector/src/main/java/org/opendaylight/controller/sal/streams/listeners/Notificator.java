@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.sal.streams.listeners;
 
+import com.google.common.base.Preconditions;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,12 +21,41 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
  */
 public class Notificator {
 
+    /**
+     * Default maximum number of notifications waiting to be sent to one subscriber.
+     */
+    public static final int DEFAULT_SUBSCRIBER_QUEUE_DEPTH = 1000;
+
     private static Map<String, ListenerAdapter> listenersByStreamName = new ConcurrentHashMap<>();
     private static final Lock lock = new ReentrantLock();
+    private static volatile int subscriberQueueDepth = DEFAULT_SUBSCRIBER_QUEUE_DEPTH;
+    private static volatile boolean disconnectSlowSubscribers;
 
     private Notificator() {
     }
 
+    /**
+     * Sets the maximum number of notifications waiting to be sent to one subscriber of listeners created
+     * afterwards.
+     *
+     * @param depth
+     *            Positive number of notifications.
+     */
+    public static void setSubscriberQueueDepth(int depth) {
+        Preconditions.checkArgument(depth > 0, "Subscriber queue depth has to be positive");
+        subscriberQueueDepth = depth;
+    }
+
+    /**
+     * Sets whether subscribers whose queue is full are disconnected or lose their oldest notifications.
+     *
+     * @param disconnect
+     *            True to disconnect subscribers, false to drop notifications.
+     */
+    public static void setDisconnectSlowSubscribers(boolean disconnect) {
+        disconnectSlowSubscribers = disconnect;
+    }
+
     /**
      * Returns list of all stream names
      */
@@ -64,7 +94,8 @@ public class Notificator {
      * @return New {@link ListenerAdapter} listener from {@link YangInstanceIdentifier} path and stream name.
      */
     public static ListenerAdapter createListener(YangInstanceIdentifier path, String streamName) {
-        ListenerAdapter listener = new ListenerAdapter(path, streamName);
+        ListenerAdapter listener = new ListenerAdapter(path, streamName, subscriberQueueDepth,
+                disconnectSlowSubscribers);
         try {
             lock.lock();
             listenersByStreamName.put(streamName, listener);
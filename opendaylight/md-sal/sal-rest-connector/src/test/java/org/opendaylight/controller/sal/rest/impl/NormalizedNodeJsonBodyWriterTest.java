@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+import org.junit.Test;
+import org.opendaylight.controller.sal.restconf.impl.test.TestUtils;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class NormalizedNodeJsonBodyWriterTest {
+
+    private static final String SCHEMA_DIRECTORY = "/full-versions/test-module";
+
+    @Test
+    public void testCodecFactorySharedBySchemaContext() throws Exception {
+        final SchemaContext schemaContext = TestUtils.loadSchemaContext(SCHEMA_DIRECTORY);
+        final JSONCodecFactory factory = NormalizedNodeJsonBodyWriter.getCodecFactory(schemaContext);
+        assertSame(factory, NormalizedNodeJsonBodyWriter.getCodecFactory(schemaContext));
+
+        final SchemaContext otherContext = TestUtils.loadSchemaContext(SCHEMA_DIRECTORY);
+        assertNotSame(factory, NormalizedNodeJsonBodyWriter.getCodecFactory(otherContext));
+    }
+
+    @Test
+    public void testReplacedSchemaContextReleased() throws Exception {
+        final WeakReference<SchemaContext> replaced = loadAndUse();
+        NormalizedNodeJsonBodyWriter.getCodecFactory(TestUtils.loadSchemaContext(SCHEMA_DIRECTORY));
+
+        for (int i = 0; i < 50 && replaced.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(replaced.get());
+    }
+
+    private static WeakReference<SchemaContext> loadAndUse() throws Exception {
+        final SchemaContext schemaContext = TestUtils.loadSchemaContext(SCHEMA_DIRECTORY);
+        NormalizedNodeJsonBodyWriter.getCodecFactory(schemaContext);
+        return new WeakReference<>(schemaContext);
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.rest.impl.test.providers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import com.google.common.base.Charsets;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.controller.sal.rest.impl.JsonBatchBodyReader;
+import org.opendaylight.controller.sal.rest.impl.XmlBatchBodyReader;
+import org.opendaylight.controller.sal.restconf.impl.BatchContext;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit.Operation;
+import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
+import org.opendaylight.controller.sal.restconf.impl.RestconfDocumentedException;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError;
+import org.opendaylight.controller.sal.restconf.impl.RestconfError.ErrorTag;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class TestBatchBodyReader {
+
+    private static final String CONT1_TARGET = "instance-identifier-module:cont/cont1";
+    private static final String JSON_VALUE = "{ \"instance-identifier-module:cont1\" : { } }";
+    private static final String XML_VALUE = "<cont1 xmlns=\"instance:identifier:module\"/>";
+
+    private final JsonBatchBodyReader jsonBatchReader = new JsonBatchBodyReader();
+    private final XmlBatchBodyReader xmlBatchReader = new XmlBatchBodyReader();
+
+    @BeforeClass
+    public static void initialization() {
+        SchemaContext schemaContext = TestRestconfUtils.loadSchemaContext("/instanceidentifier/yang", null);
+        schemaContext = TestRestconfUtils.loadSchemaContext("/modules", schemaContext);
+        ControllerContext.getInstance().setSchemas(schemaContext);
+    }
+
+    @Test
+    public void jsonEditsTest() throws Exception {
+        final BatchContext batch = jsonBatchReader.readFrom(null, null, null, null, null, toStream(
+                "{ \"edit\" : [ "
+                + "{ \"edit-id\" : \"1\", \"operation\" : \"replace\", \"target\" : \"" + CONT1_TARGET
+                + "\", \"value\" : " + JSON_VALUE + " }, "
+                + "{ \"value\" : " + JSON_VALUE + ", \"edit-id\" : \"2\", \"operation\" : \"merge\", "
+                + "\"target\" : \"" + CONT1_TARGET + "\" }, "
+                + "{ \"edit-id\" : \"3\", \"operation\" : \"remove\", \"target\" : \"" + CONT1_TARGET + "\" } ] }"));
+        checkEdits(batch.getEdits());
+    }
+
+    @Test
+    public void xmlEditsTest() throws Exception {
+        final BatchContext batch = xmlBatchReader.readFrom(null, null, null, null, null, toStream(
+                "<batch xmlns=\"" + BatchContext.NAMESPACE + "\">"
+                + "<edit><edit-id>1</edit-id><operation>replace</operation><target>" + CONT1_TARGET
+                + "</target><value>" + XML_VALUE + "</value></edit>"
+                + "<edit><value>" + XML_VALUE + "</value><edit-id>2</edit-id><operation>merge</operation>"
+                + "<target>" + CONT1_TARGET + "</target></edit>"
+                + "<edit><edit-id>3</edit-id><operation>remove</operation><target>" + CONT1_TARGET
+                + "</target></edit></batch>"));
+        checkEdits(batch.getEdits());
+    }
+
+    @Test
+    public void jsonUnknownOperationTest() throws Exception {
+        try {
+            jsonBatchReader.readFrom(null, null, null, null, null, toStream(
+                    "{ \"edit\" : [ { \"edit-id\" : \"e1\", \"operation\" : \"move\", \"target\" : \""
+                    + CONT1_TARGET + "\" } ] }"));
+            fail("Unknown operation should be rejected");
+        } catch (final RestconfDocumentedException e) {
+            checkEditError(e, "Edit e1: ");
+        }
+    }
+
+    @Test
+    public void xmlMissingValueTest() throws Exception {
+        try {
+            xmlBatchReader.readFrom(null, null, null, null, null, toStream(
+                    "<batch xmlns=\"" + BatchContext.NAMESPACE + "\"><edit><operation>create</operation>"
+                    + "<target>" + CONT1_TARGET + "</target></edit></batch>"));
+            fail("Create without value should be rejected");
+        } catch (final RestconfDocumentedException e) {
+            checkEditError(e, "Edit #1: ");
+        }
+    }
+
+    private static void checkEdits(final List<BatchEdit> edits) {
+        assertEquals(3, edits.size());
+        assertEdit(edits.get(0), "1", Operation.REPLACE, true);
+        assertEdit(edits.get(1), "2", Operation.MERGE, true);
+        assertEdit(edits.get(2), "3", Operation.REMOVE, false);
+    }
+
+    private static void assertEdit(final BatchEdit edit, final String editId, final Operation operation,
+            final boolean hasData) {
+        assertEquals(editId, edit.getEditId());
+        assertEquals(operation, edit.getOperation());
+        assertEquals("cont1", edit.getTarget().getInstanceIdentifier().getLastPathArgument().getNodeType()
+                .getLocalName());
+        if (hasData) {
+            assertNotNull(edit.getData());
+            assertEquals("cont1", edit.getData().getNodeType().getLocalName());
+        } else {
+            assertNull(edit.getData());
+        }
+    }
+
+    private static void checkEditError(final RestconfDocumentedException e, final String messagePrefix) {
+        assertEquals(1, e.getErrors().size());
+        final RestconfError error = e.getErrors().get(0);
+        assertEquals(ErrorTag.MALFORMED_MESSAGE, error.getErrorTag());
+        assertTrue(error.getErrorMessage(), error.getErrorMessage().startsWith(messagePrefix));
+    }
+
+    private static InputStream toStream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(Charsets.UTF_8));
+    }
+}
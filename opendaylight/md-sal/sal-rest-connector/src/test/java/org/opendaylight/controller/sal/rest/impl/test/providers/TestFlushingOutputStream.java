@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.rest.impl.test.providers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+import org.opendaylight.controller.sal.rest.impl.FlushingOutputStream;
+
+public class TestFlushingOutputStream {
+
+    private static final class CountingStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+    @Test
+    public void testPeriodicFlush() throws IOException {
+        final CountingStream entityStream = new CountingStream();
+        final FlushingOutputStream out = new FlushingOutputStream(entityStream, 10);
+
+        out.write(new byte[6], 0, 6);
+        assertEquals(0, entityStream.flushes);
+        out.write(new byte[6], 0, 6);
+        assertEquals(1, entityStream.flushes);
+        out.write(1);
+        assertEquals(1, entityStream.flushes);
+
+        out.close();
+        assertEquals(2, entityStream.flushes);
+        assertEquals(13, entityStream.size());
+    }
+
+    @Test
+    public void testDataPassedThrough() throws IOException {
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+        final FlushingOutputStream out = new FlushingOutputStream(entityStream);
+        final byte[] data = "<data/>".getBytes();
+        out.write(data);
+        out.flush();
+        assertArrayEquals(data, entityStream.toByteArray());
+    }
+}
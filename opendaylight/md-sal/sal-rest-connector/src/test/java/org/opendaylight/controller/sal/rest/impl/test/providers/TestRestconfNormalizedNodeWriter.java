@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.rest.impl.test.providers;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.opendaylight.controller.sal.rest.impl.RestconfNormalizedNodeWriter;
+import org.opendaylight.controller.sal.restconf.impl.FieldsSelection;
+import org.opendaylight.controller.sal.restconf.impl.WriterParameters;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class TestRestconfNormalizedNodeWriter {
+
+    private static final QName TOP = QName.create("urn:test", "2015-06-01", "top");
+    private static final QName INNER = QName.create(TOP, "inner");
+    private static final QName LEAF = QName.create(TOP, "leaf");
+    private static final QName LIST = QName.create(TOP, "list");
+    private static final QName KEY = QName.create(TOP, "key");
+    private static final QName VALUE = QName.create(TOP, "value");
+
+    private static final NodeIdentifierWithPredicates ENTRY_ID = new NodeIdentifierWithPredicates(LIST, KEY, "a");
+
+    private static ContainerNode createData() {
+        final MapNode list = ImmutableNodes.mapNodeBuilder(LIST).withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(ENTRY_ID)
+                .withChild(ImmutableNodes.leafNode(VALUE, "value-a"))
+                .withChild(ImmutableNodes.leafNode(KEY, "a"))
+                .build()).build();
+
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TOP))
+                .withChild(ImmutableNodes.leafNode(LEAF, "leaf-value"))
+                .withChild(Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(INNER))
+                        .withChild(list).build())
+                .build();
+    }
+
+    @Test
+    public void testDepth() throws IOException {
+        final NormalizedNodeStreamWriter streamWriter = mock(NormalizedNodeStreamWriter.class);
+        RestconfNormalizedNodeWriter.forStreamWriter(streamWriter, new WriterParameters(2, null)).write(createData());
+
+        verify(streamWriter).startContainerNode(eq(new NodeIdentifier(TOP)), anyInt());
+        verify(streamWriter).leafNode(new NodeIdentifier(LEAF), "leaf-value");
+        verify(streamWriter).startContainerNode(eq(new NodeIdentifier(INNER)), anyInt());
+        verify(streamWriter, never()).startMapNode(eq(new NodeIdentifier(LIST)), anyInt());
+    }
+
+    @Test
+    public void testListEntryKeysAtMaximumDepth() throws IOException {
+        final NormalizedNodeStreamWriter streamWriter = mock(NormalizedNodeStreamWriter.class);
+        RestconfNormalizedNodeWriter.forStreamWriter(streamWriter, new WriterParameters(3, null)).write(createData());
+
+        final InOrder order = inOrder(streamWriter);
+        order.verify(streamWriter).startMapEntryNode(eq(ENTRY_ID), anyInt());
+        order.verify(streamWriter).leafNode(new NodeIdentifier(KEY), "a");
+        verify(streamWriter, never()).leafNode(new NodeIdentifier(VALUE), "value-a");
+    }
+
+    @Test
+    public void testFields() throws IOException {
+        final NormalizedNodeStreamWriter streamWriter = mock(NormalizedNodeStreamWriter.class);
+        final FieldsSelection fields = new FieldsSelection();
+        fields.addChild(LEAF);
+
+        RestconfNormalizedNodeWriter.forStreamWriter(streamWriter, new WriterParameters(null, fields)).write(createData());
+
+        verify(streamWriter).leafNode(new NodeIdentifier(LEAF), "leaf-value");
+        verify(streamWriter, never()).startContainerNode(eq(new NodeIdentifier(INNER)), anyInt());
+    }
+}
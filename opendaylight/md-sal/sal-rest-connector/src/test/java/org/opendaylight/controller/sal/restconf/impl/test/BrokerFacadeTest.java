@@ -11,16 +11,22 @@ package org.opendaylight.controller.sal.restconf.impl.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.Future;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -42,8 +48,11 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.sal.core.api.Broker.ConsumerSession;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreMapPage;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit;
 import org.opendaylight.controller.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
+import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
 import org.opendaylight.controller.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.controller.sal.restconf.impl.RestconfError;
 import org.opendaylight.controller.sal.streams.listeners.ListenerAdapter;
@@ -52,8 +61,15 @@ import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
 /**
@@ -86,6 +102,12 @@ public class BrokerFacadeTest {
 
     YangInstanceIdentifier instanceID = YangInstanceIdentifier.builder().node(qname).toInstance();
 
+    QName listQName = TestUtils.buildQName("interface","test:module", "2014-01-09");
+
+    QName listKeyQName = TestUtils.buildQName("name","test:module", "2014-01-09");
+
+    YangInstanceIdentifier listID = YangInstanceIdentifier.builder().node(qname).node(listQName).toInstance();
+
     @Mock
     DOMDataReadOnlyTransaction rTransaction;
 
@@ -127,6 +149,18 @@ public class BrokerFacadeTest {
                 .withNodeIdentifier(new NodeIdentifier(QName.create(namespace, date, localName))).build();
     }
 
+    private MapNode createDummyList(final int size) {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> builder = ImmutableNodes.mapNodeBuilder(listQName);
+        for (int i = 0; i < size; i++) {
+            builder.withChild(ImmutableNodes.mapEntry(listQName, listKeyQName, "name" + i));
+        }
+        return builder.build();
+    }
+
+    private NodeIdentifierWithPredicates createListKey(final int index) {
+        return new NodeIdentifierWithPredicates(listQName, listKeyQName, "name" + index);
+    }
+
     @Test
     public void testReadConfigurationData() {
         when(rTransaction.read(any(LogicalDatastoreType.class), any(YangInstanceIdentifier.class))).thenReturn(
@@ -147,6 +181,32 @@ public class BrokerFacadeTest {
         assertSame("readOperationalData", dummyNode, actualNode);
     }
 
+    @Test
+    public void testReadDataPage() {
+        when(rTransaction.read(any(LogicalDatastoreType.class), any(YangInstanceIdentifier.class))).thenReturn(
+                wrapDummyNode(createDummyList(3)));
+
+        final DOMStoreMapPage page = brokerFacade.readDataPage(LogicalDatastoreType.CONFIGURATION, listID,
+                createListKey(1), 1, Collections.<PathArgument>emptyList());
+
+        assertEquals("page size", 1, ((MapNode) page.getData()).getValue().size());
+        assertEquals("next key", createListKey(2), page.getNextKey().get());
+    }
+
+    @Test
+    public void testReadDataPageWithMissingStartKey() {
+        when(rTransaction.read(any(LogicalDatastoreType.class), any(YangInstanceIdentifier.class))).thenReturn(
+                wrapDummyNode(createDummyList(3)));
+
+        try {
+            brokerFacade.readDataPage(LogicalDatastoreType.CONFIGURATION, listID, createListKey(5), 1,
+                Collections.<PathArgument>emptyList());
+            fail("Expected RestconfDocumentedException");
+        } catch (final RestconfDocumentedException e) {
+            assertEquals("getErrorTag", RestconfError.ErrorTag.INVALID_VALUE, e.getErrors().get(0).getErrorTag());
+        }
+    }
+
     @Test(expected = RestconfDocumentedException.class)
     public void testReadOperationalDataWithNoDataBroker() {
         brokerFacade.setDomDataBroker(null);
@@ -248,6 +308,83 @@ public class BrokerFacadeTest {
         inOrder.verify(wTransaction).submit();
     }
 
+    @SuppressWarnings("unchecked")
+    private BatchEdit createEdit(final String editId, final BatchEdit.Operation operation, final String target) {
+        final InstanceIdentifierContext<? extends SchemaNode> iiWithData =
+                ControllerContext.getInstance().toInstanceIdentifier(target);
+        final NormalizedNode<?, ?> data = operation.hasValue() ? Builders.containerBuilder().withNodeIdentifier(
+                new NodeIdentifier(iiWithData.getSchemaNode().getQName())).build() : null;
+        return new BatchEdit(editId, operation, iiWithData, data);
+    }
+
+    private YangInstanceIdentifier toPath(final BatchEdit edit) {
+        return edit.getTarget().getInstanceIdentifier();
+    }
+
+    @Test
+    public void testCommitConfigurationDataBatch() {
+        final CheckedFuture<Void, TransactionCommitFailedException> expFuture = mock(CheckedFuture.class);
+        when(rwTransaction.exists(eq(LogicalDatastoreType.CONFIGURATION), any(YangInstanceIdentifier.class)))
+                .thenReturn(wrapExistence(true));
+        when(rwTransaction.submit()).thenReturn(expFuture);
+
+        final BatchEdit replace = createEdit("1", BatchEdit.Operation.REPLACE, "test-module:cont/cont1");
+        final BatchEdit delete = createEdit("2", BatchEdit.Operation.DELETE, "test-module:cont/lst1/a");
+
+        assertSame("commitConfigurationDataBatch", expFuture,
+                brokerFacade.commitConfigurationDataBatch(Arrays.asList(replace, delete)));
+
+        final InOrder inOrder = inOrder(domDataBroker, rwTransaction);
+        inOrder.verify(domDataBroker).newReadWriteTransaction();
+        inOrder.verify(rwTransaction).put(LogicalDatastoreType.CONFIGURATION, toPath(replace), replace.getData());
+        inOrder.verify(rwTransaction).delete(LogicalDatastoreType.CONFIGURATION, toPath(delete));
+        inOrder.verify(rwTransaction).submit();
+    }
+
+    @Test
+    public void testCommitConfigurationDataBatchReportsAllFailedEdits() {
+        final BatchEdit create = createEdit("1", BatchEdit.Operation.CREATE, "test-module:cont/cont1");
+        final BatchEdit merge = createEdit("2", BatchEdit.Operation.MERGE, "test-module:interfaces");
+        final BatchEdit delete = createEdit("3", BatchEdit.Operation.DELETE, "test-module:cont/lst1/a");
+        when(rwTransaction.exists(LogicalDatastoreType.CONFIGURATION, toPath(create))).thenReturn(
+                wrapExistence(true));
+        when(rwTransaction.exists(LogicalDatastoreType.CONFIGURATION, toPath(delete))).thenReturn(
+                wrapExistence(false));
+
+        try {
+            brokerFacade.commitConfigurationDataBatch(Arrays.asList(create, merge, delete));
+            fail("Expected RestconfDocumentedException");
+        } catch (final RestconfDocumentedException e) {
+            assertEquals(2, e.getErrors().size());
+            assertEquals(RestconfError.ErrorTag.DATA_EXISTS, e.getErrors().get(0).getErrorTag());
+            assertTrue(e.getErrors().get(0).getErrorMessage().startsWith("Edit 1: "));
+            assertEquals(RestconfError.ErrorTag.DATA_MISSING, e.getErrors().get(1).getErrorTag());
+            assertTrue(e.getErrors().get(1).getErrorMessage().startsWith("Edit 3: "));
+        }
+
+        verify(rwTransaction).cancel();
+        verify(rwTransaction, never()).submit();
+    }
+
+    @Test
+    public void testCommitConfigurationDataBatchReadsReplacedParentsAgain() {
+        final CheckedFuture<Void, TransactionCommitFailedException> expFuture = mock(CheckedFuture.class);
+        when(rwTransaction.exists(eq(LogicalDatastoreType.CONFIGURATION), any(YangInstanceIdentifier.class)))
+                .thenReturn(wrapExistence(true));
+        when(rwTransaction.submit()).thenReturn(expFuture);
+
+        final BatchEdit first = createEdit("1", BatchEdit.Operation.MERGE, "test-module:cont/cont1");
+        final BatchEdit second = createEdit("2", BatchEdit.Operation.MERGE, "test-module:cont/cont1");
+        final BatchEdit replace = createEdit("3", BatchEdit.Operation.REPLACE, "test-module:cont");
+        final BatchEdit third = createEdit("4", BatchEdit.Operation.MERGE, "test-module:cont/cont1");
+
+        brokerFacade.commitConfigurationDataBatch(Arrays.asList(first, second, replace, third));
+
+        // Parent is read by the first edit, cached for the second and read again after it was replaced
+        verify(rwTransaction, times(2)).exists(LogicalDatastoreType.CONFIGURATION, toPath(replace));
+        verify(rwTransaction).submit();
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testRegisterToListenDataChanges() {
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataChangeListener;
+import org.opendaylight.controller.sal.restconf.impl.BrokerFacade;
+import org.opendaylight.controller.sal.restconf.impl.ResponseCache;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class ResponseCacheTest {
+
+    private static final QName LEAF = QName.create("urn:test", "2015-06-01", "leaf");
+    private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of(LEAF);
+
+    private final NormalizedNode<?, ?> data = ImmutableNodes.leafNode(LEAF, "a");
+    private BrokerFacade broker;
+    private ListenerRegistration<DOMDataChangeListener> registration;
+    private DOMDataChangeListener listener;
+    private ResponseCache cache;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        broker = mock(BrokerFacade.class);
+        registration = mock(ListenerRegistration.class);
+        doAnswer(new Answer<ListenerRegistration<DOMDataChangeListener>>() {
+            @Override
+            public ListenerRegistration<DOMDataChangeListener> answer(final InvocationOnMock invocation) {
+                listener = (DOMDataChangeListener) invocation.getArguments()[2];
+                return registration;
+            }
+        }).when(broker).registerDataChangeListener(eq(LogicalDatastoreType.CONFIGURATION),
+                eq(PATH), any(DOMDataChangeListener.class), eq(DataChangeScope.SUBTREE));
+        doReturn(data).when(broker).readConfigurationData(PATH);
+        cache = new ResponseCache(broker, 10);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> changeTo(
+            final NormalizedNode<?, ?> updated) {
+        final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> event =
+                mock(AsyncDataChangeEvent.class);
+        doReturn(updated).when(event).getUpdatedSubtree();
+        return event;
+    }
+
+    @Test
+    public void testCachedRead() {
+        final ResponseCache.Entry entry = cache.get(LogicalDatastoreType.CONFIGURATION, PATH);
+        assertSame(data, entry.getData());
+        assertSame(entry, cache.get(LogicalDatastoreType.CONFIGURATION, PATH));
+        assertEquals(1, cache.getHits());
+        verify(broker).readConfigurationData(PATH);
+    }
+
+    @Test
+    public void testInitialEventKeepsEntry() {
+        final ResponseCache.Entry entry = cache.get(LogicalDatastoreType.CONFIGURATION, PATH);
+        entry.onDataChanged(changeTo(ImmutableNodes.leafNode(LEAF, "a")));
+        assertSame(entry, cache.get(LogicalDatastoreType.CONFIGURATION, PATH));
+    }
+
+    @Test
+    public void testChangeEvictsEntry() {
+        final ResponseCache.Entry entry = cache.get(LogicalDatastoreType.CONFIGURATION, PATH);
+        entry.putBody("json", new byte[] { 1 });
+        entry.onDataChanged(changeTo(ImmutableNodes.leafNode(LEAF, "b")));
+        verify(registration).close();
+
+        final ResponseCache.Entry reloaded = cache.get(LogicalDatastoreType.CONFIGURATION, PATH);
+        assertFalse(entry.getEntityTag().equals(reloaded.getEntityTag()));
+        assertNull(reloaded.getBody("json"));
+        verify(broker, times(2)).readConfigurationData(PATH);
+    }
+
+    @Test
+    public void testChangeWhileLoadingInvalidatesEntry() {
+        doAnswer(new Answer<NormalizedNode<?, ?>>() {
+            @Override
+            public NormalizedNode<?, ?> answer(final InvocationOnMock invocation) {
+                // Commit lands between the read and insertion of the entry
+                listener.onDataChanged(changeTo(ImmutableNodes.leafNode(LEAF, "b")));
+                return data;
+            }
+        }).doReturn(data).when(broker).readConfigurationData(PATH);
+
+        final ResponseCache.Entry entry = cache.get(LogicalDatastoreType.CONFIGURATION, PATH);
+        assertSame(data, entry.getData());
+        assertTrue(entry.isInvalidated());
+
+        final ResponseCache.Entry reloaded = cache.get(LogicalDatastoreType.CONFIGURATION, PATH);
+        assertNotSame(entry, reloaded);
+        assertFalse(reloaded.isInvalidated());
+        assertEquals(0, cache.getHits());
+        verify(broker, times(2)).readConfigurationData(PATH);
+    }
+
+    @Test
+    public void testInitialEventWhileLoadingKeepsEntry() {
+        doAnswer(new Answer<NormalizedNode<?, ?>>() {
+            @Override
+            public NormalizedNode<?, ?> answer(final InvocationOnMock invocation) {
+                listener.onDataChanged(changeTo(ImmutableNodes.leafNode(LEAF, "a")));
+                return data;
+            }
+        }).when(broker).readConfigurationData(PATH);
+
+        final ResponseCache.Entry entry = cache.get(LogicalDatastoreType.CONFIGURATION, PATH);
+        assertFalse(entry.isInvalidated());
+        assertSame(entry, cache.get(LogicalDatastoreType.CONFIGURATION, PATH));
+    }
+
+    @Test
+    public void testWeakEntityTag() {
+        assertTrue(cache.get(LogicalDatastoreType.CONFIGURATION, PATH).getEntityTag().isWeak());
+    }
+}
@@ -911,7 +911,6 @@ public class RestGetOperationTest extends JerseyTest {
      * Tests behavior when invalid value of depth URI parameter
      */
     @Test
-    @Ignore
     public void getDataWithInvalidDepthParameterTest() {
         setControllerContext(schemaContextModules);
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import com.google.common.util.concurrent.Futures;
+import java.io.FileNotFoundException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.opendaylight.controller.sal.rest.impl.JsonNormalizedNodeBodyReader;
+import org.opendaylight.controller.sal.rest.impl.NormalizedNodeJsonBodyWriter;
+import org.opendaylight.controller.sal.rest.impl.NormalizedNodeXmlBodyWriter;
+import org.opendaylight.controller.sal.rest.impl.RestconfDocumentedExceptionMapper;
+import org.opendaylight.controller.sal.rest.impl.XmlNormalizedNodeBodyReader;
+import org.opendaylight.controller.sal.restconf.impl.BrokerFacade;
+import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
+import org.opendaylight.controller.sal.restconf.impl.RestconfDocumentedException;
+import org.opendaylight.controller.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.controller.sal.restconf.impl.StatisticsRestconfServiceWrapper;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * Tests the limit on data and RPC requests processed at once, with a single permit which is held by a
+ * request blocked in the datastore.
+ */
+public class RestInFlightLimitTest extends JerseyTest {
+
+    private static final String URI = "/config/test-interface:interfaces";
+
+    private static BrokerFacade brokerFacade;
+    private static StatisticsRestconfServiceWrapper service;
+
+    @BeforeClass
+    public static void init() throws FileNotFoundException {
+        final Set<Module> allModules = TestUtils.loadModulesFrom("/test-config-data/yang1");
+        assertNotNull(allModules);
+        final SchemaContext schemaContext = TestUtils.loadSchemaContext(allModules);
+        final ControllerContext controllerContext = ControllerContext.getInstance();
+        controllerContext.setSchemas(schemaContext);
+        brokerFacade = mock(BrokerFacade.class);
+        final RestconfImpl restconfImpl = RestconfImpl.getInstance();
+        restconfImpl.setBroker(brokerFacade);
+        restconfImpl.setControllerContext(controllerContext);
+        service = StatisticsRestconfServiceWrapper.getInstance();
+    }
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig();
+        resourceConfig = resourceConfig.registerInstances(service, new NormalizedNodeJsonBodyWriter(),
+                new NormalizedNodeXmlBodyWriter(), new XmlNormalizedNodeBodyReader(), new JsonNormalizedNodeBodyReader());
+        resourceConfig.registerClasses(RestconfDocumentedExceptionMapper.class);
+        return resourceConfig;
+    }
+
+    @After
+    public void removeLimit() {
+        service.setMaxConcurrentRequests(0);
+    }
+
+    private int delete() {
+        return target(URI).request(MediaType.APPLICATION_XML).delete().getStatus();
+    }
+
+    private void deleteSucceeds() {
+        doReturn(Futures.immediateCheckedFuture(null)).when(brokerFacade).commitConfigurationDataDelete(
+                any(YangInstanceIdentifier.class));
+    }
+
+    @Test
+    public void testRequestRejectedWhilePermitsHeld() throws Exception {
+        service.setMaxConcurrentRequests(1);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(final InvocationOnMock invocation) throws InterruptedException {
+                entered.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return Futures.immediateCheckedFuture(null);
+            }
+        }).when(brokerFacade).commitConfigurationDataDelete(any(YangInstanceIdentifier.class));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> holder = executor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return delete();
+                }
+            });
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+            final long rejected = service.getRejected().longValue();
+            assertEquals(503, delete());
+            assertEquals(rejected + 1, service.getRejected().longValue());
+
+            release.countDown();
+            assertEquals(200, holder.get(10, TimeUnit.SECONDS).intValue());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        // The permit of the blocked request was released when it completed
+        deleteSucceeds();
+        assertEquals(200, delete());
+    }
+
+    @Test
+    public void testPermitReleasedOnSuccessAndFailure() throws Exception {
+        service.setMaxConcurrentRequests(1);
+
+        deleteSucceeds();
+        assertEquals(200, delete());
+        assertEquals(200, delete());
+
+        doThrow(RestconfDocumentedException.class).when(brokerFacade).commitConfigurationDataDelete(
+                any(YangInstanceIdentifier.class));
+        assertEquals(500, delete());
+        assertEquals(500, delete());
+
+        deleteSucceeds();
+        assertEquals(200, delete());
+    }
+}
@@ -9,24 +9,44 @@ package org.opendaylight.controller.sal.restconf.impl.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Futures;
 import java.io.FileNotFoundException;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.OptimisticLockFailedException;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.sal.restconf.impl.BatchContext;
+import org.opendaylight.controller.sal.restconf.impl.BatchEdit;
 import org.opendaylight.controller.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
+import org.opendaylight.controller.sal.restconf.impl.InstanceIdentifierContext;
+import org.opendaylight.controller.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.controller.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 
 /**
  * @See {@link InvokeRpcMethodTest}
@@ -37,6 +57,9 @@ public class RestconfImplTest {
     private RestconfImpl restconfImpl = null;
     private static ControllerContext controllerContext = null;
 
+    private static final QName TOASTER_QNAME = QName.create("http://netconfcentral.org/ns/toaster", "2009-11-20",
+            "toaster");
+
     @BeforeClass
     public static void init() throws FileNotFoundException {
         Set<Module> allModules = TestUtils.loadModulesFrom("/full-versions/yangs");
@@ -62,4 +85,57 @@ public class RestconfImplTest {
                 brokerFacade.readOperationalData(null));
     }
 
+    @SuppressWarnings("unchecked")
+    private BatchEdit createToasterEdit(final String editId, final QName payloadName) {
+        final InstanceIdentifierContext<? extends SchemaNode> target =
+                controllerContext.toInstanceIdentifier("toaster:toaster");
+        return new BatchEdit(editId, BatchEdit.Operation.REPLACE, target,
+                Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(payloadName)).build());
+    }
+
+    @Test
+    public void testBatchConfigurationData() {
+        final BrokerFacade brokerFacade = mock(BrokerFacade.class);
+        restconfImpl.setBroker(brokerFacade);
+        final List<BatchEdit> edits = Collections.singletonList(createToasterEdit("1", TOASTER_QNAME));
+        when(brokerFacade.commitConfigurationDataBatch(edits)).thenReturn(
+                Futures.<Void, TransactionCommitFailedException>immediateCheckedFuture(null));
+
+        assertEquals(200, restconfImpl.batchConfigurationData(new BatchContext(edits)).getStatus());
+        verify(brokerFacade).commitConfigurationDataBatch(edits);
+    }
+
+    @Test
+    public void testBatchConfigurationDataRetriesOptimisticLockFailure() {
+        final BrokerFacade brokerFacade = mock(BrokerFacade.class);
+        restconfImpl.setBroker(brokerFacade);
+        final List<BatchEdit> edits = Collections.singletonList(createToasterEdit("1", TOASTER_QNAME));
+        when(brokerFacade.commitConfigurationDataBatch(edits)).thenReturn(
+                Futures.<Void, TransactionCommitFailedException>immediateFailedCheckedFuture(
+                    new OptimisticLockFailedException("Conflicting modification")),
+                Futures.<Void, TransactionCommitFailedException>immediateCheckedFuture(null));
+
+        assertEquals(200, restconfImpl.batchConfigurationData(new BatchContext(edits)).getStatus());
+        verify(brokerFacade, times(2)).commitConfigurationDataBatch(edits);
+    }
+
+    @Test
+    public void testBatchConfigurationDataReportsAllInvalidEdits() {
+        final BrokerFacade brokerFacade = mock(BrokerFacade.class);
+        restconfImpl.setBroker(brokerFacade);
+        final QName wrongName = QName.create(TOASTER_QNAME, "wrong");
+        final List<BatchEdit> edits = Arrays.asList(createToasterEdit("1", wrongName),
+                createToasterEdit("2", TOASTER_QNAME), createToasterEdit("3", wrongName));
+
+        try {
+            restconfImpl.batchConfigurationData(new BatchContext(edits));
+            fail("Expected RestconfDocumentedException");
+        } catch (final RestconfDocumentedException e) {
+            assertEquals(2, e.getErrors().size());
+            assertTrue(e.getErrors().get(0).getErrorMessage().startsWith("Edit 1: "));
+            assertTrue(e.getErrors().get(1).getErrorMessage().startsWith("Edit 3: "));
+        }
+        verify(brokerFacade, never()).commitConfigurationDataBatch(anyListOf(BatchEdit.class));
+    }
+
 }
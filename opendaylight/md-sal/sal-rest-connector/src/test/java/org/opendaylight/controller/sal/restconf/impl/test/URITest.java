@@ -9,6 +9,8 @@ package org.opendaylight.controller.sal.restconf.impl.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -67,6 +69,17 @@ public class URITest {
 
     }
 
+    @Test
+    public void testToInstanceIdentifierCachedUntilSchemaUpdate() {
+        final InstanceIdentifierContext<?> first = controllerContext.toInstanceIdentifier("simple-nodes:user/foo/boo");
+        assertSame(first, controllerContext.toInstanceIdentifier("simple-nodes:user/foo/boo"));
+
+        controllerContext.onGlobalContextUpdated(controllerContext.getGlobalSchema());
+        final InstanceIdentifierContext<?> updated = controllerContext.toInstanceIdentifier("simple-nodes:user/foo/boo");
+        assertNotSame(first, updated);
+        assertEquals(first.getInstanceIdentifier(), updated.getInstanceIdentifier());
+    }
+
     @Test
     public void testToInstanceIdentifierListWithNullKey() {
         exception.expect(RestconfDocumentedException.class);
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.sal.restconf.impl.ControllerContext;
+import org.opendaylight.controller.sal.restconf.impl.test.TestUtils;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+public class ListenerAdapterTest {
+
+    private static final QName CONT = QName.create("test:module", "2014-01-09", "cont");
+    private static final QName CONT1 = QName.create(CONT, "cont1");
+    private static final QName LST1 = QName.create(CONT, "lst1");
+    private static final QName LF11 = QName.create(CONT, "lf11");
+
+    private static final YangInstanceIdentifier CONT_PATH = YangInstanceIdentifier.builder().node(CONT).toInstance();
+    private static final YangInstanceIdentifier CONT1_PATH = YangInstanceIdentifier.builder(CONT_PATH).node(CONT1)
+            .toInstance();
+    private static final YangInstanceIdentifier LST1_ENTRY_PATH = YangInstanceIdentifier.builder(CONT_PATH)
+            .node(LST1).nodeWithKey(LST1, LF11, "a").toInstance();
+
+    /**
+     * Notification written by the DOM based serialization this listener used before, with its random namespace
+     * prefixes and time of the event.
+     */
+    private static final String OLD_NOTIFICATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n"
+            + "<notification xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">\n"
+            + "    <eventTime>2015-06-01T10:15:30+02:00</eventTime>\n"
+            + "    <data-changed-notification xmlns=\"urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote\">\n"
+            + "        <data-change-event>\n"
+            + "            <path xmlns:qwer=\"test:module\">/qwer:cont/qwer:cont1</path>\n"
+            + "            <operation>created</operation>\n"
+            + "        </data-change-event>\n"
+            + "        <data-change-event>\n"
+            + "            <path xmlns:asdf=\"test:module\">/asdf:cont/asdf:lst1[asdf:lf11='a']</path>\n"
+            + "            <operation>deleted</operation>\n"
+            + "        </data-change-event>\n"
+            + "    </data-changed-notification>\n"
+            + "</notification>\n";
+
+    private static final Pattern EVENT_TIME = Pattern.compile("\\d{4}-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d[+-]\\d\\d:\\d\\d");
+    private static final Pattern PATH_PREFIX = Pattern.compile("([a-z]{4}):");
+
+    @BeforeClass
+    public static void init() throws FileNotFoundException {
+        ControllerContext.getInstance().setSchemas(TestUtils.loadSchemaContext("/full-versions/test-module"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> createEvent() {
+        final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> event =
+                mock(AsyncDataChangeEvent.class);
+        doReturn(ImmutableMap.of(CONT1_PATH, ImmutableNodes.containerNode(CONT1))).when(event).getCreatedData();
+        // Updated data is not reported along with created data
+        doReturn(ImmutableMap.of(CONT_PATH, ImmutableNodes.containerNode(CONT))).when(event).getUpdatedData();
+        doReturn(ImmutableSet.of(LST1_ENTRY_PATH)).when(event).getRemovedPaths();
+        return event;
+    }
+
+    /**
+     * Writes the notification in a form which does not depend on formatting, namespace prefixes and time.
+     */
+    private static String canonicalize(final byte[] xml) throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        final Element root = factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml)).getDocumentElement();
+        final StringBuilder sb = new StringBuilder();
+        canonicalize(root, sb);
+        return sb.toString();
+    }
+
+    private static void canonicalize(final Element element, final StringBuilder sb) {
+        sb.append('<').append(element.getNamespaceURI()).append(' ').append(element.getLocalName()).append('>');
+        boolean hasChildElements = false;
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                hasChildElements = true;
+                canonicalize((Element) child, sb);
+            }
+        }
+        if (!hasChildElements) {
+            final String text = element.getTextContent();
+            if ("eventTime".equals(element.getLocalName())) {
+                assertTrue(text, EVENT_TIME.matcher(text).matches());
+                sb.append("TIME");
+            } else if ("path".equals(element.getLocalName())) {
+                final Matcher matcher = PATH_PREFIX.matcher(text);
+                final StringBuffer path = new StringBuffer();
+                while (matcher.find()) {
+                    matcher.appendReplacement(path, "{" + element.lookupNamespaceURI(matcher.group(1)) + "}");
+                }
+                matcher.appendTail(path);
+                sb.append(path);
+            } else {
+                sb.append(text);
+            }
+        }
+        sb.append("</>");
+    }
+
+    @Test
+    public void testNotificationMatchesPreviousFormat() throws Exception {
+        final ListenerAdapter adapter = new ListenerAdapter(CONT_PATH, "stream");
+        final byte[] xml = adapter.prepareXmlFrom(createEvent());
+
+        assertEquals(canonicalize(OLD_NOTIFICATION.getBytes(Charsets.UTF_8)), canonicalize(xml));
+    }
+
+    @Test
+    public void testNotificationSharedBySubscribers() throws Exception {
+        final ListenerAdapter adapter = new ListenerAdapter(CONT_PATH, "stream");
+        final EmbeddedChannel first = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        final EmbeddedChannel second = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        adapter.addSubscriber(first);
+        adapter.addSubscriber(second);
+
+        adapter.onDataChanged(createEvent());
+        first.runPendingTasks();
+        second.runPendingTasks();
+
+        final TextWebSocketFrame firstFrame = (TextWebSocketFrame) first.readOutbound();
+        final String text = firstFrame.text();
+        firstFrame.release();
+
+        final TextWebSocketFrame secondFrame = (TextWebSocketFrame) second.readOutbound();
+        assertEquals(text, secondFrame.text());
+        secondFrame.release();
+        assertEquals(canonicalize(OLD_NOTIFICATION.getBytes(Charsets.UTF_8)),
+            canonicalize(text.getBytes(Charsets.UTF_8)));
+    }
+}
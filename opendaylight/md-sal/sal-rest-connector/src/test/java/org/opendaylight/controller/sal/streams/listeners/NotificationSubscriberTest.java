@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NotificationSubscriberTest {
+
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        channel = createChannel();
+    }
+
+    private static EmbeddedChannel createChannel() {
+        // Embedded channel needs a handler, subscribers add themselves to the pipeline later
+        return new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    }
+
+    private static ByteBuf message(final String text) {
+        return Unpooled.unreleasableBuffer(Unpooled.copiedBuffer(text, Charsets.UTF_8));
+    }
+
+    /**
+     * Makes the channel unwritable by writing more than its high water mark without flushing it.
+     */
+    private ByteBuf block() {
+        final int size = channel.config().getWriteBufferHighWaterMark() + 1;
+        final ByteBuf pending = Unpooled.buffer(size).writeZero(size);
+        channel.write(pending);
+        channel.runPendingTasks();
+        assertFalse(channel.isWritable());
+        return pending;
+    }
+
+    /**
+     * Flushes the pending write, which makes the channel writable again.
+     */
+    private void unblock(final ByteBuf pending) {
+        channel.flush();
+        channel.runPendingTasks();
+        assertTrue(channel.isWritable());
+        assertSame(pending, channel.readOutbound());
+        pending.release();
+    }
+
+    private String readText() {
+        final TextWebSocketFrame frame = (TextWebSocketFrame) channel.readOutbound();
+        try {
+            return frame.text();
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    public void testOfferWritesFromEventLoop() {
+        final NotificationSubscriber subscriber = new NotificationSubscriber(channel, 2, false);
+        assertTrue(subscriber.offer(message("a")));
+        assertNull(channel.readOutbound());
+
+        channel.runPendingTasks();
+        assertEquals("a", readText());
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void testDrainWhenWritable() {
+        final NotificationSubscriber subscriber = new NotificationSubscriber(channel, 2, false);
+        final ByteBuf pending = block();
+        assertTrue(subscriber.offer(message("a")));
+        assertTrue(subscriber.offer(message("b")));
+        channel.runPendingTasks();
+
+        unblock(pending);
+        assertEquals("a", readText());
+        assertEquals("b", readText());
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void testDropOldestWhenFull() {
+        final NotificationSubscriber subscriber = new NotificationSubscriber(channel, 2, false);
+        final ByteBuf pending = block();
+        assertTrue(subscriber.offer(message("a")));
+        assertTrue(subscriber.offer(message("b")));
+        assertTrue(subscriber.offer(message("c")));
+        channel.runPendingTasks();
+
+        unblock(pending);
+        assertEquals("b", readText());
+        assertEquals("c", readText());
+        assertNull(channel.readOutbound());
+        assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void testDisconnectWhenFull() {
+        final NotificationSubscriber subscriber = new NotificationSubscriber(channel, 2, true);
+        block();
+        assertTrue(subscriber.offer(message("a")));
+        assertTrue(subscriber.offer(message("b")));
+        assertFalse(subscriber.offer(message("c")));
+        channel.runPendingTasks();
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testSharedMessage() {
+        final EmbeddedChannel other = createChannel();
+        final NotificationSubscriber subscriber = new NotificationSubscriber(channel, 2, false);
+        final NotificationSubscriber otherSubscriber = new NotificationSubscriber(other, 2, false);
+
+        final ByteBuf shared = message("a");
+        assertTrue(subscriber.offer(shared));
+        assertTrue(otherSubscriber.offer(shared));
+        channel.runPendingTasks();
+        other.runPendingTasks();
+
+        // Writing and releasing the frame of one subscriber leaves the message intact for the other one
+        assertEquals("a", readText());
+        assertEquals(1, shared.refCnt());
+        assertEquals(1, shared.readableBytes());
+        final TextWebSocketFrame frame = (TextWebSocketFrame) other.readOutbound();
+        assertEquals("a", frame.text());
+        frame.release();
+    }
+
+    @Test
+    public void testClose() {
+        final NotificationSubscriber subscriber = new NotificationSubscriber(channel, 2, false);
+        final ByteBuf pending = block();
+        assertTrue(subscriber.offer(message("a")));
+        subscriber.close();
+        assertNull(channel.pipeline().get(NotificationSubscriber.class));
+
+        unblock(pending);
+        channel.runPendingTasks();
+        assertNull(channel.readOutbound());
+    }
+}
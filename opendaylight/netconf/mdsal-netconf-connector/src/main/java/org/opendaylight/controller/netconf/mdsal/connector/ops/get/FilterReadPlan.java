@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.mdsal.connector.ops.get;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.CheckedFuture;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadTransaction;
+import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.controller.netconf.util.xml.XmlElement;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeAttrBuilder;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Attr;
+
+/**
+ * Set of datastore reads needed to evaluate a subtree filter, see
+ * <a href="http://tools.ietf.org/html/rfc6241#section-6">rfc6241</a>. Instead of reading the whole datastore,
+ * only the subtrees selected by the filter are read and wrapped in their parent containers.
+ *
+ * The plan selects a superset of the filtered data: it descends through containers as long as the filter
+ * consists of containment and selection nodes only and stops at the first content match, attribute match, list
+ * or node it cannot resolve, reading the whole subtree there. Exact filtering is still performed on the reply
+ * by the netconf server.
+ */
+final class FilterReadPlan {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FilterReadPlan.class);
+
+    private static final String SUBTREE = "subtree";
+    private static final NodeIdentifier ROOT_ID = new NodeIdentifier(SchemaContext.NAME);
+
+    private final PlanNode root = new PlanNode();
+
+    private FilterReadPlan() {
+    }
+
+    /**
+     * @param schemaContext current schema context
+     * @param operationElement get or get-config element, possibly containing a filter
+     * @return plan reading the whole datastore, unless the operation contains a subtree filter
+     */
+    static FilterReadPlan fromOperation(final SchemaContext schemaContext, final XmlElement operationElement) {
+        final FilterReadPlan plan = new FilterReadPlan();
+        final Optional<XmlElement> filter = operationElement.getOnlyChildElementOptionally(XmlNetconfConstants.FILTER,
+                XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0);
+        if (filter.isPresent() && isSubtree(filter.get())) {
+            plan.addFilter(schemaContext, filter.get());
+        } else {
+            plan.root.readWhole();
+        }
+        return plan;
+    }
+
+    private static boolean isSubtree(final XmlElement filter) {
+        return SUBTREE.equals(filter.getAttribute("type"))
+                || SUBTREE.equals(filter.getAttribute("type", XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0));
+    }
+
+    private void addFilter(final SchemaContext schemaContext, final XmlElement filter) {
+        for (final XmlElement filterChild : filter.getChildElements()) {
+            final Optional<DataSchemaNode> schemaNode = findChild(schemaContext, filterChild);
+            if (!schemaNode.isPresent()) {
+                // Could be a node within a choice, only the whole datastore is certain to contain it
+                LOG.debug("Unable to resolve filter node {}, reading whole datastore", filterChild);
+                root.readWhole();
+                return;
+            }
+
+            final NodeIdentifier id = new NodeIdentifier(schemaNode.get().getQName());
+            addNode(root.child(id), schemaNode.get(), filterChild);
+        }
+    }
+
+    private static void addNode(final PlanNode node, final DataSchemaNode schemaNode, final XmlElement filter) {
+        if (node.read) {
+            // Already read as a whole
+            return;
+        }
+
+        if (schemaNode instanceof ContainerSchemaNode && isContainmentNode(filter)) {
+            final List<DataSchemaNode> childSchemaNodes = new ArrayList<>();
+            for (final XmlElement filterChild : filter.getChildElements()) {
+                final Optional<DataSchemaNode> childSchemaNode = findChild((ContainerSchemaNode) schemaNode, filterChild);
+                if (!childSchemaNode.isPresent() || childSchemaNode.get().isAugmenting()) {
+                    // Augmentations and choices are not addressed by node identifiers, read the container instead
+                    node.readWhole();
+                    return;
+                }
+                childSchemaNodes.add(childSchemaNode.get());
+            }
+
+            final List<XmlElement> filterChildren = filter.getChildElements();
+            for (int i = 0; i < filterChildren.size(); i++) {
+                final DataSchemaNode childSchemaNode = childSchemaNodes.get(i);
+                addNode(node.child(new NodeIdentifier(childSchemaNode.getQName())), childSchemaNode, filterChildren.get(i));
+            }
+            return;
+        }
+
+        node.readWhole();
+    }
+
+    /**
+     * Containment node which contains only other containment and selection nodes. Content match nodes and
+     * attribute matches are evaluated against the whole subtree.
+     */
+    private static boolean isContainmentNode(final XmlElement filter) {
+        for (final Attr attr : filter.getAttributes().values()) {
+            if (!XmlUtil.XMLNS_URI.equals(attr.getNamespaceURI())) {
+                return false;
+            }
+        }
+
+        final List<XmlElement> filterChildren = filter.getChildElements();
+        if (filterChildren.isEmpty()) {
+            return false;
+        }
+        for (final XmlElement filterChild : filterChildren) {
+            if (filterChild.getOnlyTextContentOptionally().isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<DataSchemaNode> findChild(final DataNodeContainer parent, final XmlElement filter) {
+        final Optional<String> namespace = filter.getNamespaceOptionally();
+        if (!namespace.isPresent()) {
+            return Optional.absent();
+        }
+
+        for (final DataSchemaNode child : parent.getChildNodes()) {
+            if (child.getQName().getLocalName().equals(filter.getName())
+                    && child.getQName().getNamespace().toString().equals(namespace.get())) {
+                return Optional.of(child);
+            }
+        }
+        return Optional.absent();
+    }
+
+    /**
+     * Issue all reads of this plan in provided transaction and assemble their results.
+     *
+     * @return data rooted at the datastore root, containing all subtrees selected by this plan
+     */
+    Optional<NormalizedNode<?, ?>> read(final DOMDataReadTransaction tx, final LogicalDatastoreType datastore) throws ReadFailedException {
+        // Submit all reads before waiting for any of them
+        final Map<YangInstanceIdentifier, CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException>> reads = new LinkedHashMap<>();
+        submitReads(root, AbstractGet.ROOT, tx, datastore, reads);
+        return assemble(root, ROOT_ID, AbstractGet.ROOT, reads);
+    }
+
+    private static void submitReads(final PlanNode node, final YangInstanceIdentifier path, final DOMDataReadTransaction tx,
+            final LogicalDatastoreType datastore,
+            final Map<YangInstanceIdentifier, CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException>> reads) {
+        if (node.read) {
+            LOG.trace("Reading {} from {}", path, datastore);
+            reads.put(path, tx.read(datastore, path));
+            return;
+        }
+        for (final Entry<NodeIdentifier, PlanNode> child : node.children.entrySet()) {
+            submitReads(child.getValue(), path.node(child.getKey()), tx, datastore, reads);
+        }
+    }
+
+    private static Optional<NormalizedNode<?, ?>> assemble(final PlanNode node, final NodeIdentifier id, final YangInstanceIdentifier path,
+            final Map<YangInstanceIdentifier, CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException>> reads) throws ReadFailedException {
+        if (node.read) {
+            return reads.get(path).checkedGet();
+        }
+
+        final DataContainerNodeAttrBuilder<NodeIdentifier, ContainerNode> builder = Builders.containerBuilder().withNodeIdentifier(id);
+        boolean empty = true;
+        for (final Entry<NodeIdentifier, PlanNode> child : node.children.entrySet()) {
+            final Optional<NormalizedNode<?, ?>> childData = assemble(child.getValue(), child.getKey(), path.node(child.getKey()), reads);
+            if (childData.isPresent()) {
+                builder.withChild((DataContainerChild<? extends PathArgument, ?>) childData.get());
+                empty = false;
+            }
+        }
+
+        // Parents of missing subtrees do not appear in the reply, the datastore root always does
+        if (empty && !id.equals(ROOT_ID)) {
+            return Optional.absent();
+        }
+        return Optional.<NormalizedNode<?, ?>>of(builder.build());
+    }
+
+    private static final class PlanNode {
+        private final Map<NodeIdentifier, PlanNode> children = new LinkedHashMap<>();
+        private boolean read;
+
+        PlanNode child(final NodeIdentifier id) {
+            PlanNode child = children.get(id);
+            if (child == null) {
+                child = new PlanNode();
+                children.put(id, child);
+            }
+            return child;
+        }
+
+        void readWhole() {
+            read = true;
+            children.clear();
+        }
+    }
+}
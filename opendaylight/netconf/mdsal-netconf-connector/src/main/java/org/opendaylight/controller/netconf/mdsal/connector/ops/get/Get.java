@@ -44,9 +44,10 @@ public class Get extends AbstractGet {
     protected Element handleWithNoSubsequentOperations(Document document, XmlElement operationElement) throws NetconfDocumentedException {
 
         final YangInstanceIdentifier dataRoot = ROOT;
+        final FilterReadPlan readPlan = FilterReadPlan.fromOperation(schemaContext.getCurrentContext(), operationElement);
         DOMDataReadWriteTransaction rwTx = getTransaction(Datastore.running);
         try {
-            final Optional<NormalizedNode<?, ?>> normalizedNodeOptional = rwTx.read(LogicalDatastoreType.OPERATIONAL, dataRoot).checkedGet();
+            final Optional<NormalizedNode<?, ?>> normalizedNodeOptional = readPlan.read(rwTx, LogicalDatastoreType.OPERATIONAL);
             transactionProvider.abortRunningTransaction(rwTx);
             return (Element) transformNormalizedNode(document, normalizedNodeOptional.get(), dataRoot);
         } catch (ReadFailedException e) {
@@ -56,9 +56,10 @@ public class GetConfig extends AbstractGet {
         // Proper exception should be thrown
         Preconditions.checkState(getConfigExecution.getDatastore().isPresent(), "Source element missing from request");
 
+        final FilterReadPlan readPlan = FilterReadPlan.fromOperation(schemaContext.getCurrentContext(), operationElement);
         DOMDataReadWriteTransaction rwTx = getTransaction(getConfigExecution.getDatastore().get());
         try {
-            final Optional<NormalizedNode<?, ?>> normalizedNodeOptional = rwTx.read(LogicalDatastoreType.CONFIGURATION, dataRoot).checkedGet();
+            final Optional<NormalizedNode<?, ?>> normalizedNodeOptional = readPlan.read(rwTx, LogicalDatastoreType.CONFIGURATION);
             if (getConfigExecution.getDatastore().get() == Datastore.running) {
                 transactionProvider.abortRunningTransaction(rwTx);
             }
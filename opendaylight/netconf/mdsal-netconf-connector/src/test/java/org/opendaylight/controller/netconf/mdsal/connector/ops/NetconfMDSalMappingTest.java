@@ -211,6 +211,22 @@ public class NetconfMDSalMappingTest {
 
     }
 
+    @Test
+    public void testFilteredGetConfig() throws Exception {
+
+        verifyResponse(edit("messages/mapping/editConfig_merge_multiple_1.xml"), RPC_REPLY_OK);
+        verifyResponse(edit("messages/mapping/editConfig_merge_single_1.xml"), RPC_REPLY_OK);
+        verifyResponse(commit(), RPC_REPLY_OK);
+
+        verifyResponse(getConfigRunning("messages/mapping/getConfig_filter_mapping-nodes.xml"),
+                XmlFileLoader.xmlFileToDocument("messages/mapping/editConfig_merge_multiple_control_2.xml"));
+        // Only the filtered subtree is read, data of other modules is not
+        assertEmptyDatastore(getConfigRunning("messages/mapping/getConfig_filter_modules.xml"));
+
+        deleteDatastore();
+
+    }
+
     @Test
     public void testLock() throws Exception {
 
@@ -342,8 +358,12 @@ public class NetconfMDSalMappingTest {
     }
 
     private Document getConfigRunning() throws NetconfDocumentedException, ParserConfigurationException, SAXException, IOException {
+        return getConfigRunning("messages/mapping/getConfig.xml");
+    }
+
+    private Document getConfigRunning(String resource) throws NetconfDocumentedException, ParserConfigurationException, SAXException, IOException {
         GetConfig getConfig = new GetConfig(sessionIdForReporting, currentSchemaContext, transactionProvider);
-        return executeOperation(getConfig, "messages/mapping/getConfig.xml");
+        return executeOperation(getConfig, resource);
     }
 
     private Document getConfigCandidate() throws NetconfDocumentedException, ParserConfigurationException, SAXException, IOException {
@@ -8,6 +8,7 @@
 
 package org.opendaylight.controller.netconf.api;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
@@ -17,4 +18,14 @@ public interface NetconfServerDispatcher {
     ChannelFuture createServer(InetSocketAddress address);
 
     ChannelFuture createLocalServer(LocalAddress address);
+
+    /**
+     * Serve a netconf session on a channel created outside of this dispatcher, e.g. a channel
+     * bridged onto the streams of an SSH subsystem. The netconf server pipeline is installed
+     * on the channel and the channel is registered with the dispatcher's worker group.
+     *
+     * @param channel unregistered channel, connected to a netconf client
+     * @return future completed once the channel is registered
+     */
+    ChannelFuture registerServerChannel(Channel channel);
 }
@@ -10,11 +10,14 @@ package org.opendaylight.controller.netconf.impl;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.local.LocalAddress;
 import io.netty.channel.local.LocalChannel;
 import io.netty.channel.local.LocalServerChannel;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.GlobalEventExecutor;
 import io.netty.util.concurrent.Promise;
 import java.net.InetSocketAddress;
 import org.opendaylight.controller.netconf.api.NetconfServerDispatcher;
@@ -25,11 +28,13 @@ import org.opendaylight.protocol.framework.AbstractDispatcher;
 public class NetconfServerDispatcherImpl extends AbstractDispatcher<NetconfServerSession, NetconfServerSessionListener> implements NetconfServerDispatcher {
 
     private final ServerChannelInitializer initializer;
+    private final EventLoopGroup workerGroup;
 
     public NetconfServerDispatcherImpl(ServerChannelInitializer serverChannelInitializer, EventLoopGroup bossGroup,
                                        EventLoopGroup workerGroup) {
         super(bossGroup, workerGroup);
         this.initializer = serverChannelInitializer;
+        this.workerGroup = workerGroup;
     }
 
     @Override
@@ -52,6 +57,18 @@ public class NetconfServerDispatcherImpl extends AbstractDispatcher<NetconfServe
         });
     }
 
+    @Override
+    public ChannelFuture registerServerChannel(final Channel channel) {
+        // Same as for accepted channels, the pipeline is initialized once the channel is registered
+        channel.pipeline().addLast(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(final Channel ch) {
+                initializer.initialize(ch, new DefaultPromise<NetconfServerSession>(GlobalEventExecutor.INSTANCE));
+            }
+        });
+        return workerGroup.register(channel);
+    }
+
     public static class ServerChannelInitializer extends AbstractChannelInitializer<NetconfServerSession> {
 
         public static final String DESERIALIZER_EX_HANDLER_KEY = "deserializerExHandler";
@@ -123,7 +123,7 @@ public abstract class AbstractNetconfSession<S extends NetconfSession, L extends
             throw new IllegalArgumentException("Cannot parse options", e);
         }
 
-        final NetconfEXICodec exiCodec = new NetconfEXICodec(exiParams.getOptions());
+        final NetconfEXICodec exiCodec = NetconfEXICodec.forOptions(exiParams.getOptions());
         final NetconfMessageToEXIEncoder exiEncoder;
         try {
             exiEncoder = NetconfMessageToEXIEncoder.create(exiCodec);
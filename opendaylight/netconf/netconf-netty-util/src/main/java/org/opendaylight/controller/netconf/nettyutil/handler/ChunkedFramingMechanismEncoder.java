@@ -20,6 +20,9 @@ public class ChunkedFramingMechanismEncoder extends MessageToByteEncoder<ByteBuf
     public static final int MIN_CHUNK_SIZE = 128;
     public static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
 
+    // "\n#" followed by at most eight digits of chunk size and "\n"
+    private static final int MAX_HEADER_LENGTH = 11;
+
     private final int chunkSize;
 
     public ChunkedFramingMechanismEncoder() {
@@ -35,6 +38,14 @@ public class ChunkedFramingMechanismEncoder extends MessageToByteEncoder<ByteBuf
         return chunkSize;
     }
 
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext ctx, final ByteBuf msg, final boolean preferDirect) {
+        // Size the buffer for the entire framed message up front, so it never needs to be expanded
+        final int chunks = Math.max(1, (msg.readableBytes() + chunkSize - 1) / chunkSize);
+        final int size = msg.readableBytes() + chunks * MAX_HEADER_LENGTH + NetconfMessageConstants.END_OF_CHUNK.length;
+        return preferDirect ? ctx.alloc().ioBuffer(size) : ctx.alloc().heapBuffer(size);
+    }
+
     @Override
     protected void encode(final ChannelHandlerContext ctx, final ByteBuf msg, final ByteBuf out)  {
         do {
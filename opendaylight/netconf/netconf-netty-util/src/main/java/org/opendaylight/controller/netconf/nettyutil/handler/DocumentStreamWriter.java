@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.nettyutil.handler;
+
+import com.google.common.base.Strings;
+import java.io.OutputStream;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * Utility class for writing a DOM tree as compact UTF-8 XML into an output stream. It walks the tree
+ * and emits it through an {@link XMLStreamWriter}, which is considerably cheaper than running an identity
+ * {@link javax.xml.transform.Transformer}, and does not indent the output. Namespace declarations are
+ * added where the tree uses a namespace which has not been declared, as a transformer would do.
+ */
+final class DocumentStreamWriter {
+    private static final XMLOutputFactory FACTORY = XMLOutputFactory.newInstance();
+
+    private DocumentStreamWriter() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Write a node and its subtree. The XML declaration is not emitted.
+     *
+     * @param node Node to be written, typically a document
+     * @param os Output stream
+     * @throws XMLStreamException if the node cannot be written
+     */
+    static void write(final Node node, final OutputStream os) throws XMLStreamException {
+        final XMLStreamWriter writer = FACTORY.createXMLStreamWriter(os, "UTF-8");
+        try {
+            writeNode(writer, new NamespaceSupport(), node);
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void writeChildren(final XMLStreamWriter writer, final NamespaceSupport namespaces,
+            final Node node) throws XMLStreamException {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            writeNode(writer, namespaces, child);
+        }
+    }
+
+    private static void writeNode(final XMLStreamWriter writer, final NamespaceSupport namespaces,
+            final Node node) throws XMLStreamException {
+        switch (node.getNodeType()) {
+        case Node.DOCUMENT_NODE:
+        case Node.DOCUMENT_FRAGMENT_NODE:
+            writeChildren(writer, namespaces, node);
+            break;
+        case Node.ELEMENT_NODE:
+            writeElement(writer, namespaces, (Element) node);
+            break;
+        case Node.TEXT_NODE:
+            writer.writeCharacters(node.getNodeValue());
+            break;
+        case Node.CDATA_SECTION_NODE:
+            writer.writeCData(node.getNodeValue());
+            break;
+        case Node.COMMENT_NODE:
+            writer.writeComment(node.getNodeValue());
+            break;
+        case Node.PROCESSING_INSTRUCTION_NODE:
+            final ProcessingInstruction pi = (ProcessingInstruction) node;
+            writer.writeProcessingInstruction(pi.getTarget(), pi.getData());
+            break;
+        default:
+            // Document types, entities and notations are not used in NETCONF messages
+            break;
+        }
+    }
+
+    private static void writeElement(final XMLStreamWriter writer, final NamespaceSupport namespaces,
+            final Element element) throws XMLStreamException {
+        final String prefix = Strings.nullToEmpty(element.getPrefix());
+        final String namespace = Strings.nullToEmpty(element.getNamespaceURI());
+        final String localName = element.getLocalName() != null ? element.getLocalName() : element.getNodeName();
+
+        final boolean empty = !element.hasChildNodes();
+        if (empty) {
+            writer.writeEmptyElement(prefix, localName, namespace);
+        } else {
+            writer.writeStartElement(prefix, localName, namespace);
+        }
+        namespaces.pushContext();
+
+        final NamedNodeMap attributes = element.getAttributes();
+
+        // Explicit namespace declarations go first
+        for (int i = 0; i < attributes.getLength(); ++i) {
+            final Attr attr = (Attr) attributes.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI())) {
+                final String declared = XMLConstants.XMLNS_ATTRIBUTE.equals(attr.getLocalName()) ? "" : attr.getLocalName();
+                declareNamespace(writer, namespaces, declared, attr.getValue());
+            }
+        }
+
+        // Make sure the element's own namespace is bound
+        ensureNamespace(writer, namespaces, prefix, namespace);
+
+        for (int i = 0; i < attributes.getLength(); ++i) {
+            final Attr attr = (Attr) attributes.item(i);
+            final String attrNamespace = attr.getNamespaceURI();
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attrNamespace)) {
+                continue;
+            }
+
+            if (attrNamespace == null || attrNamespace.isEmpty()) {
+                // Non-namespace-aware DOM represents declarations as plain attributes
+                final String name = attr.getName();
+                if (XMLConstants.XMLNS_ATTRIBUTE.equals(name)) {
+                    ensureNamespace(writer, namespaces, "", attr.getValue());
+                } else if (name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ":")) {
+                    ensureNamespace(writer, namespaces, name.substring(6), attr.getValue());
+                } else {
+                    writer.writeAttribute(attr.getLocalName() != null ? attr.getLocalName() : name, attr.getValue());
+                }
+            } else if (attr.getPrefix() == null || attr.getPrefix().isEmpty()) {
+                /*
+                 * Unprefixed attributes are never in a namespace, the default namespace applies to elements
+                 * only. Attributes like message-id are created with the namespace of their element, write them
+                 * unqualified as the transformer did, without rebinding the default namespace.
+                 */
+                writer.writeAttribute(attr.getLocalName(), attr.getValue());
+            } else {
+                final String attrPrefix = attr.getPrefix();
+                if (!XMLConstants.XML_NS_URI.equals(attrNamespace)) {
+                    ensureNamespace(writer, namespaces, attrPrefix, attrNamespace);
+                }
+                writer.writeAttribute(attrPrefix, attrNamespace, attr.getLocalName(), attr.getValue());
+            }
+        }
+
+        if (!empty) {
+            writeChildren(writer, namespaces, element);
+            writer.writeEndElement();
+        }
+        namespaces.popContext();
+    }
+
+    private static void ensureNamespace(final XMLStreamWriter writer, final NamespaceSupport namespaces,
+            final String prefix, final String namespace) throws XMLStreamException {
+        final String bound = Strings.nullToEmpty(namespaces.getURI(prefix));
+        if (!namespace.equals(bound)) {
+            declareNamespace(writer, namespaces, prefix, namespace);
+        }
+    }
+
+    private static void declareNamespace(final XMLStreamWriter writer, final NamespaceSupport namespaces,
+            final String prefix, final String namespace) throws XMLStreamException {
+        if (prefix.isEmpty()) {
+            writer.writeDefaultNamespace(namespace);
+        } else {
+            writer.writeNamespace(prefix, namespace);
+        }
+        namespaces.declarePrefix(prefix, namespace);
+    }
+}
@@ -109,20 +109,22 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
                 break;
             }
             case DATA:
+            {
                 /*
-                 * FIXME: this gathers all data into one big chunk before passing
-                 *        it on. Make sure the pipeline can work with partial data
-                 *        and then change this piece to pass the data on as it
-                 *        comes through.
+                 * Take whatever part of the chunk is available, so we do not wait for the
+                 * cumulation buffer to hold the entire chunk. Data is sliced rather than
+                 * copied, so each byte of the message is held in memory only once.
                  */
-                if (in.readableBytes() < chunkSize) {
-                    LOG.debug("Buffer has {} bytes, need {} to complete chunk", in.readableBytes(), chunkSize);
-                    in.discardReadBytes();
-                    return;
+                final int available = (int) Math.min(chunkSize, in.readableBytes());
+                aggregateChunks(in.readSlice(available).retain());
+                chunkSize -= available;
+                if (chunkSize == 0) {
+                    state = State.FOOTER_ONE;
+                } else {
+                    LOG.trace("Need {} more bytes to complete chunk", chunkSize);
                 }
-                aggregateChunks(in.readBytes((int) chunkSize));
-                state = State.FOOTER_ONE;
                 break;
+            }
             case FOOTER_ONE:
             {
                 final byte b = in.readByte();
@@ -160,8 +162,15 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
             }
             }
         }
+    }
 
-        in.discardReadBytes();
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+        // Release the partially-received message, which holds on to slices of the cumulation buffer
+        if (chunk != null) {
+            chunk.release();
+            chunk = null;
+        }
     }
 
     private void extractNewChunkOrMessageEnd(byte b) {
@@ -179,7 +188,8 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
     }
 
     private void initChunk() {
-        chunk = Unpooled.compositeBuffer();
+        // Do not let the buffer consolidate, as that would copy the message received so far
+        chunk = Unpooled.compositeBuffer(Integer.MAX_VALUE);
     }
 
     private void aggregateChunks(ByteBuf newChunk) {
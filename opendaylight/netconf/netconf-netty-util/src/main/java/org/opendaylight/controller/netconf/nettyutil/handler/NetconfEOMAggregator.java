@@ -10,14 +10,61 @@ package org.opendaylight.controller.netconf.nettyutil.handler;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
-import io.netty.handler.codec.DelimiterBasedFrameDecoder;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.util.List;
 import org.opendaylight.controller.netconf.util.messages.NetconfMessageConstants;
 
-public class NetconfEOMAggregator extends DelimiterBasedFrameDecoder {
+/**
+ * Splits the incoming stream into messages delimited by the end-of-message marker. Unlike a plain
+ * delimiter-based frame decoder, this decoder remembers how far it has searched for the delimiter,
+ * so a large message arriving in many small reads is scanned only once. Messages are passed on as
+ * slices of the cumulation buffer, without copying.
+ */
+public class NetconfEOMAggregator extends ByteToMessageDecoder {
 
     public static final ByteBuf DELIMITER = Unpooled.wrappedBuffer(NetconfMessageConstants.END_OF_MESSAGE);
 
-    public NetconfEOMAggregator() {
-        super(Integer.MAX_VALUE, DELIMITER);
+    private static final byte[] EOM = NetconfMessageConstants.END_OF_MESSAGE;
+
+    // Number of bytes past the reader index which are known not to start a delimiter
+    private int scanned;
+
+    @Override
+    protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        int eom;
+        while ((eom = findDelimiter(in)) >= 0) {
+            out.add(in.readSlice(eom - in.readerIndex()).retain());
+            in.skipBytes(EOM.length);
+            scanned = 0;
+        }
+    }
+
+    private int findDelimiter(final ByteBuf in) {
+        final int last = in.writerIndex() - EOM.length;
+
+        int i = in.readerIndex() + scanned;
+        while (i <= last) {
+            i = in.indexOf(i, last + 1, EOM[0]);
+            if (i < 0) {
+                break;
+            }
+            if (isDelimiterAt(in, i)) {
+                return i;
+            }
+            i++;
+        }
+
+        scanned = Math.max(scanned, last + 1 - in.readerIndex());
+        return -1;
+    }
+
+    private static boolean isDelimiterAt(final ByteBuf in, final int index) {
+        for (int i = 1; i < EOM.length; ++i) {
+            if (in.getByte(index + i) != EOM[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -4,7 +4,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import java.util.Objects;
 import org.openexi.proc.HeaderOptionsOutputType;
+import org.openexi.proc.common.AlignmentType;
 import org.openexi.proc.common.EXIOptions;
 import org.openexi.proc.common.EXIOptionsException;
 import org.openexi.proc.common.GrammarOptions;
@@ -15,6 +17,10 @@ import org.openexi.sax.TransmogrifierException;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.InputSource;
 
+/**
+ * Source of EXI readers and transmogrifiers for a set of EXI options. Codecs are immutable and can be shared
+ * by any number of sessions, see {@link #forOptions(EXIOptions)}.
+ */
 public final class NetconfEXICodec {
     /**
      * NETCONF is XML environment, so the use of EXI cookie is not really needed. Adding it
@@ -44,6 +50,17 @@ public final class NetconfEXICodec {
         }
     });
 
+    /**
+     * Sessions usually negotiate one of a few option sets, sessions with equal options share a single codec.
+     * Codecs are held weakly, as long as some session uses them.
+     */
+    private static final LoadingCache<OptionsKey, NetconfEXICodec> CODECS = CacheBuilder.newBuilder().weakValues().build(new CacheLoader<OptionsKey, NetconfEXICodec>() {
+        @Override
+        public NetconfEXICodec load(final OptionsKey key) {
+            return new NetconfEXICodec(key.options);
+        }
+    });
+
     /**
      * Grammar cache acts as a template and is duplicated by the Transmogrifier and the Reader
      * before use. It is safe to reuse a single instance.
@@ -56,6 +73,14 @@ public final class NetconfEXICodec {
         this.exiGrammarCache = createGrammarCache(exiOptions);
     }
 
+    /**
+     * @param exiOptions negotiated options, not to be modified afterwards
+     * @return Codec for the options, shared with other sessions using equal options
+     */
+    public static NetconfEXICodec forOptions(final EXIOptions exiOptions) {
+        return CODECS.getUnchecked(new OptionsKey(exiOptions));
+    }
+
     private static GrammarCache createGrammarCache(final EXIOptions exiOptions) {
         short go = GrammarOptions.DEFAULT_OPTIONS;
         if (exiOptions.getPreserveComments()) {
@@ -92,4 +117,49 @@ public final class NetconfEXICodec {
         transmogrifier.setResolveExternalGeneralEntities(false);
         return transmogrifier;
     }
+
+    /**
+     * Identity of EXI options as far as the codec is concerned, {@link EXIOptions} does not implement equality.
+     */
+    private static final class OptionsKey {
+        private final EXIOptions options;
+        private final AlignmentType alignmentType;
+        private final int blockSize;
+        private final boolean preserveComments;
+        private final boolean preserveDTD;
+        private final boolean preserveNS;
+        private final boolean preservePIs;
+        private final boolean preserveLexicalValues;
+
+        OptionsKey(final EXIOptions options) {
+            this.options = Preconditions.checkNotNull(options);
+            this.alignmentType = options.getAlignmentType();
+            this.blockSize = options.getBlockSize();
+            this.preserveComments = options.getPreserveComments();
+            this.preserveDTD = options.getPreserveDTD();
+            this.preserveNS = options.getPreserveNS();
+            this.preservePIs = options.getPreservePIs();
+            this.preserveLexicalValues = options.getPreserveLexicalValues();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(alignmentType, blockSize, preserveComments, preserveDTD, preserveNS, preservePIs, preserveLexicalValues);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof OptionsKey)) {
+                return false;
+            }
+            final OptionsKey other = (OptionsKey) obj;
+            return alignmentType == other.alignmentType && blockSize == other.blockSize
+                    && preserveComments == other.preserveComments && preserveDTD == other.preserveDTD
+                    && preserveNS == other.preserveNS && preservePIs == other.preservePIs
+                    && preserveLexicalValues == other.preserveLexicalValues;
+        }
+    }
 }
@@ -28,6 +28,7 @@ import org.xml.sax.ContentHandler;
 
 public final class NetconfMessageToEXIEncoder extends MessageToByteEncoder<NetconfMessage> {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfMessageToEXIEncoder.class);
+    private static final int MIN_SIZE_HINT = 256;
     /**
      * This class is not marked as shared, so it can be attached to only a single channel,
      * which means that {@link #encode(io.netty.channel.ChannelHandlerContext, org.opendaylight.controller.netconf.api.NetconfMessage, io.netty.buffer.ByteBuf)}
@@ -35,6 +36,12 @@ public final class NetconfMessageToEXIEncoder extends MessageToByteEncoder<Netco
      */
     private final NetconfEXICodec codec;
 
+    /**
+     * Size of the last encoded message, used as the size hint for the next one. Messages of a session
+     * tend to be of similar sizes, so this mostly avoids expanding the output buffer while encoding.
+     */
+    private int sizeHint = MIN_SIZE_HINT;
+
     private NetconfMessageToEXIEncoder(final NetconfEXICodec codec) {
         this.codec = Preconditions.checkNotNull(codec);
     }
@@ -43,6 +50,11 @@ public final class NetconfMessageToEXIEncoder extends MessageToByteEncoder<Netco
         return new NetconfMessageToEXIEncoder(codec);
     }
 
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext ctx, final NetconfMessage msg, final boolean preferDirect) {
+        return preferDirect ? ctx.alloc().ioBuffer(sizeHint) : ctx.alloc().heapBuffer(sizeHint);
+    }
+
     @Override
     protected void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out) throws EXIOptionsException, IOException, TransformerException, TransmogrifierException {
         LOG.trace("Sent to encode : {}", msg);
@@ -52,12 +64,14 @@ public final class NetconfMessageToEXIEncoder extends MessageToByteEncoder<Netco
         // Seems like a bug in the nagasena library (try newer version of the library or fix the bug inside of it)
         // Related bugs 2459: reuse nagasena resources, 2458: upgrade nagasena to newest version
         final Transmogrifier transmogrifier = codec.getTransmogrifier();
+        final int start = out.writerIndex();
 
         try (final OutputStream os = new ByteBufOutputStream(out)) {
             transmogrifier.setOutputStream(os);
             final ContentHandler handler = transmogrifier.getSAXTransmogrifier();
             final Transformer transformer = ThreadLocalTransformers.getDefaultTransformer();
             transformer.transform(new DOMSource(msg.getDocument()), new SAXResult(handler));
+            sizeHint = Math.max(MIN_SIZE_HINT, out.writerIndex() - start);
         } finally {
             // Make sure we do not retain any reference to state by removing
             // the output stream reference and resetting internal state.
@@ -13,18 +13,18 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.stream.XMLStreamException;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Comment;
 
+/**
+ * Encodes a {@link NetconfMessage} as compact UTF-8 XML. The document is streamed directly into the
+ * outbound buffer, without indentation and without going through a {@link javax.xml.transform.Transformer}.
+ */
 public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMessage> {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfMessageToXMLEncoder.class);
 
@@ -40,7 +40,7 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
 
     @Override
     @VisibleForTesting
-    public void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out) throws IOException, TransformerException {
+    public void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out) throws IOException, XMLStreamException {
         LOG.trace("Sent to encode : {}", msg);
 
         if (clientId.isPresent()) {
@@ -49,10 +49,7 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
         }
 
         try (OutputStream os = new ByteBufOutputStream(out)) {
-            // Wrap OutputStreamWriter with BufferedWriter as suggested in javadoc for OutputStreamWriter
-            StreamResult result = new StreamResult(new BufferedWriter(new OutputStreamWriter(os)));
-            DOMSource source = new DOMSource(msg.getDocument());
-            ThreadLocalTransformers.getPrettyTransformer().transform(source, result);
+            DocumentStreamWriter.write(msg.getDocument(), os);
         }
     }
 }
@@ -67,5 +67,20 @@ public class NetconfChunkAggregatorTest {
         assertEquals(EXPECTED_MESSAGE, chunk.toString(Charsets.UTF_8));
     }
 
+    @Test
+    public void testPartialChunks() throws Exception {
+        final NetconfChunkAggregator aggregator = new NetconfChunkAggregator();
+        final List<Object> output = Lists.newArrayList();
+        final ByteBuf input = Unpooled.buffer();
+        final byte[] bytes = CHUNKED_MESSAGE.getBytes(Charsets.UTF_8);
+
+        // Feed the message in small pieces, as they would arrive from the network
+        for (int i = 0; i < bytes.length; i += 7) {
+            input.writeBytes(bytes, i, Math.min(7, bytes.length - i));
+            aggregator.decode(null, input, output);
+        }
 
+        assertEquals(1, output.size());
+        assertEquals(EXPECTED_MESSAGE, ((ByteBuf) output.get(0)).toString(Charsets.UTF_8));
+    }
 }
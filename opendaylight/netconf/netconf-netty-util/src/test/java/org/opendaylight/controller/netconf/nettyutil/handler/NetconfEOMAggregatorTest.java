@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.nettyutil.handler;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.List;
+import org.junit.Test;
+
+public class NetconfEOMAggregatorTest {
+
+    private static final String MESSAGE_ONE = "<rpc message-id=\"101\"><get/></rpc>";
+    private static final String MESSAGE_TWO = "<rpc message-id=\"102\"><close-session/></rpc>";
+    private static final String STREAM = MESSAGE_ONE + "]]>]]>" + MESSAGE_TWO + "]]>]]>";
+
+    @Test
+    public void testMultipleMessages() throws Exception {
+        final List<Object> output = Lists.newArrayList();
+        new NetconfEOMAggregator().decode(null, Unpooled.copiedBuffer(STREAM, Charsets.UTF_8), output);
+
+        assertEquals(2, output.size());
+        assertEquals(MESSAGE_ONE, ((ByteBuf) output.get(0)).toString(Charsets.UTF_8));
+        assertEquals(MESSAGE_TWO, ((ByteBuf) output.get(1)).toString(Charsets.UTF_8));
+    }
+
+    @Test
+    public void testPartialMessages() throws Exception {
+        final NetconfEOMAggregator aggregator = new NetconfEOMAggregator();
+        final List<Object> output = Lists.newArrayList();
+        final ByteBuf input = Unpooled.buffer();
+        final byte[] bytes = STREAM.getBytes(Charsets.UTF_8);
+
+        // Pieces of 5 bytes split the delimiters, too
+        for (int i = 0; i < bytes.length; i += 5) {
+            input.writeBytes(bytes, i, Math.min(5, bytes.length - i));
+            aggregator.decode(null, input, output);
+        }
+
+        assertEquals(2, output.size());
+        assertEquals(MESSAGE_ONE, ((ByteBuf) output.get(0)).toString(Charsets.UTF_8));
+        assertEquals(MESSAGE_TWO, ((ByteBuf) output.get(1)).toString(Charsets.UTF_8));
+    }
+}
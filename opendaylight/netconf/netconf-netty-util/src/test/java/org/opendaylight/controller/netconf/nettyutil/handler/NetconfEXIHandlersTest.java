@@ -10,6 +10,9 @@ package org.opendaylight.controller.netconf.nettyutil.handler;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -23,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.openexi.proc.common.AlignmentType;
 import org.openexi.proc.common.EXIOptions;
 import org.openexi.proc.common.EXIOptionsException;
 import org.openexi.sax.Transmogrifier;
@@ -73,4 +77,18 @@ public class NetconfEXIHandlersTest {
 
         XMLUnit.compareXML(msg.getDocument(), ((NetconfMessage) out.get(0)).getDocument());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCodecSharing() throws Exception {
+        final EXIOptions options = new EXIOptions();
+        options.setAlignmentType(AlignmentType.byteAligned);
+        final EXIOptions equalOptions = new EXIOptions();
+        equalOptions.setAlignmentType(AlignmentType.byteAligned);
+        final EXIOptions otherOptions = new EXIOptions();
+        otherOptions.setAlignmentType(AlignmentType.compress);
+
+        final NetconfEXICodec codec = NetconfEXICodec.forOptions(options);
+        assertSame(codec, NetconfEXICodec.forOptions(equalOptions));
+        assertNotSame(codec, NetconfEXICodec.forOptions(otherOptions));
+    }
+}
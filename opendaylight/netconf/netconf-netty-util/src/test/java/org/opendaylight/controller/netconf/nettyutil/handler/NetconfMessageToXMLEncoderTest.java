@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.nettyutil.handler;
+
+import static org.custommonkey.xmlunit.XMLAssert.assertXMLEqual;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.custommonkey.xmlunit.XMLUnit;
+import org.junit.Test;
+import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.nettyutil.handler.exi.NetconfStartExiMessage;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.openexi.proc.common.EXIOptions;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class NetconfMessageToXMLEncoderTest {
+
+    private static final String BASE_NAMESPACE = "urn:ietf:params:xml:ns:netconf:base:1.0";
+
+    @Test
+    public void testEncodeCompact() throws Exception {
+        final String xml = "<rpc xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\" message-id=\"m-1\">"
+                + "<get-config><source><running/></source>"
+                + "<filter xmlns:a=\"urn:test\" type=\"subtree\"><a:top>&lt;text&gt;</a:top></filter>"
+                + "</get-config></rpc>";
+        final NetconfMessage msg = new NetconfMessage(XmlUtil.readXmlToDocument(xml));
+
+        final ByteBuf out = Unpooled.buffer();
+        new NetconfMessageToXMLEncoder().encode(null, msg, out);
+        final String encoded = out.toString(Charsets.UTF_8);
+
+        assertFalse(encoded.contains("\n"));
+        assertFalse(encoded.startsWith("<?xml"));
+        XMLUnit.setIgnoreWhitespace(true);
+        assertXMLEqual(msg.getDocument(), XmlUtil.readXmlToDocument(encoded));
+    }
+
+    @Test
+    public void testEncodeUndeclaredNamespaces() throws Exception {
+        // Elements created programmatically do not carry namespace declaration attributes
+        final Document doc = XmlUtil.newDocument();
+        final Element rpc = doc.createElementNS("urn:ietf:params:xml:ns:netconf:base:1.0", "rpc");
+        final Element data = doc.createElementNS("urn:test", "t:data");
+        data.setAttributeNS("urn:other", "o:attr", "value");
+        rpc.appendChild(data);
+        doc.appendChild(rpc);
+
+        final ByteBuf out = Unpooled.buffer();
+        new NetconfMessageToXMLEncoder().encode(null, new NetconfMessage(doc), out);
+
+        final Element parsed = XmlUtil.readXmlToElement(out.toString(Charsets.UTF_8));
+        assertEquals("urn:ietf:params:xml:ns:netconf:base:1.0", parsed.getNamespaceURI());
+        final Element parsedData = (Element) parsed.getFirstChild();
+        assertEquals("urn:test", parsedData.getNamespaceURI());
+        assertEquals("data", parsedData.getLocalName());
+        assertEquals("value", parsedData.getAttributeNS("urn:other", "attr"));
+    }
+
+    private static Element encodeAndParse(final NetconfMessage msg) throws Exception {
+        final ByteBuf out = Unpooled.buffer();
+        new NetconfMessageToXMLEncoder().encode(null, msg, out);
+        return XmlUtil.readXmlToElement(out.toString(Charsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeStartExi() throws Exception {
+        // message-id is created in the namespace of rpc, but without a prefix
+        final Element parsed = encodeAndParse(NetconfStartExiMessage.create(new EXIOptions(), "m-2"));
+
+        assertEquals(BASE_NAMESPACE, parsed.getNamespaceURI());
+        assertEquals("m-2", parsed.getAttribute("message-id"));
+        final Element startExi = (Element) parsed.getFirstChild();
+        assertEquals("start-exi", startExi.getLocalName());
+        assertEquals("urn:ietf:params:xml:ns:netconf:exi:1.0", startExi.getNamespaceURI());
+    }
+
+    @Test
+    public void testEncodeSubtreeFilter() throws Exception {
+        // Same shape as the filter built by the southbound connector
+        final Document doc = XmlUtil.newDocument();
+        final Element rpc = doc.createElementNS(BASE_NAMESPACE, "rpc");
+        final Element get = doc.createElementNS(BASE_NAMESPACE, "get");
+        final Element filter = doc.createElementNS(BASE_NAMESPACE, "filter");
+        filter.setAttributeNS(BASE_NAMESPACE, "type", "subtree");
+        filter.appendChild(doc.createElementNS("urn:test", "top"));
+        get.appendChild(filter);
+        rpc.appendChild(get);
+        doc.appendChild(rpc);
+
+        final Element parsedFilter = (Element) encodeAndParse(new NetconfMessage(doc)).getFirstChild().getFirstChild();
+        assertEquals(BASE_NAMESPACE, parsedFilter.getNamespaceURI());
+        assertEquals("filter", parsedFilter.getLocalName());
+        assertEquals("subtree", parsedFilter.getAttribute("type"));
+        final Element top = (Element) parsedFilter.getFirstChild();
+        assertEquals("urn:test", top.getNamespaceURI());
+        assertEquals("top", top.getLocalName());
+    }
+
+    @Test
+    public void testEncodeUnprefixedAttributeInOtherNamespace() throws Exception {
+        // Same shape as the data element of config-netconf-connector, the attribute does not rebind the default namespace
+        final Document doc = XmlUtil.newDocument();
+        final Element rpcReply = doc.createElementNS(BASE_NAMESPACE, "rpc-reply");
+        final Element data = doc.createElementNS(BASE_NAMESPACE, "data");
+        data.setAttributeNS("urn:config", "data", "xmlns");
+        rpcReply.appendChild(data);
+        doc.appendChild(rpcReply);
+
+        final Element parsedData = (Element) encodeAndParse(new NetconfMessage(doc)).getFirstChild();
+        assertEquals(BASE_NAMESPACE, parsedData.getNamespaceURI());
+        assertEquals("data", parsedData.getLocalName());
+        assertEquals("xmlns", parsedData.getAttribute("data"));
+    }
+}
@@ -9,15 +9,21 @@
 package org.opendaylight.controller.netconf.notifications.impl;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.controller.netconf.notifications.BaseNotificationPublisherRegistration;
@@ -39,8 +45,19 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.not
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Notification manager delivering notifications asynchronously. Every subscription has its own bounded queue
+ * drained by a shared executor, so a slow subscriber delays neither publishers nor other subscribers. Once
+ * a queue is full, either its oldest notification is dropped or the subscriber is disconnected, according
+ * to the {@link OverflowPolicy}. Notifications are delivered to each subscriber in the order they were published.
+ *
+ * Publishing does not lock the manager, subscriptions are kept in an immutable multimap replaced on every change.
+ *
+ * Delivery statistics are available through {@link NetconfNotificationManagerMXBean}.
+ */
 @ThreadSafe
-public class NetconfNotificationManager implements NetconfNotificationCollector, NetconfNotificationRegistry, NetconfNotificationListener, AutoCloseable {
+public class NetconfNotificationManager implements NetconfNotificationCollector, NetconfNotificationRegistry, NetconfNotificationListener,
+        NetconfNotificationManagerMXBean, AutoCloseable {
 
     public static final StreamNameType BASE_STREAM_NAME = new StreamNameType("NETCONF");
     public static final Stream BASE_NETCONF_STREAM;
@@ -54,13 +71,52 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
                 .build();
     }
 
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(NetconfNotificationManager.class);
 
-    // TODO excessive synchronization provides thread safety but is most likely not optimal (combination of concurrent collections might improve performance)
-    // And also calling callbacks from a synchronized block is dangerous since the listeners/publishers can block the whole notification processing
+    /**
+     * Maximum number of notifications delivered to a subscriber before its delivery is rescheduled, so that
+     * busy subscribers share the executor's threads fairly.
+     */
+    private static final int DELIVERY_BATCH_SIZE = 64;
+
+    /**
+     * Action taken when a notification is published to a subscriber whose queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Oldest queued notification is dropped in favor of the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Subscription is closed and the subscriber is disconnected, see {@link DisconnectableNotificationListener}.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Listener which can be disconnected by the manager when it does not keep up with the published notifications.
+     */
+    public interface DisconnectableNotificationListener extends NetconfNotificationListener {
+        /**
+         * Invoked after the subscription of this listener was closed due to a queue overflow.
+         */
+        void onDisconnect();
+    }
 
-    @GuardedBy("this")
-    private final Multimap<StreamNameType, GenericNotificationListenerReg> notificationListeners = HashMultimap.create();
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private final AtomicLong publishedNotifications = new AtomicLong();
+    private final AtomicLong deliveredNotifications = new AtomicLong();
+    private final AtomicLong droppedNotifications = new AtomicLong();
+    private final AtomicLong disconnectedSubscribers = new AtomicLong();
+
+    // Replaced as a whole on every change, so it can be read without locking
+    private volatile ImmutableSetMultimap<StreamNameType, Subscriber> notificationListeners = ImmutableSetMultimap.of();
 
     @GuardedBy("this")
     private final Set<NetconfNotificationStreamListener> streamListeners = Sets.newHashSet();
@@ -74,15 +130,50 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
     @GuardedBy("this")
     private final Set<GenericNotificationPublisherReg> notificationPublishers = Sets.newHashSet();
 
+    public NetconfNotificationManager() {
+        this(DEFAULT_QUEUE_CAPACITY, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Creates a manager with its own executor, which is shut down when the manager is closed.
+     *
+     * @param queueCapacity maximum number of notifications queued for a single subscriber
+     * @param overflowPolicy action taken when a subscriber's queue is full
+     */
+    public NetconfNotificationManager(final int queueCapacity, final OverflowPolicy overflowPolicy) {
+        this(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder().setNameFormat("netconf-notification-dispatcher-%d").setDaemon(true).build()),
+                true, queueCapacity, overflowPolicy);
+    }
+
+    /**
+     * @param executor executor delivering notifications to subscribers, not shut down by this manager
+     * @param queueCapacity maximum number of notifications queued for a single subscriber
+     * @param overflowPolicy action taken when a subscriber's queue is full
+     */
+    public NetconfNotificationManager(final ExecutorService executor, final int queueCapacity, final OverflowPolicy overflowPolicy) {
+        this(executor, false, queueCapacity, overflowPolicy);
+    }
+
+    private NetconfNotificationManager(final ExecutorService executor, final boolean ownsExecutor, final int queueCapacity,
+                                       final OverflowPolicy overflowPolicy) {
+        Preconditions.checkArgument(queueCapacity > 0, "Queue capacity has to be > 0");
+        this.executor = Preconditions.checkNotNull(executor);
+        this.ownsExecutor = ownsExecutor;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = Preconditions.checkNotNull(overflowPolicy);
+    }
+
     @Override
-    public synchronized void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+    public void onNotification(final StreamNameType stream, final NetconfNotification notification) {
         LOG.debug("Notification of type {} detected", stream);
         if(LOG.isTraceEnabled()) {
-            LOG.debug("Notification of type {} detected: {}", stream, notification);
+            LOG.trace("Notification of type {} detected: {}", stream, notification);
         }
 
-        for (final GenericNotificationListenerReg listenerReg : notificationListeners.get(BASE_STREAM_NAME)) {
-            listenerReg.getListener().onNotification(BASE_STREAM_NAME, notification);
+        publishedNotifications.incrementAndGet();
+        for (final Subscriber subscriber : notificationListeners.get(stream)) {
+            subscriber.enqueue(notification);
         }
     }
 
@@ -93,18 +184,69 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
 
         LOG.trace("Notification listener registered for stream: {}", stream);
 
-        final GenericNotificationListenerReg genericNotificationListenerReg = new GenericNotificationListenerReg(listener) {
-            @Override
-            public void close() {
-                synchronized (NetconfNotificationManager.this) {
-                    LOG.trace("Notification listener unregistered for stream: {}", stream);
-                    super.close();
-                }
+        final Subscriber subscriber = new Subscriber(stream, listener);
+        notificationListeners = ImmutableSetMultimap.<StreamNameType, Subscriber>builder()
+                .putAll(notificationListeners)
+                .put(stream, subscriber)
+                .build();
+        return subscriber;
+    }
+
+    private synchronized void unregisterNotificationListener(final Subscriber subscriber) {
+        if (!notificationListeners.containsEntry(subscriber.stream, subscriber)) {
+            return;
+        }
+
+        LOG.trace("Notification listener unregistered for stream: {}", subscriber.stream);
+        final ImmutableSetMultimap.Builder<StreamNameType, Subscriber> builder = ImmutableSetMultimap.builder();
+        for (final Map.Entry<StreamNameType, Subscriber> entry : notificationListeners.entries()) {
+            if (entry.getValue() != subscriber) {
+                builder.put(entry);
             }
-        };
+        }
+        notificationListeners = builder.build();
+    }
 
-        notificationListeners.put(BASE_STREAM_NAME, genericNotificationListenerReg);
-        return genericNotificationListenerReg;
+    /**
+     * @return Number of notifications published into this manager
+     */
+    @Override
+    public long getPublishedNotifications() {
+        return publishedNotifications.get();
+    }
+
+    /**
+     * @return Number of notifications delivered to subscribers, counted once per subscriber
+     */
+    @Override
+    public long getDeliveredNotifications() {
+        return deliveredNotifications.get();
+    }
+
+    /**
+     * @return Number of notifications dropped because of full subscriber queues, counted once per subscriber
+     */
+    @Override
+    public long getDroppedNotifications() {
+        return droppedNotifications.get();
+    }
+
+    /**
+     * @return Number of subscribers disconnected because of full queues
+     */
+    @Override
+    public long getDisconnectedSubscribers() {
+        return disconnectedSubscribers.get();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @Override
+    public String getOverflowPolicy() {
+        return overflowPolicy.name();
     }
 
     @Override
@@ -139,10 +281,10 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
     @Override
     public synchronized void close() {
         // Unregister all listeners
-        for (final GenericNotificationListenerReg genericNotificationListenerReg : notificationListeners.values()) {
-            genericNotificationListenerReg.close();
+        for (final Subscriber subscriber : notificationListeners.values()) {
+            subscriber.close();
         }
-        notificationListeners.clear();
+        notificationListeners = ImmutableSetMultimap.of();
 
         // Unregister all publishers
         for (final GenericNotificationPublisherReg notificationPublisher : notificationPublishers) {
@@ -152,6 +294,10 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
 
         // Clear stream Listeners
         streamListeners.clear();
+
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
     }
 
     @Override
@@ -264,20 +410,120 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         }
     }
 
-    private class GenericNotificationListenerReg implements NotificationListenerRegistration {
+    /**
+     * Subscription of a single listener, with a queue of notifications waiting for delivery. At most one delivery
+     * task per subscriber is submitted to the executor at any time, which keeps the notifications in order.
+     */
+    private final class Subscriber implements NotificationListenerRegistration, Runnable {
+        private final StreamNameType stream;
         private final NetconfNotificationListener listener;
 
-        public GenericNotificationListenerReg(final NetconfNotificationListener listener) {
+        @GuardedBy("this")
+        private final Queue<NetconfNotification> queue = new ArrayDeque<>();
+        @GuardedBy("this")
+        private boolean scheduled;
+        @GuardedBy("this")
+        private boolean closed;
+
+        Subscriber(final StreamNameType stream, final NetconfNotificationListener listener) {
+            this.stream = stream;
             this.listener = listener;
         }
 
-        public NetconfNotificationListener getListener() {
-            return listener;
+        void enqueue(final NetconfNotification notification) {
+            final boolean schedule;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+
+                if (queue.size() >= queueCapacity) {
+                    if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                        disconnect();
+                        return;
+                    }
+                    queue.poll();
+                    if (droppedNotifications.getAndIncrement() % queueCapacity == 0) {
+                        LOG.warn("Notification queue of listener {} for stream {} is full, dropping oldest notifications", listener, stream);
+                    }
+                }
+
+                queue.add(notification);
+                schedule = !scheduled;
+                scheduled = true;
+            }
+
+            if (schedule) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this);
+            } catch (final RejectedExecutionException e) {
+                LOG.debug("Unable to deliver notifications to listener {}, manager is closed", listener, e);
+                synchronized (this) {
+                    scheduled = false;
+                    queue.clear();
+                }
+            }
+        }
+
+        @GuardedBy("this")
+        private void disconnect() {
+            LOG.warn("Notification queue of listener {} for stream {} is full, disconnecting", listener, stream);
+            disconnectedSubscribers.incrementAndGet();
+            closed = true;
+            queue.clear();
+
+            // Unregistered and notified from the executor, neither under this subscriber's lock nor on the publisher's thread
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        unregisterNotificationListener(Subscriber.this);
+                        if (listener instanceof DisconnectableNotificationListener) {
+                            ((DisconnectableNotificationListener) listener).onDisconnect();
+                        }
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                LOG.debug("Unable to disconnect listener {}, manager is closed", listener, e);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < DELIVERY_BATCH_SIZE; i++) {
+                final NetconfNotification notification;
+                synchronized (this) {
+                    notification = closed ? null : queue.poll();
+                    if (notification == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+
+                try {
+                    listener.onNotification(stream, notification);
+                    deliveredNotifications.incrementAndGet();
+                } catch (final RuntimeException e) {
+                    LOG.warn("Notification listener {} failed to process notification {}", listener, notification, e);
+                }
+            }
+
+            // Let other subscribers take their turn before continuing
+            schedule();
         }
 
         @Override
         public void close() {
-            notificationListeners.remove(BASE_STREAM_NAME, this);
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+            unregisterNotificationListener(this);
         }
     }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.notifications.impl;
+
+import javax.management.ObjectName;
+import org.opendaylight.controller.config.api.jmx.ObjectNameUtil;
+
+/**
+ * Runtime statistics of {@link NetconfNotificationManager} delivery queues.
+ */
+public interface NetconfNotificationManagerMXBean {
+
+    String TYPE_NAME = "NetconfNotificationManager";
+    ObjectName OBJECT_NAME = ObjectNameUtil.createONWithDomainAndType(TYPE_NAME);
+
+    long getPublishedNotifications();
+
+    long getDeliveredNotifications();
+
+    long getDroppedNotifications();
+
+    long getDisconnectedSubscribers();
+
+    int getQueueCapacity();
+
+    String getOverflowPolicy();
+}
@@ -17,7 +17,6 @@ import org.opendaylight.controller.netconf.api.NetconfSession;
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.controller.netconf.mapping.api.SessionAwareNetconfOperation;
 import org.opendaylight.controller.netconf.notifications.NetconfNotification;
-import org.opendaylight.controller.netconf.notifications.NetconfNotificationListener;
 import org.opendaylight.controller.netconf.notifications.NetconfNotificationRegistry;
 import org.opendaylight.controller.netconf.notifications.NotificationListenerRegistration;
 import org.opendaylight.controller.netconf.notifications.impl.NetconfNotificationManager;
@@ -113,7 +112,7 @@ public class CreateSubscription extends AbstractLastNetconfOperation implements
         }
     }
 
-    private static class NotificationSubscription implements NetconfNotificationListener {
+    private static class NotificationSubscription implements NetconfNotificationManager.DisconnectableNotificationListener {
         private final NetconfSession currentSession;
 
         public NotificationSubscription(final NetconfSession currentSession) {
@@ -124,5 +123,12 @@ public class CreateSubscription extends AbstractLastNetconfOperation implements
         public void onNotification(final StreamNameType stream, final NetconfNotification notification) {
             currentSession.sendMessage(notification);
         }
+
+        @Override
+        public void onDisconnect() {
+            // Client does not keep up with the notifications, it would miss some of them without noticing otherwise
+            LOG.warn("Closing session {}, its notification subscription overflowed", currentSession);
+            currentSession.close();
+        }
     }
 }
@@ -9,10 +9,14 @@
 package org.opendaylight.controller.netconf.notifications.impl.osgi;
 
 import com.google.common.collect.Sets;
+import java.lang.management.ManagementFactory;
 import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.Locale;
 import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
 import org.opendaylight.controller.netconf.api.Capability;
 import org.opendaylight.controller.netconf.api.monitoring.CapabilityListener;
 import org.opendaylight.controller.netconf.api.util.NetconfConstants;
@@ -22,22 +26,40 @@ import org.opendaylight.controller.netconf.mapping.api.NetconfOperationServiceFa
 import org.opendaylight.controller.netconf.notifications.NetconfNotification;
 import org.opendaylight.controller.netconf.notifications.NetconfNotificationCollector;
 import org.opendaylight.controller.netconf.notifications.impl.NetconfNotificationManager;
+import org.opendaylight.controller.netconf.notifications.impl.NetconfNotificationManager.OverflowPolicy;
+import org.opendaylight.controller.netconf.notifications.impl.NetconfNotificationManagerMXBean;
 import org.opendaylight.controller.netconf.notifications.impl.ops.CreateSubscription;
 import org.opendaylight.controller.netconf.notifications.impl.ops.Get;
 import org.opendaylight.controller.netconf.util.capability.BasicCapability;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class Activator implements BundleActivator {
 
+    private static final Logger LOG = LoggerFactory.getLogger(Activator.class);
+
+    /**
+     * Maximum number of notifications queued for a single subscriber.
+     */
+    static final String QUEUE_CAPACITY_PROP = "netconf.notifications.queueCapacity";
+    /**
+     * Action taken when a subscriber's queue is full, one of {@link OverflowPolicy} names.
+     */
+    static final String OVERFLOW_POLICY_PROP = "netconf.notifications.overflowPolicy";
+
     private ServiceRegistration<NetconfNotificationCollector> netconfNotificationCollectorServiceRegistration;
     private ServiceRegistration<NetconfOperationServiceFactory> operationaServiceRegistration;
     private NetconfNotificationManager netconfNotificationManager;
+    private MBeanServer mbeanServer;
 
     @Override
     public void start(final BundleContext context) throws Exception {
-        netconfNotificationManager = new NetconfNotificationManager();
+        netconfNotificationManager = new NetconfNotificationManager(extractQueueCapacity(context),
+                extractOverflowPolicy(context));
+        registerMBean(netconfNotificationManager);
         netconfNotificationCollectorServiceRegistration = context.registerService(NetconfNotificationCollector.class, netconfNotificationManager, new Hashtable<String, Object>());
 
         final NetconfOperationServiceFactory netconfOperationServiceFactory = new NetconfOperationServiceFactory() {
@@ -88,8 +110,59 @@ public class Activator implements BundleActivator {
 
     }
 
+    static int extractQueueCapacity(final BundleContext context) {
+        final String value = context.getProperty(QUEUE_CAPACITY_PROP);
+        if (value == null || value.isEmpty()) {
+            return NetconfNotificationManager.DEFAULT_QUEUE_CAPACITY;
+        }
+        try {
+            final int capacity = Integer.parseInt(value.trim());
+            if (capacity > 0) {
+                return capacity;
+            }
+        } catch (final NumberFormatException e) {
+            LOG.debug("Cannot parse {} property: {}", QUEUE_CAPACITY_PROP, value, e);
+        }
+        LOG.warn("Invalid {} property: {}, using default {}", QUEUE_CAPACITY_PROP, value,
+                NetconfNotificationManager.DEFAULT_QUEUE_CAPACITY);
+        return NetconfNotificationManager.DEFAULT_QUEUE_CAPACITY;
+    }
+
+    static OverflowPolicy extractOverflowPolicy(final BundleContext context) {
+        final String value = context.getProperty(OVERFLOW_POLICY_PROP);
+        if (value == null || value.isEmpty()) {
+            return OverflowPolicy.DROP_OLDEST;
+        }
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (final IllegalArgumentException e) {
+            LOG.warn("Invalid {} property: {}, using default {}", OVERFLOW_POLICY_PROP, value,
+                    OverflowPolicy.DROP_OLDEST, e);
+            return OverflowPolicy.DROP_OLDEST;
+        }
+    }
+
+    private void registerMBean(final NetconfNotificationManagerMXBean bean) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(bean, NetconfNotificationManagerMXBean.OBJECT_NAME);
+            mbeanServer = server;
+        } catch (final JMException e) {
+            // Statistics are not essential for delivering notifications
+            LOG.warn("Unable to register {} as {}", bean, NetconfNotificationManagerMXBean.OBJECT_NAME, e);
+        }
+    }
+
     @Override
     public void stop(final BundleContext context) throws Exception {
+        if (mbeanServer != null) {
+            try {
+                mbeanServer.unregisterMBean(NetconfNotificationManagerMXBean.OBJECT_NAME);
+            } catch (final JMException e) {
+                LOG.warn("Ignoring exception while unregistering {}", NetconfNotificationManagerMXBean.OBJECT_NAME, e);
+            }
+            mbeanServer = null;
+        }
         if(netconfNotificationCollectorServiceRegistration != null) {
             netconfNotificationCollectorServiceRegistration.unregister();
             netconfNotificationCollectorServiceRegistration = null;
@@ -8,13 +8,26 @@
 
 package org.opendaylight.controller.netconf.notifications.impl;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -25,6 +38,8 @@ import org.opendaylight.controller.netconf.notifications.NetconfNotificationColl
 import org.opendaylight.controller.netconf.notifications.NetconfNotificationListener;
 import org.opendaylight.controller.netconf.notifications.NetconfNotificationRegistry;
 import org.opendaylight.controller.netconf.notifications.NotificationListenerRegistration;
+import org.opendaylight.controller.netconf.notifications.NotificationPublisherRegistration;
+import org.opendaylight.controller.netconf.notifications.impl.ops.NotificationsTransformUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.Stream;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange;
@@ -35,9 +50,17 @@ public class NetconfNotificationManagerTest {
     @Mock
     private NetconfNotificationRegistry notificationRegistry;
 
+    private ExecutorService executor;
+
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
     }
 
     @Test
@@ -54,14 +77,155 @@ public class NetconfNotificationManagerTest {
         final NetconfCapabilityChange notification = capabilityChangedBuilder.build();
         baseNotificationPublisherRegistration.onCapabilityChanged(notification);
 
-        verify(listener).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        verify(listener, timeout(5000)).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
 
         notificationListenerRegistration.close();
 
         baseNotificationPublisherRegistration.onCapabilityChanged(notification);
+        netconfNotificationManager.close();
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void testSlowListenerDoesNotBlockOthers() throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(
+                pool, NetconfNotificationManager.DEFAULT_QUEUE_CAPACITY, NetconfNotificationManager.OverflowPolicy.DROP_OLDEST);
+        final NotificationPublisherRegistration publisher = netconfNotificationManager.registerNotificationPublisher(NetconfNotificationManager.BASE_NETCONF_STREAM);
+
+        final BlockingListener slowListener = new BlockingListener();
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, slowListener);
+        final NetconfNotificationListener listener = mock(NetconfNotificationListener.class);
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, listener);
+
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        assertTrue(slowListener.entered.await(5, TimeUnit.SECONDS));
+
+        // Second listener and the publisher proceed while the first listener is blocked
+        verify(listener, timeout(5000).times(2)).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+
+        slowListener.release.countDown();
+        netconfNotificationManager.close();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testOverflowDropOldest() throws Exception {
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(executor, 2,
+                NetconfNotificationManager.OverflowPolicy.DROP_OLDEST);
+        final NotificationPublisherRegistration publisher = netconfNotificationManager.registerNotificationPublisher(NetconfNotificationManager.BASE_NETCONF_STREAM);
+        final BlockingListener listener = new BlockingListener();
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, listener);
+
+        final NetconfNotification first = notification();
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, first);
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+
+        final NetconfNotification dropped = notification();
+        final NetconfNotification second = notification();
+        final NetconfNotification third = notification();
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, dropped);
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, second);
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, third);
+        listener.release.countDown();
+
+        listener.awaitNotifications(3);
+        assertEquals(Lists.newArrayList(first, second, third), listener.notifications);
+        assertEquals(1, netconfNotificationManager.getDroppedNotifications());
+        assertEquals(4, netconfNotificationManager.getPublishedNotifications());
+        netconfNotificationManager.close();
+    }
+
+    @Test
+    public void testOverflowDisconnect() throws Exception {
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(executor, 1,
+                NetconfNotificationManager.OverflowPolicy.DISCONNECT);
+        final NotificationPublisherRegistration publisher = netconfNotificationManager.registerNotificationPublisher(NetconfNotificationManager.BASE_NETCONF_STREAM);
+        final BlockingListener listener = new BlockingListener();
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, listener);
+
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        listener.release.countDown();
+
+        assertTrue(listener.disconnected.await(5, TimeUnit.SECONDS));
+        assertEquals(1, netconfNotificationManager.getDisconnectedSubscribers());
+
+        // Disconnected listener receives no more notifications
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, listener.notifications.size());
+    }
+
+    @Test
+    public void testStatisticsMXBean() throws Exception {
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(executor, 1,
+                NetconfNotificationManager.OverflowPolicy.DROP_OLDEST);
+        final NotificationPublisherRegistration publisher = netconfNotificationManager.registerNotificationPublisher(NetconfNotificationManager.BASE_NETCONF_STREAM);
+        final BlockingListener listener = new BlockingListener();
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, listener);
+
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        publisher.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification());
+        listener.release.countDown();
+        listener.awaitNotifications(2);
+
+        final MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+        mbeanServer.registerMBean(netconfNotificationManager, NetconfNotificationManagerMXBean.OBJECT_NAME);
+        final NetconfNotificationManagerMXBean proxy = JMX.newMXBeanProxy(mbeanServer,
+                NetconfNotificationManagerMXBean.OBJECT_NAME, NetconfNotificationManagerMXBean.class);
+        assertEquals(3, proxy.getPublishedNotifications());
+        assertEquals(1, proxy.getDroppedNotifications());
+        assertEquals(0, proxy.getDisconnectedSubscribers());
+        assertEquals(1, proxy.getQueueCapacity());
+        assertEquals("DROP_OLDEST", proxy.getOverflowPolicy());
+        netconfNotificationManager.close();
+    }
+
+    private static NetconfNotification notification() {
+        return NotificationsTransformUtil.transform(new NetconfCapabilityChangeBuilder().build());
+    }
+
+    /**
+     * Listener blocking in its first notification until released
+     */
+    private static final class BlockingListener implements NetconfNotificationManager.DisconnectableNotificationListener {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch disconnected = new CountDownLatch(1);
+        private final List<NetconfNotification> notifications = Lists.newCopyOnWriteArrayList();
+
+        @Override
+        public void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            notifications.add(notification);
+        }
+
+        @Override
+        public void onDisconnect() {
+            disconnected.countDown();
+        }
+
+        void awaitNotifications(final int count) throws InterruptedException {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (notifications.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+
     @Test
     public void testClose() throws Exception {
         final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager();
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.notifications.impl.osgi;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.controller.netconf.notifications.impl.NetconfNotificationManager;
+import org.opendaylight.controller.netconf.notifications.impl.NetconfNotificationManager.OverflowPolicy;
+import org.osgi.framework.BundleContext;
+
+public class ActivatorTest {
+
+    @Mock
+    private BundleContext context;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        doReturn(null).when(context).getProperty(Activator.QUEUE_CAPACITY_PROP);
+        doReturn(null).when(context).getProperty(Activator.OVERFLOW_POLICY_PROP);
+    }
+
+    @Test
+    public void testDefaults() throws Exception {
+        assertEquals(NetconfNotificationManager.DEFAULT_QUEUE_CAPACITY, Activator.extractQueueCapacity(context));
+        assertEquals(OverflowPolicy.DROP_OLDEST, Activator.extractOverflowPolicy(context));
+    }
+
+    @Test
+    public void testConfiguredValues() throws Exception {
+        doReturn("16").when(context).getProperty(Activator.QUEUE_CAPACITY_PROP);
+        doReturn("disconnect").when(context).getProperty(Activator.OVERFLOW_POLICY_PROP);
+
+        assertEquals(16, Activator.extractQueueCapacity(context));
+        assertEquals(OverflowPolicy.DISCONNECT, Activator.extractOverflowPolicy(context));
+    }
+
+    @Test
+    public void testInvalidValues() throws Exception {
+        doReturn("0").when(context).getProperty(Activator.QUEUE_CAPACITY_PROP);
+        doReturn("block").when(context).getProperty(Activator.OVERFLOW_POLICY_PROP);
+        assertEquals(NetconfNotificationManager.DEFAULT_QUEUE_CAPACITY, Activator.extractQueueCapacity(context));
+        assertEquals(OverflowPolicy.DROP_OLDEST, Activator.extractOverflowPolicy(context));
+
+        doReturn("many").when(context).getProperty(Activator.QUEUE_CAPACITY_PROP);
+        assertEquals(NetconfNotificationManager.DEFAULT_QUEUE_CAPACITY, Activator.extractQueueCapacity(context));
+    }
+}
@@ -1,8 +1,5 @@
 package org.opendaylight.controller.config.yang.netconf.northbound.ssh;
 
-import io.netty.channel.ChannelFuture;
-import io.netty.channel.local.LocalAddress;
-import io.netty.util.concurrent.GenericFutureListener;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -38,38 +35,26 @@ public class NetconfNorthboundSshModule extends org.opendaylight.controller.conf
     public java.lang.AutoCloseable createInstance() {
         final NetconfServerDispatcher dispatch = getDispatcherDependency();
 
-        final LocalAddress localAddress = new LocalAddress(getPort().toString());
-        final ChannelFuture localServer = dispatch.createLocalServer(localAddress);
-
         final SshProxyServer sshProxyServer = new SshProxyServer(Executors.newScheduledThreadPool(1), getWorkerThreadGroupDependency(), getEventExecutorDependency());
 
         final InetSocketAddress bindingAddress = getInetAddress();
         final SshProxyServerConfigurationBuilder sshProxyServerConfigurationBuilder = new SshProxyServerConfigurationBuilder();
         sshProxyServerConfigurationBuilder.setBindingAddress(bindingAddress);
-        sshProxyServerConfigurationBuilder.setLocalAddress(localAddress);
+        // Sessions run directly on the SSH streams, without a local connection to the netconf server
+        sshProxyServerConfigurationBuilder.setDispatcher(dispatch);
         sshProxyServerConfigurationBuilder.setAuthenticator(new UserAuthenticator(getUsername(), getPassword()));
         sshProxyServerConfigurationBuilder.setIdleTimeout(Integer.MAX_VALUE);
         sshProxyServerConfigurationBuilder.setKeyPairProvider(new PEMGeneratorHostKeyProvider());
 
-        localServer.addListener(new GenericFutureListener<ChannelFuture>() {
-
-            @Override
-            public void operationComplete(final ChannelFuture future) {
-                if(future.isDone() && !future.isCancelled()) {
-                    try {
-                        sshProxyServer.bind(sshProxyServerConfigurationBuilder.createSshProxyServerConfiguration());
-                        LOG.info("Netconf SSH endpoint started successfully at {}", bindingAddress);
-                    } catch (final IOException e) {
-                        throw new RuntimeException("Unable to start SSH netconf server", e);
-                    }
-                } else {
-                    LOG.warn("Unable to start SSH netconf server at {}", bindingAddress, future.cause());
-                    throw new RuntimeException("Unable to start SSH netconf server", future.cause());
-                }
-            }
-        });
-
-        return new NetconfServerCloseable(localServer, sshProxyServer);
+        try {
+            sshProxyServer.bind(sshProxyServerConfigurationBuilder.createSshProxyServerConfiguration());
+            LOG.info("Netconf SSH endpoint started successfully at {}", bindingAddress);
+        } catch (final IOException e) {
+            LOG.warn("Unable to start SSH netconf server at {}", bindingAddress, e);
+            throw new RuntimeException("Unable to start SSH netconf server", e);
+        }
+
+        return new NetconfServerCloseable(sshProxyServer);
     }
 
     private InetSocketAddress getInetAddress() {
@@ -82,23 +67,15 @@ public class NetconfNorthboundSshModule extends org.opendaylight.controller.conf
     }
 
     private static final class NetconfServerCloseable implements AutoCloseable {
-        private final ChannelFuture localServer;
         private final SshProxyServer sshProxyServer;
 
-        public NetconfServerCloseable(final ChannelFuture localServer, final SshProxyServer sshProxyServer) {
-            this.localServer = localServer;
+        public NetconfServerCloseable(final SshProxyServer sshProxyServer) {
             this.sshProxyServer = sshProxyServer;
         }
 
         @Override
         public void close() throws Exception {
             sshProxyServer.close();
-
-            if(localServer.isDone()) {
-                localServer.channel().close();
-            } else {
-                localServer.cancel(true);
-            }
         }
     }
 
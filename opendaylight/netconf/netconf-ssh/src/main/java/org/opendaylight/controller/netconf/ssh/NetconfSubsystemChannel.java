@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.ssh;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.AbstractChannel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelMetadata;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelConfig;
+import io.netty.channel.EventLoop;
+import io.netty.channel.SingleThreadEventLoop;
+import java.net.SocketAddress;
+import org.apache.sshd.common.future.SshFutureListener;
+import org.apache.sshd.common.io.IoInputStream;
+import org.apache.sshd.common.io.IoOutputStream;
+import org.apache.sshd.common.io.IoWriteFuture;
+import org.apache.sshd.common.util.Buffer;
+import org.opendaylight.controller.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerReader;
+import org.opendaylight.controller.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerWriter;
+import org.opendaylight.controller.netconf.util.messages.NetconfHelloMessageAdditionalHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Netty channel on top of the streams of a netconf SSH subsystem. The netconf server pipeline runs directly
+ * on this channel, so decrypted data is handed to the netconf decoders without passing through another
+ * connection.
+ *
+ * Data read from the SSH client is fired into the pipeline from the channel's event loop, preceded
+ * by the additional hello header describing the client. Outbound data is written to the SSH stream one
+ * message at a time, as the stream does not allow more than one pending write.
+ */
+final class NetconfSubsystemChannel extends AbstractChannel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfSubsystemChannel.class);
+
+    private static final ChannelMetadata METADATA = new ChannelMetadata(false);
+
+    private final ChannelConfig config = new DefaultChannelConfig(this);
+    private final IoInputStream in;
+    private final IoOutputStream out;
+    private final NetconfHelloMessageAdditionalHeader additionalHeader;
+    private final SocketAddress localAddress;
+    private final SocketAddress remoteAddress;
+
+    private final SshFutureListener<IoWriteFuture> writeListener = new SshFutureListener<IoWriteFuture>() {
+        @Override
+        public void operationComplete(final IoWriteFuture future) {
+            eventLoop().execute(new Runnable() {
+                @Override
+                public void run() {
+                    onWriteComplete(future);
+                }
+            });
+        }
+    };
+
+    private volatile boolean open = true;
+
+    // Accessed only from the event loop
+    private AsyncSshHandlerReader reader;
+    private boolean writeInProgress;
+
+    NetconfSubsystemChannel(final IoInputStream in, final IoOutputStream out,
+                            final NetconfHelloMessageAdditionalHeader additionalHeader,
+                            final SocketAddress localAddress, final SocketAddress remoteAddress) {
+        super(null);
+        this.in = Preconditions.checkNotNull(in);
+        this.out = Preconditions.checkNotNull(out);
+        this.additionalHeader = Preconditions.checkNotNull(additionalHeader);
+        this.localAddress = localAddress;
+        this.remoteAddress = remoteAddress;
+    }
+
+    @Override
+    public ChannelConfig config() {
+        return config;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public boolean isActive() {
+        return open;
+    }
+
+    @Override
+    public ChannelMetadata metadata() {
+        return METADATA;
+    }
+
+    @Override
+    protected AbstractUnsafe newUnsafe() {
+        return new SubsystemUnsafe();
+    }
+
+    @Override
+    protected boolean isCompatible(final EventLoop loop) {
+        return loop instanceof SingleThreadEventLoop;
+    }
+
+    @Override
+    protected SocketAddress localAddress0() {
+        return localAddress;
+    }
+
+    @Override
+    protected SocketAddress remoteAddress0() {
+        return remoteAddress;
+    }
+
+    @Override
+    protected void doRegister() throws Exception {
+        // Registration completes after this method returns and the pipeline is initialized with it,
+        // so the reading is started from a task queued after the registration
+        eventLoop().execute(new Runnable() {
+            @Override
+            public void run() {
+                startReading();
+            }
+        });
+    }
+
+    private void startReading() {
+        if (!open) {
+            return;
+        }
+
+        pipeline().fireChannelRead(Unpooled.wrappedBuffer(additionalHeader.toFormattedString().getBytes(Charsets.UTF_8)));
+        pipeline().fireChannelReadComplete();
+
+        reader = new AsyncSshHandlerReader(new AutoCloseable() {
+            @Override
+            public void close() {
+                // SSH client disconnected
+                NetconfSubsystemChannel.this.close();
+            }
+        }, new AsyncSshHandlerReader.ReadMsgHandler() {
+            @Override
+            public void onMessageRead(final ByteBuf msg) {
+                eventLoop().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        pipeline().fireChannelRead(msg);
+                        pipeline().fireChannelReadComplete();
+                    }
+                });
+            }
+        }, "ssh" + additionalHeader.getAddress(), in);
+    }
+
+    @Override
+    protected void doBind(final SocketAddress localAddress) throws Exception {
+        throw new UnsupportedOperationException("Channel is bound by its SSH session");
+    }
+
+    @Override
+    protected void doDisconnect() throws Exception {
+        doClose();
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        open = false;
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+    }
+
+    @Override
+    protected void doBeginRead() throws Exception {
+        // Reads are driven by the SSH stream, there is nothing to resume
+    }
+
+    @Override
+    protected void doWrite(final ChannelOutboundBuffer buffer) throws Exception {
+        if (writeInProgress) {
+            // The rest is written once the pending write completes
+            return;
+        }
+
+        final Object msg = buffer.current();
+        if (msg == null) {
+            return;
+        }
+        if (!(msg instanceof ByteBuf)) {
+            buffer.remove(new UnsupportedOperationException("Unsupported message type " + msg.getClass()));
+            return;
+        }
+
+        final ByteBuf byteBufMsg = (ByteBuf) msg;
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Writing message on channel: {}, message: {}", this, AsyncSshHandlerWriter.byteBufToString(byteBufMsg));
+        }
+
+        final byte[] bytes = new byte[byteBufMsg.readableBytes()];
+        byteBufMsg.getBytes(byteBufMsg.readerIndex(), bytes);
+        try {
+            out.write(new Buffer(bytes)).addListener(writeListener);
+            writeInProgress = true;
+        } catch (final RuntimeException e) {
+            LOG.warn("Ssh write request failed on channel: {}", this, e);
+            buffer.remove(e);
+        }
+    }
+
+    private void onWriteComplete(final IoWriteFuture future) {
+        writeInProgress = false;
+
+        final ChannelOutboundBuffer buffer = unsafe().outboundBuffer();
+        if (buffer == null) {
+            // Closed in the meantime, pending writes have already been failed
+            return;
+        }
+
+        if (future.isWritten()) {
+            buffer.remove();
+        } else {
+            LOG.warn("Ssh write request failed on channel: {}", this, future.getException());
+            buffer.remove(future.getException());
+        }
+
+        // Continue with messages queued while the write was pending
+        unsafe().flush();
+    }
+
+    private final class SubsystemUnsafe extends AbstractUnsafe {
+        @Override
+        public void connect(final SocketAddress remoteAddress, final SocketAddress localAddress, final ChannelPromise promise) {
+            promise.setFailure(new UnsupportedOperationException("Channel is connected by its SSH session"));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.ssh;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.concurrent.GenericFutureListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.sshd.common.NamedFactory;
+import org.apache.sshd.common.io.IoInputStream;
+import org.apache.sshd.common.io.IoOutputStream;
+import org.apache.sshd.server.AsyncCommand;
+import org.apache.sshd.server.Command;
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.SessionAware;
+import org.apache.sshd.server.session.ServerSession;
+import org.opendaylight.controller.netconf.api.NetconfServerDispatcher;
+import org.opendaylight.controller.netconf.util.messages.NetconfHelloMessageAdditionalHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This command serves the netconf subsystem within the SSH server. Unlike {@link RemoteNetconfCommand},
+ * which forwards the data over a local connection, the netconf server session runs directly on the
+ * subsystem's streams.
+ *
+ * Command is Apache Mina SSH terminology for objects handling ssh data.
+ */
+public class NetconfSubsystemCommand implements AsyncCommand, SessionAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfSubsystemCommand.class);
+
+    private final NetconfServerDispatcher dispatcher;
+
+    private IoInputStream in;
+    private IoOutputStream out;
+    private ExitCallback callback;
+    private ServerSession session;
+    private NetconfHelloMessageAdditionalHeader netconfHelloMessageAdditionalHeader;
+
+    private NetconfSubsystemChannel channel;
+
+    public NetconfSubsystemCommand(final NetconfServerDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void setIoInputStream(final IoInputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public void setIoOutputStream(final IoOutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void setIoErrorStream(final IoOutputStream err) {
+        // Netconf does not use the error stream
+    }
+
+    @Override
+    public void setInputStream(final InputStream in) {
+        throw new UnsupportedOperationException("Synchronous IO is unsupported");
+    }
+
+    @Override
+    public void setOutputStream(final OutputStream out) {
+        throw new UnsupportedOperationException("Synchronous IO is unsupported");
+    }
+
+    @Override
+    public void setErrorStream(final OutputStream err) {
+        throw new UnsupportedOperationException("Synchronous IO is unsupported");
+    }
+
+    @Override
+    public void setExitCallback(final ExitCallback callback) {
+        this.callback = callback;
+    }
+
+    @Override
+    public void setSession(final ServerSession session) {
+        this.session = session;
+        netconfHelloMessageAdditionalHeader = RemoteNetconfCommand.createAdditionalHeader(session);
+    }
+
+    @Override
+    public void start(final Environment env) throws IOException {
+        LOG.trace("Starting netconf session for client: {}", getClientAddress());
+        Preconditions.checkNotNull(callback, "Exit callback must be set");
+
+        channel = new NetconfSubsystemChannel(in, out, netconfHelloMessageAdditionalHeader,
+                session.getIoSession().getLocalAddress(), session.getIoSession().getRemoteAddress());
+        channel.closeFuture().addListener(new GenericFutureListener<ChannelFuture>() {
+            @Override
+            public void operationComplete(final ChannelFuture future) {
+                LOG.debug("Netconf session was closed for client: {} on channel: {}", getClientAddress(), channel);
+                callback.onExit(0);
+            }
+        });
+
+        dispatcher.registerServerChannel(channel).addListener(new GenericFutureListener<ChannelFuture>() {
+            @Override
+            public void operationComplete(final ChannelFuture future) {
+                if (!future.isSuccess()) {
+                    LOG.warn("Unable to start netconf session for client: {}", getClientAddress(), future.cause());
+                    // Exit is reported once the channel is closed
+                    channel.close();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        LOG.trace("Releasing netconf session for client: {} on channel: {}", getClientAddress(), channel);
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private String getClientAddress() {
+        return netconfHelloMessageAdditionalHeader.getAddress();
+    }
+
+    public static class NetconfSubsystemCommandFactory implements NamedFactory<Command> {
+
+        private final NetconfServerDispatcher dispatcher;
+
+        public NetconfSubsystemCommandFactory(final NetconfServerDispatcher dispatcher) {
+            this.dispatcher = Preconditions.checkNotNull(dispatcher);
+        }
+
+        @Override
+        public String getName() {
+            return RemoteNetconfCommand.NetconfCommandFactory.NETCONF;
+        }
+
+        @Override
+        public NetconfSubsystemCommand create() {
+            return new NetconfSubsystemCommand(dispatcher);
+        }
+    }
+}
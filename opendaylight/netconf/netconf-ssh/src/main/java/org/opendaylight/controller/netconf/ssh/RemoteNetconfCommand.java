@@ -153,6 +153,10 @@ public class RemoteNetconfCommand implements AsyncCommand, SessionAware {
 
     @Override
     public void setSession(final ServerSession session) {
+        netconfHelloMessageAdditionalHeader = createAdditionalHeader(session);
+    }
+
+    static NetconfHelloMessageAdditionalHeader createAdditionalHeader(final ServerSession session) {
         final SocketAddress remoteAddress = session.getIoSession().getRemoteAddress();
         String hostName = "";
         String port = "";
@@ -160,7 +164,7 @@ public class RemoteNetconfCommand implements AsyncCommand, SessionAware {
             hostName = ((InetSocketAddress) remoteAddress).getAddress().getHostAddress();
             port = Integer.toString(((InetSocketAddress) remoteAddress).getPort());
         }
-        netconfHelloMessageAdditionalHeader = new NetconfHelloMessageAdditionalHeader(
+        return new NetconfHelloMessageAdditionalHeader(
                 session.getUsername(), hostName, port, "ssh", "client");
     }
 
@@ -36,6 +36,9 @@ import org.apache.sshd.server.ServerFactoryManager;
 /**
  * Proxy SSH server that just delegates decrypted content to a delegate server within same VM.
  * Implemented using Apache Mina SSH lib.
+ *
+ * If configured with a dispatcher, netconf sessions are served directly on the SSH subsystem streams
+ * instead of being forwarded over a local connection.
  */
 public class SshProxyServer implements AutoCloseable {
 
@@ -62,8 +65,12 @@ public class SshProxyServer implements AutoCloseable {
         sshServer.setScheduledExecutorService(minaTimerExecutor);
         sshServer.setProperties(getProperties(sshProxyServerConfiguration));
 
-        final RemoteNetconfCommand.NetconfCommandFactory netconfCommandFactory =
-                new RemoteNetconfCommand.NetconfCommandFactory(clientGroup, sshProxyServerConfiguration.getLocalAddress());
+        final NamedFactory<Command> netconfCommandFactory;
+        if (sshProxyServerConfiguration.getDispatcher() != null) {
+            netconfCommandFactory = new NetconfSubsystemCommand.NetconfSubsystemCommandFactory(sshProxyServerConfiguration.getDispatcher());
+        } else {
+            netconfCommandFactory = new RemoteNetconfCommand.NetconfCommandFactory(clientGroup, sshProxyServerConfiguration.getLocalAddress());
+        }
         sshServer.setSubsystemFactories(Lists.<NamedFactory<Command>>newArrayList(netconfCommandFactory));
         sshServer.start();
     }
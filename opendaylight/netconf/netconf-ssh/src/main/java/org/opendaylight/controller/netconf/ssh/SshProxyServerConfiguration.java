@@ -13,17 +13,22 @@ import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
 import org.apache.sshd.common.KeyPairProvider;
 import org.apache.sshd.server.PasswordAuthenticator;
+import org.opendaylight.controller.netconf.api.NetconfServerDispatcher;
 
 public final class SshProxyServerConfiguration {
     private final InetSocketAddress bindingAddress;
     private final LocalAddress localAddress;
+    private final NetconfServerDispatcher dispatcher;
     private final PasswordAuthenticator authenticator;
     private final KeyPairProvider keyPairProvider;
     private final int idleTimeout;
 
-    SshProxyServerConfiguration(final InetSocketAddress bindingAddress, final LocalAddress localAddress, final PasswordAuthenticator authenticator, final KeyPairProvider keyPairProvider, final int idleTimeout) {
+    SshProxyServerConfiguration(final InetSocketAddress bindingAddress, final LocalAddress localAddress, final NetconfServerDispatcher dispatcher, final PasswordAuthenticator authenticator, final KeyPairProvider keyPairProvider, final int idleTimeout) {
         this.bindingAddress = Preconditions.checkNotNull(bindingAddress);
-        this.localAddress = Preconditions.checkNotNull(localAddress);
+        // Sessions are either served in-process by the dispatcher or forwarded to the local address
+        Preconditions.checkArgument(localAddress != null ^ dispatcher != null, "Exactly one of local address and dispatcher has to be set");
+        this.localAddress = localAddress;
+        this.dispatcher = dispatcher;
         this.authenticator = Preconditions.checkNotNull(authenticator);
         this.keyPairProvider = Preconditions.checkNotNull(keyPairProvider);
         // Idle timeout cannot be disabled in the sshd by using =< 0 value
@@ -39,6 +44,14 @@ public final class SshProxyServerConfiguration {
         return localAddress;
     }
 
+    /**
+     * @return dispatcher serving netconf sessions directly on the SSH subsystem streams, null if sessions are
+     *         forwarded to {@link #getLocalAddress()}
+     */
+    public NetconfServerDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
     public PasswordAuthenticator getAuthenticator() {
         return authenticator;
     }
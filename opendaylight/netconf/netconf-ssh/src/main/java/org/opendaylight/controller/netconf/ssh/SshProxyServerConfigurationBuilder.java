@@ -12,10 +12,12 @@ import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
 import org.apache.sshd.common.KeyPairProvider;
 import org.apache.sshd.server.PasswordAuthenticator;
+import org.opendaylight.controller.netconf.api.NetconfServerDispatcher;
 
 public final class SshProxyServerConfigurationBuilder {
     private InetSocketAddress bindingAddress;
     private LocalAddress localAddress;
+    private NetconfServerDispatcher dispatcher;
     private PasswordAuthenticator authenticator;
     private KeyPairProvider keyPairProvider;
     private int idleTimeout;
@@ -30,6 +32,11 @@ public final class SshProxyServerConfigurationBuilder {
         return this;
     }
 
+    public SshProxyServerConfigurationBuilder setDispatcher(final NetconfServerDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        return this;
+    }
+
     public SshProxyServerConfigurationBuilder setAuthenticator(final PasswordAuthenticator authenticator) {
         this.authenticator = authenticator;
         return this;
@@ -46,7 +53,7 @@ public final class SshProxyServerConfigurationBuilder {
     }
 
     public SshProxyServerConfiguration createSshProxyServerConfiguration() {
-        return new SshProxyServerConfiguration(bindingAddress, localAddress, authenticator, keyPairProvider, idleTimeout);
+        return new SshProxyServerConfiguration(bindingAddress, localAddress, dispatcher, authenticator, keyPairProvider, idleTimeout);
     }
 
     public SshProxyServerConfigurationBuilder create () {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.ssh;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.nio.NioEventLoopGroup;
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.sshd.common.future.SshFutureListener;
+import org.apache.sshd.common.io.IoInputStream;
+import org.apache.sshd.common.io.IoOutputStream;
+import org.apache.sshd.common.io.IoReadFuture;
+import org.apache.sshd.common.io.IoWriteFuture;
+import org.apache.sshd.common.util.Buffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.controller.netconf.util.messages.NetconfHelloMessageAdditionalHeader;
+
+public class NetconfSubsystemChannelTest {
+
+    private static final NetconfHelloMessageAdditionalHeader HEADER =
+            new NetconfHelloMessageAdditionalHeader("user", "10.0.0.1", "830", "ssh", "client");
+
+    @Mock
+    private IoInputStream in;
+    @Mock
+    private IoOutputStream out;
+    @Mock
+    private IoReadFuture readFuture;
+    @Mock
+    private IoWriteFuture writeFuture;
+
+    private NioEventLoopGroup group;
+    private NetconfSubsystemChannel channel;
+    private final BlockingQueue<ByteBuf> reads = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        doReturn(readFuture).when(in).read(any(Buffer.class));
+        doReturn(readFuture).when(readFuture).addListener(Matchers.<SshFutureListener<IoReadFuture>>any());
+        doReturn(readFuture).when(readFuture).removeListener(Matchers.<SshFutureListener<IoReadFuture>>any());
+        doReturn(writeFuture).when(out).write(any(Buffer.class));
+        doReturn(writeFuture).when(writeFuture).addListener(Matchers.<SshFutureListener<IoWriteFuture>>any());
+
+        group = new NioEventLoopGroup(1);
+        channel = new NetconfSubsystemChannel(in, out, HEADER, null, null);
+        channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                reads.add((ByteBuf) msg);
+            }
+        });
+        group.register(channel).sync();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        group.shutdownGracefully();
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        assertEquals(HEADER.toFormattedString(), poll());
+
+        final ArgumentCaptor<Buffer> buffer = ArgumentCaptor.forClass(Buffer.class);
+        verify(in, timeout(5000)).read(buffer.capture());
+        final byte[] data = "<hello/>".getBytes(Charsets.UTF_8);
+        System.arraycopy(data, 0, buffer.getValue().array(), 0, data.length);
+        doReturn(data.length).when(readFuture).getRead();
+
+        readListener().operationComplete(readFuture);
+        assertEquals("<hello/>", poll());
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        final ChannelFuture first = channel.writeAndFlush(Unpooled.copiedBuffer("<rpc/>", Charsets.UTF_8));
+        final ChannelFuture second = channel.writeAndFlush(Unpooled.copiedBuffer("<rpc-reply/>", Charsets.UTF_8));
+
+        // Only a single write may be pending on the SSH stream
+        final ArgumentCaptor<Buffer> written = ArgumentCaptor.forClass(Buffer.class);
+        verify(out, timeout(5000)).write(written.capture());
+        assertEquals("<rpc/>", new String(written.getValue().getCompactData(), Charsets.UTF_8));
+        assertFalse(second.isDone());
+
+        doReturn(true).when(writeFuture).isWritten();
+        writeListener().operationComplete(writeFuture);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        assertTrue(first.isSuccess());
+
+        verify(out, timeout(5000).times(2)).write(written.capture());
+        assertEquals("<rpc-reply/>", new String(written.getValue().getCompactData(), Charsets.UTF_8));
+    }
+
+    @Test
+    public void testCloseOnSshDisconnect() throws Exception {
+        assertEquals(HEADER.toFormattedString(), poll());
+        doReturn(new IOException("Disconnected")).when(readFuture).getException();
+        doReturn(true).when(in).isClosed();
+
+        readListener().operationComplete(readFuture);
+        assertTrue(channel.closeFuture().await(5, TimeUnit.SECONDS));
+        assertFalse(channel.isActive());
+    }
+
+    private String poll() throws InterruptedException {
+        final ByteBuf msg = reads.poll(5, TimeUnit.SECONDS);
+        assertNotNull(msg);
+        return msg.toString(Charsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SshFutureListener<IoReadFuture> readListener() {
+        final ArgumentCaptor<SshFutureListener> listener = ArgumentCaptor.forClass(SshFutureListener.class);
+        verify(readFuture, timeout(5000)).addListener(listener.capture());
+        return listener.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SshFutureListener<IoWriteFuture> writeListener() {
+        final ArgumentCaptor<SshFutureListener> listener = ArgumentCaptor.forClass(SshFutureListener.class);
+        verify(writeFuture, timeout(5000)).addListener(listener.capture());
+        return listener.getValue();
+    }
+}
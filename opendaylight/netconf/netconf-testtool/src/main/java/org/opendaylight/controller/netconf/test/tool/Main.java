@@ -81,6 +81,27 @@ public final class Main {
         @Arg(dest = "notification-file")
         public File notificationFile;
 
+        @Arg(dest = "load-generation")
+        public boolean loadGeneration;
+
+        @Arg(dest = "datastore-size")
+        public int datastoreSize;
+
+        @Arg(dest = "payload-size")
+        public int payloadSize;
+
+        @Arg(dest = "notification-rate")
+        public int notificationRate;
+
+        @Arg(dest = "response-latency-millis")
+        public int responseLatencyMillis;
+
+        @Arg(dest = "response-latency-distribution")
+        public String responseLatencyDistribution;
+
+        @Arg(dest = "stats-report-interval")
+        public int statsReportInterval;
+
         static ArgumentParser getParser() {
             final ArgumentParser parser = ArgumentParsers.newArgumentParser("netconf testool");
 
@@ -150,6 +171,49 @@ public final class Main {
                     .help("Whether to use debug log level instead of INFO")
                     .dest("debug");
 
+            parser.addArgument("--load-generation")
+                    .type(Boolean.class)
+                    .setDefault(false)
+                    .help("Whether simulated devices should generate load: synthetic datastore content, notifications and response latency. Data conform to the netconf-testtool-load schema, which is included in this mode")
+                    .dest("load-generation");
+
+            parser.addArgument("--datastore-size")
+                    .type(Integer.class)
+                    .setDefault(0)
+                    .help("Number of list entries in the initial datastore of each session, used with load generation")
+                    .dest("datastore-size");
+
+            parser.addArgument("--payload-size")
+                    .type(Integer.class)
+                    .setDefault(64)
+                    .help("Size of the payload of each generated list entry and notification in characters, used with load generation")
+                    .dest("payload-size");
+
+            parser.addArgument("--notification-rate")
+                    .type(Integer.class)
+                    .setDefault(0)
+                    .help("Notifications per second sent to each session after create subscription is called, used with load generation")
+                    .dest("notification-rate");
+
+            parser.addArgument("--response-latency-millis")
+                    .type(Integer.class)
+                    .setDefault(0)
+                    .help("Mean latency in milliseconds added to every rpc reply, used with load generation")
+                    .dest("response-latency-millis");
+
+            parser.addArgument("--response-latency-distribution")
+                    .type(String.class)
+                    .choices("fixed", "uniform", "exponential")
+                    .setDefault("fixed")
+                    .help("Distribution of the latency added to rpc replies, used with load generation")
+                    .dest("response-latency-distribution");
+
+            parser.addArgument("--stats-report-interval")
+                    .type(Integer.class)
+                    .setDefault(10)
+                    .help("Interval in seconds of request statistics reports, 0 disables them, used with load generation")
+                    .dest("stats-report-interval");
+
             return parser;
         }
 
@@ -162,6 +226,15 @@ public final class Main {
                 checkArgument(schemasDir.isDirectory(), "Schemas dir has to be a directory");
                 checkArgument(schemasDir.canRead(), "Schemas dir has to be readable");
             }
+
+            if(loadGeneration) {
+                checkArgument(notificationFile == null, "Notification file cannot be used with load generation");
+                checkArgument(datastoreSize >= 0, "Datastore size has to be >= 0");
+                checkArgument(payloadSize >= 0, "Payload size has to be >= 0");
+                checkArgument(notificationRate >= 0, "Notification rate has to be >= 0");
+                checkArgument(responseLatencyMillis >= 0, "Response latency has to be >= 0");
+                checkArgument(statsReportInterval >= 0, "Stats report interval has to be >= 0");
+            }
         }
     }
 
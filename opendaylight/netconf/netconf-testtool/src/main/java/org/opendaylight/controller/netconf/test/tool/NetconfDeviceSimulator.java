@@ -25,6 +25,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.local.LocalAddress;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
+import io.netty.util.concurrent.Promise;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
@@ -61,6 +62,7 @@ import org.opendaylight.controller.netconf.api.monitoring.NetconfMonitoringServi
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.controller.netconf.impl.DefaultCommitNotificationProducer;
 import org.opendaylight.controller.netconf.impl.NetconfServerDispatcherImpl;
+import org.opendaylight.controller.netconf.impl.NetconfServerSession;
 import org.opendaylight.controller.netconf.impl.NetconfServerSessionNegotiatorFactory;
 import org.opendaylight.controller.netconf.impl.SessionIdProvider;
 import org.opendaylight.controller.netconf.impl.osgi.AggregatedNetconfOperationServiceFactory;
@@ -69,9 +71,13 @@ import org.opendaylight.controller.netconf.mapping.api.NetconfOperationService;
 import org.opendaylight.controller.netconf.mapping.api.NetconfOperationServiceFactory;
 import org.opendaylight.controller.netconf.monitoring.osgi.NetconfMonitoringActivator;
 import org.opendaylight.controller.netconf.monitoring.osgi.NetconfMonitoringOperationService;
+import org.opendaylight.controller.netconf.nettyutil.AbstractChannelInitializer;
 import org.opendaylight.controller.netconf.ssh.SshProxyServer;
 import org.opendaylight.controller.netconf.ssh.SshProxyServerConfiguration;
 import org.opendaylight.controller.netconf.ssh.SshProxyServerConfigurationBuilder;
+import org.opendaylight.controller.netconf.test.tool.load.LatencyDistribution;
+import org.opendaylight.controller.netconf.test.tool.load.LoadGenerator;
+import org.opendaylight.controller.netconf.test.tool.load.LoadHandler;
 import org.opendaylight.controller.netconf.test.tool.rpc.DataList;
 import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedCommit;
 import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedCreateSubscription;
@@ -110,6 +116,7 @@ public class NetconfDeviceSimulator implements Closeable {
     private final ExecutorService nioExecutor;
 
     private boolean sendFakeSchema = false;
+    private Optional<LoadGenerator> loadGenerator = Optional.absent();
 
     public NetconfDeviceSimulator() {
         // TODO make pool size configurable
@@ -125,7 +132,8 @@ public class NetconfDeviceSimulator implements Closeable {
         this.nioExecutor = nioExecutor;
     }
 
-    private NetconfServerDispatcherImpl createDispatcher(final Map<ModuleBuilder, String> moduleBuilders, final boolean exi, final int generateConfigsTimeout, final Optional<File> notificationsFile) {
+    private NetconfServerDispatcherImpl createDispatcher(final Map<ModuleBuilder, String> moduleBuilders, final boolean exi, final int generateConfigsTimeout,
+                                                         final Optional<File> notificationsFile, final Optional<LoadGenerator> loadGenerator) {
 
         final Set<Capability> capabilities = Sets.newHashSet(Collections2.transform(moduleBuilders.keySet(), new Function<ModuleBuilder, Capability>() {
             @Override
@@ -142,7 +150,7 @@ public class NetconfDeviceSimulator implements Closeable {
         final SessionIdProvider idProvider = new SessionIdProvider();
 
         final AggregatedNetconfOperationServiceFactory aggregatedNetconfOperationServiceFactory = new AggregatedNetconfOperationServiceFactory();
-        final SimulatedOperationProvider simulatedOperationProvider = new SimulatedOperationProvider(idProvider, capabilities, notificationsFile);
+        final SimulatedOperationProvider simulatedOperationProvider = new SimulatedOperationProvider(idProvider, capabilities, notificationsFile, loadGenerator);
 
         final NetconfMonitoringService monitoringService1 = new DummyMonitoringService(capabilities);
 
@@ -161,8 +169,9 @@ public class NetconfDeviceSimulator implements Closeable {
         final NetconfServerSessionNegotiatorFactory serverNegotiatorFactory = new NetconfServerSessionNegotiatorFactory(
                 hashedWheelTimer, aggregatedNetconfOperationServiceFactory, idProvider, generateConfigsTimeout, commitNotifier, monitoringService1, serverCapabilities);
 
-        final NetconfServerDispatcherImpl.ServerChannelInitializer serverChannelInitializer = new NetconfServerDispatcherImpl.ServerChannelInitializer(
-                serverNegotiatorFactory);
+        final NetconfServerDispatcherImpl.ServerChannelInitializer serverChannelInitializer = loadGenerator.isPresent()
+                ? new LoadChannelInitializer(serverNegotiatorFactory, loadGenerator.get())
+                : new NetconfServerDispatcherImpl.ServerChannelInitializer(serverNegotiatorFactory);
         return new NetconfServerDispatcherImpl(serverChannelInitializer, nettyThreadgroup, nettyThreadgroup);
     }
 
@@ -199,7 +208,14 @@ public class NetconfDeviceSimulator implements Closeable {
 
         final Map<ModuleBuilder, String> moduleBuilders = parseSchemasToModuleBuilders(params);
 
-        final NetconfServerDispatcherImpl dispatcher = createDispatcher(moduleBuilders, params.exi, params.generateConfigsTimeout, Optional.fromNullable(params.notificationFile));
+        if (params.loadGeneration) {
+            loadGenerator = Optional.of(new LoadGenerator(params.datastoreSize, params.payloadSize, params.notificationRate,
+                    params.responseLatencyMillis, LatencyDistribution.valueOf(params.responseLatencyDistribution.toUpperCase()),
+                    params.statsReportInterval));
+        }
+
+        final NetconfServerDispatcherImpl dispatcher = createDispatcher(moduleBuilders, params.exi, params.generateConfigsTimeout,
+                Optional.fromNullable(params.notificationFile), loadGenerator);
 
         int currentPort = params.startingPort;
 
@@ -334,6 +350,10 @@ public class NetconfDeviceSimulator implements Closeable {
         }
 
         addDefaultSchemas(consumer);
+        if (params.loadGeneration) {
+            final SourceIdentifier sId = new SourceIdentifier(LoadGenerator.MODULE_NAME, LoadGenerator.REVISION);
+            registerSource(consumer, "/META-INF/yang/netconf-testtool-load.yang", sId);
+        }
 
         final Map<SourceIdentifier, Map.Entry<ASTSchemaSource, YangTextSchemaSource>> asts = Maps.newHashMap();
         for (final SourceIdentifier loadedSource : loadedSources) {
@@ -403,17 +423,41 @@ public class NetconfDeviceSimulator implements Closeable {
         nettyThreadgroup.shutdownGracefully();
         minaTimerExecutor.shutdownNow();
         nioExecutor.shutdownNow();
+        if (loadGenerator.isPresent()) {
+            loadGenerator.get().close();
+        }
         // close Everything
     }
 
+    /**
+     * Adds the load generation handlers of a session, see {@link LoadHandler}.
+     */
+    private static final class LoadChannelInitializer extends NetconfServerDispatcherImpl.ServerChannelInitializer {
+        private final LoadGenerator loadGenerator;
+
+        LoadChannelInitializer(final NetconfServerSessionNegotiatorFactory negotiatorFactory, final LoadGenerator loadGenerator) {
+            super(negotiatorFactory);
+            this.loadGenerator = loadGenerator;
+        }
+
+        @Override
+        protected void initializeSessionNegotiator(final Channel ch, final Promise<NetconfServerSession> promise) {
+            super.initializeSessionNegotiator(ch, promise);
+            final LoadHandler loadHandler = new LoadHandler(loadGenerator);
+            ch.pipeline().addBefore(AbstractChannelInitializer.NETCONF_SESSION_NEGOTIATOR, "loadRequestHandler", loadHandler.getRequestHandler());
+            ch.pipeline().addLast("loadHandler", loadHandler);
+        }
+    }
+
     private static class SimulatedOperationProvider implements NetconfOperationServiceFactory {
         private final Set<Capability> caps;
         private final SimulatedOperationService simulatedOperationService;
 
 
-        public SimulatedOperationProvider(final SessionIdProvider idProvider, final Set<Capability> caps, final Optional<File> notificationsFile) {
+        public SimulatedOperationProvider(final SessionIdProvider idProvider, final Set<Capability> caps, final Optional<File> notificationsFile,
+                                          final Optional<LoadGenerator> loadGenerator) {
             this.caps = caps;
-            simulatedOperationService = new SimulatedOperationService(idProvider.getCurrentSessionId(), notificationsFile);
+            simulatedOperationService = new SimulatedOperationService(idProvider.getCurrentSessionId(), notificationsFile, loadGenerator);
         }
 
         @Override
@@ -438,22 +482,28 @@ public class NetconfDeviceSimulator implements Closeable {
         static class SimulatedOperationService implements NetconfOperationService {
             private final long currentSessionId;
             private final Optional<File> notificationsFile;
+            private final Optional<LoadGenerator> loadGenerator;
 
-            public SimulatedOperationService(final long currentSessionId, final Optional<File> notificationsFile) {
+            public SimulatedOperationService(final long currentSessionId, final Optional<File> notificationsFile,
+                                             final Optional<LoadGenerator> loadGenerator) {
                 this.currentSessionId = currentSessionId;
                 this.notificationsFile = notificationsFile;
+                this.loadGenerator = loadGenerator;
             }
 
             @Override
             public Set<NetconfOperation> getNetconfOperations() {
                 final DataList storage = new DataList();
+                if (loadGenerator.isPresent()) {
+                    storage.setConfigList(loadGenerator.get().createDatastoreContent());
+                }
                 final SimulatedGet sGet = new SimulatedGet(String.valueOf(currentSessionId), storage);
                 final SimulatedEditConfig sEditConfig = new SimulatedEditConfig(String.valueOf(currentSessionId), storage);
                 final SimulatedGetConfig sGetConfig = new SimulatedGetConfig(String.valueOf(currentSessionId), storage);
                 final SimulatedCommit sCommit = new SimulatedCommit(String.valueOf(currentSessionId));
                 final SimulatedLock sLock = new SimulatedLock(String.valueOf(currentSessionId));
                 final SimulatedUnLock sUnlock = new SimulatedUnLock(String.valueOf(currentSessionId));
-                final SimulatedCreateSubscription sCreateSubs = new SimulatedCreateSubscription(String.valueOf(currentSessionId), notificationsFile);
+                final SimulatedCreateSubscription sCreateSubs = new SimulatedCreateSubscription(String.valueOf(currentSessionId), notificationsFile, loadGenerator);
                 return Sets.<NetconfOperation>newHashSet(sGet,  sGetConfig, sEditConfig, sCommit, sLock, sUnlock, sCreateSubs);
             }
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool.load;
+
+import java.util.Random;
+
+/**
+ * Distributions of the artificial latency added to replies of simulated devices.
+ */
+public enum LatencyDistribution {
+    /**
+     * Every reply is delayed by the mean.
+     */
+    FIXED {
+        @Override
+        long sample(final Random random, final long mean) {
+            return mean;
+        }
+    },
+    /**
+     * Delays are spread uniformly between zero and twice the mean.
+     */
+    UNIFORM {
+        @Override
+        long sample(final Random random, final long mean) {
+            return (long) (random.nextDouble() * 2 * mean);
+        }
+    },
+    /**
+     * Delays follow the exponential distribution, i.e. most replies are fast with a long tail of slow ones.
+     */
+    EXPONENTIAL {
+        @Override
+        long sample(final Random random, final long mean) {
+            return (long) (-Math.log(1 - random.nextDouble()) * mean);
+        }
+    };
+
+    abstract long sample(Random random, long mean);
+}
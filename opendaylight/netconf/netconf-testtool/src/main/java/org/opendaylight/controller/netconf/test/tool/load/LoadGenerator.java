@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool.load;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.controller.netconf.util.xml.XmlElement;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Source of synthetic load for simulated devices: datastore content of configurable size, notifications
+ * at a configurable rate and artificial reply latency. Data conforms to the netconf-testtool-load module,
+ * which the devices advertise in load generation mode.
+ */
+public final class LoadGenerator implements AutoCloseable {
+
+    public static final String NAMESPACE = "urn:opendaylight:netconf:testtool:load";
+    public static final String MODULE_NAME = "netconf-testtool-load";
+    public static final String REVISION = "2015-06-01";
+
+    private static final String NOTIFICATION_NAMESPACE = "urn:ietf:params:xml:ns:netconf:notification:1.0";
+    private static final char[] PAYLOAD_CHARS = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+    private final int datastoreSize;
+    private final String payload;
+    private final int notificationRate;
+    private final long responseLatencyMillis;
+    private final LatencyDistribution latencyDistribution;
+    private final ScheduledExecutorService executor;
+    private final LoadStatistics statistics = new LoadStatistics();
+
+    /**
+     * @param datastoreSize number of list entries in the datastore of each device
+     * @param payloadSize size of the payload of every list entry and notification, in characters
+     * @param notificationRate notifications per second sent to each subscribed session, 0 disables notifications
+     * @param responseLatencyMillis mean latency added to replies, 0 disables the latency
+     * @param latencyDistribution distribution of the latency around its mean
+     * @param statisticsIntervalSeconds interval of statistics reports, 0 disables the reports
+     */
+    public LoadGenerator(final int datastoreSize, final int payloadSize, final int notificationRate,
+                         final long responseLatencyMillis, final LatencyDistribution latencyDistribution,
+                         final int statisticsIntervalSeconds) {
+        Preconditions.checkArgument(datastoreSize >= 0, "Datastore size has to be >= 0");
+        Preconditions.checkArgument(payloadSize >= 0, "Payload size has to be >= 0");
+        Preconditions.checkArgument(notificationRate >= 0, "Notification rate has to be >= 0");
+        Preconditions.checkArgument(responseLatencyMillis >= 0, "Response latency has to be >= 0");
+        this.datastoreSize = datastoreSize;
+        this.payload = createPayload(payloadSize);
+        this.notificationRate = notificationRate;
+        this.responseLatencyMillis = responseLatencyMillis;
+        this.latencyDistribution = Preconditions.checkNotNull(latencyDistribution);
+        this.executor = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder().setNameFormat("netconf-testtool-load-%d").setDaemon(true).build());
+
+        if (statisticsIntervalSeconds > 0) {
+            executor.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    statistics.report();
+                }
+            }, statisticsIntervalSeconds, statisticsIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    private static String createPayload(final int size) {
+        final Random random = new Random();
+        final char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = PAYLOAD_CHARS[random.nextInt(PAYLOAD_CHARS.length)];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return Initial content of a device datastore, a fresh copy for every call
+     */
+    public List<XmlElement> createDatastoreContent() {
+        if (datastoreSize == 0) {
+            return Collections.emptyList();
+        }
+
+        final Document document = XmlUtil.newDocument();
+        final Element loadData = XmlUtil.createElement(document, "load-data", Optional.of(NAMESPACE));
+        for (int i = 0; i < datastoreSize; i++) {
+            final Element entry = XmlUtil.createElement(document, "entry", Optional.of(NAMESPACE));
+            entry.appendChild(XmlUtil.createTextElement(document, "id", String.valueOf(i), Optional.of(NAMESPACE)));
+            entry.appendChild(XmlUtil.createTextElement(document, "payload", payload, Optional.of(NAMESPACE)));
+            loadData.appendChild(entry);
+        }
+        document.appendChild(loadData);
+        return Collections.singletonList(XmlElement.fromDomElement(loadData));
+    }
+
+    public int getNotificationRate() {
+        return notificationRate;
+    }
+
+    public NetconfMessage createNotification(final long sequence) {
+        final Document document = XmlUtil.newDocument();
+        final Element notification = XmlUtil.createElement(document, XmlNetconfConstants.NOTIFICATION_ELEMENT_NAME,
+                Optional.of(NOTIFICATION_NAMESPACE));
+        notification.appendChild(XmlUtil.createTextElement(document, "eventTime",
+                new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX").format(new Date()), Optional.of(NOTIFICATION_NAMESPACE)));
+
+        final Element event = XmlUtil.createElement(document, "load-event", Optional.of(NAMESPACE));
+        event.appendChild(XmlUtil.createTextElement(document, "sequence", String.valueOf(sequence), Optional.of(NAMESPACE)));
+        event.appendChild(XmlUtil.createTextElement(document, "payload", payload, Optional.of(NAMESPACE)));
+        notification.appendChild(event);
+
+        document.appendChild(notification);
+        return new NetconfMessage(document);
+    }
+
+    /**
+     * @return Latency to be added to the next reply
+     */
+    public long nextResponseLatencyMillis() {
+        return responseLatencyMillis == 0 ? 0 : latencyDistribution.sample(ThreadLocalRandom.current(), responseLatencyMillis);
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    public LoadStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
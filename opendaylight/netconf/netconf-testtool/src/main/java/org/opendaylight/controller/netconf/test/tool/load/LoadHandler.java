@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool.load;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandler;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
+import org.w3c.dom.Element;
+
+/**
+ * Per session handler delaying rpc replies by the latency sampled from {@link LoadGenerator} and recording
+ * request statistics of the device. Replies are delayed by scheduling their writes on the channel's event
+ * loop, so no thread is blocked and the replies keep the order of their requests.
+ *
+ * Outgoing messages are serialized by the first handler they pass, so this handler has to be placed at the tail
+ * of the pipeline, while its {@link #getRequestHandler() request handler} has to be placed between the message
+ * decoder and the session.
+ */
+public final class LoadHandler extends ChannelOutboundHandlerAdapter {
+
+    private final LoadGenerator loadGenerator;
+
+    // Accessed only from the event loop
+    private final Map<String, Long> pendingRequests = new HashMap<>();
+    private long notBefore;
+    private LoadStatistics.DeviceStatistics statistics;
+
+    private final ChannelInboundHandler requestHandler = new ChannelInboundHandlerAdapter() {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+            if (msg instanceof NetconfMessage) {
+                final Element element = ((NetconfMessage) msg).getDocument().getDocumentElement();
+                if (XmlNetconfConstants.RPC_KEY.equals(element.getLocalName())) {
+                    pendingRequests.put(element.getAttribute(XmlNetconfConstants.MESSAGE_ID), System.nanoTime());
+                }
+            }
+            super.channelRead(ctx, msg);
+        }
+    };
+
+    public LoadHandler(final LoadGenerator loadGenerator) {
+        this.loadGenerator = loadGenerator;
+    }
+
+    /**
+     * @return Handler recording the arrival of requests, belonging to the same session as this handler
+     */
+    public ChannelInboundHandler getRequestHandler() {
+        return requestHandler;
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
+        if (!(msg instanceof NetconfMessage)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+
+        final Element element = ((NetconfMessage) msg).getDocument().getDocumentElement();
+        if (!XmlNetconfConstants.RPC_REPLY_KEY.equals(element.getLocalName())) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+
+        final Long requestStart = pendingRequests.remove(element.getAttribute(XmlNetconfConstants.MESSAGE_ID));
+        final long now = System.nanoTime();
+        // A reply is never sent before the reply preceding it
+        notBefore = Math.max(notBefore, now + TimeUnit.MILLISECONDS.toNanos(loadGenerator.nextResponseLatencyMillis()));
+
+        if (notBefore <= now) {
+            recordRequest(ctx, requestStart, now);
+            ctx.write(msg, promise);
+            return;
+        }
+
+        final long sendTime = notBefore;
+        ctx.executor().schedule(new Runnable() {
+            @Override
+            public void run() {
+                recordRequest(ctx, requestStart, sendTime);
+                ctx.writeAndFlush(msg, promise);
+            }
+        }, sendTime - now, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordRequest(final ChannelHandlerContext ctx, final Long requestStart, final long sendTime) {
+        if (requestStart == null) {
+            return;
+        }
+        if (statistics == null) {
+            // Devices are identified by the address the session was accepted on
+            statistics = loadGenerator.getStatistics().getDevice(String.valueOf(ctx.channel().localAddress()));
+        }
+        statistics.requestCompleted(sendTime - requestStart);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool.load;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Request statistics of all simulated devices, periodically reported to the log per device and in aggregate.
+ */
+public final class LoadStatistics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadStatistics.class);
+
+    private final ConcurrentMap<String, DeviceStatistics> devices = new ConcurrentHashMap<>();
+    private long lastReport = System.nanoTime();
+
+    DeviceStatistics getDevice(final String device) {
+        DeviceStatistics statistics = devices.get(device);
+        if (statistics == null) {
+            final DeviceStatistics newStatistics = new DeviceStatistics();
+            statistics = devices.putIfAbsent(device, newStatistics);
+            if (statistics == null) {
+                statistics = newStatistics;
+            }
+        }
+        return statistics;
+    }
+
+    synchronized void report() {
+        final long now = System.nanoTime();
+        final double seconds = (now - lastReport) / (double) TimeUnit.SECONDS.toNanos(1);
+        lastReport = now;
+
+        long totalRequests = 0;
+        long totalLatency = 0;
+        long maxLatency = 0;
+        for (final Map.Entry<String, DeviceStatistics> device : devices.entrySet()) {
+            final DeviceStatistics.Snapshot snapshot = device.getValue().snapshotAndReset();
+            if (snapshot.getRequests() == 0) {
+                continue;
+            }
+            LOG.info("Device {}: {} req/s, avg latency {} ms, max latency {} ms", device.getKey(),
+                    String.format("%.1f", snapshot.getRequests() / seconds),
+                    snapshot.getAverageLatencyMillis(), snapshot.getMaxLatencyMillis());
+
+            totalRequests += snapshot.getRequests();
+            totalLatency += snapshot.getLatencyNanos();
+            maxLatency = Math.max(maxLatency, snapshot.getMaxLatencyNanos());
+        }
+
+        LOG.info("All devices: {} req/s, avg latency {} ms, max latency {} ms",
+                String.format("%.1f", totalRequests / seconds),
+                totalRequests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency / totalRequests),
+                TimeUnit.NANOSECONDS.toMillis(maxLatency));
+    }
+
+    /**
+     * Counters of a single device, updated by its sessions and reset with every report.
+     */
+    static final class DeviceStatistics {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong latencyNanos = new AtomicLong();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        void requestCompleted(final long latency) {
+            requests.incrementAndGet();
+            latencyNanos.addAndGet(latency);
+
+            long max = maxLatencyNanos.get();
+            while (latency > max && !maxLatencyNanos.compareAndSet(max, latency)) {
+                max = maxLatencyNanos.get();
+            }
+        }
+
+        Snapshot snapshotAndReset() {
+            // Counters are not reset atomically as a whole, a request completing meanwhile may be split between reports
+            return new Snapshot(requests.getAndSet(0), latencyNanos.getAndSet(0), maxLatencyNanos.getAndSet(0));
+        }
+
+        static final class Snapshot {
+            private final long requests;
+            private final long latencyNanos;
+            private final long maxLatencyNanos;
+
+            Snapshot(final long requests, final long latencyNanos, final long maxLatencyNanos) {
+                this.requests = requests;
+                this.latencyNanos = latencyNanos;
+                this.maxLatencyNanos = maxLatencyNanos;
+            }
+
+            long getRequests() {
+                return requests;
+            }
+
+            long getLatencyNanos() {
+                return latencyNanos;
+            }
+
+            long getMaxLatencyNanos() {
+                return maxLatencyNanos;
+            }
+
+            long getAverageLatencyMillis() {
+                return requests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(latencyNanos / requests);
+            }
+
+            long getMaxLatencyMillis() {
+                return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -27,6 +28,7 @@ import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.controller.netconf.impl.NetconfServerSession;
 import org.opendaylight.controller.netconf.impl.mapping.operations.DefaultNetconfOperation;
+import org.opendaylight.controller.netconf.test.tool.load.LoadGenerator;
 import org.opendaylight.controller.netconf.util.mapping.AbstractLastNetconfOperation;
 import org.opendaylight.controller.netconf.util.xml.XmlElement;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
@@ -38,10 +40,17 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
 
     private NetconfServerSession session;
     private final Optional<Notifications> notifications;
+    private final Optional<LoadGenerator> loadGenerator;
     private ScheduledExecutorService scheduledExecutorService;
+    private ScheduledFuture<?> generatedNotifications;
 
     public SimulatedCreateSubscription(final String id, final Optional<File> notificationsFile) {
+        this(id, notificationsFile, Optional.<LoadGenerator>absent());
+    }
+
+    public SimulatedCreateSubscription(final String id, final Optional<File> notificationsFile, final Optional<LoadGenerator> loadGenerator) {
         super(id);
+        this.loadGenerator = loadGenerator;
         if(notificationsFile.isPresent()) {
             notifications = Optional.of(loadNotifications(notificationsFile.get()));
             scheduledExecutorService = Executors.newScheduledThreadPool(1);
@@ -99,9 +108,41 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
                 }
             }
         }
+
+        if (loadGenerator.isPresent() && loadGenerator.get().getNotificationRate() > 0) {
+            scheduleGeneratedNotifications(loadGenerator.get());
+        }
         return XmlUtil.createElement(document, XmlNetconfConstants.OK, Optional.<String>absent());
     }
 
+    private synchronized void scheduleGeneratedNotifications(final LoadGenerator generator) {
+        if (generatedNotifications != null) {
+            generatedNotifications.cancel(false);
+        }
+
+        final long period = TimeUnit.SECONDS.toNanos(1) / generator.getNotificationRate();
+        generatedNotifications = generator.getExecutor().scheduleAtFixedRate(new Runnable() {
+            private long sequence;
+
+            @Override
+            public void run() {
+                Preconditions.checkState(session != null, "Session is not set, cannot process notifications");
+                if (!session.isUp()) {
+                    cancelGeneratedNotifications();
+                    return;
+                }
+                session.sendMessage(generator.createNotification(sequence++));
+            }
+        }, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void cancelGeneratedNotifications() {
+        if (generatedNotifications != null) {
+            generatedNotifications.cancel(false);
+            generatedNotifications = null;
+        }
+    }
+
     private static NetconfMessage parseNetconfNotification(String content) throws IOException, SAXException {
         final int startEventTime = content.indexOf("<eventTime>") + "<eventTime>".length();
         final int endEventTime = content.indexOf("</eventTime>");